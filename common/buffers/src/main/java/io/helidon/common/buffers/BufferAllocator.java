@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+/**
+ * Allocator of {@link io.helidon.common.buffers.BufferData} used on the request/response hot path.
+ * Buffers obtained from an allocator should be {@link io.helidon.common.buffers.BufferData#release() released}
+ * when no longer used, either explicitly, or by passing them to a {@link io.helidon.common.buffers.DataWriter}.
+ */
+public interface BufferAllocator {
+    /**
+     * Allocate an empty fixed size buffer.
+     *
+     * @param length length of the buffer
+     * @return a new buffer with {@link io.helidon.common.buffers.BufferData#capacity()} equal to the length
+     */
+    BufferData allocate(int length);
+
+    /**
+     * Allocator that does not pool buffers, each allocation creates a new byte array.
+     *
+     * @return unpooled allocator
+     */
+    static BufferAllocator unpooled() {
+        return UnpooledBufferAllocator.INSTANCE;
+    }
+
+    /**
+     * Default allocator shared by all users. The allocator is provided by the
+     * {@link io.helidon.common.buffers.spi.BufferAllocatorProvider} with the highest weight,
+     * or is {@link #unpooled()} if there is no provider.
+     *
+     * @return default allocator
+     */
+    static BufferAllocator defaultAllocator() {
+        return DefaultBufferAllocator.get();
+    }
+
+    /**
+     * Copy available bytes of the provided buffer into a buffer obtained from this allocator.
+     * Reads the provided buffer (same as {@link io.helidon.common.buffers.BufferData#copy()}).
+     *
+     * @param buffer buffer to copy
+     * @return a new buffer with a copy of the data
+     */
+    default BufferData copy(BufferData buffer) {
+        BufferData copy = allocate(buffer.available());
+        copy.write(buffer);
+        return copy;
+    }
+}
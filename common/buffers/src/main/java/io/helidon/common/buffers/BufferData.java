@@ -642,4 +642,14 @@ public interface BufferData {
      * @return byte at the index
      */
     int get(int index);
+
+    /**
+     * Release this buffer. Buffers obtained from a pooling {@link io.helidon.common.buffers.BufferAllocator} return
+     * their memory to the pool, other buffers ignore this call.
+     * A released buffer must not be used anymore.
+     * <p>
+     * Buffers written through a {@link io.helidon.common.buffers.DataWriter} are released by the writer once written.
+     */
+    default void release() {
+    }
 }
@@ -36,6 +36,13 @@ class CompositeArrayBufferData extends ReadOnlyBufferData {
         return this;
     }
 
+    @Override
+    public void release() {
+        for (BufferData datum : data) {
+            datum.release();
+        }
+    }
+
     @Override
     public void writeTo(OutputStream out) {
         copy().writeTo(out);
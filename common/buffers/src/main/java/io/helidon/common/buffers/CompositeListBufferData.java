@@ -54,6 +54,13 @@ class CompositeListBufferData extends ReadOnlyBufferData implements CompositeBuf
         return this;
     }
 
+    @Override
+    public void release() {
+        for (BufferData datum : data) {
+            datum.release();
+        }
+    }
+
     @Override
     public void writeTo(OutputStream out) {
         copy().writeTo(out);
@@ -20,6 +20,10 @@ package io.helidon.common.buffers;
  * Write data to the underlying transport (most likely a socket).
  * Do not combine {@link #write(io.helidon.common.buffers.BufferData)} and {@link #writeNow(io.helidon.common.buffers.BufferData)}
  * to a single underlying transport, unless you can guarantee there will not be a race between these two methods.
+ * <p>
+ * Writers that write to the underlying transport {@link io.helidon.common.buffers.BufferData#release() release}
+ * each buffer once it is written, so buffers obtained from a pooling {@link io.helidon.common.buffers.BufferAllocator}
+ * must not be used by the caller after they are passed to a write method.
  */
 public interface DataWriter {
     /**
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+import io.helidon.common.HelidonServiceLoader;
+import io.helidon.common.LazyValue;
+import io.helidon.common.buffers.spi.BufferAllocatorProvider;
+
+final class DefaultBufferAllocator {
+    private static final LazyValue<BufferAllocator> INSTANCE = LazyValue.create(DefaultBufferAllocator::load);
+
+    private DefaultBufferAllocator() {
+    }
+
+    static BufferAllocator get() {
+        return INSTANCE.get();
+    }
+
+    private static BufferAllocator load() {
+        List<BufferAllocatorProvider> providers = HelidonServiceLoader.create(
+                ServiceLoader.load(BufferAllocatorProvider.class)).asList();
+        if (providers.isEmpty()) {
+            return BufferAllocator.unpooled();
+        }
+        return providers.get(0).create();
+    }
+}
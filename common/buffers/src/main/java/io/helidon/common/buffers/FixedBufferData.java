@@ -34,6 +34,12 @@ class FixedBufferData implements BufferData {
         this.length = length;
     }
 
+    // empty buffer of the provided length, backed by an array that may be longer (such as a pooled array)
+    FixedBufferData(int length, byte[] bytes) {
+        this.bytes = bytes;
+        this.length = length;
+    }
+
     FixedBufferData(byte[] bytes) {
         this.bytes = bytes;
         this.length = bytes.length;
@@ -146,18 +152,13 @@ class FixedBufferData implements BufferData {
 
     @Override
     public void write(BufferData toWrite) {
-        byte[] buffer = new byte[length - writePosition];
-        int read = toWrite.read(buffer);
-        System.arraycopy(buffer, 0, this.bytes, writePosition, read);
-        writePosition += read;
+        // read directly into our array, no need for an intermediate copy
+        writePosition += toWrite.read(this.bytes, writePosition, length - writePosition);
     }
 
     @Override
     public void write(BufferData toWrite, int length) {
-        byte[] buffer = new byte[length];
-        int read = toWrite.read(buffer);
-        System.arraycopy(buffer, 0, this.bytes, writePosition, read);
-        writePosition += read;
+        writePosition += toWrite.read(this.bytes, writePosition, length);
     }
 
     @Override
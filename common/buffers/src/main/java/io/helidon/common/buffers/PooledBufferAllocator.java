@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffer allocator that pools byte arrays in size classes (powers of two between
+ * {@link Builder#minBufferSize(int)} and {@link Builder#maxBufferSize(int)}).
+ * Buffers larger than the maximal buffer size are not pooled.
+ * <p>
+ * This allocator is thread safe. Buffers are returned to the pool by
+ * {@link io.helidon.common.buffers.BufferData#release()}; buffers that are never released are garbage collected
+ * as usual.
+ */
+public final class PooledBufferAllocator implements BufferAllocator {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final int minShift;
+    private final int maxBufferSize;
+    private final SizeClass[] sizeClasses;
+
+    private PooledBufferAllocator(Builder builder) {
+        int minBufferSize = roundToPowerOfTwo(builder.minBufferSize);
+        this.maxBufferSize = roundToPowerOfTwo(Math.max(builder.maxBufferSize, minBufferSize));
+        this.minShift = Integer.numberOfTrailingZeros(minBufferSize);
+
+        int classes = Integer.numberOfTrailingZeros(maxBufferSize) - minShift + 1;
+        this.sizeClasses = new SizeClass[classes];
+        for (int i = 0; i < classes; i++) {
+            sizeClasses[i] = new SizeClass(this, minBufferSize << i, builder.maxPooledBuffers);
+        }
+    }
+
+    /**
+     * A new builder to configure the allocator.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new pooled allocator with default configuration.
+     *
+     * @return a new allocator
+     */
+    public static PooledBufferAllocator create() {
+        return builder().build();
+    }
+
+    @Override
+    public BufferData allocate(int length) {
+        if (length > maxBufferSize) {
+            misses.increment();
+            return BufferData.create(length);
+        }
+        SizeClass sizeClass = sizeClasses[sizeClassIndex(length)];
+        byte[] bytes = sizeClass.poll();
+        if (bytes == null) {
+            misses.increment();
+            bytes = new byte[sizeClass.bufferSize];
+        } else {
+            hits.increment();
+        }
+        return new PooledBufferData(sizeClass, length, bytes);
+    }
+
+    /**
+     * Number of allocations served from the pool.
+     *
+     * @return pool hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of allocations that required a new byte array, either because the pool was empty, or because
+     * the requested size was larger than the maximal pooled buffer size.
+     *
+     * @return pool misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of released buffers that were not returned to the pool, because the pool was full.
+     *
+     * @return discarded buffers
+     */
+    public long discarded() {
+        return discarded.sum();
+    }
+
+    /**
+     * Number of byte arrays currently available in the pool.
+     *
+     * @return pooled buffers
+     */
+    public int pooled() {
+        int pooled = 0;
+        for (SizeClass sizeClass : sizeClasses) {
+            pooled += sizeClass.size.get();
+        }
+        return pooled;
+    }
+
+    @Override
+    public String toString() {
+        return "pooled: hits=" + hits() + ", misses=" + misses() + ", pooled=" + pooled();
+    }
+
+    private int sizeClassIndex(int length) {
+        if (length <= 1) {
+            return 0;
+        }
+        int shift = 32 - Integer.numberOfLeadingZeros(length - 1);
+        return Math.max(0, shift - minShift);
+    }
+
+    private static int roundToPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+
+    static final class SizeClass {
+        private final ConcurrentLinkedQueue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final PooledBufferAllocator allocator;
+        private final int bufferSize;
+        private final int maxPooled;
+
+        private SizeClass(PooledBufferAllocator allocator, int bufferSize, int maxPooled) {
+            this.allocator = allocator;
+            this.bufferSize = bufferSize;
+            this.maxPooled = maxPooled;
+        }
+
+        void release(byte[] bytes) {
+            if (size.incrementAndGet() > maxPooled) {
+                size.decrementAndGet();
+                allocator.discarded.increment();
+                return;
+            }
+            buffers.offer(bytes);
+        }
+
+        private byte[] poll() {
+            byte[] bytes = buffers.poll();
+            if (bytes != null) {
+                size.decrementAndGet();
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.common.buffers.PooledBufferAllocator}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, PooledBufferAllocator> {
+        private int minBufferSize = 256;
+        private int maxBufferSize = 64 * 1024;
+        private int maxPooledBuffers = 256;
+
+        private Builder() {
+        }
+
+        @Override
+        public PooledBufferAllocator build() {
+            return new PooledBufferAllocator(this);
+        }
+
+        /**
+         * Size of the smallest size class, rounded up to a power of two. Defaults to {@code 256} bytes.
+         *
+         * @param minBufferSize minimal buffer size in bytes
+         * @return updated builder
+         */
+        public Builder minBufferSize(int minBufferSize) {
+            if (minBufferSize < 1) {
+                throw new IllegalArgumentException("Minimal buffer size must be positive, but is: " + minBufferSize);
+            }
+            this.minBufferSize = minBufferSize;
+            return this;
+        }
+
+        /**
+         * Size of the largest size class, rounded up to a power of two. Larger buffers are not pooled.
+         * Defaults to {@code 64 KB}.
+         *
+         * @param maxBufferSize maximal pooled buffer size in bytes
+         * @return updated builder
+         */
+        public Builder maxBufferSize(int maxBufferSize) {
+            if (maxBufferSize < 1) {
+                throw new IllegalArgumentException("Maximal buffer size must be positive, but is: " + maxBufferSize);
+            }
+            this.maxBufferSize = maxBufferSize;
+            return this;
+        }
+
+        /**
+         * Maximal number of byte arrays kept in the pool for each size class. Defaults to {@code 256}.
+         *
+         * @param maxPooledBuffers maximal number of pooled buffers per size class
+         * @return updated builder
+         */
+        public Builder maxPooledBuffers(int maxPooledBuffers) {
+            this.maxPooledBuffers = maxPooledBuffers;
+            return this;
+        }
+    }
+}
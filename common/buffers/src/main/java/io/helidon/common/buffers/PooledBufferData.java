@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+/**
+ * Fixed size buffer backed by a byte array obtained from {@link io.helidon.common.buffers.PooledBufferAllocator}.
+ * The array may be longer than the length of this buffer (arrays are pooled in size classes).
+ */
+final class PooledBufferData extends FixedBufferData {
+    private final PooledBufferAllocator.SizeClass sizeClass;
+    private final byte[] bytes;
+
+    private boolean released;
+
+    PooledBufferData(PooledBufferAllocator.SizeClass sizeClass, int length, byte[] bytes) {
+        super(length, bytes);
+        this.sizeClass = sizeClass;
+        this.bytes = bytes;
+    }
+
+    @Override
+    public void release() {
+        // each instance may release the array only once, as it may be re-used by another buffer afterwards
+        if (released) {
+            return;
+        }
+        released = true;
+        sizeClass.release(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "pooled " + super.toString() + (released ? " (released)" : "");
+    }
+}
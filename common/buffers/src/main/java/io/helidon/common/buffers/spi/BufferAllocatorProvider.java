@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers.spi;
+
+import io.helidon.common.buffers.BufferAllocator;
+
+/**
+ * Java {@link java.util.ServiceLoader} provider interface to replace the default
+ * {@link io.helidon.common.buffers.BufferAllocator}.
+ * The provider with the highest {@link io.helidon.common.Weight} is used.
+ */
+public interface BufferAllocatorProvider {
+    /**
+     * Create the allocator to be used as {@link io.helidon.common.buffers.BufferAllocator#defaultAllocator()}.
+     * This method is invoked once.
+     *
+     * @return buffer allocator
+     */
+    BufferAllocator create();
+}
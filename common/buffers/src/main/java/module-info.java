@@ -21,4 +21,7 @@ module io.helidon.common.buffers {
     requires io.helidon.common;
 
     exports io.helidon.common.buffers;
+    exports io.helidon.common.buffers.spi;
+
+    uses io.helidon.common.buffers.spi.BufferAllocatorProvider;
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PooledBufferAllocatorTest {
+    @Test
+    void testReuse() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        BufferData first = allocator.allocate(100);
+        assertThat(first.capacity(), is(100));
+        first.write("hello".getBytes());
+        assertThat(first.readString(5), is("hello"));
+        first.release();
+
+        assertThat(allocator.pooled(), is(1));
+
+        // same size class (256)
+        BufferData second = allocator.allocate(200);
+        assertThat(second.capacity(), is(200));
+        assertThat(second.available(), is(0));
+        assertThat(allocator.hits(), is(1L));
+        assertThat(allocator.misses(), is(1L));
+        assertThat(allocator.pooled(), is(0));
+    }
+
+    @Test
+    void testDoubleReleaseIgnored() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        BufferData buffer = allocator.allocate(10);
+        buffer.release();
+        buffer.release();
+
+        assertThat(allocator.pooled(), is(1));
+    }
+
+    @Test
+    void testSizeClasses() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.builder()
+                .minBufferSize(100)
+                .maxBufferSize(1000)
+                .build();
+
+        // 128, 256, 512, 1024
+        allocator.allocate(1).release();
+        // re-uses the array of the previous buffer
+        allocator.allocate(128).release();
+        allocator.allocate(129).release();
+        allocator.allocate(1024).release();
+        assertThat(allocator.pooled(), is(3));
+
+        // larger than max size is never pooled
+        allocator.allocate(1025).release();
+        assertThat(allocator.pooled(), is(3));
+
+        allocator.allocate(2);
+        allocator.allocate(200);
+        allocator.allocate(1000);
+        assertThat(allocator.hits(), is(4L));
+        assertThat(allocator.pooled(), is(0));
+    }
+
+    @Test
+    void testMaxPooled() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.builder()
+                .maxPooledBuffers(1)
+                .build();
+
+        BufferData first = allocator.allocate(10);
+        BufferData second = allocator.allocate(10);
+        first.release();
+        second.release();
+
+        assertThat(allocator.pooled(), is(1));
+        assertThat(allocator.discarded(), is(1L));
+    }
+
+    @Test
+    void testCompositeRelease() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        BufferData composite = BufferData.create(allocator.allocate(10), allocator.allocate(1000));
+        composite.release();
+
+        assertThat(allocator.pooled(), is(2));
+    }
+
+    @Test
+    void testCopy() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        BufferData copy = allocator.copy(BufferData.create("some data"));
+        assertThat(copy.readString(copy.available()), is("some data"));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ * <p>
+ * Each slot carries a sequence number; a producer claims a position by moving the shared tail and publishes
+ * the element by advancing the slot sequence, the consumer frees the slot by moving the sequence one lap ahead.
+ * Producers never block - {@link #offer(Object)} returns {@code false} when the queue is full.
+ *
+ * @param <E> type of elements
+ */
+public final class MpscRingBuffer<E> {
+    private final int mask;
+    private final Object[] elements;
+    // element visibility is guaranteed by the volatile write/read of the slot sequence
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // only accessed by the consumer thread
+    private long head;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity requested capacity, rounded up to a power of two
+     * @throws IllegalArgumentException in case the capacity is not positive
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, but is: " + capacity);
+        }
+        // a single slot cannot distinguish a published element from a slot free for the next lap
+        int size = Math.max(2, Integer.highestOneBit(capacity));
+        if (size < capacity) {
+            size = size << 1;
+        }
+        this.mask = size - 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element if there is space left.
+     *
+     * @param element element to add
+     * @return whether the element was added
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the slot was not yet consumed in the previous lap
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the next element. Must only be called from the consumer thread.
+     *
+     * @return next element, or {@code null} if there is none available
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = (E) elements[index];
+        elements[index] = null;
+        sequences.set(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * Whether there is no element available to the consumer.
+     * Must only be called from the consumer thread.
+     *
+     * @return {@code true} if empty
+     */
+    public boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+    /**
+     * Number of elements added to this queue so far (including elements that are being added right now).
+     *
+     * @return number of added elements
+     */
+    public long produced() {
+        return tail.get();
+    }
+
+    /**
+     * Capacity of this queue (the requested capacity rounded up to a power of two, at least two).
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,4 +22,6 @@ module io.helidon.common {
     requires java.logging;
 
     exports io.helidon.common;
+
+    exports io.helidon.common.internal to io.helidon.logging.jul, io.helidon.nima.webserver.accesslog;
 }
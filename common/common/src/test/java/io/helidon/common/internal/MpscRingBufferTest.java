@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link MpscRingBuffer}.
+ */
+class MpscRingBufferTest {
+    @Test
+    void testCapacity() {
+        assertThat(new MpscRingBuffer<>(1).capacity(), is(2));
+        assertThat(new MpscRingBuffer<>(3).capacity(), is(4));
+        assertThat(new MpscRingBuffer<>(8).capacity(), is(8));
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+    }
+
+    @Test
+    void testOfferAndPoll() {
+        MpscRingBuffer<String> queue = new MpscRingBuffer<>(3);
+
+        for (String element : List.of("a", "b", "c", "d")) {
+            assertThat(queue.offer(element), is(true));
+        }
+        assertThat(queue.offer("e"), is(false));
+        assertThat(queue.produced(), is(4L));
+        assertThat(queue.poll(), is("a"));
+        assertThat(queue.offer("e"), is(true));
+        assertThat(queue.poll(), is("b"));
+        assertThat(queue.poll(), is("c"));
+        assertThat(queue.poll(), is("d"));
+        assertThat(queue.poll(), is("e"));
+        assertThat(queue.isEmpty(), is(true));
+        assertThat(queue.poll(), is((String) null));
+        assertThat(queue.produced(), is(5L));
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> queue = new MpscRingBuffer<>(16);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int i = 0; i < producers; i++) {
+            int producer = i;
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < perProducer; j++) {
+                    Integer element = producer * perProducer + j;
+                    while (!queue.offer(element)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        // elements of each producer must arrive in the order they were offered
+        int[] next = new int[producers];
+        List<Integer> errors = new ArrayList<>();
+        int received = 0;
+        while (received < producers * perProducer) {
+            Integer element = queue.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = element / perProducer;
+            if (element % perProducer != next[producer]) {
+                errors.add(element);
+            }
+            next[producer] = element % perProducer + 1;
+            received++;
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(errors, is(empty()));
+        assertThat(queue.isEmpty(), is(true));
+    }
+}
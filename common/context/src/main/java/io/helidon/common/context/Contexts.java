@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,8 @@
  */
 package io.helidon.common.context;
 
+import java.util.EmptyStackException;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
@@ -25,9 +25,18 @@ import io.helidon.common.LazyValue;
 
 /**
  * Support for handling {@link io.helidon.common.context.Context} across thread boundaries.
+ * <p>
+ * The current context is bound to the current thread using a thread local. When system property
+ * {@code helidon.context.scopedValue} is set to {@code true} and scoped values are available in the JVM,
+ * the {@code runInContext} methods bind the context using a {@code ScopedValue} instead, which avoids thread local
+ * storage for each (virtual) thread. Scoped values are an incubator API in Java 20 and require
+ * {@code --add-modules jdk.incubator.concurrent}, in Java 21 they are a preview API and require {@code --enable-preview}.
+ * Once enabled, all {@code runInContext} methods bind the context using the scoped value, including a {@code null} context.
  */
 public final class Contexts {
-    private static final ThreadLocal<Stack<Context>> REGISTRY = ThreadLocal.withInitial(Stack::new);
+    // linked stack of contexts, to avoid allocation of a (synchronized) collection for each thread
+    private static final ThreadLocal<ContextNode> REGISTRY = new ThreadLocal<>();
+    private static final ScopedValueSupport SCOPED = ScopedValueSupport.instance();
     private static final LazyValue<Context> GLOBAL_CONTEXT = LazyValue.create(() -> Context.builder()
             .id("helidon")
             .global()
@@ -37,15 +46,24 @@ public final class Contexts {
     }
 
     static void clear() {
-        REGISTRY.get().clear();
+        REGISTRY.remove();
     }
 
     static void push(Context context) {
-        REGISTRY.get().push(context);
+        REGISTRY.set(new ContextNode(context, REGISTRY.get()));
     }
 
     static Context pop() {
-        return REGISTRY.get().pop();
+        ContextNode node = REGISTRY.get();
+        if (node == null) {
+            throw new EmptyStackException();
+        }
+        if (node.previous() == null) {
+            REGISTRY.remove();
+        } else {
+            REGISTRY.set(node.previous());
+        }
+        return node.context();
     }
 
     /**
@@ -54,13 +72,16 @@ public final class Contexts {
      * @return context that is associated with current thread or empty if none is
      */
     public static Optional<Context> context() {
-        Stack<Context> contextStack = REGISTRY.get();
+        if (SCOPED != null && SCOPED.isBound()) {
+            return Optional.ofNullable(SCOPED.current());
+        }
+        ContextNode node = REGISTRY.get();
 
-        if (contextStack.isEmpty()) {
+        if (node == null) {
             return Optional.empty();
         }
 
-        return Optional.ofNullable(contextStack.peek());
+        return Optional.ofNullable(node.context());
     }
 
     /**
@@ -112,6 +133,10 @@ public final class Contexts {
      * @param runnable runnable to execute in context
      */
     public static void runInContext(Context context, Runnable runnable) {
+        if (SCOPED != null) {
+            SCOPED.run(context, runnable);
+            return;
+        }
         push(context);
         try {
             runnable.run();
@@ -132,6 +157,15 @@ public final class Contexts {
      *                                          runtime exception
      */
     public static <T> T runInContext(Context context, Callable<T> callable) {
+        if (SCOPED != null) {
+            try {
+                return SCOPED.call(context, callable);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ExecutorException("Callable.call failed", e);
+            }
+        }
         push(context);
         try {
             return callable.call();
@@ -156,6 +190,9 @@ public final class Contexts {
      * @throws java.lang.Exception  If thrown in {@link java.util.concurrent.Callable#call()}
      */
     public static <T> T runInContextWithThrow(Context context, Callable<T> callable) throws Exception {
+        if (SCOPED != null) {
+            return SCOPED.call(context, callable);
+        }
         push(context);
         try {
             return callable.call();
@@ -163,4 +200,7 @@ public final class Contexts {
             pop();
         }
     }
+
+    private record ContextNode(Context context, ContextNode previous) {
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,30 +16,34 @@
 
 package io.helidon.common.context;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import io.helidon.common.LazyValue;
 
 /**
  * A {@link Context} implementation with deque registry.
+ * <p>
+ * Most contexts use at most one classifier, so the first classifier is kept in a field, and a map is only created
+ * when a second classifier is used. Registries are copy-on-write, as lookups are much more frequent than registrations.
  */
 class ListContext implements Context {
     private final AtomicLong contextCounter = new AtomicLong(1);
 
     private final Context parent;
-    private final ConcurrentHashMap<Object, ClassifiedRegistry> classifiers = new ConcurrentHashMap<>();
+    private final Lock classifiersLock = new ReentrantLock();
     private final ClassifiedRegistry registry = new ClassifiedRegistry();
     private final String contextId;
 
+    private volatile ClassifierEntry firstClassifier;
+    private volatile ConcurrentHashMap<Object, ClassifiedRegistry> classifiers;
+
     ListContext(Builder builder) {
         this.parent = builder.parent();
         this.contextId = builder.id();
@@ -77,21 +81,21 @@ class ListContext implements Context {
     @Override
     public <T> void register(Object classifier, T instance) {
         Objects.requireNonNull(classifier, "Parameter 'classifier' is null!");
-        ClassifiedRegistry cr = classifiers.computeIfAbsent(classifier, k -> new ClassifiedRegistry());
+        ClassifiedRegistry cr = classifiedRegistry(classifier);
         cr.register(instance);
     }
 
     @Override
     public <T> void supply(Object classifier, Class<T> type, Supplier<T> supplier) {
         Objects.requireNonNull(classifier, "Parameter 'classifier' is null!");
-        ClassifiedRegistry cr = classifiers.computeIfAbsent(classifier, k -> new ClassifiedRegistry());
+        ClassifiedRegistry cr = classifiedRegistry(classifier);
         cr.supply(type, supplier);
     }
 
     @Override
     public <T> Optional<T> get(Object classifier, Class<T> type) {
         Objects.requireNonNull(classifier, "Parameter 'classifier' is null!");
-        ClassifiedRegistry cr = classifiers.get(classifier);
+        ClassifiedRegistry cr = findClassifiedRegistry(classifier);
         if (cr != null) {
             T result = cr.get(type);
             if ((result == null) && (parent != null)) {
@@ -112,33 +116,77 @@ class ListContext implements Context {
         return contextCounter.getAndUpdate(operand -> (operand == Long.MAX_VALUE) ? 1 : (operand + 1));
     }
 
+    private ClassifiedRegistry findClassifiedRegistry(Object classifier) {
+        ClassifierEntry first = firstClassifier;
+        if (first == null) {
+            return null;
+        }
+        if (first.classifier().equals(classifier)) {
+            return first.registry();
+        }
+        ConcurrentHashMap<Object, ClassifiedRegistry> others = classifiers;
+        return others == null ? null : others.get(classifier);
+    }
+
+    private ClassifiedRegistry classifiedRegistry(Object classifier) {
+        ClassifiedRegistry existing = findClassifiedRegistry(classifier);
+        if (existing != null) {
+            return existing;
+        }
+        classifiersLock.lock();
+        try {
+            ClassifierEntry first = firstClassifier;
+            if (first == null) {
+                ClassifiedRegistry cr = new ClassifiedRegistry();
+                firstClassifier = new ClassifierEntry(classifier, cr);
+                return cr;
+            }
+            if (first.classifier().equals(classifier)) {
+                return first.registry();
+            }
+            if (classifiers == null) {
+                classifiers = new ConcurrentHashMap<>();
+            }
+            return classifiers.computeIfAbsent(classifier, k -> new ClassifiedRegistry());
+        } finally {
+            classifiersLock.unlock();
+        }
+    }
+
     private interface RegisteredItem<T> {
         T get();
 
         Class<T> getType();
     }
 
+    private record ClassifierEntry(Object classifier, ClassifiedRegistry registry) {
+    }
+
     private static class ClassifiedRegistry {
-        private final ReadWriteLock lock = new ReentrantReadWriteLock();
-        private final List<RegisteredItem<?>> content = new ArrayList<>();
+        private static final RegisteredItem<?>[] EMPTY = new RegisteredItem<?>[0];
+
+        private final Lock lock = new ReentrantLock();
+        // copy on write, so lookups do not need to lock
+        private volatile RegisteredItem<?>[] content = EMPTY;
 
         // we actually want to do an instance equality
         @SuppressWarnings("ObjectEquality")
         private void registerItem(RegisteredItem<?> item) {
-            Lock l = lock.writeLock();
+            Class<?> c = item.getType();
+            lock.lock();
             try {
-                Class<?> c = item.getType();
-                l.lock();
-                for (int i = 0; i < content.size(); i++) {
-                    RegisteredItem<?> reg = content.get(i);
-                    if (c == reg.getType()) {
-                        content.remove(i);
-                        break;
+                RegisteredItem<?>[] current = content;
+                RegisteredItem<?>[] updated = Arrays.copyOf(current, current.length + 1);
+                int size = 0;
+                for (RegisteredItem<?> reg : current) {
+                    if (c != reg.getType()) {
+                        updated[size++] = reg;
                     }
                 }
-                content.add(item);
+                updated[size++] = item;
+                content = (size == updated.length) ? updated : Arrays.copyOf(updated, size);
             } finally {
-                l.unlock();
+                lock.unlock();
             }
         }
 
@@ -155,17 +203,12 @@ class ListContext implements Context {
 
         <T> T get(Class<T> type) {
             Objects.requireNonNull(type, "Parameter 'type' is null!");
-            Lock l = lock.readLock();
-            try {
-                l.lock();
-                for (int i = content.size() - 1; i >= 0; i--) {
-                    RegisteredItem<?> item = content.get(i);
-                    if (type.isAssignableFrom(item.getType())) {
-                        return type.cast(item.get());
-                    }
+            RegisteredItem<?>[] items = content;
+            for (int i = items.length - 1; i >= 0; i--) {
+                RegisteredItem<?> item = items[i];
+                if (type.isAssignableFrom(item.getType())) {
+                    return type.cast(item.get());
                 }
-            } finally {
-                l.unlock();
             }
             return null;
         }
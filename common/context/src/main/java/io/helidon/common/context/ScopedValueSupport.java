@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+
+/**
+ * Binding of the current context using {@code ScopedValue}.
+ * <p>
+ * Scoped values are a preview API ({@code java.lang.ScopedValue}, Java 21, requires {@code --enable-preview}), or
+ * an incubator API ({@code jdk.incubator.concurrent.ScopedValue}, Java 20, requires
+ * {@code --add-modules jdk.incubator.concurrent}) depending on the Java version, so they are accessed through
+ * method handles resolved once. Used only when enabled through system property {@value #SCOPED_VALUE_PROPERTY}
+ * and the API is available at runtime, otherwise {@link Contexts} use a thread local.
+ */
+final class ScopedValueSupport {
+    /**
+     * System property to enable binding of contexts using scoped values.
+     */
+    static final String SCOPED_VALUE_PROPERTY = "helidon.context.scopedValue";
+
+    private static final System.Logger LOGGER = System.getLogger(ScopedValueSupport.class.getName());
+    private static final String[] SCOPED_VALUE_CLASSES = {"java.lang.ScopedValue", "jdk.incubator.concurrent.ScopedValue"};
+    private static final ScopedValueSupport INSTANCE = Boolean.getBoolean(SCOPED_VALUE_PROPERTY) ? create() : null;
+
+    private final Object scopedValue;
+    private final MethodHandle where;
+    private final MethodHandle run;
+    private final MethodHandle call;
+    private final MethodHandle orElse;
+    private final MethodHandle isBound;
+
+    private ScopedValueSupport(Object scopedValue,
+                               MethodHandle where,
+                               MethodHandle run,
+                               MethodHandle call,
+                               MethodHandle orElse,
+                               MethodHandle isBound) {
+        this.scopedValue = scopedValue;
+        this.where = where;
+        this.run = run;
+        this.call = call;
+        this.orElse = orElse;
+        this.isBound = isBound;
+    }
+
+    /**
+     * Scoped value support, if enabled and available.
+     *
+     * @return scoped value support, or {@code null} if contexts should be bound using a thread local
+     */
+    static ScopedValueSupport instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether a context (possibly {@code null}) is bound to the current scope.
+     *
+     * @return {@code true} if running within {@link #run(Context, Runnable)} or {@link #call(Context, Callable)}
+     */
+    boolean isBound() {
+        try {
+            return (boolean) isBound.invokeExact(scopedValue);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to check scoped context", e);
+        }
+    }
+
+    /**
+     * Context bound to the current scope.
+     *
+     * @return current context, or {@code null} if none is bound
+     */
+    Context current() {
+        try {
+            return (Context) orElse.invokeExact(scopedValue, (Object) null);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to obtain scoped context", e);
+        }
+    }
+
+    /**
+     * Run the runnable with the context bound.
+     *
+     * @param context  context to bind, may be {@code null}
+     * @param runnable runnable to run
+     */
+    void run(Context context, Runnable runnable) {
+        try {
+            run.invokeExact(where.invokeExact(scopedValue, (Object) context), runnable);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to run in scoped context", e);
+        }
+    }
+
+    /**
+     * Call the callable with the context bound.
+     *
+     * @param context  context to bind, may be {@code null}
+     * @param callable callable to call
+     * @param <T>      type of the result
+     * @return result of the callable
+     * @throws Exception in case the callable failed
+     */
+    @SuppressWarnings("unchecked")
+    <T> T call(Context context, Callable<T> callable) throws Exception {
+        try {
+            Object result = (Object) call.invokeExact(where.invokeExact(scopedValue, (Object) context), callable);
+            return (T) result;
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to call in scoped context", e);
+        }
+    }
+
+    static ScopedValueSupport create() {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (String className : SCOPED_VALUE_CLASSES) {
+            try {
+                Class<?> scopedValueClass = Class.forName(className);
+                Class<?> carrierClass = Class.forName(className + "$Carrier");
+
+                Object scopedValue = lookup.findStatic(scopedValueClass, "newInstance", MethodType.methodType(scopedValueClass))
+                        .invoke();
+                MethodHandle where = lookup.findStatic(scopedValueClass,
+                                                       "where",
+                                                       MethodType.methodType(carrierClass, scopedValueClass, Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+                MethodHandle run = lookup.findVirtual(carrierClass, "run", MethodType.methodType(void.class, Runnable.class))
+                        .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+                MethodHandle call = lookup.findVirtual(carrierClass, "call", MethodType.methodType(Object.class, Callable.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, Callable.class));
+                MethodHandle orElse = lookup.findVirtual(scopedValueClass,
+                                                         "orElse",
+                                                         MethodType.methodType(Object.class, Object.class))
+                        .asType(MethodType.methodType(Context.class, Object.class, Object.class));
+                MethodHandle isBound = lookup.findVirtual(scopedValueClass, "isBound", MethodType.methodType(boolean.class))
+                        .asType(MethodType.methodType(boolean.class, Object.class));
+
+                LOGGER.log(System.Logger.Level.DEBUG, "Using " + className + " to bind current context");
+                return new ScopedValueSupport(scopedValue, where, run, call, orElse, isBound);
+            } catch (Throwable e) {
+                // not available (or not enabled, for preview API), try next
+                LOGGER.log(System.Logger.Level.TRACE, "Cannot use " + className + " to bind current context", e);
+            }
+        }
+        LOGGER.log(System.Logger.Level.WARNING, "Scoped values are enabled through system property "
+                + SCOPED_VALUE_PROPERTY + ", yet not available in this JVM. Using thread local to bind current context.");
+        return null;
+    }
+}
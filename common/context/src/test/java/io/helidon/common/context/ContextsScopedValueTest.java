@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.context;
+
+import org.junit.jupiter.api.BeforeAll;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs {@link ContextsTest} with contexts bound using scoped values.
+ * Executed by the {@code scoped-value-contexts} surefire execution, which enables
+ * {@value ScopedValueSupport#SCOPED_VALUE_PROPERTY}.
+ */
+class ContextsScopedValueTest extends ContextsTest {
+    @BeforeAll
+    static void checkScopedValues() {
+        assumeTrue(Boolean.getBoolean(ScopedValueSupport.SCOPED_VALUE_PROPERTY),
+                   "Scoped values are not enabled through system property " + ScopedValueSupport.SCOPED_VALUE_PROPERTY);
+        assertThat("Scoped values must be available when enabled", ScopedValueSupport.instance(), notNullValue());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.common.context;
 
+import java.util.EmptyStackException;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
@@ -33,6 +34,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Unit test for {@link Contexts}.
@@ -210,6 +213,20 @@ class ContextsTest {
         });
     }
 
+    @Test
+    void testNullContext() throws Exception {
+        Context context = Context.create();
+
+        Contexts.runInContextWithThrow(context, () -> {
+            Contexts.runInContext(null, () -> assertThat(Contexts.context(), is(Optional.empty())));
+            assertThat(Contexts.runInContext(null, Contexts::context), is(Optional.empty()));
+            assertThat(Contexts.runInContextWithThrow(null, Contexts::context), is(Optional.empty()));
+            assertThat(Contexts.context(), is(Optional.of(context)));
+            return null;
+        });
+        assertThat(Contexts.context(), is(Optional.empty()));
+    }
+
     @Test
     void testClear() {
         Context topLevel = Context.create();
@@ -226,4 +243,19 @@ class ContextsTest {
 
         assertThat(Contexts.context(), is(Optional.empty()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPushPop() {
+        Context first = Context.create();
+        Context second = Context.create(first);
+
+        Contexts.push(first);
+        Contexts.push(second);
+        assertThat(Contexts.context(), is(Optional.of(second)));
+        assertThat(Contexts.pop(), sameInstance(second));
+        assertThat(Contexts.context(), is(Optional.of(first)));
+        assertThat(Contexts.pop(), sameInstance(first));
+        assertThat(Contexts.context(), is(Optional.empty()));
+        assertThrows(EmptyStackException.class, Contexts::pop);
+    }
+}
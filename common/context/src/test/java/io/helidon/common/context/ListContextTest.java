@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -185,4 +185,23 @@ public class ListContextTest {
         assertThat(context.get(classifier, String.class), is(Optional.of("bbb")));
         assertThat(counter.get(), is(1));
     }
+
+    @Test
+    public void testMultipleClassifiers() {
+        Context parent = Context.create();
+        parent.register("third", "ppp");
+        Context context = Context.create(parent);
+        context.register("first", "aaa");
+        context.register("second", "bbb");
+        context.register(new StringBuilder("third"), "ccc");
+
+        assertThat(context.get("first", String.class), is(Optional.of("aaa")));
+        assertThat(context.get("second", String.class), is(Optional.of("bbb")));
+        assertThat(context.get("third", String.class), is(Optional.of("ppp")));
+        assertThat(context.get("fourth", String.class), is(Optional.empty()));
+
+        context.register("second", "ddd");
+        assertThat(context.get("second", String.class), is(Optional.of("ddd")));
+        assertThat(context.get("first", String.class), is(Optional.of("aaa")));
+    }
 }
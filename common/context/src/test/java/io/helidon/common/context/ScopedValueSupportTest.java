@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.context;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit test for {@link ScopedValueSupport}, only runs when scoped values are available in the JVM.
+ */
+class ScopedValueSupportTest {
+    private ScopedValueSupport support;
+
+    @BeforeEach
+    void init() {
+        support = ScopedValueSupport.create();
+        assumeTrue(support != null, "Scoped values are not available");
+    }
+
+    @Test
+    void testRun() {
+        Context outer = Context.create();
+        Context inner = Context.create(outer);
+
+        assertThat(support.current(), nullValue());
+        support.run(outer, () -> {
+            assertThat(support.current(), sameInstance(outer));
+            support.run(inner, () -> assertThat(support.current(), sameInstance(inner)));
+            assertThat(support.current(), sameInstance(outer));
+        });
+        assertThat(support.current(), nullValue());
+    }
+
+    @Test
+    void testCall() throws Exception {
+        Context context = Context.create();
+        context.register("value");
+
+        Optional<String> result = support.call(context, () -> support.current().get(String.class));
+
+        assertThat(result, is(Optional.of("value")));
+        assertThat(support.current(), nullValue());
+    }
+
+    @Test
+    void testRunWithNull() {
+        assertThat(support.isBound(), is(false));
+        support.run(Context.create(), () -> support.run(null, () -> {
+            assertThat(support.isBound(), is(true));
+            assertThat(support.current(), nullValue());
+        }));
+        assertThat(support.isBound(), is(false));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.common.http;
 
+import java.util.List;
+
 import io.helidon.common.uri.UriPath;
 
 /**
@@ -40,4 +42,24 @@ public interface PathMatcher {
      * @return match result
      */
     PathMatchers.PrefixMatchResult prefixMatch(UriPath uriPath);
+
+    /**
+     * Literal segments every path accepted by {@link #match(UriPath)} starts with (in its decoded form).
+     * Used by routing to index routes; an empty list means no assumption can be made about the path.
+     *
+     * @return leading literal segments, empty by default
+     */
+    default List<String> literalSegments() {
+        return List.of();
+    }
+
+    /**
+     * Literal segments every path accepted by {@link #prefixMatch(UriPath)} starts with (in its decoded form).
+     * Used by routing to index routes; an empty list means no assumption can be made about the path.
+     *
+     * @return leading literal segments, empty by default
+     */
+    default List<String> prefixLiteralSegments() {
+        return List.of();
+    }
 }
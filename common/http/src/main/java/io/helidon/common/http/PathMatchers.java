@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 
 package io.helidon.common.http;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -66,11 +68,18 @@ public final class PathMatchers {
 
     /**
      * Pattern match path matcher.
+     * Patterns that only consist of literal text and whole-segment parameters without custom regular expressions
+     * (such as {@code /users/{id}/books/{}}) are matched segment by segment without regular expressions.
      *
      * @param pattern pattern that may contain parameters and allowed patterns
      * @return pattern match path matcher
      */
     public static PathMatcher pattern(String pattern) {
+        PathMatcher segmentMatcher = SegmentPathMatcher.create(pattern);
+        if (segmentMatcher != null) {
+            return segmentMatcher;
+        }
+
         StringBuilder regexp = new StringBuilder(pattern.length() * 2);
         boolean escape = false;
         boolean optionalSequence = false;
@@ -263,6 +272,26 @@ public final class PathMatchers {
         builder.append(')');
     }
 
+    // segments of an absolute path, optionally without the last one (that may only be matched partially)
+    private static List<String> segments(String path, boolean dropLast) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        int pos = 1;
+        while (true) {
+            int end = path.indexOf('/', pos);
+            if (end == -1) {
+                if (!dropLast) {
+                    result.add(path.substring(pos));
+                }
+                return List.copyOf(result);
+            }
+            result.add(path.substring(pos, end));
+            pos = end + 1;
+        }
+    }
+
     private static String fixPrefix(String pathToMatch) {
         if (pathToMatch.isEmpty()) {
             return "/";
@@ -275,9 +304,20 @@ public final class PathMatchers {
 
     static final class ExactPathMatcher implements PathMatcher {
         private final String path;
+        private final List<String> literalSegments;
+        private final List<String> prefixLiteralSegments;
 
         ExactPathMatcher(String path) {
             this.path = path;
+            if (normalized(path)) {
+                this.literalSegments = segments(path, false);
+                // prefix match accepts any path starting with this path, so the last segment may be longer
+                this.prefixLiteralSegments = segments(path, true);
+            } else {
+                // may only match the raw path, we cannot reason about the decoded one
+                this.literalSegments = List.of();
+                this.prefixLiteralSegments = List.of();
+            }
         }
 
         @Override
@@ -321,18 +361,38 @@ public final class PathMatchers {
             return PrefixMatchResult.notAccepted();
         }
 
+        @Override
+        public List<String> literalSegments() {
+            return literalSegments;
+        }
+
+        @Override
+        public List<String> prefixLiteralSegments() {
+            return prefixLiteralSegments;
+        }
+
         @Override
         public String toString() {
             return "exact: " + path;
         }
+
+        private static boolean normalized(String path) {
+            try {
+                return path.equals(UriPath.create(path).path());
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
     }
 
     static final class PrefixPathMatcher implements PathMatcher {
         private final String prefix;
         private final String exactMatch;
+        private final List<String> literalSegments;
 
         PrefixPathMatcher(String prefix) {
             this.prefix = prefix;
+            this.literalSegments = segments(prefix, true);
             if (prefix.endsWith("/")) {
                 exactMatch = prefix.substring(0, prefix.length() - 1);
             } else {
@@ -391,6 +451,16 @@ public final class PathMatchers {
             return PrefixMatchResult.notAccepted();
         }
 
+        @Override
+        public List<String> literalSegments() {
+            return literalSegments;
+        }
+
+        @Override
+        public List<String> prefixLiteralSegments() {
+            return literalSegments;
+        }
+
         @Override
         public String toString() {
             return "prefix: " + prefix;
@@ -463,6 +533,162 @@ public final class PathMatchers {
         }
     }
 
+    /**
+     * Pattern matcher for templates consisting only of literal text and whole-segment parameters,
+     * such as {@code /users/{id}/books}. Matches the same paths as the equivalent regular expression.
+     */
+    static final class SegmentPathMatcher implements PathMatcher {
+        // literals[i] precedes parameter i, the last literal follows the last parameter
+        private final String[] literals;
+        // parameter names, null for unnamed parameters
+        private final String[] names;
+        private final String template;
+        private final List<String> literalSegments;
+
+        private SegmentPathMatcher(String template, String[] literals, String[] names) {
+            this.template = template;
+            this.literals = literals;
+            this.names = names;
+            this.literalSegments = segments(literals[0], true);
+        }
+
+        /**
+         * Create a segment matcher if the template can be matched without regular expressions.
+         *
+         * @param template path template
+         * @return matcher, or {@code null} if the template requires regular expressions
+         */
+        static SegmentPathMatcher create(String template) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+
+            int length = template.length();
+            int i = 0;
+            while (i < length) {
+                char ch = template.charAt(i);
+                switch (ch) {
+                case '\\', '[', ']', '*', '}':
+                    return null;
+                case '{':
+                    int end = template.indexOf('}', i + 1);
+                    if (end == -1) {
+                        return null;
+                    }
+                    String name = template.substring(i + 1, end);
+                    if (name.startsWith("+") || name.indexOf(':') != -1 || name.indexOf('{') != -1) {
+                        // greedy parameter or custom regexp
+                        return null;
+                    }
+                    // parameter must be a full segment
+                    if (literal.isEmpty() || literal.charAt(literal.length() - 1) != '/') {
+                        return null;
+                    }
+                    if (end + 1 < length && template.charAt(end + 1) != '/') {
+                        return null;
+                    }
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    name = name.trim();
+                    names.add(name.isEmpty() ? null : name);
+                    i = end + 1;
+                    break;
+                default:
+                    literal.append(ch);
+                    i++;
+                }
+            }
+            if (names.isEmpty()) {
+                return null;
+            }
+            literals.add(literal.toString());
+            return new SegmentPathMatcher(template, literals.toArray(new String[0]), names.toArray(new String[0]));
+        }
+
+        @Override
+        public MatchResult match(UriPath uriPath) {
+            String decodedPath = uriPath.path();
+            Map<String, String> params = new HashMap<>();
+            int end = matchTemplate(decodedPath, params);
+            if (end == decodedPath.length()) {
+                return new MatchResult(true, new ParamRoutedPath(uriPath, Parameters.createSingleValueMap("path-template",
+                                                                                                          params)));
+            }
+            return MatchResult.notAccepted();
+        }
+
+        @Override
+        public PrefixMatchResult prefixMatch(UriPath uriPath) {
+            String decodedPath = uriPath.path();
+            Map<String, String> params = new HashMap<>();
+            int end = matchTemplate(decodedPath, params);
+            if (end == -1) {
+                return PrefixMatchResult.notAccepted();
+            }
+            String matched;
+            String unmatched;
+            if (end == decodedPath.length()) {
+                // all matched
+                matched = decodedPath;
+                unmatched = "/";
+            } else if (decodedPath.charAt(end) == '/' && decodedPath.length() - end > 1) {
+                // full segment matched
+                matched = decodedPath.substring(0, end);
+                unmatched = decodedPath.substring(end);
+            } else {
+                return PrefixMatchResult.notAccepted();
+            }
+            return new PrefixMatchResult(true,
+                                         new ParamRoutedPath(UriPath.createRelative(uriPath, matched),
+                                                             Parameters.createSingleValueMap("path-template", params)),
+                                         UriPath.createRelative(uriPath, unmatched));
+        }
+
+        @Override
+        public List<String> literalSegments() {
+            return literalSegments;
+        }
+
+        @Override
+        public List<String> prefixLiteralSegments() {
+            return literalSegments;
+        }
+
+        @Override
+        public String toString() {
+            return "pattern: " + template;
+        }
+
+        // returns index after the matched template, or -1 if the path does not start with the template
+        private int matchTemplate(String path, Map<String, String> params) {
+            int pos = 0;
+            for (int i = 0; i < names.length; i++) {
+                String literal = literals[i];
+                if (!path.startsWith(literal, pos)) {
+                    return -1;
+                }
+                pos += literal.length();
+                int end = path.indexOf('/', pos);
+                if (end == -1) {
+                    end = path.length();
+                }
+                if (end == pos) {
+                    // parameter value cannot be empty
+                    return -1;
+                }
+                if (names[i] != null) {
+                    params.put(names[i], path.substring(pos, end));
+                }
+                pos = end;
+            }
+            String literal = literals[names.length];
+            if (!path.startsWith(literal, pos)) {
+                return -1;
+            }
+            return pos + literal.length();
+        }
+    }
+
     static class AnyMatcher implements PathMatcher {
         @Override
         public MatchResult match(UriPath uriPath) {
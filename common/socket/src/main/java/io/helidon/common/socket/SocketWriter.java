@@ -64,7 +64,12 @@ public abstract class SocketWriter implements DataWriter {
 
     @Override
     public void writeNow(BufferData buffer) {
-        socket.write(buffer);
+        try {
+            socket.write(buffer);
+        } finally {
+            // the buffer is fully written (or the socket failed), return pooled buffers
+            buffer.release();
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,30 +16,49 @@
 
 package io.helidon.common.socket;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import io.helidon.common.buffers.BufferData;
-import io.helidon.common.buffers.CompositeBufferData;
 import io.helidon.common.buffers.DataWriter;
 
 /**
  * Socket writer (possibly) used from multiple threads, takes care of writing to a single
  * socket.
+ * <p>
+ * Buffers are enqueued to a lock-free queue and written by a single thread, which coalesces small buffers
+ * into a single socket write. As sockets are streams, the gathering write copies small buffers into a reused
+ * aggregate buffer; large buffers are written as they are.
  */
 class SocketWriterAsync extends SocketWriter implements DataWriter {
     private static final System.Logger LOGGER = System.getLogger(SocketWriterAsync.class.getName());
-    private static final BufferData CLOSING_TOKEN = BufferData.empty();
+    private static final long WRITE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    // we only want to read a certain amount of data, if somebody writes huge amounts
+    // we could spin here forever and run out of memory
+    private static final int MAX_BATCH_BUFFERS = 1000;
+    private static final int MAX_BATCH_BYTES = 64 * 1024;
+    // buffers at least this big are not worth copying
+    private static final int DIRECT_WRITE_THRESHOLD = 16 * 1024;
+    // how long to wait for more data before flushing, when the previous batch had concurrent writes
+    private static final int COALESCE_SPINS = 64;
+
     private final ExecutorService executor;
-    private final ArrayBlockingQueue<BufferData> writeQueue;
+    private final int writeQueueLength;
+    private final ConcurrentLinkedQueue<BufferData> writeQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Thread> blockedWriters = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean writerParked = new AtomicBoolean();
     private final CountDownLatch cdl = new CountDownLatch(1);
     private final AtomicBoolean started = new AtomicBoolean(false);
+    private final BufferData aggregate = BufferData.growing(MAX_BATCH_BYTES);
     private volatile Throwable caught;
     private volatile boolean run = true;
-    private Thread thread;
+    private volatile Thread thread;
 
     /**
      * A new socket writer.
@@ -52,7 +71,7 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
     SocketWriterAsync(ExecutorService executor, HelidonSocket socket, int writeQueueLength) {
         super(socket);
         this.executor = executor;
-        this.writeQueue = new ArrayBlockingQueue<>(writeQueueLength);
+        this.writeQueueLength = writeQueueLength;
     }
 
     @Override
@@ -65,13 +84,10 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
     @Override
     public void write(BufferData buffer) {
         checkRunning();
-        try {
-            if (!writeQueue.offer(buffer, 10, TimeUnit.SECONDS)) {
-                checkRunning();
-                throw new IllegalStateException("Failed to write data to queue, timed out");
-            }
-        } catch (InterruptedException e) {
-            throw new IllegalStateException("Interrupted while trying to write to a queue", e);
+        reserve();
+        writeQueue.offer(buffer);
+        if (writerParked.get() && writerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(thread);
         }
     }
 
@@ -84,8 +100,11 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
             // thread never started
             return;
         }
+        Thread writer = thread;
         try {
-            writeQueue.put(CLOSING_TOKEN); // wake up blocked take() operation
+            if (writer != null) {
+                LockSupport.unpark(writer); // wake up parked writer
+            }
             if (cdl.await(1000, TimeUnit.MILLISECONDS)) {
                 // reads finished because we set run to false
                 BufferData available;
@@ -99,36 +118,146 @@ class SocketWriterAsync extends SocketWriter implements DataWriter {
                     }
                 }
             }
-            if (thread != null) {
-                // fail blocked writers
-                thread.interrupt();
+            if (writer != null) {
+                writer.interrupt();
             }
         } catch (InterruptedException e) {            // failed to get
         }
-
+        // fail blocked writers
+        wakeBlockedWriters();
     }
 
     private void run() {
         this.thread = Thread.currentThread();
         this.thread.setName("[" + socket().socketId() + " " + socket().childSocketId() + "]");
         try {
+            boolean contended = false;
             while (run) {
-                CompositeBufferData toWrite = BufferData.createComposite(writeQueue.take());  // wait if the queue is empty
-                // we only want to read a certain amount of data, if somebody writes huge amounts
-                // we could spin here forever and run out of memory
-                for (int i = 0; i < 1000; i++) {
-                    BufferData newBuf = writeQueue.poll(); // drain ~all elements from the queue, don't wait.
-                    if (newBuf == null) {
-                        break;
-                    }
-                    toWrite.add(newBuf);
+                BufferData first = writeQueue.poll();
+                if (first == null) {
+                    awaitData();
+                } else {
+                    contended = writeBatch(first, contended);
                 }
-                writeNow(toWrite);
             }
             cdl.countDown();
         } catch (Throwable e) {
             this.caught = e;
             this.run = false;
+            wakeBlockedWriters();
+        }
+    }
+
+    /*
+     * Drains the queue into as few socket writes as possible.
+     * Returns whether more than one buffer was written; in such a case writers are competing, and the next
+     * batch spins for a short while to coalesce more data before flushing.
+     */
+    private boolean writeBatch(BufferData first, boolean contended) {
+        int count = 0;
+        BufferData next = first;
+        while (next != null) {
+            dequeued();
+            count++;
+            int size = next.available();
+            if (size >= DIRECT_WRITE_THRESHOLD) {
+                flush();
+                writeNow(next);
+            } else {
+                if (aggregate.available() + size > MAX_BATCH_BYTES) {
+                    flush();
+                }
+                try {
+                    aggregate.write(next);
+                } finally {
+                    next.release();
+                }
+            }
+            if (count == MAX_BATCH_BUFFERS) {
+                break;
+            }
+            next = writeQueue.poll();
+            if (next == null && contended) {
+                next = spinPoll();
+            }
+        }
+        flush();
+        return count > 1;
+    }
+
+    private BufferData spinPoll() {
+        for (int i = 0; i < COALESCE_SPINS; i++) {
+            Thread.onSpinWait();
+            BufferData next = writeQueue.poll();
+            if (next != null) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    private void flush() {
+        if (aggregate.available() > 0) {
+            try {
+                socket().write(aggregate);
+            } finally {
+                aggregate.clear();
+            }
+        }
+    }
+
+    private void awaitData() {
+        writerParked.set(true);
+        // check again after publishing the flag, so we cannot miss a buffer enqueued in between
+        if (writeQueue.isEmpty() && run) {
+            LockSupport.park(this);
+        }
+        writerParked.set(false);
+    }
+
+    // reserve a slot in the queue, blocks for up to 10 seconds if the queue is full
+    private void reserve() {
+        long deadline = System.nanoTime() + WRITE_TIMEOUT_NANOS;
+        Thread current = Thread.currentThread();
+        while (true) {
+            int count = queued.get();
+            if (count < writeQueueLength) {
+                if (queued.compareAndSet(count, count + 1)) {
+                    return;
+                }
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                checkRunning();
+                throw new IllegalStateException("Failed to write data to queue, timed out");
+            }
+            blockedWriters.offer(current);
+            // the writer may have made space before we registered
+            if (queued.get() >= writeQueueLength && run) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            blockedWriters.remove(current);
+            if (Thread.interrupted()) {
+                throw new IllegalStateException("Interrupted while trying to write to a queue",
+                                                new InterruptedException());
+            }
+            checkRunning();
+        }
+    }
+
+    private void dequeued() {
+        queued.decrementAndGet();
+        Thread blocked = blockedWriters.poll();
+        if (blocked != null) {
+            LockSupport.unpark(blocked);
+        }
+    }
+
+    private void wakeBlockedWriters() {
+        Thread blocked;
+        while ((blocked = blockedWriters.poll()) != null) {
+            LockSupport.unpark(blocked);
         }
     }
 
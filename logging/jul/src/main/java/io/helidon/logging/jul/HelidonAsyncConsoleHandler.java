@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.logging.jul;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+import io.helidon.common.internal.MpscRingBuffer;
+
+/**
+ * An asynchronous {@link Handler} that writes to {@link System#out standard out} and uses a {@link HelidonFormatter}
+ * for formatting.
+ * <p>
+ * Records are formatted on the logging thread (so MDC values and the current thread are available), and handed
+ * to a bounded queue. A single writer thread writes the queued records in batches, so logging threads never wait
+ * for standard out (unless the queue is full and overflow policy is {@link OverflowPolicy#BLOCK}).
+ * Sets the level to {@link Level#ALL} so that level filtering is performed solely by the loggers.
+ * <p>
+ * The following {@link LogManager} properties are supported (prefixed with the class name of this handler):
+ * <ul>
+ *     <li>{@code level} - level of this handler, defaults to {@link Level#ALL}</li>
+ *     <li>{@code encoding} - character encoding, defaults to the default charset</li>
+ *     <li>{@code queueSize} - capacity of the record queue, defaults to {@value #DEFAULT_QUEUE_SIZE}</li>
+ *     <li>{@code maxBatchSize} - maximal number of records written at once,
+ *          defaults to {@value #DEFAULT_MAX_BATCH_SIZE}</li>
+ *     <li>{@code overflowPolicy} - {@code BLOCK} or {@code DROP}, defaults to {@code BLOCK}</li>
+ * </ul>
+ * Java util logging configuration example using this handler:
+ * <pre>
+ * handlers=io.helidon.logging.jul.HelidonAsyncConsoleHandler
+ * io.helidon.logging.jul.HelidonAsyncConsoleHandler.queueSize=16384
+ * io.helidon.logging.jul.HelidonAsyncConsoleHandler.overflowPolicy=DROP
+ * </pre>
+ */
+public class HelidonAsyncConsoleHandler extends Handler {
+    /**
+     * Default capacity of the record queue.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    /**
+     * Default maximal number of records written at once.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private static final int MAX_QUEUE_SIZE = 1 << 24;
+    private static final int BATCH_SIZE_HINT = 16 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final OutputStream out;
+    private final int maxBatchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final MpscRingBuffer<String> queue;
+    private final Thread writerThread;
+    private final LongAdder droppedRecords = new LongAdder();
+    private final AtomicLong lastDropReport = new AtomicLong(System.nanoTime() - DROP_REPORT_INTERVAL_NANOS);
+
+    private volatile boolean closed;
+    private volatile boolean writerWaiting;
+    private volatile long written;
+
+    /**
+     * Creates a new {@link HelidonAsyncConsoleHandler} configured with:
+     * <ul>
+     *     <li>the output stream set to {@link System#out}</li>
+     *     <li>the formatter set to a {@link HelidonFormatter}</li>
+     *     <li>the level set to {@link Level#ALL}, unless configured otherwise</li>
+     * </ul>
+     * Other options are read from {@link LogManager} properties.
+     */
+    public HelidonAsyncConsoleHandler() {
+        this(System.out,
+             intProperty(".queueSize", DEFAULT_QUEUE_SIZE),
+             intProperty(".maxBatchSize", DEFAULT_MAX_BATCH_SIZE),
+             overflowPolicy(property(".overflowPolicy")));
+
+        String level = property(".level");
+        if (level != null) {
+            try {
+                setLevel(Level.parse(level));
+            } catch (IllegalArgumentException e) {
+                reportError("Invalid level: " + level, e, ErrorManager.GENERIC_FAILURE);
+            }
+        }
+        String encoding = property(".encoding");
+        if (encoding != null) {
+            try {
+                setEncoding(encoding);
+            } catch (UnsupportedEncodingException e) {
+                reportError("Unsupported encoding: " + encoding, e, ErrorManager.GENERIC_FAILURE);
+            }
+        }
+    }
+
+    HelidonAsyncConsoleHandler(OutputStream out, int queueSize, int maxBatchSize, OverflowPolicy overflowPolicy) {
+        if (queueSize < 1 || queueSize > MAX_QUEUE_SIZE) {
+            throw new IllegalArgumentException("Queue size must be between 1 and " + MAX_QUEUE_SIZE
+                                                       + ", but is: " + queueSize);
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive, but is: " + maxBatchSize);
+        }
+        this.out = out;
+        this.maxBatchSize = maxBatchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new MpscRingBuffer<>(queueSize);
+
+        setLevel(Level.ALL); // Handlers should not filter, loggers should
+        setFormatter(new HelidonFormatter());
+
+        this.writerThread = Thread.ofPlatform()
+                .daemon(true)
+                .name("helidon-log-writer")
+                .unstarted(this::run);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        String message;
+        try {
+            message = getFormatter().format(record);
+        } catch (Exception e) {
+            reportError(null, e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        if (!queue.offer(message)) {
+            if (overflowPolicy == OverflowPolicy.DROP || !waitAndOffer(message)) {
+                dropped();
+                return;
+            }
+        }
+        if (writerWaiting) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Waits until all records published before this method was called are written.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() == writerThread) {
+            return;
+        }
+        long target = queue.produced();
+        while (written < target && writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(WAIT_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Stops accepting new records and waits until all queued records are written.
+     * The underlying stream is flushed, but not closed.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writerThread);
+        if (Thread.currentThread() == writerThread) {
+            return;
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Number of records dropped since this handler was created, because the queue was full
+     * and overflow policy is {@link OverflowPolicy#DROP}.
+     *
+     * @return number of dropped records
+     */
+    public long droppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    private boolean waitAndOffer(String message) {
+        while (!closed) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(WAIT_PARK_NANOS);
+            if (queue.offer(message)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void dropped() {
+        droppedRecords.increment();
+        long now = System.nanoTime();
+        long last = lastDropReport.get();
+        if (now - last >= DROP_REPORT_INTERVAL_NANOS && lastDropReport.compareAndSet(last, now)) {
+            reportError("Log records are being dropped, queue capacity: " + queue.capacity()
+                                + ", dropped so far: " + droppedRecords.sum(),
+                        null,
+                        ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private void run() {
+        StringBuilder batch = new StringBuilder(BATCH_SIZE_HINT);
+        long count = 0;
+        while (true) {
+            int batchSize = 0;
+            String message;
+            while (batchSize < maxBatchSize && (message = queue.poll()) != null) {
+                batch.append(message);
+                batchSize++;
+            }
+            if (batchSize > 0) {
+                write(batch);
+                batch.setLength(0);
+                count += batchSize;
+                written = count;
+                continue;
+            }
+            if (closed) {
+                // producers may have finished an offer just before the close flag was observed
+                if (queue.isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            writerWaiting = true;
+            if (queue.isEmpty()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            writerWaiting = false;
+        }
+    }
+
+    private void write(StringBuilder batch) {
+        String encoding = getEncoding();
+        Charset charset = encoding == null ? Charset.defaultCharset() : Charset.forName(encoding);
+        try {
+            out.write(batch.toString().getBytes(charset));
+            out.flush();
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private static String property(String suffix) {
+        return LogManager.getLogManager().getProperty(HelidonAsyncConsoleHandler.class.getName() + suffix);
+    }
+
+    private static int intProperty(String suffix, int defaultValue) {
+        String value = property(suffix);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static OverflowPolicy overflowPolicy(String value) {
+        if (value == null) {
+            return OverflowPolicy.BLOCK;
+        }
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return OverflowPolicy.BLOCK;
+        }
+    }
+
+    /**
+     * What to do with a record when the queue of the handler is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait on the logging thread until there is space in the queue.
+         */
+        BLOCK,
+        /**
+         * Drop the record and increase the dropped records counter.
+         */
+        DROP
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,16 @@ package io.helidon.logging.jul;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.DecimalFormatSymbols;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.logging.LogManager;
 import java.util.logging.LogRecord;
 import java.util.logging.SimpleFormatter;
@@ -34,50 +38,156 @@ import io.helidon.logging.common.HelidonMdc;
 /**
  * A {@link SimpleFormatter} that replaces all occurrences of MDC tags like {@code %X{value}} with specific values.
  * It also supports replacement of {@code "!thread!"} with the current thread.
+ * <p>
+ * The format is parsed once when this formatter is created. Simple specifiers with an explicit argument index
+ * (such as {@code %5$s} or {@code %1$tH}) are written directly, other specifiers are formatted using
+ * {@link java.util.Formatter}. Formats that use ordinary or relative argument indices are formatted
+ * as a whole using {@link String#format(String, Object...)}.
  */
 public class HelidonFormatter extends SimpleFormatter {
     private static final String THREAD = "thread";
     private static final String THREAD_TOKEN = "!" + THREAD + "!";
-    private static final Pattern THREAD_PATTERN = Pattern.compile(THREAD_TOKEN);
-    private static final Pattern X_VALUE = Pattern.compile("(\\s?%X\\{)(\\S*?)(})");
-    private static final Map<String, Pattern> PATTERN_CACHE = new HashMap<>();
+    private static final String MDC_PREFIX = "%X{";
+    // same as used by java.util.Formatter
+    private static final Pattern SPECIFIER = Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
     private static final String JUL_FORMAT_PROP_KEY = "java.util.logging.SimpleFormatter.format";
-    private final String format = LogManager.getLogManager().getProperty(JUL_FORMAT_PROP_KEY);
-    private final Set<String> parsedProps = new HashSet<>();
-    private final boolean thread;
+    private static final String DEFAULT_FORMAT = "%1$tb %1$td, %1$tY %1$tl:%1$tM:%1$tS %1$Tp %2$s%n%4$s: %5$s%6$s%n";
+    private static final int ARGUMENT_COUNT = 6;
+    private static final int RECORD_SIZE_HINT = 256;
+    private static final Map<Character, ChronoField> DATE_FIELDS = Map.of('Y', ChronoField.YEAR_OF_ERA,
+                                                                          'm', ChronoField.MONTH_OF_YEAR,
+                                                                          'd', ChronoField.DAY_OF_MONTH,
+                                                                          'e', ChronoField.DAY_OF_MONTH,
+                                                                          'H', ChronoField.HOUR_OF_DAY,
+                                                                          'k', ChronoField.HOUR_OF_DAY,
+                                                                          'M', ChronoField.MINUTE_OF_HOUR,
+                                                                          'S', ChronoField.SECOND_OF_MINUTE,
+                                                                          'L', ChronoField.MILLI_OF_SECOND);
+    private static final Map<Character, Integer> DATE_WIDTHS = Map.of('Y', 4,
+                                                                       'm', 2,
+                                                                       'd', 2,
+                                                                       'e', 1,
+                                                                       'H', 2,
+                                                                       'k', 1,
+                                                                       'M', 2,
+                                                                       'S', 2,
+                                                                       'L', 3);
+
+    private final List<Token> tokens = new ArrayList<>();
+    private final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+    private final boolean formatAsWhole;
 
     /**
      * Create new instance of the {@link HelidonFormatter}.
      */
     public HelidonFormatter() {
-        thread = format.contains(THREAD_TOKEN) || format.contains("%X{" + THREAD + "}");
-        Matcher matcher = X_VALUE.matcher(format);
-        while (matcher.find()) {
-            parsedProps.add(matcher.group(2));
-        }
+        this(LogManager.getLogManager().getProperty(JUL_FORMAT_PROP_KEY));
+    }
+
+    HelidonFormatter(String format) {
+        this.formatAsWhole = parse(format == null ? DEFAULT_FORMAT : format);
     }
 
     @Override
     public String format(LogRecord record) {
-        String message = thread ? thread() : format;
-        for (String parsedKey : parsedProps) {
-            String value = HelidonMdc.get(parsedKey).orElse("");
-            message = PATTERN_CACHE.computeIfAbsent(parsedKey, key -> Pattern.compile("%X\\{" + key + "}"))
-                    .matcher(message).replaceAll(value);
+        return formatRow(record);
+    }
+
+    private boolean parse(String format) {
+        boolean asciiDigits = DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0';
+        boolean asWhole = false;
+        StringBuilder literal = new StringBuilder();
+        Matcher matcher = SPECIFIER.matcher(format);
+        int length = format.length();
+        int i = 0;
+        while (i < length) {
+            if (format.startsWith(THREAD_TOKEN, i)) {
+                addLiteral(literal);
+                tokens.add(CurrentThread.INSTANCE);
+                i += THREAD_TOKEN.length();
+                continue;
+            }
+            char c = format.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (format.startsWith(MDC_PREFIX, i)) {
+                int end = format.indexOf('}', i + MDC_PREFIX.length());
+                if (end > 0) {
+                    String key = format.substring(i + MDC_PREFIX.length(), end);
+                    if (key.chars().noneMatch(Character::isWhitespace)) {
+                        addLiteral(literal);
+                        tokens.add(THREAD.equals(key) ? CurrentThread.INSTANCE : new Mdc(key));
+                        i = end + 1;
+                        continue;
+                    }
+                }
+            }
+            matcher.region(i, length);
+            if (!matcher.lookingAt()) {
+                // not a valid specifier, String.format reports the problem
+                literal.append(c);
+                asWhole = true;
+                i++;
+                continue;
+            }
+            addLiteral(literal);
+            Token token = specifier(matcher, asciiDigits);
+            if (token == null) {
+                asWhole = true;
+                token = new Specifier(matcher.group());
+            }
+            tokens.add(token);
+            i = matcher.end();
+        }
+        addLiteral(literal);
+        return asWhole;
+    }
+
+    // returns null if the format cannot be split into separately formatted specifiers
+    private Token specifier(Matcher matcher, boolean asciiDigits) {
+        String index = matcher.group(1);
+        String flags = matcher.group(2);
+        boolean plain = (flags == null || flags.isEmpty()) && matcher.group(3) == null && matcher.group(4) == null;
+        String datePrefix = matcher.group(5);
+        char conversion = matcher.group(6).charAt(0);
+
+        if (datePrefix == null && plain) {
+            if (conversion == 'n') {
+                return new Literal(System.lineSeparator(), "%n");
+            }
+            if (conversion == '%') {
+                return new Literal("%", "%%");
+            }
         }
-        return formatRow(record, message);
+        if (index == null || (flags != null && flags.indexOf('<') >= 0)) {
+            return null;
+        }
+        int argument = Integer.parseInt(index.substring(0, index.length() - 1));
+        if (argument < 1 || argument > ARGUMENT_COUNT || !plain) {
+            return new Specifier(matcher.group());
+        }
+        if (datePrefix == null && conversion == 's') {
+            return new Argument(argument - 1);
+        }
+        if ("t".equals(datePrefix) && asciiDigits && DATE_FIELDS.containsKey(conversion)) {
+            return new DateField(argument - 1, conversion, DATE_FIELDS.get(conversion), DATE_WIDTHS.get(conversion));
+        }
+        return new Specifier(matcher.group());
     }
 
-    private String thread() {
-        String currentThread = Thread.currentThread().toString();
-        String message = PATTERN_CACHE.computeIfAbsent(THREAD, key -> Pattern.compile("%X\\{" + THREAD + "}"))
-                .matcher(format).replaceAll(currentThread);
-        message = THREAD_PATTERN.matcher(message).replaceAll(currentThread);
-        return message;
+    private void addLiteral(StringBuilder literal) {
+        if (!literal.isEmpty()) {
+            String text = literal.toString();
+            tokens.add(new Literal(text, text));
+            literal.setLength(0);
+        }
     }
 
     //Copied from SimpleFormatter
-    private String formatRow(LogRecord record, String format) {
+    private String formatRow(LogRecord record) {
         ZonedDateTime zdt = ZonedDateTime.ofInstant(
                 record.getInstant(), ZoneId.systemDefault());
         String source;
@@ -99,12 +209,142 @@ public class HelidonFormatter extends SimpleFormatter {
             pw.close();
             throwable = sw.toString();
         }
-        return String.format(format,
-                             zdt,
-                             source,
-                             record.getLoggerName(),
-                             record.getLevel().getLocalizedName(),
-                             message,
-                             throwable);
+        Object[] args = new Object[] {zdt,
+                source,
+                record.getLoggerName(),
+                record.getLevel().getLocalizedName(),
+                message,
+                throwable};
+
+        Row row = new Row(args, locale);
+        if (formatAsWhole) {
+            for (Token token : tokens) {
+                token.appendFormat(row);
+            }
+            return String.format(locale, row.builder.toString(), args);
+        }
+        for (Token token : tokens) {
+            token.append(row);
+        }
+        return row.builder.toString();
+    }
+
+    private interface Token {
+        /**
+         * Append the formatted value of this token.
+         *
+         * @param row row being formatted
+         */
+        void append(Row row);
+
+        /**
+         * Append this token as a part of a format string to be used with {@link String#format(String, Object...)}.
+         *
+         * @param row row being formatted
+         */
+        default void appendFormat(Row row) {
+            // dynamic values must not be interpreted as format specifiers
+            int start = row.builder.length();
+            append(row);
+            for (int i = row.builder.length() - 1; i >= start; i--) {
+                if (row.builder.charAt(i) == '%') {
+                    row.builder.insert(i, '%');
+                }
+            }
+        }
+    }
+
+    private static final class Row {
+        private final StringBuilder builder = new StringBuilder(RECORD_SIZE_HINT);
+        private final Object[] args;
+        private final Locale locale;
+        private Formatter formatter;
+
+        private Row(Object[] args, Locale locale) {
+            this.args = args;
+            this.locale = locale;
+        }
+
+        private Formatter formatter() {
+            if (formatter == null) {
+                formatter = new Formatter(builder, locale);
+            }
+            return formatter;
+        }
+    }
+
+    private record Literal(String text, String formatText) implements Token {
+        @Override
+        public void append(Row row) {
+            row.builder.append(text);
+        }
+
+        @Override
+        public void appendFormat(Row row) {
+            row.builder.append(formatText);
+        }
+    }
+
+    private record Mdc(String key) implements Token {
+        @Override
+        public void append(Row row) {
+            row.builder.append(HelidonMdc.get(key).orElse(""));
+        }
+    }
+
+    private record Argument(int index) implements Token {
+        @Override
+        public void append(Row row) {
+            row.builder.append(row.args[index]);
+        }
+
+        @Override
+        public void appendFormat(Row row) {
+            row.builder.append('%').append(index + 1).append("$s");
+        }
+    }
+
+    private record DateField(int index, char conversion, ChronoField field, int width) implements Token {
+        @Override
+        public void append(Row row) {
+            Object arg = row.args[index];
+            if (!(arg instanceof TemporalAccessor temporal)) {
+                // let formatter report the problem
+                row.formatter().format("%" + (index + 1) + "$t" + conversion, row.args);
+                return;
+            }
+            int value = temporal.get(field);
+            String digits = Integer.toString(value);
+            for (int i = digits.length(); i < width; i++) {
+                row.builder.append('0');
+            }
+            row.builder.append(digits);
+        }
+
+        @Override
+        public void appendFormat(Row row) {
+            row.builder.append('%').append(index + 1).append("$t").append(conversion);
+        }
+    }
+
+    private record Specifier(String specifier) implements Token {
+        @Override
+        public void append(Row row) {
+            row.formatter().format(specifier, row.args);
+        }
+
+        @Override
+        public void appendFormat(Row row) {
+            row.builder.append(specifier);
+        }
+    }
+
+    private enum CurrentThread implements Token {
+        INSTANCE;
+
+        @Override
+        public void append(Row row) {
+            row.builder.append(Thread.currentThread());
+        }
     }
 }
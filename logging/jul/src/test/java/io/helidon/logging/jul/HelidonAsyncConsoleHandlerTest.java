@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.logging.jul;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link HelidonAsyncConsoleHandler}.
+ */
+class HelidonAsyncConsoleHandlerTest {
+    @Test
+    void testWriteFlushAndClose() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HelidonAsyncConsoleHandler handler = handler(out, 16, HelidonAsyncConsoleHandler.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record-" + i));
+        }
+        handler.flush();
+
+        String[] lines = out.toString().split("\n");
+        assertThat(lines.length, is(100));
+        assertThat(lines[0], is("record-0"));
+        assertThat(lines[99], is("record-99"));
+
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after-close"));
+        assertThat(out.toString().contains("after-close"), is(false));
+        assertThat(handler.droppedRecords(), is(0L));
+    }
+
+    @Test
+    void testDropWhenFull() throws InterruptedException {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OutputStream blocking = new OutputStream() {
+            @Override
+            public void write(int b) {
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writeStarted.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                out.write(b, off, len);
+            }
+        };
+        HelidonAsyncConsoleHandler handler = handler(blocking, 1, HelidonAsyncConsoleHandler.OverflowPolicy.DROP);
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertThat(writeStarted.await(10, TimeUnit.SECONDS), is(true));
+        // writer is blocked, the queue has space for two records (minimal capacity)
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        handler.publish(new LogRecord(Level.INFO, "third"));
+        handler.publish(new LogRecord(Level.INFO, "fourth"));
+        release.countDown();
+        handler.close();
+
+        assertThat(out.toString(), is("first\nsecond\nthird\n"));
+        assertThat(handler.droppedRecords(), is(1L));
+    }
+
+    private static HelidonAsyncConsoleHandler handler(OutputStream out,
+                                                      int queueSize,
+                                                      HelidonAsyncConsoleHandler.OverflowPolicy policy) {
+        HelidonAsyncConsoleHandler handler = new HelidonAsyncConsoleHandler(out, queueSize, 1, policy);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + "\n";
+            }
+        });
+        return handler;
+    }
+}
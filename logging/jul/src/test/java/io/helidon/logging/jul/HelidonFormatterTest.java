@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.logging.jul;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import io.helidon.logging.common.HelidonMdc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link HelidonFormatter}.
+ */
+class HelidonFormatterTest {
+    private static final Instant INSTANT = Instant.parse("2007-01-03T04:05:06.078Z");
+    private static final String LOGGER_NAME = "io.helidon.test";
+
+    @AfterEach
+    void clearMdc() {
+        HelidonMdc.clear();
+    }
+
+    @Test
+    void testPrecompiledFormat() {
+        HelidonMdc.set("test", "value");
+        String format = "%1$tY.%1$tm.%1$td %1$tH:%1$tM:%1$tS.%1$tL %4$s %3$s !thread!: %5$s%6$s %X{test}%n";
+        String expected = String.format("%1$tY.%1$tm.%1$td %1$tH:%1$tM:%1$tS.%1$tL %4$s %3$s "
+                                                + Thread.currentThread() + ": %5$s%6$s value%n",
+                                        args("message"));
+
+        assertThat(new HelidonFormatter(format).format(record("message")), is(expected));
+    }
+
+    @Test
+    void testGenericSpecifiers() {
+        String format = "%1$tb %1$te %4$-7s [%3$.5s] %2$s%% %X{thread} %5$s%n";
+        String expected = String.format("%1$tb %1$te %4$-7s [%3$.5s] %2$s%% " + Thread.currentThread() + " %5$s%n",
+                                        args("message"));
+
+        assertThat(new HelidonFormatter(format).format(record("message")), is(expected));
+    }
+
+    @Test
+    void testOrdinaryIndexFormat() {
+        HelidonMdc.set("test", "100%");
+        String format = "%s %s %X{test} %s%n";
+        String expected = String.format("%s %s 100%% %s%n", args("message"));
+
+        assertThat(new HelidonFormatter(format).format(record("message")), is(expected));
+    }
+
+    @Test
+    void testMissingMdcValue() {
+        HelidonFormatter formatter = new HelidonFormatter("%5$s %X{missing}");
+
+        assertThat(formatter.format(record("message")), is("message "));
+    }
+
+    private static LogRecord record(String message) {
+        LogRecord record = new LogRecord(Level.INFO, message);
+        record.setInstant(INSTANT);
+        record.setLoggerName(LOGGER_NAME);
+        return record;
+    }
+
+    private static Object[] args(String message) {
+        return new Object[] {ZonedDateTime.ofInstant(INSTANT, ZoneId.systemDefault()),
+                LOGGER_NAME,
+                LOGGER_NAME,
+                Level.INFO.getLocalizedName(),
+                message,
+                ""};
+    }
+}
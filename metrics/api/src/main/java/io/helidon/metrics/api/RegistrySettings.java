@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -76,6 +76,30 @@ public interface RegistrySettings {
      */
     boolean isMetricEnabled(String dottedName);
 
+    /**
+     * Returns the type of reservoir used by histograms and timers in the registry.
+     *
+     * @return reservoir type
+     */
+    ReservoirType reservoirType();
+
+    /**
+     * Implementation of the reservoir of samples used by histograms and timers to compute percentiles.
+     */
+    enum ReservoirType {
+        /**
+         * Exponentially decaying random sample of values, biased towards the past five minutes.
+         * Updates synchronize on a lock.
+         */
+        EXPONENTIALLY_DECAYING,
+        /**
+         * Counts of values in log-linear buckets (in the style of HdrHistogram), recorded without locking into
+         * per-thread stripes. Memory is bounded regardless of the number of values, high percentiles are accurate
+         * within about 3%, and percentiles cover the past one to two minutes.
+         */
+        LOG_LINEAR
+    }
+
     /**
      * Builder for {@code RegistrySettings}.
      */
@@ -97,6 +121,11 @@ public interface RegistrySettings {
          */
         String TYPE_CONFIG_KEY = "type";
 
+        /**
+         * Config key within the registry's config section selecting the reservoir used by histograms and timers.
+         */
+        String RESERVOIR_CONFIG_KEY = "reservoir";
+
         /**
          * Sets whether the metric type should be enabled.
          *
@@ -120,6 +149,19 @@ public interface RegistrySettings {
                 description = "Name filtering, featuring optional exclude and include settings")
         Builder filterSettings(RegistryFilterSettings.Builder registryFilterSettingsBuilder);
 
+        /**
+         * Sets the type of reservoir used by histograms and timers created in the registry.
+         * Either the name of the constant or its lower case form with dashes (such as {@code log-linear}) can be
+         * used in config.
+         *
+         * @param reservoirType reservoir type
+         * @return updated builder
+         */
+        @ConfiguredOption(
+                key = RESERVOIR_CONFIG_KEY,
+                value = "EXPONENTIALLY_DECAYING")
+        Builder reservoirType(ReservoirType reservoirType);
+
         /**
          * Sets values in the builder based on the provided {@code Config} node.
          *
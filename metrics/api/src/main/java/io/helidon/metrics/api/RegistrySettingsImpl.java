@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package io.helidon.metrics.api;
 
+import java.util.Locale;
+import java.util.Objects;
+
 import io.helidon.config.Config;
 
 class RegistrySettingsImpl implements RegistrySettings {
@@ -25,10 +28,12 @@ class RegistrySettingsImpl implements RegistrySettings {
 
     private final boolean isEnabled;
     private final RegistryFilterSettings registryFilterSettings;
+    private final ReservoirType reservoirType;
 
     protected RegistrySettingsImpl(Builder builder) {
         isEnabled = builder.isEnabled;
         registryFilterSettings = builder.registryFilterSettingsBuilder.build();
+        reservoirType = builder.reservoirType;
     }
 
     @Override
@@ -41,10 +46,16 @@ class RegistrySettingsImpl implements RegistrySettings {
         return isEnabled && registryFilterSettings.passes(dottedName);
     }
 
+    @Override
+    public ReservoirType reservoirType() {
+        return reservoirType;
+    }
+
     static class Builder implements RegistrySettings.Builder {
 
         private boolean isEnabled = true;
         private RegistryFilterSettings.Builder registryFilterSettingsBuilder = RegistryFilterSettings.builder();
+        private ReservoirType reservoirType = ReservoirType.EXPONENTIALLY_DECAYING;
 
         @Override
         public RegistrySettingsImpl build() {
@@ -63,6 +74,12 @@ class RegistrySettingsImpl implements RegistrySettings {
             return this;
         }
 
+        @Override
+        public RegistrySettings.Builder reservoirType(ReservoirType reservoirType) {
+            this.reservoirType = Objects.requireNonNull(reservoirType);
+            return this;
+        }
+
         @Override
         public RegistrySettings.Builder config(Config registrySettings) {
             registrySettings.get(Builder.ENABLED_CONFIG_KEY)
@@ -72,6 +89,11 @@ class RegistrySettingsImpl implements RegistrySettings {
             registrySettings.get(Builder.FILTER_CONFIG_KEY)
                     .as(RegistryFilterSettings.Builder::create)
                     .ifPresent(this::filterSettings);
+
+            registrySettings.get(Builder.RESERVOIR_CONFIG_KEY)
+                    .asString()
+                    .map(it -> ReservoirType.valueOf(it.toUpperCase(Locale.ROOT).replace('-', '_')))
+                    .ifPresent(this::reservoirType);
             return this;
         }
 
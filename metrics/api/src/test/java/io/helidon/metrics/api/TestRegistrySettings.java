@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -101,6 +101,18 @@ class TestRegistrySettings {
                    is(true));
     }
 
+    @Test
+    void testReservoirConfig() {
+        assertThat("Default reservoir",
+                   RegistrySettings.create().reservoirType(),
+                   is(RegistrySettings.ReservoirType.EXPONENTIALLY_DECAYING));
+
+        Config config = Config.just(ConfigSources.create(Map.of("reservoir", "log-linear")));
+        RegistrySettings mts = RegistrySettings.create(config);
+
+        assertThat("Configured reservoir", mts.reservoirType(), is(RegistrySettings.ReservoirType.LOG_LINEAR));
+    }
+
     @Test
     void testInvalidConfig() {
         Map<String, String> configMap = Map.of("filter.include", "mine\\..*|bad(one");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -50,7 +50,7 @@ import static java.lang.Math.min;
  * the current time, so we cannot share a single static value for the current time across all instances. So each instance
  * registers its own {@code Runnable} which updates its own value, and the single executor invokes all of them when it runs.
  */
-class ExponentiallyDecayingReservoir {
+class ExponentiallyDecayingReservoir implements Reservoir {
 
     private static final int DEFAULT_SIZE = 1028;
     private static final double DEFAULT_ALPHA = 0.015;
@@ -99,6 +99,7 @@ class ExponentiallyDecayingReservoir {
         return (int) min(size, count.get());
     }
 
+    @Override
     public void update(long value, String label) {
         update(value, currentTimeInSeconds, label);
     }
@@ -110,6 +111,7 @@ class ExponentiallyDecayingReservoir {
      * @param timestamp the epoch timestamp of {@code value} in seconds
      * @param label     the optional label associated with the sample
      */
+    @Override
     public void update(long value, long timestamp, String label) {
         rescaleIfNeeded();
         lockForRegularUsage();
@@ -143,6 +145,7 @@ class ExponentiallyDecayingReservoir {
         }
     }
 
+    @Override
     public WeightedSnapshot getSnapshot() {
         rescaleIfNeeded();
         lockForRegularUsage();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.LongAdder;
 
 import io.helidon.metrics.api.LabeledSnapshot;
+import io.helidon.metrics.api.RegistrySettings;
 import io.helidon.metrics.api.SnapshotMetric;
 
 import org.eclipse.microprofile.metrics.Histogram;
@@ -42,7 +43,18 @@ final class HelidonHistogram extends MetricImpl implements Histogram, SnapshotMe
     }
 
     static HelidonHistogram create(String type, Metadata metadata, Clock clock) {
-        return new HelidonHistogram(type, metadata, new HistogramImpl(clock));
+        return create(type, metadata, clock, RegistrySettings.ReservoirType.EXPONENTIALLY_DECAYING);
+    }
+
+    static HelidonHistogram create(String type, Metadata metadata, RegistrySettings.ReservoirType reservoirType) {
+        return create(type, metadata, Clock.system(), reservoirType);
+    }
+
+    static HelidonHistogram create(String type,
+                                   Metadata metadata,
+                                   Clock clock,
+                                   RegistrySettings.ReservoirType reservoirType) {
+        return new HelidonHistogram(type, metadata, new HistogramImpl(Reservoir.create(reservoirType, clock)));
     }
 
     static HelidonHistogram create(String type, Metadata metadata, Histogram delegate) {
@@ -95,10 +107,10 @@ final class HelidonHistogram extends MetricImpl implements Histogram, SnapshotMe
     static final class HistogramImpl implements Histogram {
         private final LongAdder counter = new LongAdder();
         private final LongAdder sum = new LongAdder();
-        private final ExponentiallyDecayingReservoir reservoir;
+        private final Reservoir reservoir;
 
-        private HistogramImpl(Clock clock) {
-            this.reservoir = new ExponentiallyDecayingReservoir(clock);
+        private HistogramImpl(Reservoir reservoir) {
+            this.reservoir = reservoir;
         }
 
         public void update(int value) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.metrics.api.LabeledSnapshot;
+import io.helidon.metrics.api.RegistrySettings;
 import io.helidon.metrics.api.SnapshotMetric;
 
 import org.eclipse.microprofile.metrics.Metadata;
@@ -46,7 +47,18 @@ final class HelidonTimer extends MetricImpl implements Timer, SnapshotMetric {
     }
 
     static HelidonTimer create(String repoType, Metadata metadata, Clock clock) {
-        return create(repoType, metadata, new TimerImpl(repoType, metadata.getName(), clock));
+        return create(repoType, metadata, clock, RegistrySettings.ReservoirType.EXPONENTIALLY_DECAYING);
+    }
+
+    static HelidonTimer create(String repoType, Metadata metadata, RegistrySettings.ReservoirType reservoirType) {
+        return create(repoType, metadata, Clock.system(), reservoirType);
+    }
+
+    static HelidonTimer create(String repoType,
+                               Metadata metadata,
+                               Clock clock,
+                               RegistrySettings.ReservoirType reservoirType) {
+        return create(repoType, metadata, new TimerImpl(repoType, metadata.getName(), clock, reservoirType));
     }
 
     static HelidonTimer create(String repoType, Metadata metadata, Timer metric) {
@@ -150,7 +162,7 @@ final class HelidonTimer extends MetricImpl implements Timer, SnapshotMetric {
         private final Clock clock;
         private long elapsedTimeNanos;
 
-        TimerImpl(String repoType, String name, Clock clock) {
+        TimerImpl(String repoType, String name, Clock clock, RegistrySettings.ReservoirType reservoirType) {
             this.meter = HelidonMeter.create(repoType, Metadata.builder()
                     .withName(name)
                     .withType(MetricType.METERED)
@@ -158,7 +170,7 @@ final class HelidonTimer extends MetricImpl implements Timer, SnapshotMetric {
             this.histogram = HelidonHistogram.create(repoType, Metadata.builder()
                     .withName(name)
                     .withType(MetricType.HISTOGRAM)
-                    .build(), clock);
+                    .build(), clock, reservoirType);
             this.clock = clock;
         }
 
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A reservoir counting values in log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ * Each power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so a value is represented
+ * with a relative error of at most {@code 1/}{@value #SUB_BUCKETS}, using a fixed number of buckets for the whole
+ * range of {@code long}. Negative values are counted as zero.
+ * <p>
+ * Recording is a single atomic increment in one of a few stripes, selected by the current thread, so there is no lock
+ * and little contention. Memory is bounded by the number of stripes and buckets, regardless of the number of values.
+ * <p>
+ * To follow recent values, counts are kept in two generations that rotate every {@value #ROTATION_SECONDS} seconds;
+ * a snapshot covers the current and the previous generation. Counting is eventually consistent - a value recorded while
+ * a generation rotates may be lost.
+ */
+class LogLinearReservoir implements Reservoir {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // bucket index of Long.MAX_VALUE is the highest
+    private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+    private static final int STRIPES = stripes();
+    private static final int ROTATION_SECONDS = 60;
+    private static final long ROTATION_NANOS = TimeUnit.SECONDS.toNanos(ROTATION_SECONDS);
+
+    private final Clock clock;
+    private final AtomicLong nextRotation;
+    private final AtomicReference<Generation> current = new AtomicReference<>(new Generation());
+    private volatile Generation previous = new Generation();
+
+    LogLinearReservoir(Clock clock) {
+        this.clock = clock;
+        this.nextRotation = new AtomicLong(clock.nanoTick() + ROTATION_NANOS);
+    }
+
+    @Override
+    public void update(long value, String label) {
+        rotateIfNeeded();
+        current.get().record(value, label);
+    }
+
+    @Override
+    public void update(long value, long timestamp, String label) {
+        // buckets are not kept per timestamp, the value is counted as current
+        update(value, label);
+    }
+
+    @Override
+    public WeightedSnapshot getSnapshot() {
+        rotateIfNeeded();
+        Generation currentGeneration = current.get();
+        Generation previousGeneration = previous;
+        long[] counts = new long[BUCKETS];
+        currentGeneration.addCounts(counts);
+        previousGeneration.addCounts(counts);
+
+        List<WeightedSnapshot.WeightedSample> samples = new ArrayList<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts[i];
+            if (count == 0) {
+                continue;
+            }
+            WeightedSnapshot.WeightedSample exemplar = currentGeneration.exemplar(i);
+            if (exemplar == null) {
+                exemplar = previousGeneration.exemplar(i);
+            }
+            if (exemplar == null) {
+                samples.add(new WeightedSnapshot.WeightedSample(representative(i), count, 0, ""));
+            } else {
+                samples.add(new WeightedSnapshot.WeightedSample(exemplar.value(),
+                                                                count,
+                                                                exemplar.timestamp(),
+                                                                exemplar.label()));
+            }
+        }
+        return new WeightedSnapshot(samples);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            // exact for small values
+            return value < 0 ? 0 : (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + subBucket - SUB_BUCKETS;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return subBucket << shift;
+    }
+
+    // middle of the bucket
+    static long representative(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return lowerBound(index) + ((1L << shift) >>> 1);
+    }
+
+    private void rotateIfNeeded() {
+        long now = clock.nanoTick();
+        long next = nextRotation.get();
+        if (now - next >= 0 && nextRotation.compareAndSet(next, now + ROTATION_NANOS)) {
+            Generation old = current.getAndSet(new Generation());
+            if (now - next >= ROTATION_NANOS) {
+                // nothing was recorded for a whole generation, the old one is stale as well
+                previous = new Generation();
+            } else {
+                previous = old;
+            }
+        }
+    }
+
+    private static int stripes() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        // power of two, so the stripe can be selected by a mask, at most 4 to bound memory
+        return processors >= 4 ? 4 : (processors >= 2 ? 2 : 1);
+    }
+
+    private static int stripe() {
+        long id = Thread.currentThread().threadId();
+        return (int) ((id ^ (id >>> 16)) & (STRIPES - 1));
+    }
+
+    private static final class Generation {
+        // stripes are allocated when first used by a thread
+        private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+        // allocated with the first labeled sample, as exemplars are not used by default
+        private final AtomicReference<AtomicReferenceArray<WeightedSnapshot.WeightedSample>> exemplars =
+                new AtomicReference<>();
+
+        void record(long value, String label) {
+            int index = index(value);
+            stripe().incrementAndGet(index);
+            if (!label.isEmpty()) {
+                exemplars().set(index, new WeightedSnapshot.WeightedSample(value, 1.0, label));
+            }
+        }
+
+        void addCounts(long[] counts) {
+            for (int i = 0; i < STRIPES; i++) {
+                AtomicLongArray stripe = stripes.get(i);
+                if (stripe != null) {
+                    for (int j = 0; j < BUCKETS; j++) {
+                        counts[j] += stripe.get(j);
+                    }
+                }
+            }
+        }
+
+        WeightedSnapshot.WeightedSample exemplar(int index) {
+            AtomicReferenceArray<WeightedSnapshot.WeightedSample> current = exemplars.get();
+            return current == null ? null : current.get(index);
+        }
+
+        private AtomicLongArray stripe() {
+            int index = LogLinearReservoir.stripe();
+            AtomicLongArray stripe = stripes.get(index);
+            if (stripe == null) {
+                stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS));
+                stripe = stripes.get(index);
+            }
+            return stripe;
+        }
+
+        private AtomicReferenceArray<WeightedSnapshot.WeightedSample> exemplars() {
+            AtomicReferenceArray<WeightedSnapshot.WeightedSample> current = exemplars.get();
+            if (current == null) {
+                exemplars.compareAndSet(null, new AtomicReferenceArray<>(BUCKETS));
+                current = exemplars.get();
+            }
+            return current;
+        }
+    }
+}
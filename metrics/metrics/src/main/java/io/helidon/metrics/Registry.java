@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -127,13 +127,18 @@ public class Registry extends AbstractRegistry {
         // Omit gauge because creating a gauge requires an existing delegate instance.
         // These factory methods do not use delegates.
         return Map.of(MetricType.COUNTER, HelidonCounter::create,
-                MetricType.HISTOGRAM, HelidonHistogram::create,
+                MetricType.HISTOGRAM, (type, metadata) -> HelidonHistogram.create(type, metadata, reservoirType()),
                 MetricType.METERED, HelidonMeter::create,
-                MetricType.TIMER, HelidonTimer::create,
+                MetricType.TIMER, (type, metadata) -> HelidonTimer.create(type, metadata, reservoirType()),
                 MetricType.SIMPLE_TIMER, HelidonSimpleTimer::create,
                 MetricType.CONCURRENT_GAUGE, HelidonConcurrentGauge::create);
     }
 
+    // invoked when a metric is created, so the current settings of the registry are used
+    private RegistrySettings.ReservoirType reservoirType() {
+        return registrySettings.get().reservoirType();
+    }
+
     @Override
     protected <T, R extends Number> Gauge<R> createGauge(Metadata metadata,
                                                               T object,
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.metrics;
+
+import io.helidon.metrics.api.RegistrySettings;
+
+/**
+ * Reservoir of samples backing histograms and timers.
+ */
+interface Reservoir {
+    /**
+     * Create a reservoir of the provided type.
+     *
+     * @param type  reservoir type
+     * @param clock clock to use
+     * @return a new reservoir
+     */
+    static Reservoir create(RegistrySettings.ReservoirType type, Clock clock) {
+        return switch (type) {
+            case EXPONENTIALLY_DECAYING -> new ExponentiallyDecayingReservoir(clock);
+            case LOG_LINEAR -> new LogLinearReservoir(clock);
+        };
+    }
+
+    /**
+     * Adds a value to the reservoir.
+     *
+     * @param value the value to be added
+     * @param label the optional label associated with the sample
+     */
+    void update(long value, String label);
+
+    /**
+     * Adds an old value with a fixed timestamp to the reservoir.
+     *
+     * @param value     the value to be added
+     * @param timestamp the epoch timestamp of {@code value} in seconds
+     * @param label     the optional label associated with the sample
+     */
+    void update(long value, long timestamp, String label);
+
+    /**
+     * Snapshot of the current values.
+     *
+     * @return snapshot
+     */
+    WeightedSnapshot getSnapshot();
+}
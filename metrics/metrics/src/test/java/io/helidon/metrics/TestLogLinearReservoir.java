@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.metrics.api.RegistrySettings;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.eclipse.microprofile.metrics.Timer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+class TestLogLinearReservoir {
+
+    @Test
+    void testBuckets() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LogLinearReservoir.index(value);
+            long lower = LogLinearReservoir.lowerBound(index);
+            assertThat("Lower bound of " + value, lower, lessThanOrEqualTo(value));
+            assertThat("Next bucket of " + value, LogLinearReservoir.lowerBound(index + 1), greaterThanOrEqualTo(value + 1));
+        }
+        assertThat(LogLinearReservoir.index(-10), is(0));
+        assertThat(LogLinearReservoir.lowerBound(LogLinearReservoir.index(Long.MAX_VALUE)), lessThan(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testPercentiles() {
+        LogLinearReservoir reservoir = new LogLinearReservoir(TestClock.create());
+        for (int i = 1; i <= 10_000; i++) {
+            reservoir.update(i * 1000L, "");
+        }
+
+        Snapshot snapshot = reservoir.getSnapshot();
+        // relative error of a bucket is at most 1/32
+        assertThat(snapshot.getMedian(), closeTo(5_000_000, 5_000_000 / 32.0));
+        assertThat(snapshot.get99thPercentile(), closeTo(9_900_000, 9_900_000 / 32.0));
+        assertThat(snapshot.get999thPercentile(), closeTo(9_990_000, 9_990_000 / 32.0));
+        assertThat((double) snapshot.getMax(), closeTo(10_000_000, 10_000_000 / 32.0));
+        assertThat(snapshot.getMean(), closeTo(5_000_500, 5_000_500 / 32.0));
+    }
+
+    @Test
+    void testExemplar() {
+        LogLinearReservoir reservoir = new LogLinearReservoir(TestClock.create());
+        reservoir.update(1000, "");
+        reservoir.update(1001, "trace_id=\"1\"");
+
+        WeightedSnapshot snapshot = reservoir.getSnapshot();
+        assertThat(snapshot.max().label(), is("trace_id=\"1\""));
+        assertThat(snapshot.max().value(), is(1001L));
+    }
+
+    @Test
+    void testRotation() {
+        TestClock clock = TestClock.create();
+        LogLinearReservoir reservoir = new LogLinearReservoir(clock);
+        reservoir.update(1000, "");
+
+        clock.add(61, TimeUnit.SECONDS);
+        reservoir.update(2000, "");
+        assertThat("Previous generation is part of the snapshot", reservoir.getSnapshot().size(), is(2));
+
+        clock.add(61, TimeUnit.SECONDS);
+        assertThat("Only the previous generation is left", reservoir.getSnapshot().size(), is(1));
+
+        clock.add(200, TimeUnit.SECONDS);
+        assertThat("All generations expired", reservoir.getSnapshot().size(), is(0));
+    }
+
+    @Test
+    void testRegistrySelection() {
+        Registry registry = Registry.create(MetricRegistry.Type.APPLICATION,
+                                            RegistrySettings.builder()
+                                                    .reservoirType(RegistrySettings.ReservoirType.LOG_LINEAR)
+                                                    .build());
+        Histogram histogram = registry.histogram("logLinearHistogram");
+        Timer timer = registry.timer("logLinearTimer");
+        histogram.update(100_001);
+        timer.update(Duration.ofMillis(42));
+
+        // bucket value instead of the exact one shows the log-linear reservoir is used
+        long bucketValue = LogLinearReservoir.representative(LogLinearReservoir.index(100_001));
+        assertThat(bucketValue, not(100_001L));
+        assertThat(histogram.getSnapshot().getMax(), is(bucketValue));
+        assertThat((double) timer.getSnapshot().getMax(),
+                   closeTo(TimeUnit.MILLISECONDS.toNanos(42), TimeUnit.MILLISECONDS.toNanos(42) / 32.0));
+    }
+}
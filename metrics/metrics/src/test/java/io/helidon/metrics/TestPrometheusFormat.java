@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
+
+import io.helidon.metrics.api.RegistrySettings;
+import io.helidon.metrics.serviceapi.PrometheusFormat;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+class TestPrometheusFormat {
+
+    private static Registry registry;
+
+    @BeforeAll
+    static void createRegistry() {
+        registry = new Registry(MetricRegistry.Type.APPLICATION, RegistrySettings.create());
+        registry.counter(Metadata.builder()
+                                 .withName("requests.count")
+                                 .withDescription("Counts requests")
+                                 .build(),
+                         new Tag("path", "/a\"b\\c"))
+                .inc(3);
+        registry.counter("requests.count", new Tag("path", "/d")).inc();
+        registry.concurrentGauge("in__flight").inc();
+        for (int i = 0; i < 10_000; i++) {
+            registry.counter("series", new Tag("id", String.valueOf(i))).inc(i);
+        }
+    }
+
+    @Test
+    void testStreamingMatchesString() {
+        StringWriter writer = new StringWriter();
+        PrometheusFormat.prometheusData(writer, false, registry);
+
+        assertThat(writer.toString(), is(PrometheusFormat.prometheusData(registry)));
+    }
+
+    @Test
+    void testStreamingByNameMatchesString() {
+        StringWriter writer = new StringWriter();
+        PrometheusFormat.prometheusDataByName(writer, false, registry, "requests.count");
+
+        assertThat(writer.toString(), is(PrometheusFormat.prometheusDataByName(registry, "requests.count")));
+    }
+
+    @Test
+    void testNamesAndLabels() {
+        String data = PrometheusFormat.prometheusData(registry);
+
+        assertThat(data, containsString("# TYPE application_requests_count_total counter\n"));
+        assertThat(data, containsString("# HELP application_requests_count_total Counts requests\n"));
+        assertThat(data, containsString("application_requests_count_total{path=\"/a\\\"b\\\\c\"} 3\n"));
+        assertThat(data, containsString("application_requests_count_total{path=\"/d\"} 1\n"));
+        assertThat(data, containsString("application_in_flight_current 1\n"));
+        assertThat(data, containsString("application_series_total{id=\"9999\"} 9999\n"));
+        assertThat(data, not(containsString("# EOF")));
+    }
+
+    @Test
+    void testOpenMetrics() {
+        StringWriter writer = new StringWriter();
+        PrometheusFormat.prometheusData(writer, true, registry);
+        String data = writer.toString();
+
+        assertThat(data, containsString("# TYPE application_requests_count counter\n"));
+        assertThat(data, containsString("# HELP application_requests_count Counts requests\n"));
+        assertThat(data, containsString("application_requests_count_total{path=\"/d\"} 1\n"));
+        assertThat(data, containsString("# TYPE application_in_flight_current gauge\n"));
+        assertThat(data, endsWith("# EOF\n"));
+    }
+
+    @Test
+    void testOpenMetricsExemplars() {
+        Registry exemplarRegistry = new Registry(MetricRegistry.Type.APPLICATION, RegistrySettings.create());
+        TestExemplarService.label("trace_id=\"abc\"");
+        try {
+            exemplarRegistry.counter("hits").inc();
+            exemplarRegistry.timer("calls").update(Duration.ofMillis(3));
+            exemplarRegistry.simpleTimer("simple").update(Duration.ofMillis(5));
+            exemplarRegistry.histogram("sizes").update(42);
+        } finally {
+            TestExemplarService.label("");
+        }
+
+        String prometheus = PrometheusFormat.prometheusData(exemplarRegistry);
+        // Prometheus text format keeps exemplars of gauges and summaries
+        assertThat(prometheus, containsString("application_sizes_max 42 # {trace_id=\"abc\"}"));
+
+        StringWriter writer = new StringWriter();
+        PrometheusFormat.prometheusData(writer, true, exemplarRegistry);
+        List<String> exemplarLines = writer.toString()
+                .lines()
+                .filter(it -> !it.startsWith("#") && it.contains(" # "))
+                .toList();
+
+        assertThat(exemplarLines, hasItem(startsWith("application_hits_total 1 # {trace_id=\"abc\"}")));
+        // OpenMetrics allows exemplars only on counter totals (and histogram buckets, which are not written)
+        for (String line : exemplarLines) {
+            assertThat(line, containsString("_total "));
+        }
+    }
+}
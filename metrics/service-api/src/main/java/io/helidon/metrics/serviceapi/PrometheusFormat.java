@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,22 +16,23 @@
 
 package io.helidon.metrics.serviceapi;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import io.helidon.metrics.api.HelidonMetric;
 import io.helidon.metrics.api.LabeledSnapshot;
@@ -61,8 +62,6 @@ import static java.lang.System.Logger.Level.WARNING;
 public final class PrometheusFormat {
     private static final System.Logger LOGGER = System.getLogger(PrometheusFormat.class.getName());
 
-    private static final Pattern DOUBLE_UNDERSCORE = Pattern.compile("__");
-    private static final Pattern COLON_UNDERSCORE = Pattern.compile(":_");
     private static final Map<String, Units> PROMETHEUS_CONVERTERS = new HashMap<>();
 
     private static final int EXEMPLAR_MAX_LENGTH = 128;
@@ -116,16 +115,25 @@ public final class PrometheusFormat {
      * @return data of the metric
      */
     public static String prometheusDataByName(Registry registry, String metricName) {
-        StringBuilder sb = new StringBuilder();
-        boolean isFirst = true;
-        for (MetricInstance metricEntry : registry.list(metricName)) {
-            HelidonMetric metric = metricEntry.metric();
-            if (registry.enabled(metricName)) {
-                prometheusData(sb, metricEntry.id(), metric, isFirst);
-            }
-            isFirst = false;
-        }
-        return sb.toString();
+        Output out = new Output(null, false);
+        prometheusDataByName(out, registry, metricName);
+        return out.toString();
+    }
+
+    /**
+     * Write Prometheus (or OpenMetrics) metric response for specified metric in a specified registry.
+     * Data is written to the writer as it is produced, so the full response is never held in memory.
+     *
+     * @param writer      writer to write data to, the writer is flushed but not closed
+     * @param openMetrics whether to use the OpenMetrics text format instead of the Prometheus text format
+     * @param registry    registry
+     * @param metricName  metric name
+     * @throws java.io.UncheckedIOException in case the writer fails
+     */
+    public static void prometheusDataByName(Writer writer, boolean openMetrics, Registry registry, String metricName) {
+        Output out = new Output(Objects.requireNonNull(writer), openMetrics);
+        prometheusDataByName(out, registry, metricName);
+        out.finish();
     }
 
     /**
@@ -134,10 +142,29 @@ public final class PrometheusFormat {
      * @param registries registries to use
      * @return data of metrics
      */
-
     public static String prometheusData(Registry... registries) {
-        return Arrays.stream(registries).filter(r -> !r.empty()).map(PrometheusFormat::prometheusData)
-                .collect(Collectors.joining());
+        Output out = new Output(null, false);
+        for (Registry registry : registries) {
+            prometheusData(out, registry);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Write Prometheus (or OpenMetrics) metric response for specified registries.
+     * Data is written to the writer as it is produced, so the full response is never held in memory.
+     *
+     * @param writer      writer to write data to, the writer is flushed but not closed
+     * @param openMetrics whether to use the OpenMetrics text format instead of the Prometheus text format
+     * @param registries  registries to use
+     * @throws java.io.UncheckedIOException in case the writer fails
+     */
+    public static void prometheusData(Writer writer, boolean openMetrics, Registry... registries) {
+        Output out = new Output(Objects.requireNonNull(writer), openMetrics);
+        for (Registry registry : registries) {
+            prometheusData(out, registry);
+        }
+        out.finish();
     }
 
     /**
@@ -149,26 +176,38 @@ public final class PrometheusFormat {
      * @return data of metric
      */
     public static String prometheusData(MetricID metricId, HelidonMetric value, boolean withHelpType) {
-        StringBuilder sb = new StringBuilder();
-        prometheusData(sb, metricId, value, withHelpType);
-        return sb.toString();
+        Output out = new Output(null, false);
+        prometheusData(out, metricId, value, withHelpType);
+        return out.toString();
     }
 
     @SuppressWarnings("unchecked")
-    private static void prometheusData(StringBuilder sb, MetricID key, HelidonMetric value, boolean withHelpType) {
+    private static void prometheusData(Output out, MetricID key, HelidonMetric value, boolean withHelpType) {
         Metadata metadata = value.metadata();
         switch (metadata.getTypeRaw()) {
-        case CONCURRENT_GAUGE -> concurrentGauge(sb, key, metadata, value, (ConcurrentGauge) value, withHelpType);
-        case COUNTER -> counter(sb, key, metadata, value, (Counter) value, withHelpType);
-        case GAUGE -> gauge(sb, key, metadata, value, (Gauge<? extends Number>) value, withHelpType);
-        case METERED -> meter(sb, key, metadata, value, (Meter) value, withHelpType);
-        case HISTOGRAM -> histogram(sb, key, metadata, value, (Histogram) value, withHelpType);
-        case TIMER -> timer(sb, key, metadata, value, (Timer) value, withHelpType);
-        case SIMPLE_TIMER -> simpleTimer(sb, key, metadata, value, (SimpleTimer) value, withHelpType);
+        case CONCURRENT_GAUGE -> concurrentGauge(out, key, metadata, value, (ConcurrentGauge) value, withHelpType);
+        case COUNTER -> counter(out, key, metadata, value, (Counter) value, withHelpType);
+        case GAUGE -> gauge(out, key, metadata, value, (Gauge<? extends Number>) value, withHelpType);
+        case METERED -> meter(out, key, metadata, value, (Meter) value, withHelpType);
+        case HISTOGRAM -> histogram(out, key, metadata, value, (Histogram) value, withHelpType);
+        case TIMER -> timer(out, key, metadata, value, (Timer) value, withHelpType);
+        case SIMPLE_TIMER -> simpleTimer(out, key, metadata, value, (SimpleTimer) value, withHelpType);
         case INVALID -> throw new IllegalArgumentException("Invalid metric encountered: " + key);
         default -> throw new IllegalArgumentException("Invalid metric type encountered: " + metadata.getTypeRaw()
                                                               + ", key: " + key);
         }
+        out.flushIfFull();
+    }
+
+    private static void prometheusDataByName(Output out, Registry registry, String metricName) {
+        boolean isFirst = true;
+        for (MetricInstance metricEntry : registry.list(metricName)) {
+            HelidonMetric metric = metricEntry.metric();
+            if (registry.enabled(metricName)) {
+                prometheusData(out, metricEntry.id(), metric, isFirst);
+            }
+            isFirst = false;
+        }
     }
 
     private static String nameWithUnits(String registryType, Metadata metadata, MetricID metricID) {
@@ -176,69 +215,83 @@ public final class PrometheusFormat {
     }
 
     private static String nameWithUnits(String registryType, String name, Units units) {
-        return prometheusName(registryType, name) + units.getPrometheusUnit().map((it) -> "_" + it).orElse("");
+        String prometheusName = prometheusName(registryType, name);
+        return units.getPrometheusUnit().map(it -> prometheusName + "_" + it).orElse(prometheusName);
     }
 
     private static String prometheusName(String registryType, String name) {
-        return prometheusClean(name, registryType + "_");
+        return NameCache.instance().name(registryType, name);
+    }
+
+    private static String tags(MetricID metricID) {
+        return NameCache.instance().tags(metricID);
     }
 
-    private static String tags(Map<String, String> tags) {
-        StringJoiner sj = new StringJoiner(",", "{", "}").setEmptyValue("");
-        SystemTagsManager.instance().allTags(tags).forEach(entry -> {
+    private static String tags(SystemTagsManager tagsManager, Map<String, String> tags) {
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, String> entry : tagsManager.allTags(tags)) {
             if (entry.getKey() != null) {
-                sj.add(String.format("%s=\"%s\"", prometheusClean(entry.getKey(), ""), prometheusTagValue(entry.getValue())));
+                result.append(result.isEmpty() ? '{' : ',')
+                        .append(prometheusClean(entry.getKey(), ""))
+                        .append("=\"");
+                appendTagValue(result, entry.getValue());
+                result.append('"');
             }
-        });
-        return sj.toString();
+        }
+        if (!result.isEmpty()) {
+            result.append('}');
+        }
+        return result.toString();
     }
 
-    private static String prometheusData(Registry registry) {
-        StringBuilder builder = new StringBuilder();
+    private static void prometheusData(Output out, Registry registry) {
+        if (registry.empty()) {
+            return;
+        }
         Set<String> serialized = new HashSet<>();
         registry.stream().sorted(Comparator.comparing(MetricInstance::id)).forEach(entry -> {
             String name = entry.id().getName();
             if (!serialized.contains(name)) {
-                prometheusData(builder, entry.id(), entry.metric(), true);
+                prometheusData(out, entry.id(), entry.metric(), true);
                 serialized.add(name);
             } else {
-                prometheusData(builder, entry.id(), entry.metric(), false);
+                prometheusData(out, entry.id(), entry.metric(), false);
             }
         });
-        return builder.toString();
     }
 
-    private static void simpleTimer(StringBuilder sb,
+    private static void simpleTimer(Output out,
                                     MetricID metricId,
                                     Metadata metadata,
                                     HelidonMetric helidonMetric,
                                     SimpleTimer value,
                                     boolean withHelpType) {
-        String tags = tags(metricId.getTags());
+        String tags = tags(metricId);
         String baseName = prometheusName(helidonMetric.registryType(), metricId.getName());
         String name = baseName + "_total";
-        help(sb, metadata, name, "counter", withHelpType);
-        sb.append(name).append(tags).append(" ").append(value.getCount());
+        help(out, metadata, name, "counter", withHelpType);
+        out.append(name).append(tags).append(" ").append(value.getCount());
 
         Sample.Labeled sample = null;
         if (helidonMetric instanceof Sample.Labeled labeled) {
             sample = labeled;
-            sb.append(prometheusExemplar(TimeUnit.NANOSECONDS.toSeconds(labeled.value()), labeled));
+            out.append(prometheusExemplar(TimeUnit.NANOSECONDS.toSeconds(labeled.value()), labeled));
         }
-        sb.append("\n");
+        out.append("\n");
 
         name = baseName + "_elapsedTime_" + MetricUnits.SECONDS;
         if (withHelpType) {
-            prometheusType(sb, name, "gauge");
+            prometheusType(out, name, "gauge");
         }
-        sb.append(name).append(tags).append(" ").append(value.getElapsedTime().toSeconds()).append(exemplarForElapsedTime(sample))
+        out.append(name).append(tags).append(" ").append(value.getElapsedTime().toSeconds())
+                .append(out.openMetrics() ? "" : exemplarForElapsedTime(sample))
                 .append("\n");
 
         name = baseName + "_maxTimeDuration_" + MetricUnits.SECONDS;
         if (withHelpType) {
-            prometheusType(sb, name, "gauge");
+            prometheusType(out, name, "gauge");
         }
-        sb.append(name).append(tags).append(" ").append(durationPrometheusOutput(value.getMaxTimeDuration()))
+        out.append(name).append(tags).append(" ").append(durationPrometheusOutput(value.getMaxTimeDuration()))
                 // todo Níma
                 //                .append(exemplarForElapsedTime(value.getMaxTimeDuration(),
                 //                                               simpleTimerImpl == null ? null : simpleTimerImpl.lastMaxSample))
@@ -246,16 +299,16 @@ public final class PrometheusFormat {
 
         name = baseName + "_minTimeDuration_" + MetricUnits.SECONDS;
         if (withHelpType) {
-            prometheusType(sb, name, "gauge");
+            prometheusType(out, name, "gauge");
         }
-        sb.append(name).append(tags).append(" ").append(durationPrometheusOutput(value.getMinTimeDuration()))
+        out.append(name).append(tags).append(" ").append(durationPrometheusOutput(value.getMinTimeDuration()))
                 // TOOD Níma
                 //                .append(exemplarForElapsedTime(getMinTimeDuration(),
                 //                                               simpleTimerImpl == null ? null : simpleTimerImpl.lastMinSample))
                 .append("\n");
     }
 
-    private static void timer(StringBuilder sb,
+    private static void timer(Output out,
                               MetricID metricId,
                               Metadata metadata,
                               HelidonMetric helidonMetric,
@@ -266,17 +319,17 @@ public final class PrometheusFormat {
         }
         // In Prometheus, times are always expressed in seconds. So force the TimeUnits value accordingly, ignoring
         // whatever units were specified in the timer's metadata.
-        String baseName = prometheusClean(metricId.getName(), helidonMetric.registryType() + "_");
+        String baseName = prometheusName(helidonMetric.registryType(), metricId.getName());
         PrometheusName name = PrometheusName.create(helidonMetric.registryType(),
                                                     metadata,
                                                     metricId,
                                                     TimeUnits.PROMETHEUS_TIMER_CONVERSION_TIME_UNITS,
                                                     baseName);
 
-        appendPrometheusTimerStatElement(sb, name, "rate_per_second", withHelpType, "gauge", value.getMeanRate());
-        appendPrometheusTimerStatElement(sb, name, "one_min_rate_per_second", withHelpType, "gauge", value.getOneMinuteRate());
-        appendPrometheusTimerStatElement(sb, name, "five_min_rate_per_second", withHelpType, "gauge", value.getFiveMinuteRate());
-        appendPrometheusTimerStatElement(sb,
+        appendPrometheusTimerStatElement(out, name, "rate_per_second", withHelpType, "gauge", value.getMeanRate());
+        appendPrometheusTimerStatElement(out, name, "one_min_rate_per_second", withHelpType, "gauge", value.getOneMinuteRate());
+        appendPrometheusTimerStatElement(out, name, "five_min_rate_per_second", withHelpType, "gauge", value.getFiveMinuteRate());
+        appendPrometheusTimerStatElement(out,
                                          name,
                                          "fifteen_min_rate_per_second",
                                          withHelpType,
@@ -284,7 +337,7 @@ public final class PrometheusFormat {
                                          value.getFifteenMinuteRate());
 
         LabeledSnapshot snap = snapshotable.snapshot();
-        histogram(sb,
+        histogram(out,
                   name,
                   metadata,
                   snap,
@@ -294,7 +347,7 @@ public final class PrometheusFormat {
                   withHelpType);
     }
 
-    private static void appendPrometheusTimerStatElement(StringBuilder sb,
+    private static void appendPrometheusTimerStatElement(Output out,
                                                          PrometheusName name,
                                                          String statName,
                                                          boolean withHelpType,
@@ -302,12 +355,12 @@ public final class PrometheusFormat {
                                                          double value) {
         // For the timer stats output, suppress any units conversion; just emit the value directly.
         if (withHelpType) {
-            prometheusType(sb, name.nameStat(statName), typeName);
+            prometheusType(out, name.nameStat(statName), typeName);
         }
-        sb.append(name.nameStatTags(statName)).append(" ").append(value).append("\n");
+        out.append(name.nameStatTags(statName)).append(" ").append(value).append("\n");
     }
 
-    private static void histogram(StringBuilder sb,
+    private static void histogram(Output out,
                                   MetricID metricId,
                                   Metadata metadata,
                                   HelidonMetric helidonMetric,
@@ -319,14 +372,14 @@ public final class PrometheusFormat {
         }
 
         String name = metricId.getName();
-        String baseName = prometheusClean(name, helidonMetric.registryType() + "_");
+        String baseName = prometheusName(helidonMetric.registryType(), name);
         Units units = units(metadata);
 
         PrometheusName pName = PrometheusName.create(helidonMetric.registryType(), metadata, metricId, units, baseName);
-        histogram(sb, pName, metadata, snapshotable.snapshot(), units, value.getCount(), value.getSum(), withHelpType);
+        histogram(out, pName, metadata, snapshotable.snapshot(), units, value.getCount(), value.getSum(), withHelpType);
     }
 
-    private static void histogram(StringBuilder sb,
+    private static void histogram(Output out,
                                   PrometheusName name,
                                   Metadata metadata,
                                   LabeledSnapshot snap,
@@ -336,39 +389,39 @@ public final class PrometheusFormat {
                                   boolean withHelpType) {
         // # TYPE application:file_sizes_mean_bytes gauge
         // application:file_sizes_mean_bytes 4738.231
-        appendPrometheusElement(sb, name, "mean", withHelpType, "gauge", snap.mean());
+        appendPrometheusElement(out, name, "mean", withHelpType, "gauge", snap.mean());
 
         // # TYPE application:file_sizes_max_bytes gauge
         // application:file_sizes_max_bytes 31716
-        appendPrometheusElement(sb, name, "max", withHelpType, "gauge", snap.max());
+        appendPrometheusElement(out, name, "max", withHelpType, "gauge", snap.max());
 
         // # TYPE application:file_sizes_min_bytes gauge
         // application:file_sizes_min_bytes 180
-        appendPrometheusElement(sb, name, "min", withHelpType, "gauge", snap.min());
+        appendPrometheusElement(out, name, "min", withHelpType, "gauge", snap.min());
 
         // # TYPE application:file_sizes_stddev_bytes gauge
         // application:file_sizes_stddev_bytes 1054.7343037063602
-        appendPrometheusElement(sb, name, "stddev", withHelpType, "gauge", snap.stdDev());
+        appendPrometheusElement(out, name, "stddev", withHelpType, "gauge", snap.stdDev());
 
         // # TYPE application:file_sizes_bytes summary
         // # HELP application:file_sizes_bytes Users file size
         // application:file_sizes_bytes_count 2037
 
-        help(sb, metadata, name.nameUnits(), "summary", withHelpType);
+        help(out, metadata, name.nameUnits(), "summary", withHelpType);
 
-        sb.append(name.nameUnitsSuffixTags("count")).append(" ").append(count).append('\n');
-        sb.append(name.nameUnitsSuffixTags("sum")).append(" ").append(sum).append('\n');
+        out.append(name.nameUnitsSuffixTags("count")).append(" ").append(count).append('\n');
+        out.append(name.nameUnitsSuffixTags("sum")).append(" ").append(sum).append('\n');
         // application:file_sizes_bytes{quantile="0.5"} 4201
         // for each supported quantile
-        prometheusQuantile(sb, name, units, "0.5", snap.median());
-        prometheusQuantile(sb, name, units, "0.75", snap.sample75thPercentile());
-        prometheusQuantile(sb, name, units, "0.95", snap.sample95thPercentile());
-        prometheusQuantile(sb, name, units, "0.98", snap.sample98thPercentile());
-        prometheusQuantile(sb, name, units, "0.99", snap.sample99thPercentile());
-        prometheusQuantile(sb, name, units, "0.999", snap.sample999thPercentile());
+        prometheusQuantile(out, name, units, "0.5", snap.median());
+        prometheusQuantile(out, name, units, "0.75", snap.sample75thPercentile());
+        prometheusQuantile(out, name, units, "0.95", snap.sample95thPercentile());
+        prometheusQuantile(out, name, units, "0.98", snap.sample98thPercentile());
+        prometheusQuantile(out, name, units, "0.99", snap.sample99thPercentile());
+        prometheusQuantile(out, name, units, "0.999", snap.sample999thPercentile());
     }
 
-    private static void prometheusQuantile(StringBuilder sb,
+    private static void prometheusQuantile(Output out,
                                            PrometheusName name,
                                            Units units,
                                            String quantile,
@@ -382,18 +435,18 @@ public final class PrometheusFormat {
             tags = tags.substring(0, tags.length() - 1) + "," + quantileTag + "}";
         }
 
-        sb.append(name.nameUnits()).append(tags).append(" ").append(units.convert(derived.value()));
-        sb.append(prometheusExemplar(units, derived.sample()));
-        sb.append("\n");
+        out.append(name.nameUnits()).append(tags).append(" ").append(units.convert(derived.value()));
+        out.append(gaugeExemplar(out, units, derived.sample()));
+        out.append("\n");
     }
 
-    private static void appendPrometheusElement(StringBuilder sb,
+    private static void appendPrometheusElement(Output out,
                                                 PrometheusName name,
                                                 String statName,
                                                 boolean withHelpType,
                                                 String typeName,
                                                 Sample.Derived derived) {
-        appendPrometheusElement(sb,
+        appendPrometheusElement(out,
                                 name,
                                 () -> name.nameStatUnits(statName),
                                 withHelpType,
@@ -402,16 +455,16 @@ public final class PrometheusFormat {
                                 derived.sample());
     }
 
-    private static void appendPrometheusElement(StringBuilder sb,
+    private static void appendPrometheusElement(Output out,
                                                 PrometheusName name,
                                                 String statName,
                                                 boolean withHelpType,
                                                 String typeName,
                                                 Sample.Labeled sample) {
-        appendPrometheusElement(sb, name, () -> name.nameStatUnits(statName), withHelpType, typeName, sample.value(), sample);
+        appendPrometheusElement(out, name, () -> name.nameStatUnits(statName), withHelpType, typeName, sample.value(), sample);
     }
 
-    private static void appendPrometheusElement(StringBuilder sb,
+    private static void appendPrometheusElement(Output out,
                                                 PrometheusName name,
                                                 Supplier<String> nameToUse,
                                                 boolean withHelpType,
@@ -419,14 +472,14 @@ public final class PrometheusFormat {
                                                 double value,
                                                 Sample.Labeled sample) {
         if (withHelpType) {
-            prometheusType(sb, nameToUse.get(), typeName);
+            prometheusType(out, nameToUse.get(), typeName);
         }
         Object convertedValue = name.units().convert(value);
-        sb.append(nameToUse.get()).append(name.prometheusTags()).append(" ").append(convertedValue)
-                .append(prometheusExemplar(name.units(), sample)).append("\n");
+        out.append(nameToUse.get()).append(name.prometheusTags()).append(" ").append(convertedValue)
+                .append(gaugeExemplar(out, name.units(), sample)).append("\n");
     }
 
-    private static void meter(StringBuilder sb,
+    private static void meter(Output out,
                               MetricID metricId,
                               Metadata metadata,
                               HelidonMetric helidonMetric,
@@ -448,55 +501,52 @@ public final class PrometheusFormat {
          */
 
         String name = metricId.getName();
-        String baseName = prometheusClean(name, helidonMetric.registryType() + "_");
-        String tags = tags(metricId.getTags());
+        String baseName = prometheusName(helidonMetric.registryType(), name);
+        String tags = tags(metricId);
         String nameUnits = baseName + "_total";
 
-        if (withHelpType) {
-            prometheusType(sb, nameUnits, "counter");
-            prometheusHelp(sb, metadata, nameUnits);
-        }
-        sb.append(nameUnits).append(tags).append(" ").append(value.getCount()).append("\n");
+        help(out, metadata, nameUnits, "counter", withHelpType);
+        out.append(nameUnits).append(tags).append(" ").append(value.getCount()).append("\n");
 
         nameUnits = baseName + "_rate_per_second";
         if (withHelpType) {
-            prometheusType(sb, nameUnits, "gauge");
+            prometheusType(out, nameUnits, "gauge");
         }
-        sb.append(nameUnits).append(tags).append(" ").append(value.getMeanRate()).append("\n");
+        out.append(nameUnits).append(tags).append(" ").append(value.getMeanRate()).append("\n");
 
         nameUnits = baseName + "_one_min_rate_per_second";
         if (withHelpType) {
-            prometheusType(sb, nameUnits, "gauge");
+            prometheusType(out, nameUnits, "gauge");
         }
-        sb.append(nameUnits).append(tags).append(" ").append(value.getOneMinuteRate()).append("\n");
+        out.append(nameUnits).append(tags).append(" ").append(value.getOneMinuteRate()).append("\n");
 
         nameUnits = baseName + "_five_min_rate_per_second";
         if (withHelpType) {
-            prometheusType(sb, nameUnits, "gauge");
+            prometheusType(out, nameUnits, "gauge");
         }
-        sb.append(nameUnits).append(tags).append(" ").append(value.getFiveMinuteRate()).append("\n");
+        out.append(nameUnits).append(tags).append(" ").append(value.getFiveMinuteRate()).append("\n");
 
         nameUnits = baseName + "_fifteen_min_rate_per_second";
         if (withHelpType) {
-            prometheusType(sb, nameUnits, "gauge");
+            prometheusType(out, nameUnits, "gauge");
         }
-        sb.append(nameUnits).append(tags).append(" ").append(value.getFifteenMinuteRate()).append("\n");
+        out.append(nameUnits).append(tags).append(" ").append(value.getFifteenMinuteRate()).append("\n");
 
     }
 
-    private static void gauge(StringBuilder sb,
+    private static void gauge(Output out,
                               MetricID metricId,
                               Metadata metadata,
                               HelidonMetric helidonMetric,
                               Gauge<? extends Number> value,
                               boolean withHelpType) {
         String name = nameWithUnits(helidonMetric.registryType(), metadata, metricId);
-        help(sb, metadata, name, metadata.getType(), withHelpType);
-        sb.append(name).append(tags(metricId.getTags())).append(" ").append(units(metadata).convert(value.getValue()))
+        help(out, metadata, name, metadata.getType(), withHelpType);
+        out.append(name).append(tags(metricId)).append(" ").append(units(metadata).convert(value.getValue()))
                 .append('\n');
     }
 
-    private static void counter(StringBuilder sb,
+    private static void counter(Output out,
                                 MetricID metricId,
                                 Metadata metadata,
                                 HelidonMetric helidonMetric,
@@ -505,52 +555,61 @@ public final class PrometheusFormat {
         String name = prometheusName(helidonMetric.registryType(), metricId.getName());
         name = name.endsWith("total") ? name : name + "_total";
 
-        help(sb, metadata, name, metadata.getType(), withHelpType);
+        help(out, metadata, name, metadata.getType(), withHelpType);
 
-        sb.append(name).append(tags(metricId.getTags())).append(" ").append(value.getCount());
+        out.append(name).append(tags(metricId)).append(" ").append(value.getCount());
 
-        if (value instanceof SampledMetric sampled) {
-            sampled.sample().ifPresent(it -> sb.append(prometheusExemplar(units(metadata), it)));
+        if (value instanceof SampledMetric sampled && (!out.openMetrics() || name.endsWith("_total"))) {
+            sampled.sample().ifPresent(it -> out.append(prometheusExemplar(units(metadata), it)));
         }
-        sb.append('\n');
+        out.append('\n');
     }
 
-    private static void concurrentGauge(StringBuilder sb,
+    private static void concurrentGauge(Output out,
                                         MetricID metricId,
                                         Metadata metadata,
                                         HelidonMetric helidonMetric,
                                         ConcurrentGauge value,
                                         boolean withHelpType) {
         String name = nameWithUnits(helidonMetric.registryType(), metadata, metricId);
+        String tags = tags(metricId);
         String nameCurrent = name + "_current";
-        help(sb, metadata, nameCurrent, "gauge", withHelpType);
+        help(out, metadata, nameCurrent, "gauge", withHelpType);
 
-        sb.append(nameCurrent).append(tags(metricId.getTags())).append(" ").append(value.getCount()).append('\n');
+        out.append(nameCurrent).append(tags).append(" ").append(value.getCount()).append('\n');
         String nameMin = name + "_min";
         if (withHelpType) {
-            prometheusType(sb, nameMin, "gauge");
+            prometheusType(out, nameMin, "gauge");
         }
-        sb.append(nameMin).append(tags(metricId.getTags())).append(" ").append(value.getMin()).append('\n');
+        out.append(nameMin).append(tags).append(" ").append(value.getMin()).append('\n');
         String nameMax = name + "_max";
         if (withHelpType) {
-            prometheusType(sb, nameMax, "gauge");
+            prometheusType(out, nameMax, "gauge");
         }
-        sb.append(nameMax).append(tags(metricId.getTags())).append(" ").append(value.getMax()).append('\n');
+        out.append(nameMax).append(tags).append(" ").append(value.getMax()).append('\n');
     }
 
-    private static void help(StringBuilder sb, Metadata metadata, String name, String type, boolean withHelpType) {
+    private static void help(Output out, Metadata metadata, String name, String type, boolean withHelpType) {
         if (withHelpType) {
-            prometheusType(sb, name, type);
-            prometheusHelp(sb, metadata, name);
+            prometheusType(out, name, type);
+            prometheusHelp(out, metadata, familyName(out, name, type));
         }
     }
 
-    private static void prometheusType(StringBuilder sb, String nameWithUnits, String type) {
-        sb.append("# TYPE ").append(nameWithUnits).append(" ").append(type).append('\n');
+    private static void prometheusType(Output out, String nameWithUnits, String type) {
+        out.append("# TYPE ").append(familyName(out, nameWithUnits, type)).append(" ").append(type).append('\n');
+    }
+
+    // OpenMetrics names the counter family without the "_total" suffix its samples carry
+    private static String familyName(Output out, String nameWithUnits, String type) {
+        if (out.openMetrics() && "counter".equals(type) && nameWithUnits.endsWith("_total")) {
+            return nameWithUnits.substring(0, nameWithUnits.length() - "_total".length());
+        }
+        return nameWithUnits;
     }
 
-    private static void prometheusHelp(StringBuilder sb, Metadata metadata, String nameWithUnits) {
-        sb.append("# HELP ").append(nameWithUnits).append(" ").append(metadata.getDescription()).append('\n');
+    private static void prometheusHelp(Output out, Metadata metadata, String nameWithUnits) {
+        out.append("# HELP ").append(nameWithUnits).append(" ").append(metadata.getDescription()).append('\n');
     }
 
     private static Units units(Metadata metadata) {
@@ -563,6 +622,11 @@ public final class PrometheusFormat {
         return units == null ? new Units(unit, unit, Function.identity()) : units;
     }
 
+    // OpenMetrics allows exemplars only on counter totals and histogram buckets, so gauges and summaries have none
+    private static String gaugeExemplar(Output out, Units units, Sample.Labeled sample) {
+        return out.openMetrics() ? "" : prometheusExemplar(units, sample);
+    }
+
     private static String prometheusExemplar(Units units, Sample.Labeled sample) {
         return sample == null ? "" : prometheusExemplar(units.convert(sample.value()), sample);
     }
@@ -595,35 +659,43 @@ public final class PrometheusFormat {
         PROMETHEUS_CONVERTERS.put(metricUnit, new TimeUnits(metricUnit, timeUnit));
     }
 
-    private static String prometheusTagValue(String value) {
-        value = value.replace("\\", "\\\\");
-        value = value.replace("\"", "\\\"");
-        value = value.replace("\n", "\\n");
-        return value;
+    private static void appendTagValue(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '\\' -> sb.append("\\\\");
+            case '"' -> sb.append("\\\"");
+            case '\n' -> sb.append("\\n");
+            default -> sb.append(c);
+            }
+        }
     }
 
     private static String prometheusClean(String name, String prefix) {
-        name = name.replaceAll("[^a-zA-Z0-9_]", "_");
-
+        StringBuilder result = new StringBuilder(prefix.length() + name.length());
         //Scope is always specified at the start of the metric name.
         //Scope and name are separated by underscore (_) as of
         // metrics 2.0 (OpenMetrics).
-        name = prefix + name;
-
-        String orig;
-        do {
-            orig = name;
-            //Double underscore is translated to single underscore
-            name = DOUBLE_UNDERSCORE.matcher(name).replaceAll("_");
-        } while (!orig.equals(name));
-
-        do {
-            orig = name;
-            //Colon-underscore (:_) is translated to single colon
-            name = COLON_UNDERSCORE.matcher(name).replaceAll(":");
-        } while (!orig.equals(name));
+        for (int i = 0; i < prefix.length(); i++) {
+            appendClean(result, prefix.charAt(i));
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+            appendClean(result, valid ? c : '_');
+        }
+        return result.toString();
+    }
 
-        return name;
+    private static void appendClean(StringBuilder result, char c) {
+        if (c == '_' && !result.isEmpty()) {
+            char last = result.charAt(result.length() - 1);
+            // Double underscore is translated to single underscore, colon-underscore (:_) to single colon
+            if (last == '_' || last == ':') {
+                return;
+            }
+        }
+        result.append(c);
     }
 
     private static String durationPrometheusOutput(Duration duration) {
@@ -745,7 +817,7 @@ public final class PrometheusFormat {
             this.metricID = metricID;
             this.units = units;
             this.prometheusName = baseName;
-            this.prometheusTags = tags(metricID.getTags());
+            this.prometheusTags = tags(metricID);
             this.prometheusNameWithUnits = nameWithUnits(registryType,
                                                          metadata,
                                                          metricID);
@@ -818,4 +890,136 @@ public final class PrometheusFormat {
             return prometheusTags;
         }
     }
+
+    /**
+     * Response being created, either collected in memory or streamed to a writer in chunks.
+     */
+    private static final class Output {
+        private static final int FLUSH_THRESHOLD = 8192;
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final Writer writer;
+        private final boolean openMetrics;
+
+        private Output(Writer writer, boolean openMetrics) {
+            this.writer = writer;
+            this.openMetrics = openMetrics;
+        }
+
+        Output append(String value) {
+            buffer.append(value);
+            return this;
+        }
+
+        Output append(Object value) {
+            buffer.append(value);
+            return this;
+        }
+
+        Output append(char value) {
+            buffer.append(value);
+            return this;
+        }
+
+        Output append(long value) {
+            buffer.append(value);
+            return this;
+        }
+
+        Output append(double value) {
+            buffer.append(value);
+            return this;
+        }
+
+        boolean openMetrics() {
+            return openMetrics;
+        }
+
+        void flushIfFull() {
+            if (writer != null && buffer.length() >= FLUSH_THRESHOLD) {
+                write();
+            }
+        }
+
+        void finish() {
+            if (openMetrics) {
+                buffer.append("# EOF\n");
+            }
+            write();
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+
+        private void write() {
+            try {
+                writer.append(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Sanitized metric names and label strings, computed once per metric instead of on every scrape.
+     * Labels include the global and application tags, so the cache is replaced when the system tags manager changes.
+     */
+    private static final class NameCache {
+        // bounds the cache when metrics with ever-changing IDs are registered and removed
+        private static final int MAX_SIZE = 100_000;
+
+        private static volatile NameCache instance = new NameCache(SystemTagsManager.instance());
+
+        private final SystemTagsManager tagsManager;
+        private final Map<MetricID, String> tags = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, String>> names = new ConcurrentHashMap<>();
+
+        private NameCache(SystemTagsManager tagsManager) {
+            this.tagsManager = tagsManager;
+        }
+
+        static NameCache instance() {
+            NameCache cache = instance;
+            SystemTagsManager current = SystemTagsManager.instance();
+            if (cache.tagsManager != current) {
+                cache = new NameCache(current);
+                instance = cache;
+            }
+            return cache;
+        }
+
+        String name(String registryType, String name) {
+            Map<String, String> registryNames = names.computeIfAbsent(registryType, it -> new ConcurrentHashMap<>());
+            String result = registryNames.get(name);
+            if (result == null) {
+                result = prometheusClean(name, registryType + "_");
+                cache(registryNames, name, result);
+            }
+            return result;
+        }
+
+        String tags(MetricID metricID) {
+            String result = tags.get(metricID);
+            if (result == null) {
+                result = PrometheusFormat.tags(tagsManager, metricID.getTags());
+                cache(tags, metricID, result);
+            }
+            return result;
+        }
+
+        private static <K> void cache(Map<K, String> cache, K key, String value) {
+            if (cache.size() >= MAX_SIZE) {
+                cache.clear();
+            }
+            cache.put(key, value);
+        }
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Concurrency limit of a {@link io.helidon.nima.faulttolerance.Bulkhead} that adapts to the observed latency
+ * of calls, instead of a fixed number of parallel calls.
+ *
+ * @see io.helidon.nima.faulttolerance.Bulkhead.Builder#adaptiveLimit(AdaptiveLimit)
+ */
+public interface AdaptiveLimit {
+    /**
+     * Additive increase, multiplicative decrease limit.
+     * The limit grows by one for each successful call when the bulkhead is at least half used,
+     * and is reduced by 10% for each call that failed or took longer than the latency threshold.
+     *
+     * @param initialLimit     initial limit
+     * @param minLimit         minimal limit
+     * @param maxLimit         maximal limit
+     * @param latencyThreshold calls that take longer are considered overloaded
+     * @return a new AIMD limit
+     */
+    static AdaptiveLimit aimd(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        Objects.requireNonNull(latencyThreshold);
+        validate(initialLimit, minLimit, maxLimit);
+        return new AimdLimit(initialLimit, minLimit, maxLimit, latencyThreshold.toNanos());
+    }
+
+    /**
+     * Gradient limit.
+     * The limit follows the ratio between the lowest observed latency (latency without load) and the current latency,
+     * with a small allowance for queueing, so it shrinks as soon as calls become slower than without load.
+     *
+     * @param initialLimit initial limit
+     * @param minLimit     minimal limit
+     * @param maxLimit     maximal limit
+     * @return a new gradient limit
+     */
+    static AdaptiveLimit gradient(int initialLimit, int minLimit, int maxLimit) {
+        validate(initialLimit, minLimit, maxLimit);
+        return new GradientLimit(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Current limit of parallel calls.
+     *
+     * @return current limit
+     */
+    int limit();
+
+    /**
+     * Update the limit with a sample of a finished call.
+     *
+     * @param latencyNanos latency of the call in nanoseconds
+     * @param inFlight     number of calls in progress when the call was started (including it)
+     * @param dropped      whether the call failed
+     */
+    void update(long latencyNanos, int inFlight, boolean dropped);
+
+    private static void validate(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("Minimal limit must be at least 1, but is: " + minLimit);
+        }
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException("Maximal limit must not be lower than minimal limit, but is: "
+                                                       + maxLimit + " (min: " + minLimit + ")");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Initial limit must be between minimal and maximal limit, but is: "
+                                                       + initialLimit);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Additive increase, multiplicative decrease limit.
+ */
+final class AimdLimit implements AdaptiveLimit {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    // limit as double bits, so fractions of multiplicative decrease are not lost
+    private final AtomicLong limit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+
+    AimdLimit(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos) {
+        this.limit = new AtomicLong(Double.doubleToLongBits(initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+    }
+
+    @Override
+    public int limit() {
+        return (int) Double.longBitsToDouble(limit.get());
+    }
+
+    @Override
+    public void update(long latencyNanos, int inFlight, boolean dropped) {
+        boolean overloaded = dropped || latencyNanos > latencyThresholdNanos;
+        long current;
+        double newLimit;
+        do {
+            current = limit.get();
+            double currentLimit = Double.longBitsToDouble(current);
+            if (overloaded) {
+                newLimit = Math.max(minLimit, currentLimit * BACKOFF_RATIO);
+            } else if (inFlight * 2 >= currentLimit) {
+                // only grow when the limit is actually used
+                newLimit = Math.min(maxLimit, currentLimit + 1);
+            } else {
+                return;
+            }
+            if (newLimit == currentLimit) {
+                return;
+            }
+        } while (!limit.compareAndSet(current, Double.doubleToLongBits(newLimit)));
+    }
+
+    @Override
+    public String toString() {
+        return "AIMD limit: " + limit();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.nima.faulttolerance;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
@@ -28,6 +29,10 @@ import java.util.function.Supplier;
  * until the queue length is reached. Once both the limit and queue are full,
  * additional attempts to invoke will end with a failed response with
  * {@link io.helidon.nima.faulttolerance.BulkheadException}.
+ * <p>
+ * A lock-free implementation can be requested using {@link Builder#lockFree(boolean)}; it is better suited
+ * for large numbers of virtual threads contending for permits, and supports an
+ * {@link io.helidon.nima.faulttolerance.AdaptiveLimit adaptive limit}.
  */
 public interface Bulkhead extends FtHandler {
     /**
@@ -124,12 +129,17 @@ public interface Bulkhead extends FtHandler {
         private int queueLength = DEFAULT_QUEUE_LENGTH;
         private String name = "Bulkhead-" + System.identityHashCode(this);
         private List<QueueListener> listeners = new ArrayList<>();
+        private boolean lockFree;
+        private AdaptiveLimit adaptiveLimit;
 
         private Builder() {
         }
 
         @Override
         public Bulkhead build() {
+            if (lockFree || adaptiveLimit != null) {
+                return new LockFreeBulkheadImpl(this);
+            }
             return new BulkheadImpl(this);
         }
 
@@ -181,6 +191,34 @@ public interface Bulkhead extends FtHandler {
             return this;
         }
 
+        /**
+         * Use a lock-free implementation of the bulkhead. Permits are acquired using compare-and-set
+         * and waiting threads are parked in a non-blocking queue, so there is no lock contention
+         * when many (virtual) threads invoke the bulkhead concurrently.
+         * Waiting threads are not guaranteed to be served in strict FIFO order.
+         * Defaults to {@code false}.
+         *
+         * @param lockFree whether to use the lock-free implementation
+         * @return updated builder instance
+         */
+        public Builder lockFree(boolean lockFree) {
+            this.lockFree = lockFree;
+            return this;
+        }
+
+        /**
+         * Adaptive limit of parallel requests, computed from observed latencies and failures.
+         * When configured, {@link #limit(int)} is ignored and the lock-free implementation is used.
+         *
+         * @param adaptiveLimit adaptive limit, such as {@link AdaptiveLimit#aimd(int, int, int, java.time.Duration)}
+         * @return updated builder instance
+         * @see #lockFree(boolean)
+         */
+        public Builder adaptiveLimit(AdaptiveLimit adaptiveLimit) {
+            this.adaptiveLimit = Objects.requireNonNull(adaptiveLimit);
+            return this;
+        }
+
         int limit() {
             return limit;
         }
@@ -196,5 +234,9 @@ public interface Bulkhead extends FtHandler {
         List<QueueListener> queueListeners() {
             return listeners;
         }
+
+        AdaptiveLimit adaptiveLimit() {
+            return adaptiveLimit;
+        }
     }
 }
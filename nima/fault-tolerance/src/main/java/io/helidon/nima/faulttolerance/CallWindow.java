@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+/**
+ * Window of recent call outcomes used by a circuit breaker to decide whether to open.
+ *
+ * @see io.helidon.nima.faulttolerance.ResultWindow
+ * @see io.helidon.nima.faulttolerance.TimeWindow
+ */
+interface CallWindow {
+    /**
+     * Record outcome of a call.
+     *
+     * @param result outcome of the call
+     * @param slow   whether the call took longer than the slow call duration
+     */
+    void update(ResultWindow.Result result, boolean slow);
+
+    /**
+     * Open if we have seen enough calls and we are at or over the failure or slow call threshold.
+     *
+     * @return outcome of test
+     */
+    boolean shouldOpen();
+
+    /**
+     * Forget all recorded calls.
+     */
+    void reset();
+
+    /**
+     * Number of calls in the window.
+     *
+     * @return number of calls
+     */
+    int calls();
+
+    /**
+     * Percentage of failed calls in the window.
+     *
+     * @return failure rate, {@code 0} if there are no calls
+     */
+    int failureRate();
+
+    /**
+     * Percentage of slow calls in the window.
+     *
+     * @return slow call rate, {@code 0} if there are no calls
+     */
+    int slowCallRate();
+
+    /**
+     * Number of calls that must match to reach the ratio, at least one.
+     *
+     * @param calls number of calls
+     * @param ratio percentage
+     * @return threshold
+     */
+    static int threshold(int calls, int ratio) {
+        int threshold = (calls * ratio) / 100;
+        return threshold == 0 ? 1 : threshold;
+    }
+
+    /**
+     * Percentage of calls.
+     *
+     * @param count number of matching calls
+     * @param calls number of all calls
+     * @return rate
+     */
+    static int rate(int count, int calls) {
+        return calls == 0 ? 0 : (count * 100) / calls;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,11 @@
 package io.helidon.nima.faulttolerance;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
@@ -32,6 +35,10 @@ import io.helidon.common.LazyValue;
  * {@link io.helidon.nima.faulttolerance.CircuitBreakerOpenException} for a period of time.
  * After this period, attempts are made to check if the service is up again - if so, the circuit closes
  * and requests can process as usual again.
+ * <p>
+ * Calls are evaluated either over a window of the last {@link Builder#volume(int) number of calls}, or over
+ * a {@link Builder#timeWindow(java.time.Duration, int) sliding window of time}. Apart from failures, calls that take
+ * longer than the {@link Builder#slowCallDuration(java.time.Duration) slow call duration} can open the circuit as well.
  */
 public interface CircuitBreaker extends FtHandler {
     /**
@@ -68,6 +75,63 @@ public interface CircuitBreaker extends FtHandler {
      */
     void state(State newState);
 
+    /**
+     * Provides access to statistics of this circuit breaker.
+     *
+     * @return current statistics
+     */
+    Stats stats();
+
+    /**
+     * Provides statistics of a circuit breaker, such as failure and slow call rates of the current window
+     * and the number of state transitions.
+     */
+    interface Stats {
+        /**
+         * Number of calls in the current window.
+         *
+         * @return number of calls
+         */
+        long calls();
+
+        /**
+         * Percentage of failed calls in the current window.
+         *
+         * @return failure rate
+         */
+        int failureRate();
+
+        /**
+         * Percentage of slow calls in the current window.
+         *
+         * @return slow call rate
+         */
+        int slowCallRate();
+
+        /**
+         * Number of transitions to the provided state since this breaker was created.
+         *
+         * @param state target state
+         * @return number of transitions
+         */
+        long transitions(State state);
+    }
+
+    /**
+     * A listener of circuit breaker state transitions, such as for exporting metrics.
+     * Listeners are invoked synchronously on the thread that caused the transition.
+     */
+    @FunctionalInterface
+    interface StateListener {
+        /**
+         * Called after the state of the circuit breaker changed.
+         *
+         * @param from previous state
+         * @param to   new state
+         */
+        void stateChanged(State from, State to);
+    }
+
     /**
      * A circuit breaker can be in any of 3 possible states as defined by this enum.
      * The {@link io.helidon.nima.faulttolerance.CircuitBreaker.State#CLOSED} state is the normal one; an
@@ -99,6 +163,7 @@ public interface CircuitBreaker extends FtHandler {
     class Builder implements io.helidon.common.Builder<Builder, CircuitBreaker> {
         private final Set<Class<? extends Throwable>> skipOn = new HashSet<>();
         private final Set<Class<? extends Throwable>> applyOn = new HashSet<>();
+        private final List<StateListener> stateListeners = new ArrayList<>();
         // how long to transition from open to half-open
         private Duration delay = Duration.ofSeconds(5);
         // how many percents of failures will open the breaker
@@ -107,6 +172,13 @@ public interface CircuitBreaker extends FtHandler {
         private int successThreshold = 1;
         // rolling window size to
         private int volume = 10;
+        // time based window, zero for count based window
+        private Duration timeWindow = Duration.ZERO;
+        private int timeWindowBuckets = 10;
+        private int minimumCalls = -1;
+        // calls that take longer are slow, zero to disable
+        private Duration slowCallDuration = Duration.ZERO;
+        private int slowCallRatio = 100;
         private LazyValue<? extends ExecutorService> executor = FaultTolerance.executor();
         private String name = "CircuitBreaker-" + System.identityHashCode(this);
 
@@ -167,6 +239,85 @@ public interface CircuitBreaker extends FtHandler {
             return this;
         }
 
+        /**
+         * Use a sliding window of time instead of the last {@link #volume(int)} calls to calculate the ratio of
+         * failed and slow calls. The window is split into the provided number of buckets, and slides by one bucket
+         * at a time (for example a window of 10 seconds with 10 buckets forgets calls older than 10 seconds, one second
+         * at a time).
+         * A time window reacts at the same speed regardless of the rate of incoming calls; use
+         * {@link #minimumCalls(int)} to avoid opening the circuit on just a few calls.
+         *
+         * @param window  duration of the window
+         * @param buckets number of buckets the window is split into
+         * @return updated builder instance
+         */
+        public Builder timeWindow(Duration window, int buckets) {
+            Objects.requireNonNull(window);
+            if (buckets < 1) {
+                throw new IllegalArgumentException("Number of buckets must be at least 1, but is: " + buckets);
+            }
+            if (window.toNanos() / buckets < 1) {
+                throw new IllegalArgumentException("Time window must be longer than the number of buckets in nanoseconds,"
+                                                           + " but is: " + window);
+            }
+            this.timeWindow = window;
+            this.timeWindowBuckets = buckets;
+            return this;
+        }
+
+        /**
+         * Minimal number of calls in the window before the circuit can open.
+         * Defaults to the {@link #volume(int)}.
+         *
+         * @param minimumCalls minimal number of calls
+         * @return updated builder instance
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("Minimal number of calls must be at least 1, but is: " + minimumCalls);
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Calls that take longer than this duration are considered slow, even when successful.
+         * When the ratio of slow calls reaches the {@link #slowCallRatio(int)}, the circuit opens.
+         * A slow call in half-open state opens the circuit again.
+         * Slow call detection is disabled by default.
+         *
+         * @param slowCallDuration duration of a slow call
+         * @return updated builder instance
+         */
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = Objects.requireNonNull(slowCallDuration);
+            return this;
+        }
+
+        /**
+         * How many slow calls out of 100 will trigger the circuit to open.
+         * Defaults to {@code 100}.
+         *
+         * @param slowCallRatio percent of slow calls that trigger the circuit to open
+         * @return updated builder instance
+         * @see #slowCallDuration(java.time.Duration)
+         */
+        public Builder slowCallRatio(int slowCallRatio) {
+            this.slowCallRatio = slowCallRatio;
+            return this;
+        }
+
+        /**
+         * Add a listener of state transitions of this circuit breaker.
+         *
+         * @param listener state listener
+         * @return updated builder instance
+         */
+        public Builder addStateListener(StateListener listener) {
+            this.stateListeners.add(Objects.requireNonNull(listener));
+            return this;
+        }
+
         /**
          * These throwables will be considered failures, and all other will not.
          * <p>
@@ -279,5 +430,29 @@ public interface CircuitBreaker extends FtHandler {
         String name() {
             return name;
         }
+
+        Duration timeWindow() {
+            return timeWindow;
+        }
+
+        int timeWindowBuckets() {
+            return timeWindowBuckets;
+        }
+
+        int minimumCalls() {
+            return minimumCalls == -1 ? volume : minimumCalls;
+        }
+
+        Duration slowCallDuration() {
+            return slowCallDuration;
+        }
+
+        int slowCallRatio() {
+            return slowCallRatio;
+        }
+
+        List<StateListener> stateListeners() {
+            return stateListeners;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,12 @@
 
 package io.helidon.nima.faulttolerance;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -38,13 +40,18 @@ class CircuitBreakerImpl implements CircuitBreaker {
     private final long delayMillis;
     // how many successful calls will close a half-open breaker
     private final int successThreshold;
+    // calls that take longer are slow, zero if disabled
+    private final long slowCallNanos;
+    private final List<StateListener> stateListeners;
 
     /*
     Runtime
      */
     private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
     // rolling window for counting errors to (maybe) open the breaker
-    private final ResultWindow results;
+    private final CallWindow results;
+    // number of transitions to each state, indexed by ordinal
+    private final AtomicLongArray transitions = new AtomicLongArray(State.values().length);
     // to close from half-open
     private final AtomicInteger successCounter = new AtomicInteger();
     private final AtomicBoolean halfOpenInProgress = new AtomicBoolean();
@@ -55,7 +62,20 @@ class CircuitBreakerImpl implements CircuitBreaker {
     CircuitBreakerImpl(Builder builder) {
         this.delayMillis = builder.delay().toMillis();
         this.successThreshold = builder.successThreshold();
-        this.results = new ResultWindow(builder.volume(), builder.errorRatio());
+        this.slowCallNanos = builder.slowCallDuration().toNanos();
+        this.stateListeners = List.copyOf(builder.stateListeners());
+        if (builder.timeWindow().isZero()) {
+            this.results = new ResultWindow(builder.volume(),
+                                            builder.errorRatio(),
+                                            builder.slowCallRatio(),
+                                            builder.minimumCalls());
+        } else {
+            this.results = new TimeWindow(builder.timeWindowBuckets(),
+                                          builder.timeWindow().toNanos() / builder.timeWindowBuckets(),
+                                          builder.errorRatio(),
+                                          builder.slowCallRatio(),
+                                          builder.minimumCalls());
+        }
         this.executor = builder.executor();
         this.errorChecker = ErrorChecker.create(builder.skipOn(), builder.applyOn());
         this.name = builder.name();
@@ -94,9 +114,9 @@ class CircuitBreakerImpl implements CircuitBreaker {
                 future.cancel(false);
             }
             resetCounters();
-            state.set(State.CLOSED);
+            transitioned(state.getAndSet(State.CLOSED), State.CLOSED);
         } else if (newState == State.OPEN) {
-            state.set(State.OPEN);
+            transitioned(state.getAndSet(State.OPEN), State.OPEN);
             Future<Boolean> future = schedule.getAndSet(null);
             if (future != null) {
                 future.cancel(false);
@@ -108,21 +128,47 @@ class CircuitBreakerImpl implements CircuitBreaker {
         }
     }
 
+    @Override
+    public Stats stats() {
+        return new Stats() {
+            @Override
+            public long calls() {
+                return results.calls();
+            }
+
+            @Override
+            public int failureRate() {
+                return results.failureRate();
+            }
+
+            @Override
+            public int slowCallRate() {
+                return results.slowCallRate();
+            }
+
+            @Override
+            public long transitions(State state) {
+                return transitions.get(state.ordinal());
+            }
+        };
+    }
+
     private <U> U executeTask(Supplier<? extends U> supplier) {
+        long start = System.nanoTime();
         try {
             U result = supplier.get();
-            results.update(ResultWindow.Result.SUCCESS);
+            results.update(ResultWindow.Result.SUCCESS, isSlow(start));
             return result;
         } catch (Throwable t) {
             Throwable throwable = unwrapThrowable(t);
             if (errorChecker.shouldSkip(throwable)) {
-                results.update(ResultWindow.Result.SUCCESS);
+                results.update(ResultWindow.Result.SUCCESS, isSlow(start));
             } else {
-                results.update(ResultWindow.Result.FAILURE);
+                results.update(ResultWindow.Result.FAILURE, isSlow(start));
             }
             throw toRuntimeException(throwable);
         } finally {
-            if (results.shouldOpen() && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            if (results.shouldOpen() && transition(State.CLOSED, State.OPEN)) {
                 results.reset();
                 // if we successfully switch to open, we need to schedule switch to half-open
                 scheduleHalf();
@@ -133,32 +179,22 @@ class CircuitBreakerImpl implements CircuitBreaker {
     private <U> U halfOpenTask(Supplier<? extends U> supplier) {
         // half-open
         if (halfOpenInProgress.compareAndSet(false, true)) {
+            long start = System.nanoTime();
             try {
                 U result = supplier.get();
-                // success
-                int successes = successCounter.incrementAndGet();
-                if (successes >= successThreshold) {
-                    // transition to closed
-                    successCounter.set(0);
-                    state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+                if (isSlow(start)) {
+                    // too slow, the resource has not recovered yet
+                    reopen();
+                } else {
+                    halfOpenSuccess();
                 }
                 return result;
             } catch (Throwable t) {
                 Throwable throwable = unwrapThrowable(t);
-                if (errorChecker.shouldSkip(throwable)) {
-                    // success
-                    int successes = successCounter.incrementAndGet();
-                    if (successes >= successThreshold) {
-                        // transition to closed
-                        successCounter.set(0);
-                        state.compareAndSet(State.HALF_OPEN, State.CLOSED);
-                    }
+                if (errorChecker.shouldSkip(throwable) && !isSlow(start)) {
+                    halfOpenSuccess();
                 } else {
-                    // failure
-                    successCounter.set(0);
-                    state.set(State.OPEN);
-                    // if we successfully switch to open, we need to schedule switch to half-open
-                    scheduleHalf();
+                    reopen();
                 }
                 throw toRuntimeException(throwable);
             } finally {
@@ -169,10 +205,49 @@ class CircuitBreakerImpl implements CircuitBreaker {
         }
     }
 
+    private void halfOpenSuccess() {
+        int successes = successCounter.incrementAndGet();
+        if (successes >= successThreshold) {
+            // transition to closed
+            successCounter.set(0);
+            transition(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    private void reopen() {
+        // failure
+        successCounter.set(0);
+        transitioned(state.getAndSet(State.OPEN), State.OPEN);
+        // if we successfully switch to open, we need to schedule switch to half-open
+        scheduleHalf();
+    }
+
+    private boolean isSlow(long startNanos) {
+        return slowCallNanos > 0 && System.nanoTime() - startNanos > slowCallNanos;
+    }
+
+    private boolean transition(State from, State to) {
+        if (state.compareAndSet(from, to)) {
+            transitioned(from, to);
+            return true;
+        }
+        return false;
+    }
+
+    private void transitioned(State from, State to) {
+        if (from == to) {
+            return;
+        }
+        transitions.incrementAndGet(to.ordinal());
+        for (StateListener listener : stateListeners) {
+            listener.stateChanged(from, to);
+        }
+    }
+
     private void scheduleHalf() {
         schedule.set(executor.get().submit(
                 toDelayedCallable(() -> {
-                    state.compareAndSet(State.OPEN, State.HALF_OPEN);
+                    transition(State.OPEN, State.HALF_OPEN);
                     schedule.set(null);
                     return true;
                 }, delayMillis)));
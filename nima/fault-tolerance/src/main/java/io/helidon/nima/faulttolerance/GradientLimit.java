@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gradient limit, based on the ratio of latency without load and the current latency.
+ */
+final class GradientLimit implements AdaptiveLimit {
+    // weight of a new sample in the exponentially smoothed limit
+    private static final double SMOOTHING = 0.2;
+    // minimal gradient, so a single slow call cannot collapse the limit
+    private static final double MIN_GRADIENT = 0.5;
+    // the latency without load is measured again after this number of samples, to follow changes of the resource
+    private static final int MIN_LATENCY_RESET = 1000;
+
+    // limit as double bits, to keep the smoothed value
+    private final AtomicLong limit;
+    private final AtomicLong minLatency = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicInteger samples = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = new AtomicLong(Double.doubleToLongBits(initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public int limit() {
+        return (int) Double.longBitsToDouble(limit.get());
+    }
+
+    @Override
+    public void update(long latencyNanos, int inFlight, boolean dropped) {
+        if (samples.incrementAndGet() % MIN_LATENCY_RESET == 0) {
+            minLatency.set(latencyNanos);
+        }
+        long noLoadLatency = minLatency.accumulateAndGet(Math.max(1, latencyNanos), Math::min);
+
+        long current;
+        double newLimit;
+        do {
+            current = limit.get();
+            double currentLimit = Double.longBitsToDouble(current);
+            if (!dropped && inFlight * 2 < currentLimit) {
+                // the limit is not used, the sample says nothing about it
+                return;
+            }
+            double gradient = dropped
+                    ? MIN_GRADIENT
+                    : Math.max(MIN_GRADIENT, Math.min(1.0, (double) noLoadLatency / latencyNanos));
+            // allow a queue of square root of the limit, so the limit can grow while latency stays the same
+            double estimate = currentLimit * gradient + Math.sqrt(currentLimit);
+            newLimit = currentLimit * (1 - SMOOTHING) + estimate * SMOOTHING;
+            newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+            if (newLimit == currentLimit) {
+                return;
+            }
+        } while (!limit.compareAndSet(current, Double.doubleToLongBits(newLimit)));
+    }
+
+    @Override
+    public String toString() {
+        return "Gradient limit: " + limit();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import io.helidon.common.LazyValue;
+
+/**
+ * Hedge sends an additional attempt of a call when the first attempt takes longer than expected,
+ * and uses the first successful result. Attempts that are still running are cancelled.
+ * <p>
+ * This reduces tail latency of idempotent calls to resources with variable latency, at the price of
+ * a few additional calls. The delay before an additional attempt is either fixed, or follows a percentile of
+ * latencies observed by this hedge (so for the 95th percentile, about 5% of calls are hedged).
+ * Attempts run on the {@link Builder#executor(java.util.concurrent.ExecutorService) executor}, which uses virtual threads
+ * by default.
+ * <p>
+ * A failed attempt does not trigger another attempt, use {@link io.helidon.nima.faulttolerance.Retry} to handle failures.
+ */
+public interface Hedge extends FtHandler {
+    /**
+     * A new builder to customize {@code Hedge} configuration.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Number of additional attempts started by this hedge. This is a monotonically
+     * increasing counter over the lifetime of the handler.
+     *
+     * @return number of hedged attempts
+     */
+    long hedgeCounter();
+
+    /**
+     * Fluent API builder for {@link io.helidon.nima.faulttolerance.Hedge}.
+     */
+    class Builder implements io.helidon.common.Builder<Builder, Hedge> {
+        private Duration delay = Duration.ofMillis(100);
+        private double latencyPercentile = 0;
+        private int maxAttempts = 2;
+        private LazyValue<? extends ExecutorService> executor = FaultTolerance.executor();
+        private String name = "Hedge-" + System.identityHashCode(this);
+
+        private Builder() {
+        }
+
+        @Override
+        public Hedge build() {
+            return new HedgeImpl(this);
+        }
+
+        /**
+         * How long to wait for an attempt before starting another one.
+         * When {@link #latencyPercentile(double)} is configured, this delay is only used until enough latencies
+         * are observed.
+         * Defaults to 100 milliseconds.
+         *
+         * @param delay delay before an additional attempt
+         * @return updated builder instance
+         */
+        public Builder delay(Duration delay) {
+            this.delay = Objects.requireNonNull(delay);
+            return this;
+        }
+
+        /**
+         * Start another attempt when an attempt takes longer than this percentile of observed latencies,
+         * such as {@code 95}.
+         * Disabled by default, using a fixed {@link #delay(java.time.Duration)}.
+         *
+         * @param latencyPercentile percentile of latency, greater than 0 and lower than 100
+         * @return updated builder instance
+         */
+        public Builder latencyPercentile(double latencyPercentile) {
+            if (latencyPercentile <= 0 || latencyPercentile >= 100) {
+                throw new IllegalArgumentException("Latency percentile must be greater than 0 and lower than 100, but is: "
+                                                           + latencyPercentile);
+            }
+            this.latencyPercentile = latencyPercentile;
+            return this;
+        }
+
+        /**
+         * Maximal number of attempts of a single call, including the first one.
+         * Defaults to {@code 2}.
+         *
+         * @param maxAttempts maximal number of attempts
+         * @return updated builder instance
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Maximal attempts must be at least 1, but is: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Executor service to run the attempts.
+         * By default uses an executor configured on
+         * {@link io.helidon.nima.faulttolerance.FaultTolerance#executor(java.util.function.Supplier)}.
+         *
+         * @param executor executor to use
+         * @return updated builder instance
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = LazyValue.create(executor);
+            return this;
+        }
+
+        /**
+         * A name assigned for debugging, error reporting or configuration purposes.
+         *
+         * @param name the name
+         * @return updated builder instance
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        Duration delay() {
+            return delay;
+        }
+
+        double latencyPercentile() {
+            return latencyPercentile;
+        }
+
+        int maxAttempts() {
+            return maxAttempts;
+        }
+
+        LazyValue<? extends ExecutorService> executor() {
+            return executor;
+        }
+
+        String name() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import io.helidon.common.LazyValue;
+
+import static io.helidon.nima.faulttolerance.SupplierHelper.toRuntimeException;
+import static io.helidon.nima.faulttolerance.SupplierHelper.unwrapThrowable;
+
+class HedgeImpl implements Hedge {
+    private final long delayNanos;
+    private final int maxAttempts;
+    private final LazyValue<? extends ExecutorService> executor;
+    private final String name;
+    private final LatencyWindow latencies;
+    private final AtomicLong hedgeCounter = new AtomicLong();
+
+    HedgeImpl(Builder builder) {
+        this.delayNanos = builder.delay().toNanos();
+        this.maxAttempts = builder.maxAttempts();
+        this.executor = builder.executor();
+        this.name = builder.name();
+        this.latencies = builder.latencyPercentile() > 0 ? new LatencyWindow(builder.latencyPercentile()) : null;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> T invoke(Supplier<? extends T> supplier) {
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor.get());
+        List<Future<T>> attempts = new ArrayList<>(maxAttempts);
+        List<Throwable> failures = new ArrayList<>(1);
+        long hedgeDelay = latencies == null ? delayNanos : latencies.percentile(delayNanos);
+
+        try {
+            attempts.add(completion.submit(() -> attempt(supplier)));
+            int running = 1;
+            while (true) {
+                Future<T> done;
+                if (attempts.size() < maxAttempts) {
+                    done = completion.poll(hedgeDelay, TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        // the attempts take too long, start another one
+                        hedgeCounter.incrementAndGet();
+                        attempts.add(completion.submit(() -> attempt(supplier)));
+                        running++;
+                        continue;
+                    }
+                } else {
+                    done = completion.take();
+                }
+                running--;
+                try {
+                    return done.get();
+                } catch (ExecutionException e) {
+                    failures.add(unwrapThrowable(e));
+                    if (running == 0) {
+                        // all started attempts failed, failures are not hedged
+                        throw toRuntimeException(lastFailure(failures));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SupplierException("Hedge \"" + name + "\" interrupted while waiting for attempts", e);
+        } finally {
+            // cancel attempts that are still running, such as the slower one
+            for (Future<T> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public long hedgeCounter() {
+        return hedgeCounter.get();
+    }
+
+    private <T> T attempt(Supplier<? extends T> supplier) {
+        long start = System.nanoTime();
+        T result = supplier.get();
+        if (latencies != null) {
+            latencies.add(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    private static Throwable lastFailure(List<Throwable> failures) {
+        Throwable last = failures.get(failures.size() - 1);
+        for (int i = 0; i < failures.size() - 1; i++) {
+            Throwable throwable = failures.get(i);
+            if (throwable != last) {
+                last.addSuppressed(throwable);
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Ring of latencies of the latest successful attempts.
+     * The percentile is computed again only once in a while, as sorting the samples is expensive.
+     */
+    private static final class LatencyWindow {
+        private static final int SIZE = 1000;
+        private static final int RECOMPUTE_EVERY = 100;
+
+        private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+        private final AtomicInteger index = new AtomicInteger();
+        private final double percentile;
+        private volatile long percentileNanos = -1;
+
+        private LatencyWindow(double percentile) {
+            this.percentile = percentile;
+        }
+
+        void add(long latencyNanos) {
+            // positions over the size mean the window is full, the counter wraps to stay there
+            int position = index.getAndUpdate(i -> i + 1 == 2 * SIZE ? SIZE : i + 1);
+            samples.set(position % SIZE, latencyNanos);
+            if ((position + 1) % RECOMPUTE_EVERY == 0) {
+                recompute(Math.min(position + 1, SIZE));
+            }
+        }
+
+        long percentile(long defaultNanos) {
+            long current = percentileNanos;
+            return current == -1 ? defaultNanos : current;
+        }
+
+        private void recompute(int count) {
+            long[] sorted = new long[count];
+            for (int i = 0; i < count; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            int position = (int) Math.ceil(percentile / 100 * count) - 1;
+            percentileNanos = sorted[Math.max(0, Math.min(count - 1, position))];
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.lang.System.Logger.Level;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static io.helidon.nima.faulttolerance.SupplierHelper.toRuntimeException;
+import static io.helidon.nima.faulttolerance.SupplierHelper.unwrapThrowable;
+
+/**
+ * Bulkhead that admits calls using a permit counter updated with compare-and-set, and parks waiting threads
+ * in a non-blocking queue. A released permit is handed over directly to the next waiting thread.
+ * No lock is held at any point, so admission does not serialize large numbers of (virtual) threads.
+ */
+class LockFreeBulkheadImpl implements Bulkhead {
+    private static final System.Logger LOGGER = System.getLogger(LockFreeBulkheadImpl.class.getName());
+
+    private final String name;
+    private final int fixedLimit;
+    private final AdaptiveLimit adaptiveLimit;
+    private final int queueLength;
+    private final List<QueueListener> listeners;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicLong callsAccepted = new AtomicLong(0L);
+    private final AtomicLong callsRejected = new AtomicLong(0L);
+
+    LockFreeBulkheadImpl(Builder builder) {
+        this.name = builder.name();
+        this.fixedLimit = builder.limit();
+        this.adaptiveLimit = builder.adaptiveLimit();
+        this.queueLength = builder.queueLength();
+        this.listeners = builder.queueListeners();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> T invoke(Supplier<? extends T> supplier) {
+        if (tryAcquire()) {
+            if (LOGGER.isLoggable(Level.DEBUG)) {
+                LOGGER.log(Level.DEBUG, name + " invoke immediate " + supplier);
+            }
+            return execute(supplier);
+        }
+
+        if (queued.incrementAndGet() > queueLength) {
+            queued.decrementAndGet();
+            callsRejected.incrementAndGet();
+            throw new BulkheadException("Bulkhead queue \"" + name + "\" is full");
+        }
+
+        listeners.forEach(l -> l.enqueueing(supplier));
+        Waiter waiter = new Waiter(Thread.currentThread(), supplier);
+        waiters.add(waiter);
+        // a permit may have been released between the failed acquire and enqueueing
+        drain();
+
+        while (waiter.state.get() == Waiter.WAITING) {
+            LockSupport.park(this);
+            if (Thread.interrupted() && waiter.state.compareAndSet(Waiter.WAITING, Waiter.CANCELLED)) {
+                removeWaiter(waiter);
+                callsRejected.incrementAndGet();
+                throw new BulkheadException("Bulkhead \"" + name + "\" interrupted while acquiring");
+            }
+        }
+        if (waiter.state.get() == Waiter.CANCELLED) {
+            // cancelled while queued, do not run
+            return null;
+        }
+
+        listeners.forEach(l -> l.dequeued(supplier));
+        if (LOGGER.isLoggable(Level.DEBUG)) {
+            LOGGER.log(Level.DEBUG, name + " invoking " + supplier);
+        }
+        return execute(supplier);
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats() {
+            @Override
+            public long concurrentExecutions() {
+                return inFlight.get();
+            }
+
+            @Override
+            public long callsAccepted() {
+                return callsAccepted.get();
+            }
+
+            @Override
+            public long callsRejected() {
+                return callsRejected.get();
+            }
+
+            @Override
+            public long waitingQueueSize() {
+                return queued.get();
+            }
+        };
+    }
+
+    @Override
+    public boolean cancelSupplier(Supplier<?> supplier) {
+        for (Waiter waiter : waiters) {
+            if (waiter.supplier == supplier && waiter.state.compareAndSet(Waiter.WAITING, Waiter.CANCELLED)) {
+                removeWaiter(waiter);
+                LockSupport.unpark(waiter.thread);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // this method must be called while holding a permit
+    private <T> T execute(Supplier<? extends T> supplier) {
+        callsAccepted.incrementAndGet();
+        int inFlightAtStart = inFlight.get();
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            T result = supplier.get();
+            if (LOGGER.isLoggable(Level.DEBUG)) {
+                LOGGER.log(Level.DEBUG, name + " finished execution: " + supplier
+                        + " (success)");
+            }
+            return result;
+        } catch (Throwable t) {
+            dropped = true;
+            Throwable throwable = unwrapThrowable(t);
+            LOGGER.log(Level.DEBUG, name + " finished execution: " + supplier
+                    + " (failure)", throwable);
+            throw toRuntimeException(throwable);
+        } finally {
+            if (adaptiveLimit != null) {
+                adaptiveLimit.update(System.nanoTime() - start, inFlightAtStart, dropped);
+            }
+            release();
+        }
+    }
+
+    private int limit() {
+        return adaptiveLimit == null ? fixedLimit : adaptiveLimit.limit();
+    }
+
+    private boolean tryAcquire() {
+        int limit = limit();
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release() {
+        // hand the permit over to the next waiter, unless the (adaptive) limit went down
+        if (inFlight.get() <= limit() && grantNext()) {
+            return;
+        }
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    // grant permits to waiters for as long as there are both waiters and permits
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            if (!grantNext()) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    // hand over a permit that is already counted in in-flight
+    private boolean grantNext() {
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            queued.decrementAndGet();
+            if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                LockSupport.unpark(waiter.thread);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeWaiter(Waiter waiter) {
+        // only decrement if not already polled by a releasing thread
+        if (waiters.remove(waiter)) {
+            queued.decrementAndGet();
+        }
+    }
+
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final Thread thread;
+        private final Supplier<?> supplier;
+
+        private Waiter(Thread thread, Supplier<?> supplier) {
+            this.thread = thread;
+            this.supplier = supplier;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,31 +25,49 @@ import java.util.concurrent.atomic.AtomicInteger;
  * This should not be a significant issue, as the calculations work on a state (that may change anyway when checking
  * whether to open the circuit).
  */
-final class ResultWindow {
+final class ResultWindow implements CallWindow {
+    // each slot holds a combination of these bits
+    private static final int FAILURE_BIT = 1;
+    private static final int SLOW_BIT = 2;
+
     private final AtomicInteger currentSum = new AtomicInteger();
+    private final AtomicInteger slowSum = new AtomicInteger();
     private final AtomicCycle index;
     private final AtomicInteger[] results;
     private final AtomicInteger totalResults = new AtomicInteger();
-    private final int thresholdSum;
+    private final int errorRatio;
+    private final int slowCallRatio;
+    private final int minimumCalls;
 
     ResultWindow(int size, int ratio) {
+        this(size, ratio, 100, size);
+    }
+
+    ResultWindow(int size, int errorRatio, int slowCallRatio, int minimumCalls) {
         results = new AtomicInteger[size];
         for (int i = 0; i < size; i++) {
             results[i] = new AtomicInteger();
         }
         index = new AtomicCycle(size - 1);
-        // calculate the sum needed to open the breaker
-        int threshold = (size * ratio) / 100;
-        thresholdSum = threshold == 0 ? 1 : threshold;
-
+        this.errorRatio = errorRatio;
+        this.slowCallRatio = slowCallRatio;
+        // the window cannot hold more results than its size
+        this.minimumCalls = Math.min(minimumCalls, size);
     }
 
     void update(Result resultEnum) {
-        // update total number of results
-        totalResults.incrementAndGet();
+        update(resultEnum, false);
+    }
+
+    @Override
+    public void update(Result resultEnum, boolean slow) {
+        // update total number of results, only needed until the window is complete
+        if (totalResults.get() < results.length) {
+            totalResults.incrementAndGet();
+        }
 
         // success is zero, failure is 1
-        int result = resultEnum.ordinal();
+        int result = resultEnum.ordinal() | (slow ? SLOW_BIT : 0);
 
         AtomicInteger mine = results[index.incrementAndGet()];
         int origValue = mine.getAndSet(result);
@@ -57,10 +75,20 @@ final class ResultWindow {
             // no change
             return;
         }
-        if (origValue == 1) {
-            currentSum.decrementAndGet();
-        } else {
-            currentSum.incrementAndGet();
+        int changed = origValue ^ result;
+        if ((changed & FAILURE_BIT) != 0) {
+            if ((origValue & FAILURE_BIT) != 0) {
+                currentSum.decrementAndGet();
+            } else {
+                currentSum.incrementAndGet();
+            }
+        }
+        if ((changed & SLOW_BIT) != 0) {
+            if ((origValue & SLOW_BIT) != 0) {
+                slowSum.decrementAndGet();
+            } else {
+                slowSum.incrementAndGet();
+            }
         }
     }
 
@@ -69,19 +97,42 @@ final class ResultWindow {
      *
      * @return outcome of test.
      */
-    boolean shouldOpen() {
-        return totalResults.get() >= results.length && currentSum.get() >= thresholdSum;
+    @Override
+    public boolean shouldOpen() {
+        int calls = calls();
+        if (calls < minimumCalls) {
+            return false;
+        }
+        return currentSum.get() >= CallWindow.threshold(calls, errorRatio)
+                || slowSum.get() >= CallWindow.threshold(calls, slowCallRatio);
     }
 
-    void reset() {
+    @Override
+    public void reset() {
         for (int i = 0; i < results.length; i++) {
             results[i].set(Result.SUCCESS.ordinal());
         }
         currentSum.set(0);
+        slowSum.set(0);
         index.set(results.length - 1);
         totalResults.set(0);
     }
 
+    @Override
+    public int calls() {
+        return Math.min(totalResults.get(), results.length);
+    }
+
+    @Override
+    public int failureRate() {
+        return CallWindow.rate(currentSum.get(), calls());
+    }
+
+    @Override
+    public int slowCallRate() {
+        return CallWindow.rate(slowSum.get(), calls());
+    }
+
     // order is significant, do not change
     enum Result {
         SUCCESS,
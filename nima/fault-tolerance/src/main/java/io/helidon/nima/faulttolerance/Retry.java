@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.helidon.nima.faulttolerance;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
@@ -76,6 +77,7 @@ public interface Retry extends FtHandler {
                 .build();
 
         private Duration overallTimeout = Duration.ofSeconds(1);
+        private RetryBudget budget;
         private String name = "Retry-" + System.identityHashCode(this);
 
         private Builder() {
@@ -169,6 +171,20 @@ public interface Retry extends FtHandler {
             return this;
         }
 
+        /**
+         * Retry budget to limit retries to a ratio of calls. Retries that are not allowed by the budget
+         * are not attempted and the last failure is thrown.
+         * The same budget instance can be shared by multiple retries to limit retries towards a single resource.
+         * There is no budget by default.
+         *
+         * @param budget retry budget
+         * @return updated builder instance
+         */
+        public Builder budget(RetryBudget budget) {
+            this.budget = Objects.requireNonNull(budget);
+            return this;
+        }
+
         /**
          * A name assigned for debugging, error reporting or configuration purposes.
          *
@@ -199,6 +215,10 @@ public interface Retry extends FtHandler {
         String name() {
             return name;
         }
+
+        Optional<RetryBudget> budget() {
+            return Optional.ofNullable(budget);
+        }
     }
 
     /**
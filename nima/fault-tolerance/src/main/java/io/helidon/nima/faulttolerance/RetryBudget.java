@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+/**
+ * Retry budget limits retries to a percentage of calls, so that retries cannot multiply the load
+ * of a resource that is already failing.
+ * <p>
+ * The budget is a token bucket: each call deposits a fraction of a token (the {@link Builder#ratio(double) ratio}),
+ * and each retry withdraws a whole token. When there are not enough tokens, the retry is not attempted and the
+ * last failure is returned to the caller. To allow retries when there is little traffic, a minimal number of retries
+ * per second is always allowed.
+ * <p>
+ * A single budget is usually shared by all {@link io.helidon.nima.faulttolerance.Retry} instances calling the same resource.
+ *
+ * @see io.helidon.nima.faulttolerance.Retry.Builder#budget(RetryBudget)
+ */
+public interface RetryBudget {
+    /**
+     * A new builder to customize {@code RetryBudget} configuration.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a retry budget allowing the provided ratio of retries.
+     *
+     * @param ratio ratio of retries to calls, such as {@code 0.1} for 10%
+     * @return a new retry budget
+     */
+    static RetryBudget create(double ratio) {
+        return builder().ratio(ratio).build();
+    }
+
+    /**
+     * Record a call (not a retry), depositing to the budget.
+     */
+    void deposit();
+
+    /**
+     * Attempt to withdraw a retry from the budget.
+     *
+     * @return {@code true} if the retry is allowed, {@code false} if the budget is exhausted
+     */
+    boolean tryWithdraw();
+
+    /**
+     * Number of retries currently available in the budget, not including the minimal retries per second.
+     *
+     * @return available retries
+     */
+    int available();
+
+    /**
+     * Number of retries that were not allowed by this budget. This is a monotonically
+     * increasing counter over the lifetime of the budget.
+     *
+     * @return number of rejected retries
+     */
+    long rejectedCounter();
+
+    /**
+     * Fluent API builder for {@link io.helidon.nima.faulttolerance.RetryBudget}.
+     */
+    class Builder implements io.helidon.common.Builder<Builder, RetryBudget> {
+        private double ratio = 0.1;
+        private int minRetriesPerSecond = 10;
+        private int maxRetries = 100;
+
+        private Builder() {
+        }
+
+        @Override
+        public RetryBudget build() {
+            return new RetryBudgetImpl(this);
+        }
+
+        /**
+         * Ratio of retries to calls. With a ratio of {@code 0.1}, one retry is allowed for each ten calls.
+         * Defaults to {@code 0.1}.
+         *
+         * @param ratio ratio of retries
+         * @return updated builder instance
+         */
+        public Builder ratio(double ratio) {
+            if (ratio < 0 || ratio > 1000) {
+                throw new IllegalArgumentException("Retry ratio must be between 0 and 1000, but is: " + ratio);
+            }
+            this.ratio = ratio;
+            return this;
+        }
+
+        /**
+         * Number of retries allowed each second regardless of the ratio, so that a resource with little
+         * traffic can still be retried.
+         * Defaults to {@code 10}.
+         *
+         * @param minRetriesPerSecond minimal number of retries per second
+         * @return updated builder instance
+         */
+        public Builder minRetriesPerSecond(int minRetriesPerSecond) {
+            if (minRetriesPerSecond < 0) {
+                throw new IllegalArgumentException("Minimal retries per second must not be negative, but is: "
+                                                           + minRetriesPerSecond);
+            }
+            this.minRetriesPerSecond = minRetriesPerSecond;
+            return this;
+        }
+
+        /**
+         * Maximal number of retries that can be saved in the budget, to limit a burst of retries after a period
+         * of successful calls.
+         * Defaults to {@code 100}.
+         *
+         * @param maxRetries maximal number of saved retries
+         * @return updated builder instance
+         */
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 1) {
+                throw new IllegalArgumentException("Maximal retries must be at least 1, but is: " + maxRetries);
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        double ratio() {
+            return ratio;
+        }
+
+        int minRetriesPerSecond() {
+            return minRetriesPerSecond;
+        }
+
+        int maxRetries() {
+            return maxRetries;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+class RetryBudgetImpl implements RetryBudget {
+    // tokens are kept in thousandths, so fractional deposits are not lost
+    private static final long TOKEN = 1000;
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long deposit;
+    private final long maxBalance;
+    private final int minRetriesPerSecond;
+    private final LongSupplier nanoClock;
+    private final AtomicLong balance = new AtomicLong();
+    // second in which the minimal retries are counted, and retries used in that second
+    private final AtomicLong reserveSecond = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong reserveUsed = new AtomicLong();
+    private final AtomicLong rejectedCounter = new AtomicLong();
+
+    RetryBudgetImpl(Builder builder) {
+        this(builder, System::nanoTime);
+    }
+
+    RetryBudgetImpl(Builder builder, LongSupplier nanoClock) {
+        this.deposit = Math.round(builder.ratio() * TOKEN);
+        this.maxBalance = builder.maxRetries() * TOKEN;
+        this.minRetriesPerSecond = builder.minRetriesPerSecond();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void deposit() {
+        long current;
+        long updated;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+            updated = Math.min(maxBalance, current + deposit);
+        } while (!balance.compareAndSet(current, updated));
+    }
+
+    @Override
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                if (withdrawReserve()) {
+                    return true;
+                }
+                rejectedCounter.incrementAndGet();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    @Override
+    public int available() {
+        return (int) (balance.get() / TOKEN);
+    }
+
+    @Override
+    public long rejectedCounter() {
+        return rejectedCounter.get();
+    }
+
+    private boolean withdrawReserve() {
+        if (minRetriesPerSecond == 0) {
+            return false;
+        }
+        long second = Math.floorDiv(nanoClock.getAsLong(), SECOND_NANOS);
+        long current = reserveSecond.get();
+        if (current != second && reserveSecond.compareAndSet(current, second)) {
+            reserveUsed.set(0);
+        }
+        return reserveUsed.incrementAndGet() <= minRetriesPerSecond;
+    }
+}
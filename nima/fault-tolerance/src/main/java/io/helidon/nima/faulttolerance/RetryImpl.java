@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ class RetryImpl implements Retry {
     private final ErrorChecker errorChecker;
     private final long maxTimeNanos;
     private final RetryPolicy retryPolicy;
+    private final RetryBudget budget;
     private final AtomicLong retryCounter = new AtomicLong(0L);
     private final String name;
 
@@ -38,6 +39,7 @@ class RetryImpl implements Retry {
         this.errorChecker = ErrorChecker.create(builder.skipOn(), builder.applyOn());
         this.maxTimeNanos = builder.overallTimeout().toNanos();
         this.retryPolicy = builder.retryPolicy();
+        this.budget = builder.budget().orElse(null);
         this.name = builder.name();
     }
 
@@ -49,6 +51,9 @@ class RetryImpl implements Retry {
     @Override
     public <T> T invoke(Supplier<? extends T> supplier) {
         RetryContext<? extends T> context = new RetryContext<>();
+        if (budget != null) {
+            budget.deposit();
+        }
         while (true) {
             try {
                 return supplier.get();
@@ -75,6 +80,11 @@ class RetryImpl implements Retry {
             // check timeout after sleep
             checkTimeout(context, now + TimeUnit.MILLISECONDS.toNanos(delayMillis));
 
+            if (budget != null && !budget.tryWithdraw()) {
+                // retry budget exhausted, do not add more load
+                return context.throwIt();
+            }
+
             // now we are retrying for sure
             retryCounter.getAndIncrement();
             // just block current thread, we are expected to run in Virtual threads with Loom
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding window of results over a period of time, split into buckets of equal duration.
+ * When the window slides, the oldest bucket is reused for the current period.
+ * Like {@link io.helidon.nima.faulttolerance.ResultWindow}, the status is eventually consistent - a call
+ * recorded while its bucket is being reused may be lost.
+ */
+final class TimeWindow implements CallWindow {
+    private static final long NO_PERIOD = Long.MIN_VALUE;
+
+    private final Bucket[] buckets;
+    private final long bucketNanos;
+    private final int errorRatio;
+    private final int slowCallRatio;
+    private final int minimumCalls;
+    private final LongSupplier nanoClock;
+
+    TimeWindow(int bucketCount, long bucketNanos, int errorRatio, int slowCallRatio, int minimumCalls) {
+        this(bucketCount, bucketNanos, errorRatio, slowCallRatio, minimumCalls, System::nanoTime);
+    }
+
+    TimeWindow(int bucketCount,
+               long bucketNanos,
+               int errorRatio,
+               int slowCallRatio,
+               int minimumCalls,
+               LongSupplier nanoClock) {
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.bucketNanos = bucketNanos;
+        this.errorRatio = errorRatio;
+        this.slowCallRatio = slowCallRatio;
+        this.minimumCalls = minimumCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void update(ResultWindow.Result result, boolean slow) {
+        long period = currentPeriod();
+        Bucket bucket = buckets[(int) Math.floorMod(period, (long) buckets.length)];
+        long bucketPeriod = bucket.period.get();
+        if (bucketPeriod != period && bucket.period.compareAndSet(bucketPeriod, period)) {
+            // bucket of an expired period, reuse it
+            bucket.clear();
+        }
+        bucket.calls.incrementAndGet();
+        if (result == ResultWindow.Result.FAILURE) {
+            bucket.failures.incrementAndGet();
+        }
+        if (slow) {
+            bucket.slowCalls.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean shouldOpen() {
+        Snapshot snapshot = snapshot();
+        if (snapshot.calls == 0 || snapshot.calls < minimumCalls) {
+            return false;
+        }
+        return snapshot.failures >= CallWindow.threshold(snapshot.calls, errorRatio)
+                || snapshot.slowCalls >= CallWindow.threshold(snapshot.calls, slowCallRatio);
+    }
+
+    @Override
+    public void reset() {
+        for (Bucket bucket : buckets) {
+            bucket.period.set(NO_PERIOD);
+            bucket.clear();
+        }
+    }
+
+    @Override
+    public int calls() {
+        return snapshot().calls;
+    }
+
+    @Override
+    public int failureRate() {
+        Snapshot snapshot = snapshot();
+        return CallWindow.rate(snapshot.failures, snapshot.calls);
+    }
+
+    @Override
+    public int slowCallRate() {
+        Snapshot snapshot = snapshot();
+        return CallWindow.rate(snapshot.slowCalls, snapshot.calls);
+    }
+
+    private Snapshot snapshot() {
+        long period = currentPeriod();
+        int calls = 0;
+        int failures = 0;
+        int slowCalls = 0;
+        for (Bucket bucket : buckets) {
+            long bucketPeriod = bucket.period.get();
+            if (bucketPeriod != NO_PERIOD && period - bucketPeriod < buckets.length) {
+                calls += bucket.calls.get();
+                failures += bucket.failures.get();
+                slowCalls += bucket.slowCalls.get();
+            }
+        }
+        return new Snapshot(calls, failures, slowCalls);
+    }
+
+    private long currentPeriod() {
+        return Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+    }
+
+    private record Snapshot(int calls, int failures, int slowCalls) {
+    }
+
+    private static final class Bucket {
+        private final AtomicLong period = new AtomicLong(NO_PERIOD);
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        private void clear() {
+            calls.set(0);
+            failures.set(0);
+            slowCalls.set(0);
+        }
+    }
+}
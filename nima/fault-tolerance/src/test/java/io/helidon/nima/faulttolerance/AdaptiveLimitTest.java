@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveLimitTest {
+    private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void testAimdIncrease() {
+        AdaptiveLimit limit = AdaptiveLimit.aimd(10, 1, 12, Duration.ofMillis(100));
+
+        // limit not used, no change
+        limit.update(MILLIS, 1, false);
+        assertThat(limit.limit(), is(10));
+
+        limit.update(MILLIS, 10, false);
+        assertThat(limit.limit(), is(11));
+        limit.update(MILLIS, 10, false);
+        limit.update(MILLIS, 10, false);
+        assertThat("Limit must not grow over maximum", limit.limit(), is(12));
+    }
+
+    @Test
+    void testAimdDecrease() {
+        AdaptiveLimit limit = AdaptiveLimit.aimd(10, 5, 20, Duration.ofMillis(100));
+
+        limit.update(MILLIS, 10, true);
+        assertThat(limit.limit(), is(9));
+        limit.update(200 * MILLIS, 1, false);
+        assertThat(limit.limit(), is(8));
+
+        for (int i = 0; i < 20; i++) {
+            limit.update(MILLIS, 10, true);
+        }
+        assertThat("Limit must not decrease under minimum", limit.limit(), is(5));
+    }
+
+    @Test
+    void testGradient() {
+        AdaptiveLimit limit = AdaptiveLimit.gradient(20, 5, 100);
+
+        // same latency as without load, the limit grows
+        for (int i = 0; i < 10; i++) {
+            limit.update(MILLIS, 20, false);
+        }
+        int grown = limit.limit();
+        assertThat(grown, greaterThan(20));
+
+        // latency grows, the limit follows down
+        for (int i = 0; i < 10; i++) {
+            limit.update(10 * MILLIS, grown, false);
+        }
+        assertThat(limit.limit(), lessThan(grown));
+
+        for (int i = 0; i < 100; i++) {
+            limit.update(MILLIS, 100, true);
+        }
+        assertThat("Limit must not decrease under minimum", limit.limit(), is(5));
+    }
+
+    @Test
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimit.aimd(1, 0, 10, Duration.ofMillis(1)));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimit.gradient(5, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimit.gradient(20, 1, 10));
+    }
+}
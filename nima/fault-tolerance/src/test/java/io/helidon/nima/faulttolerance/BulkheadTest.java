@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.nima.faulttolerance;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -207,6 +208,128 @@ class BulkheadTest {
         assertThat(cause, instanceOf(IllegalStateException.class));
     }
 
+    @Test
+    void testLockFreeBulkhead() throws InterruptedException, ExecutionException, java.util.concurrent.TimeoutException {
+        String name = "unit:testLockFreeBulkhead";
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(2)
+                .queueLength(1)
+                .name(name)
+                .lockFree(true)
+                .build();
+
+        Task first = new Task(0);
+        Task second = new Task(1);
+        CompletableFuture<Integer> firstResult = Async.invokeStatic(() -> bulkhead.invoke(first::run));
+        CompletableFuture<Integer> secondResult = Async.invokeStatic(() -> bulkhead.invoke(second::run));
+        if (!first.waitUntilStarted(WAIT_TIMEOUT_MILLIS) || !second.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Tasks within limit not started");
+        }
+        assertThat(bulkhead.stats().concurrentExecutions(), is(2L));
+
+        Task enqueued = new Task(2);
+        CompletableFuture<Integer> enqueuedResult = Async.invokeStatic(() -> bulkhead.invoke(enqueued::run));
+        assertEventually(() -> bulkhead.stats().waitingQueueSize() == 1, WAIT_TIMEOUT_MILLIS);
+        assertThat(enqueued.isStarted(), is(false));
+
+        BulkheadException rejected = assertThrows(BulkheadException.class, () -> bulkhead.invoke(() -> 3));
+        assertThat(rejected.getMessage(), is("Bulkhead queue \"" + name + "\" is full"));
+
+        // releasing a permit hands it over to the waiting task
+        first.unblock();
+        assertThat(firstResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(0));
+        if (!enqueued.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task enqueued not started");
+        }
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+        assertThat(bulkhead.stats().concurrentExecutions(), is(2L));
+
+        second.unblock();
+        enqueued.unblock();
+        assertThat(secondResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(1));
+        assertThat(enqueuedResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(2));
+        assertThat(bulkhead.stats().concurrentExecutions(), is(0L));
+        assertThat(bulkhead.stats().callsAccepted(), is(3L));
+        assertThat(bulkhead.stats().callsRejected(), is(1L));
+    }
+
+    @Test
+    void testLockFreeBulkheadQueue() throws InterruptedException, ExecutionException, java.util.concurrent.TimeoutException {
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(1)
+                .queueLength(1000)
+                .lockFree(true)
+                .build();
+
+        Task first = new Task(0);
+        CompletableFuture<?> firstFuture = Async.invokeStatic(() -> bulkhead.invoke(first::run));
+        if (!first.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task first not started");
+        }
+
+        Task[] tasks = new Task[999];
+        for (int i = 0; i < tasks.length; i++) {
+            Task task = new Task(i + 1);
+            tasks[i] = task;
+            task.unblock();
+            task.future(Async.invokeStatic(() -> bulkhead.invoke(task::run)));
+        }
+
+        first.unblock();
+        firstFuture.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        for (Task task : tasks) {
+            task.future().get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        assertThat(bulkhead.stats().callsAccepted(), is(1000L));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+        assertThat(bulkhead.stats().concurrentExecutions(), is(0L));
+    }
+
+    @Test
+    void testLockFreeBulkheadCancel() throws InterruptedException, ExecutionException, java.util.concurrent.TimeoutException {
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(1)
+                .queueLength(1)
+                .lockFree(true)
+                .build();
+
+        Task inProgress = new Task(0);
+        CompletableFuture<Integer> inProgressResult = Async.invokeStatic(() -> bulkhead.invoke(inProgress::run));
+        if (!inProgress.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task inProgress not started");
+        }
+
+        Task enqueued = new Task(1);
+        Supplier<Integer> enqueuedSupplier = enqueued::run;
+        CompletableFuture<Integer> enqueuedResult = Async.invokeStatic(() -> bulkhead.invoke(enqueuedSupplier));
+        // the queue slot is reserved before the supplier is visible in the queue
+        assertEventually(() -> bulkhead.cancelSupplier(enqueuedSupplier), WAIT_TIMEOUT_MILLIS);
+        assertThat(enqueuedResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is((Integer) null));
+        assertThat(enqueued.isStarted(), is(false));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+
+        inProgress.unblock();
+        assertThat(inProgressResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(0));
+        assertThat(bulkhead.stats().concurrentExecutions(), is(0L));
+    }
+
+    @Test
+    void testAdaptiveLimitBulkhead() {
+        AdaptiveLimit limit = AdaptiveLimit.aimd(2, 1, 4, Duration.ofSeconds(10));
+        Bulkhead bulkhead = Bulkhead.builder()
+                .adaptiveLimit(limit)
+                .build();
+
+        // a successful call with the bulkhead at least half used increases the limit
+        assertThat(bulkhead.invoke(() -> 42), is(42));
+        assertThat(limit.limit(), is(3));
+        // a failed call reduces it
+        assertThrows(IllegalStateException.class,
+                () -> bulkhead.invoke(() -> { throw new IllegalStateException(); }));
+        assertThat(limit.limit(), is(2));
+        assertThat(bulkhead.stats().concurrentExecutions(), is(0L));
+    }
+
     /**
      * A task to submit to a bulkhead. Can be checked for startup and manually
      * unblocked for completion.
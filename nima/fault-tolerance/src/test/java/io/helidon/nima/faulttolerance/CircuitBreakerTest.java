@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package io.helidon.nima.faulttolerance;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -98,6 +100,64 @@ class CircuitBreakerTest {
         assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
     }
 
+    @Test
+    void testSlowCalls() {
+        List<String> transitions = new ArrayList<>();
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .volume(4)
+                .slowCallDuration(Duration.ofMillis(20))
+                .slowCallRatio(50)
+                .addStateListener((from, to) -> transitions.add(from + "->" + to))
+                .build();
+
+        good(breaker);
+        slow(breaker);
+        good(breaker);
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+        slow(breaker);       // should open - 50% of calls are slow
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+        assertThat(transitions, is(List.of("CLOSED->OPEN")));
+        assertThat(breaker.stats().transitions(CircuitBreaker.State.OPEN), is(1L));
+        assertThat(breaker.stats().transitions(CircuitBreaker.State.CLOSED), is(0L));
+    }
+
+    @Test
+    void testTimeWindow() {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .timeWindow(Duration.ofSeconds(10), 10)
+                .minimumCalls(3)
+                .errorRatio(50)
+                .build();
+
+        bad(breaker);
+        bad(breaker);
+        assertThat("Should not open before minimum calls", breaker.state(), is(CircuitBreaker.State.CLOSED));
+        assertThat(breaker.stats().calls(), is(2L));
+        assertThat(breaker.stats().failureRate(), is(100));
+        good(breaker);
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+        // window is reset when the breaker opens
+        assertThat(breaker.stats().calls(), is(0L));
+    }
+
+    @Test
+    void testStateTransitions() {
+        List<String> transitions = new ArrayList<>();
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .addStateListener((from, to) -> transitions.add(from + "->" + to))
+                .build();
+
+        breaker.state(CircuitBreaker.State.OPEN);
+        breaker.state(CircuitBreaker.State.OPEN);
+        breaker.state(CircuitBreaker.State.CLOSED);
+
+        assertThat(transitions, is(List.of("CLOSED->OPEN", "OPEN->CLOSED")));
+        assertThat(breaker.stats().transitions(CircuitBreaker.State.OPEN), is(1L));
+        assertThat(breaker.stats().transitions(CircuitBreaker.State.CLOSED), is(1L));
+    }
+
     private void breakerOpen(CircuitBreaker breaker) {
         Request good = new Request();
         assertThrows(CircuitBreakerOpenException.class, () -> breaker.invoke(good::invoke));
@@ -108,6 +168,17 @@ class CircuitBreakerTest {
         assertThrows(IllegalStateException.class, () -> breaker.invoke(failing::invoke));
     }
 
+    private void slow(CircuitBreaker breaker) {
+        breaker.invoke(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return 1;
+        });
+    }
+
     private void good(CircuitBreaker breaker) {
         Request good = new Request();
         breaker.invoke(good::invoke);
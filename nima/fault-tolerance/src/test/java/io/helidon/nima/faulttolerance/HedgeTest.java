@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HedgeTest {
+    private static final long WAIT_TIMEOUT_MILLIS = 5000;
+
+    @Test
+    void testNoHedgeWhenFast() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofSeconds(10))
+                .build();
+
+        assertThat(hedge.invoke(() -> 42), is(42));
+        assertThat(hedge.hedgeCounter(), is(0L));
+    }
+
+    @Test
+    void testHedgeSlowAttempt() throws InterruptedException {
+        CountDownLatch firstCancelled = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofMillis(10))
+                .build();
+
+        int result = hedge.invoke(() -> {
+            int call = calls.incrementAndGet();
+            if (call == 1) {
+                // first attempt hangs until cancelled
+                try {
+                    Thread.sleep(WAIT_TIMEOUT_MILLIS);
+                } catch (InterruptedException e) {
+                    firstCancelled.countDown();
+                }
+            }
+            return call;
+        });
+
+        assertThat(result, is(2));
+        assertThat(hedge.hedgeCounter(), is(1L));
+        assertThat("Slower attempt should be cancelled",
+                   firstCancelled.await(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+                   is(true));
+    }
+
+    @Test
+    void testFailureNotHedged() {
+        AtomicInteger calls = new AtomicInteger();
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofSeconds(10))
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> hedge.invoke(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Fail");
+        }));
+        assertThat(calls.get(), is(1));
+        assertThat(hedge.hedgeCounter(), is(0L));
+    }
+
+    @Test
+    void testAllAttemptsFail() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofMillis(1))
+                .maxAttempts(3)
+                .build();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> hedge.invoke(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            throw new IllegalStateException("Fail");
+        }));
+        assertThat(hedge.hedgeCounter(), is(2L));
+        assertThat(exception.getSuppressed().length, is(2));
+    }
+
+    @Test
+    void testLatencyPercentile() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofSeconds(10))
+                .latencyPercentile(99)
+                .build();
+
+        // after enough fast samples, the delay follows the observed latency instead of the configured one
+        for (int i = 0; i < 100; i++) {
+            hedge.invoke(() -> 1);
+        }
+        long hedged = hedge.hedgeCounter();
+        hedge.invoke(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                // cancelled as the hedged attempt won
+            }
+            return 1;
+        });
+        assertThat(hedge.hedgeCounter(), is(hedged + 1));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -95,4 +95,28 @@ class ResultWindowTest {
         window.reset();
         assertThat("Empty should not open", window.shouldOpen(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testOpenOnSlowCalls() {
+        ResultWindow window = new ResultWindow(4, 50, 50, 4);
+        window.update(ResultWindow.Result.SUCCESS, true);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, true);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        assertThat(window.slowCallRate(), is(50));
+        assertThat(window.failureRate(), is(0));
+        assertThat("Should open after complete window >= 50% slow", window.shouldOpen(), is(true));
+        // slow calls are replaced by fast ones
+        window.update(ResultWindow.Result.SUCCESS, false);
+        assertThat("Should not open when slow calls are < 50%", window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testMinimumCalls() {
+        ResultWindow window = new ResultWindow(10, 50, 100, 2);
+        window.update(ResultWindow.Result.FAILURE);
+        assertThat("Should not open before minimum calls", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.SUCCESS);
+        assertThat("Should open after minimum calls >= 50%", window.shouldOpen(), is(true));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RetryBudgetTest {
+    @Test
+    void testRatio() {
+        RetryBudget budget = RetryBudget.builder()
+                .ratio(0.1)
+                .minRetriesPerSecond(0)
+                .build();
+
+        assertThat(budget.tryWithdraw(), is(false));
+        for (int i = 0; i < 20; i++) {
+            budget.deposit();
+        }
+        assertThat(budget.available(), is(2));
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(false));
+        assertThat(budget.rejectedCounter(), is(2L));
+    }
+
+    @Test
+    void testMaxRetries() {
+        RetryBudget budget = RetryBudget.builder()
+                .ratio(1)
+                .maxRetries(5)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+        assertThat(budget.available(), is(5));
+    }
+
+    @Test
+    void testMinRetriesPerSecond() {
+        AtomicLong clock = new AtomicLong();
+        RetryBudget budget = new RetryBudgetImpl(RetryBudget.builder()
+                                                         .ratio(0)
+                                                         .minRetriesPerSecond(2),
+                                                 clock::get);
+
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(true));
+        assertThat(budget.tryWithdraw(), is(false));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(budget.tryWithdraw(), is(true));
+    }
+
+    @Test
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.builder().ratio(-1));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.builder().minRetriesPerSecond(-1));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.builder().maxRetries(0));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -137,6 +137,31 @@ class RetryTest {
         assertThat("Should have been called twice", req.call.get(), isOneOf(1, 2));
     }
 
+    @Test
+    void testBudget() {
+        RetryBudget budget = RetryBudget.builder()
+                .ratio(0.5)
+                .minRetriesPerSecond(0)
+                .build();
+        Retry retry = Retry.builder()
+                .retryPolicy(Retry.DelayingRetryPolicy.noDelay(3))
+                .budget(budget)
+                .build();
+
+        // two calls deposit a single retry
+        int count = retry.invoke(new Request(0, new RetryException(), new RetryException())::invoke);
+        assertThat(count, is(1));
+        count = retry.invoke(new Request(1, new RetryException(), new RetryException())::invoke);
+        assertThat(count, is(2));
+        assertThat(budget.available(), is(0));
+
+        // budget exhausted, failure is not retried
+        Request req = new Request(1, new RetryException(), new RetryException());
+        assertThrows(RetryException.class, () -> retry.invoke(req::invoke));
+        assertThat(req.call.get(), is(1));
+        assertThat(budget.rejectedCounter(), is(1L));
+    }
+
     private static class Request {
         private final AtomicInteger call = new AtomicInteger();
         private final int failures;
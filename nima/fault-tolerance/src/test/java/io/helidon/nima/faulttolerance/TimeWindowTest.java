@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.faulttolerance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TimeWindowTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(-5 * SECOND);
+
+    @Test
+    void testNotOpenBeforeMinimumCalls() {
+        TimeWindow window = new TimeWindow(10, SECOND, 50, 100, 4, clock::get);
+        assertThat("Empty should not open", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        assertThat("Should not open before minimum calls", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.SUCCESS, false);
+        assertThat("Should open after minimum calls >= 50%", window.shouldOpen(), is(true));
+        assertThat(window.failureRate(), is(75));
+    }
+
+    @Test
+    void testSlidesOverTime() {
+        TimeWindow window = new TimeWindow(10, SECOND, 50, 100, 2, clock::get);
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        assertThat(window.shouldOpen(), is(true));
+
+        clock.addAndGet(5 * SECOND);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        assertThat(window.calls(), is(4));
+        assertThat("Failures still within window", window.shouldOpen(), is(true));
+
+        // failures are older than 10 seconds now
+        clock.addAndGet(5 * SECOND);
+        assertThat(window.calls(), is(2));
+        assertThat(window.failureRate(), is(0));
+        assertThat("Failures out of window", window.shouldOpen(), is(false));
+
+        // the bucket of the failures is reused
+        window.update(ResultWindow.Result.SUCCESS, false);
+        assertThat(window.calls(), is(3));
+
+        clock.addAndGet(20 * SECOND);
+        assertThat("All calls out of window", window.calls(), is(0));
+    }
+
+    @Test
+    void testSlowCalls() {
+        TimeWindow window = new TimeWindow(10, SECOND, 50, 60, 5, clock::get);
+        window.update(ResultWindow.Result.SUCCESS, true);
+        window.update(ResultWindow.Result.SUCCESS, true);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, true);
+        assertThat(window.slowCallRate(), is(60));
+        assertThat("Should open when slow calls >= 60%", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testReset() {
+        TimeWindow window = new TimeWindow(10, SECOND, 20, 100, 1, clock::get);
+        window.update(ResultWindow.Result.FAILURE, false);
+        assertThat(window.shouldOpen(), is(true));
+        window.reset();
+        assertThat("Empty should not open", window.shouldOpen(), is(false));
+        assertThat(window.calls(), is(0));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http.encoding.brotli;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.nima.http.encoding.ContentDecoder;
+import io.helidon.nima.http.encoding.ContentEncoder;
+import io.helidon.nima.http.encoding.spi.ContentEncodingProvider;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.BrotliInputStream;
+import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+/**
+ * Support for {@code br} (Brotli, RFC 7932) content encoding.
+ * Compression level (quality) can be configured in range {@code 0-11}, default is {@value #DEFAULT_LEVEL}.
+ * <p>
+ * Brotli uses a native library, the {@code brotli4j} native artifact for the current platform must be on the
+ * classpath. If the native library cannot be loaded, a warning is logged and this provider supports neither
+ * encoding nor decoding, so {@code br} is never negotiated.
+ */
+public class BrotliEncodingProvider implements ContentEncodingProvider {
+    /**
+     * Default compression level. Higher levels are only suitable for pre-compressed static content.
+     */
+    public static final int DEFAULT_LEVEL = 4;
+
+    private static final System.Logger LOGGER = System.getLogger(BrotliEncodingProvider.class.getName());
+    private static final int MIN_LEVEL = 0;
+    private static final int MAX_LEVEL = 11;
+    private static final Http.HeaderValue CONTENT_ENCODING_BR =
+            Http.Header.createCached(Http.Header.CONTENT_ENCODING,
+                                     false,
+                                     false,
+                                     "br");
+
+    private final boolean available;
+
+    /**
+     * Default constructor required by {@link java.util.ServiceLoader}.
+     * Loads the native Brotli library.
+     */
+    public BrotliEncodingProvider() {
+        this.available = loadNative();
+    }
+
+    @Override
+    public Set<String> ids() {
+        return Set.of("br");
+    }
+
+    @Override
+    public boolean supportsEncoding() {
+        return available;
+    }
+
+    @Override
+    public boolean supportsDecoding() {
+        return available;
+    }
+
+    @Override
+    public ContentDecoder decoder() {
+        return network -> {
+            try {
+                return new BrotliInputStream(network);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @Override
+    public ContentEncoder encoder() {
+        return encoder(DEFAULT_LEVEL);
+    }
+
+    @Override
+    public ContentEncoder encoder(int compressionLevel) {
+        if (compressionLevel < MIN_LEVEL || compressionLevel > MAX_LEVEL) {
+            throw new IllegalArgumentException("Invalid brotli compression level: " + compressionLevel
+                                                       + ", must be in range " + MIN_LEVEL + "-" + MAX_LEVEL);
+        }
+        if (!available) {
+            throw new IllegalStateException("Brotli native library is not available on this platform");
+        }
+        Encoder.Parameters parameters = new Encoder.Parameters().setQuality(compressionLevel);
+        return new ContentEncoder() {
+            @Override
+            public OutputStream encode(OutputStream network) {
+                try {
+                    return new BrotliOutputStream(network, parameters);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void headers(WritableHeaders<?> headers) {
+                headers.add(CONTENT_ENCODING_BR);
+                headers.remove(Http.Header.CONTENT_LENGTH);
+            }
+        };
+    }
+
+    private static boolean loadNative() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (LinkageError e) {
+            // UnsatisfiedLinkError if the native library is missing, NoClassDefFoundError if its platform class is
+            LOGGER.log(System.Logger.Level.WARNING, "Brotli native library is not available on this platform, "
+                    + "br content encoding is disabled", e);
+            return false;
+        }
+    }
+}
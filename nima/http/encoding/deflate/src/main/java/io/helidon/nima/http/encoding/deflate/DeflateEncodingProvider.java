@@ -18,17 +18,20 @@ package io.helidon.nima.http.encoding.deflate;
 
 import java.io.OutputStream;
 import java.util.Set;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.Deflater;
 
 import io.helidon.common.http.Http;
 import io.helidon.common.http.WritableHeaders;
 import io.helidon.nima.http.encoding.ContentDecoder;
 import io.helidon.nima.http.encoding.ContentEncoder;
+import io.helidon.nima.http.encoding.DeflaterPool;
+import io.helidon.nima.http.encoding.InflaterPool;
 import io.helidon.nima.http.encoding.spi.ContentEncodingProvider;
 
 /**
  * Support for {@code deflate} content encoding.
+ * Uses pooled {@link java.util.zip.Deflater} and {@link java.util.zip.Inflater} instances, compression level
+ * can be configured in range {@code 0-9}.
  */
 public class DeflateEncodingProvider implements ContentEncodingProvider {
     private static final Http.HeaderValue CONTENT_ENCODING_DEFLATE =
@@ -37,6 +40,8 @@ public class DeflateEncodingProvider implements ContentEncodingProvider {
                                      false,
                                      "deflate");
 
+    private final InflaterPool inflaterPool = InflaterPool.create(false);
+
     @Override
     public Set<String> ids() {
         return Set.of("deflate");
@@ -54,15 +59,21 @@ public class DeflateEncodingProvider implements ContentEncodingProvider {
 
     @Override
     public ContentDecoder decoder() {
-        return InflaterInputStream::new;
+        return inflaterPool::inputStream;
     }
 
     @Override
     public ContentEncoder encoder() {
+        return encoder(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    @Override
+    public ContentEncoder encoder(int compressionLevel) {
+        DeflaterPool pool = DeflaterPool.create(compressionLevel, false);
         return new ContentEncoder() {
             @Override
             public OutputStream encode(OutputStream network) {
-                return new DeflaterOutputStream(network);
+                return pool.outputStream(network);
             }
 
             @Override
@@ -16,16 +16,19 @@
 
 package io.helidon.nima.http.encoding;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
 
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.config.Config;
 import io.helidon.common.http.Headers;
+import io.helidon.common.http.HttpMediaType;
 import io.helidon.nima.http.encoding.spi.ContentEncodingProvider;
 
 /**
@@ -107,6 +110,20 @@ public interface ContentEncodingContext {
      */
     ContentEncoder encoder(Headers headers);
 
+    /**
+     * Discover content encoder based on the HTTP request headers, honoring the configured minimal entity size
+     * and the allowed media types of the response.
+     *
+     * @param requestHeaders  request headers to analyze ({@code Accept-Encoding})
+     * @param responseHeaders response headers to analyze ({@code Content-Type})
+     * @param entitySize      size of the entity in bytes, or {@code -1} if not known (such as for streamed entities)
+     * @return content encoder to use, {@link io.helidon.nima.http.encoding.ContentEncoder#NO_OP} if the entity
+     *         should not be encoded
+     */
+    default ContentEncoder encoder(Headers requestHeaders, Headers responseHeaders, long entitySize) {
+        return encoder(requestHeaders);
+    }
+
     /**
      * Builder to set up this encoding support context.
      *
@@ -125,6 +142,9 @@ public interface ContentEncodingContext {
 
         private final HelidonServiceLoader.Builder<ContentEncodingProvider> encodingProviders
                 = HelidonServiceLoader.builder(ServiceLoader.load(ContentEncodingProvider.class));
+        private final Map<String, Integer> compressionLevels = new HashMap<>();
+        private final List<HttpMediaType> mediaTypes = new ArrayList<>();
+        private long minimumSize;
 
         // Builder instance must be created using factory method.
         private Builder() {
@@ -135,6 +155,9 @@ public interface ContentEncodingContext {
          * <p>
          * Configuration:<ul>
          *     <li><b>discover-services: false</b> - to disable content encoding support providers service loader discovery</li>
+         *     <li><b>minimum-size: 1024</b> - to only encode entities of at least this number of bytes</li>
+         *     <li><b>media-types: ["text/*", "application/json"]</b> - to only encode entities of these media types</li>
+         *     <li><b>compression-levels: {gzip: 6, br: 4}</b> - to configure compression level per encoding</li>
          * </ul>
          *
          * @param config configuration to use
@@ -142,6 +165,12 @@ public interface ContentEncodingContext {
          */
         public Builder config(Config config) {
             config.get("discover-services").asBoolean().ifPresent(this::discoverServices);
+            config.get("minimum-size").asLong().ifPresent(this::minimumSize);
+            config.get("media-types").asList(String.class)
+                    .ifPresent(it -> it.forEach(mediaType -> addMediaType(HttpMediaType.create(mediaType))));
+            config.get("compression-levels").asNodeList()
+                    .ifPresent(it -> it.forEach(level -> level.asInt()
+                            .ifPresent(value -> compressionLevel(level.name(), value))));
             return this;
         }
 
@@ -167,6 +196,51 @@ public interface ContentEncodingContext {
             return this;
         }
 
+        /**
+         * Minimal size of an entity in bytes to be encoded. Smaller entities are sent as is, as the cost
+         * of compression would exceed the saved bandwidth.
+         * Entities of unknown size (streamed without {@code Content-Length}) are always encoded.
+         * Defaults to {@code 0}.
+         *
+         * @param minimumSize minimal entity size in bytes
+         * @return updated builder
+         */
+        public Builder minimumSize(long minimumSize) {
+            if (minimumSize < 0) {
+                throw new IllegalArgumentException("Minimum size must not be negative, but is: " + minimumSize);
+            }
+            this.minimumSize = minimumSize;
+            return this;
+        }
+
+        /**
+         * Add a media type allowed to be encoded, may contain wildcards (such as {@code text/*}).
+         * If no media type is configured, entities of all media types are encoded.
+         *
+         * @param mediaType media type to encode
+         * @return updated builder
+         */
+        public Builder addMediaType(HttpMediaType mediaType) {
+            Objects.requireNonNull(mediaType);
+            this.mediaTypes.add(mediaType);
+            return this;
+        }
+
+        /**
+         * Compression level to use for the provided encoding.
+         * The range of valid levels depends on the encoding (such as {@code 0-9} for {@code gzip}).
+         * Defaults to the default level of each encoding provider.
+         *
+         * @param encodingId encoding id, such as {@code gzip}
+         * @param level      compression level
+         * @return updated builder
+         */
+        public Builder compressionLevel(String encodingId, int level) {
+            Objects.requireNonNull(encodingId);
+            this.compressionLevels.put(encodingId, level);
+            return this;
+        }
+
         @Override
         public ContentEncodingContext build() {
             List<ContentEncodingProvider> providers = encodingProviders.build().asList();
@@ -179,7 +253,8 @@ public interface ContentEncodingContext {
 
                 if (provider.supportsEncoding()) {
                     for (String id : ids) {
-                        ContentEncoder encoder = provider.encoder();
+                        Integer level = compressionLevels.get(id);
+                        ContentEncoder encoder = level == null ? provider.encoder() : provider.encoder(level);
                         if (firstEncoder == null) {
                             firstEncoder = encoder;
                         }
@@ -198,7 +273,11 @@ public interface ContentEncodingContext {
             encoders.put(IDENTITY_ENCODING, ContentEncoder.NO_OP);
             decoders.put(IDENTITY_ENCODING, ContentDecoder.NO_OP);
 
-            return new ContentEncodingSupportImpl(Map.copyOf(encoders), Map.copyOf(decoders), firstEncoder);
+            return new ContentEncodingSupportImpl(Map.copyOf(encoders),
+                                                  Map.copyOf(decoders),
+                                                  firstEncoder,
+                                                  minimumSize,
+                                                  List.copyOf(mediaTypes));
         }
 
     }
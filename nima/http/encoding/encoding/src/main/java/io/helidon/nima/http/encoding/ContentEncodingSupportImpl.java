@@ -22,9 +22,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 
 import io.helidon.common.http.Headers;
 import io.helidon.common.http.Http;
+import io.helidon.common.http.HttpMediaType;
 
 class ContentEncodingSupportImpl implements ContentEncodingContext {
 
@@ -33,15 +35,21 @@ class ContentEncodingSupportImpl implements ContentEncodingContext {
     private final Map<String, ContentEncoder> encoders;
     private final Map<String, ContentDecoder> decoders;
     private final ContentEncoder firstEncoder;
+    private final long minimumSize;
+    private final List<HttpMediaType> mediaTypes;
 
     ContentEncodingSupportImpl(Map<String, ContentEncoder> encoders,
                                Map<String, ContentDecoder> decoders,
-                               ContentEncoder firstEncoder) {
+                               ContentEncoder firstEncoder,
+                               long minimumSize,
+                               List<HttpMediaType> mediaTypes) {
         this.encoders = encoders;
         this.decoders = decoders;
         this.encodingEnabled = !encoders.isEmpty();
         this.decodingEnabled = !decoders.isEmpty();
         this.firstEncoder = firstEncoder;
+        this.minimumSize = minimumSize;
+        this.mediaTypes = mediaTypes;
     }
 
     @Override
@@ -108,6 +116,30 @@ class ContentEncodingSupportImpl implements ContentEncodingContext {
         return ContentEncoder.NO_OP;
     }
 
+    @Override
+    public ContentEncoder encoder(Headers requestHeaders, Headers responseHeaders, long entitySize) {
+        if (entitySize >= 0 && entitySize < minimumSize) {
+            return ContentEncoder.NO_OP;
+        }
+        if (!mediaTypes.isEmpty() && !mediaTypeAllowed(responseHeaders.contentType())) {
+            return ContentEncoder.NO_OP;
+        }
+        return encoder(requestHeaders);
+    }
+
+    private boolean mediaTypeAllowed(Optional<HttpMediaType> contentType) {
+        if (contentType.isEmpty()) {
+            return false;
+        }
+        HttpMediaType mediaType = contentType.get();
+        for (HttpMediaType allowed : mediaTypes) {
+            if (allowed.test(mediaType.mediaType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Extract encodings from header value and sort them based on quality.
      *
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Pool of {@link java.util.zip.Deflater} instances.
+ * Each deflater holds native memory, so creating one for each response is expensive; pooled instances are
+ * {@link java.util.zip.Deflater#reset() reset} and reused, instances above the pool size are
+ * {@link java.util.zip.Deflater#end() ended}.
+ */
+public final class DeflaterPool {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Queue<Deflater> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idle = new AtomicInteger();
+    private final int level;
+    private final boolean nowrap;
+    private final int maxIdle;
+
+    private DeflaterPool(int level, boolean nowrap, int maxIdle) {
+        this.level = level;
+        this.nowrap = nowrap;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Create a new pool keeping up to twice the number of available processors of idle deflaters.
+     *
+     * @param level  compression level, {@code 0-9}, or {@link java.util.zip.Deflater#DEFAULT_COMPRESSION}
+     * @param nowrap if {@code true} then the ZLIB header and checksum fields will not be used (as required by gzip)
+     * @return a new pool
+     * @throws IllegalArgumentException in case the level is not valid
+     */
+    public static DeflaterPool create(int level, boolean nowrap) {
+        return create(level, nowrap, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Create a new pool.
+     *
+     * @param level   compression level, {@code 0-9}, or {@link java.util.zip.Deflater#DEFAULT_COMPRESSION}
+     * @param nowrap  if {@code true} then the ZLIB header and checksum fields will not be used (as required by gzip)
+     * @param maxIdle maximal number of idle deflaters kept in this pool
+     * @return a new pool
+     * @throws IllegalArgumentException in case the level is not valid, or max idle is negative
+     */
+    public static DeflaterPool create(int level, boolean nowrap, int maxIdle) {
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid deflate compression level: " + level);
+        }
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("Max idle must not be negative, but is: " + maxIdle);
+        }
+        return new DeflaterPool(level, nowrap, maxIdle);
+    }
+
+    /**
+     * Compression level of deflaters of this pool.
+     *
+     * @return compression level
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Obtain a deflater from this pool, or create a new one if none is idle.
+     * The deflater must be returned using {@link #release(java.util.zip.Deflater)}.
+     *
+     * @return deflater
+     */
+    public Deflater acquire() {
+        Deflater deflater = pool.poll();
+        if (deflater == null) {
+            return new Deflater(level, nowrap);
+        }
+        idle.decrementAndGet();
+        return deflater;
+    }
+
+    /**
+     * Return a deflater to this pool.
+     *
+     * @param deflater deflater obtained from {@link #acquire()}
+     */
+    public void release(Deflater deflater) {
+        if (idle.incrementAndGet() > maxIdle) {
+            idle.decrementAndGet();
+            deflater.end();
+            return;
+        }
+        deflater.reset();
+        pool.offer(deflater);
+    }
+
+    /**
+     * Create a deflater output stream using a pooled deflater, that returns the deflater to this pool when closed.
+     *
+     * @param network output stream to write compressed bytes to
+     * @return output stream to write plain bytes to
+     */
+    public DeflaterOutputStream outputStream(OutputStream network) {
+        return new PooledOutputStream(network, this);
+    }
+
+    private static final class PooledOutputStream extends DeflaterOutputStream {
+        private final DeflaterPool pool;
+        private boolean closed;
+
+        private PooledOutputStream(OutputStream out, DeflaterPool pool) {
+            super(out, pool.acquire(), BUFFER_SIZE);
+            this.pool = pool;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                pool.release(def);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http.encoding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Pool of {@link java.util.zip.Inflater} instances.
+ * Each inflater holds native memory, so creating one for each request is expensive; pooled instances are
+ * {@link java.util.zip.Inflater#reset() reset} and reused, instances above the pool size are
+ * {@link java.util.zip.Inflater#end() ended}.
+ */
+public final class InflaterPool {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Queue<Inflater> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idle = new AtomicInteger();
+    private final boolean nowrap;
+    private final int maxIdle;
+
+    private InflaterPool(boolean nowrap, int maxIdle) {
+        this.nowrap = nowrap;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Create a new pool keeping up to twice the number of available processors of idle inflaters.
+     *
+     * @param nowrap if {@code true} then support GZIP compatible compression format
+     * @return a new pool
+     */
+    public static InflaterPool create(boolean nowrap) {
+        return create(nowrap, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Create a new pool.
+     *
+     * @param nowrap  if {@code true} then support GZIP compatible compression format
+     * @param maxIdle maximal number of idle inflaters kept in this pool
+     * @return a new pool
+     * @throws IllegalArgumentException in case max idle is negative
+     */
+    public static InflaterPool create(boolean nowrap, int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("Max idle must not be negative, but is: " + maxIdle);
+        }
+        return new InflaterPool(nowrap, maxIdle);
+    }
+
+    /**
+     * Obtain an inflater from this pool, or create a new one if none is idle.
+     * The inflater must be returned using {@link #release(java.util.zip.Inflater)}.
+     *
+     * @return inflater
+     */
+    public Inflater acquire() {
+        Inflater inflater = pool.poll();
+        if (inflater == null) {
+            return new Inflater(nowrap);
+        }
+        idle.decrementAndGet();
+        return inflater;
+    }
+
+    /**
+     * Return an inflater to this pool.
+     *
+     * @param inflater inflater obtained from {@link #acquire()}
+     */
+    public void release(Inflater inflater) {
+        if (idle.incrementAndGet() > maxIdle) {
+            idle.decrementAndGet();
+            inflater.end();
+            return;
+        }
+        inflater.reset();
+        pool.offer(inflater);
+    }
+
+    /**
+     * Create an inflater input stream using a pooled inflater, that returns the inflater to this pool when closed.
+     * If the stream is never closed, the inflater is not returned and its native resources are freed
+     * once it is garbage collected.
+     *
+     * @param network input stream with compressed bytes
+     * @return input stream with plain bytes
+     */
+    public InflaterInputStream inputStream(InputStream network) {
+        return new PooledInputStream(network, this);
+    }
+
+    private static final class PooledInputStream extends InflaterInputStream {
+        private final InflaterPool pool;
+        private boolean closed;
+
+        private PooledInputStream(InputStream in, InflaterPool pool) {
+            super(in, pool.acquire(), BUFFER_SIZE);
+            this.pool = pool;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                pool.release(inf);
+            }
+        }
+    }
+}
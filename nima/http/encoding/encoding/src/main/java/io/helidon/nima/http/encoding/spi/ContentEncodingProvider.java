@@ -60,4 +60,16 @@ public interface ContentEncodingProvider {
      */
     ContentEncoder encoder();
 
+    /**
+     * To encode bytes using an explicit compression level.
+     * The range of valid levels depends on the encoding scheme (such as {@code 0-9} for {@code gzip}).
+     * Providers that do not support compression levels return the default {@link #encoder()}.
+     *
+     * @param compressionLevel compression level
+     * @return encoder
+     * @throws IllegalArgumentException in case the level is not valid for this encoding scheme
+     */
+    default ContentEncoder encoder(int compressionLevel) {
+        return encoder();
+    }
 }
@@ -17,11 +17,19 @@
 package io.helidon.nima.http.encoding;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.HttpMediaType;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.common.media.type.MediaTypes;
 import io.helidon.nima.http.encoding.ContentEncodingSupportImpl.EncodingWithQ;
+import io.helidon.nima.http.encoding.spi.ContentEncodingProvider;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static io.helidon.nima.http.encoding.ContentEncodingSupportImpl.encodings;
 
@@ -51,4 +59,89 @@ class ContentEncodingSupportTest {
         assertThat(encodings.get(1).toString(), is("deflate;q=0.6"));
         assertThat(encodings.get(2).toString(), is("identity;q=0.3"));
     }
+
+    @Test
+    void testMinimumSize() {
+        ContentEncodingContext context = ContentEncodingContext.builder()
+                .discoverServices(false)
+                .addEncodingProvider(new TestProvider())
+                .minimumSize(100)
+                .build();
+        WritableHeaders<?> requestHeaders = WritableHeaders.create().set(Http.Header.ACCEPT_ENCODING, "test");
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+
+        assertThat(context.encoder(requestHeaders, responseHeaders, 99), sameInstance(ContentEncoder.NO_OP));
+        assertThat(context.encoder(requestHeaders, responseHeaders, 100), not(sameInstance(ContentEncoder.NO_OP)));
+        assertThat("Unknown size must be encoded",
+                   context.encoder(requestHeaders, responseHeaders, -1),
+                   not(sameInstance(ContentEncoder.NO_OP)));
+    }
+
+    @Test
+    void testMediaTypes() {
+        ContentEncodingContext context = ContentEncodingContext.builder()
+                .discoverServices(false)
+                .addEncodingProvider(new TestProvider())
+                .addMediaType(HttpMediaType.create("text/*"))
+                .build();
+        WritableHeaders<?> requestHeaders = WritableHeaders.create().set(Http.Header.ACCEPT_ENCODING, "test");
+
+        assertThat(context.encoder(requestHeaders, WritableHeaders.create(), 1000),
+                   sameInstance(ContentEncoder.NO_OP));
+        assertThat(context.encoder(requestHeaders,
+                                   WritableHeaders.create().contentType(MediaTypes.APPLICATION_OCTET_STREAM),
+                                   1000),
+                   sameInstance(ContentEncoder.NO_OP));
+        assertThat(context.encoder(requestHeaders,
+                                   WritableHeaders.create().contentType(HttpMediaType.create("text/plain; charset=UTF-8")),
+                                   1000),
+                   not(sameInstance(ContentEncoder.NO_OP)));
+    }
+
+    @Test
+    void testCompressionLevel() {
+        TestProvider provider = new TestProvider();
+        ContentEncodingContext.builder()
+                .discoverServices(false)
+                .addEncodingProvider(provider)
+                .compressionLevel("test", 7)
+                .build();
+
+        assertThat(provider.level, is(7));
+    }
+
+    private static class TestProvider implements ContentEncodingProvider {
+        private int level = -1;
+
+        @Override
+        public Set<String> ids() {
+            return Set.of("test");
+        }
+
+        @Override
+        public boolean supportsEncoding() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsDecoding() {
+            return false;
+        }
+
+        @Override
+        public ContentDecoder decoder() {
+            return ContentDecoder.NO_OP;
+        }
+
+        @Override
+        public ContentEncoder encoder() {
+            return network -> network;
+        }
+
+        @Override
+        public ContentEncoder encoder(int compressionLevel) {
+            this.level = compressionLevel;
+            return encoder();
+        }
+    }
 }
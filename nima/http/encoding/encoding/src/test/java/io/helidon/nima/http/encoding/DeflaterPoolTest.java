@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http.encoding;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeflaterPoolTest {
+    private static final String ENTITY = "Some arbitrary text we want to try to compress, compress, compress";
+
+    @Test
+    void testRoundTrip() throws IOException {
+        DeflaterPool deflaterPool = DeflaterPool.create(Deflater.BEST_SPEED, false);
+        InflaterPool inflaterPool = InflaterPool.create(false);
+
+        // twice, so the second run uses pooled instances
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (OutputStream os = deflaterPool.outputStream(baos)) {
+                os.write(ENTITY.getBytes(StandardCharsets.UTF_8));
+            }
+            String result;
+            try (InputStream is = inflaterPool.inputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+                result = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            assertThat(result, is(ENTITY));
+        }
+    }
+
+    @Test
+    void testReuse() {
+        DeflaterPool deflaterPool = DeflaterPool.create(Deflater.DEFAULT_COMPRESSION, true, 1);
+        Deflater first = deflaterPool.acquire();
+        Deflater second = deflaterPool.acquire();
+        assertThat(second, not(sameInstance(first)));
+
+        deflaterPool.release(first);
+        // pool is full, this one is ended
+        deflaterPool.release(second);
+        assertThat(deflaterPool.acquire(), sameInstance(first));
+
+        InflaterPool inflaterPool = InflaterPool.create(true, 1);
+        Inflater inflater = inflaterPool.acquire();
+        inflaterPool.release(inflater);
+        assertThat(inflaterPool.acquire(), sameInstance(inflater));
+    }
+
+    @Test
+    void testInvalidLevel() {
+        assertThrows(IllegalArgumentException.class, () -> DeflaterPool.create(10, false));
+    }
+}
@@ -20,8 +20,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.Set;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import io.helidon.common.Weighted;
 import io.helidon.common.http.Http;
@@ -29,12 +29,15 @@ import io.helidon.common.http.Http.HeaderValue;
 import io.helidon.common.http.WritableHeaders;
 import io.helidon.nima.http.encoding.ContentDecoder;
 import io.helidon.nima.http.encoding.ContentEncoder;
+import io.helidon.nima.http.encoding.DeflaterPool;
 import io.helidon.nima.http.encoding.spi.ContentEncodingProvider;
 
 import static io.helidon.common.http.Http.Header.CONTENT_LENGTH;
 
 /**
  * Support for gzip content encoding.
+ * Encoding uses pooled {@link java.util.zip.Deflater} instances, compression level can be configured in range
+ * {@code 0-9}.
  */
 public class GzipEncodingProvider implements ContentEncodingProvider, Weighted {
     private static final HeaderValue CONTENT_ENCODING_GZIP = Http.Header.createCached(Http.Header.CONTENT_ENCODING,
@@ -70,11 +73,17 @@ public class GzipEncodingProvider implements ContentEncodingProvider, Weighted {
 
     @Override
     public ContentEncoder encoder() {
+        return encoder(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    @Override
+    public ContentEncoder encoder(int compressionLevel) {
+        DeflaterPool pool = DeflaterPool.create(compressionLevel, true);
         return new ContentEncoder() {
             @Override
             public OutputStream encode(OutputStream network) {
                 try {
-                    return new GZIPOutputStream(network);
+                    return new PooledGzipOutputStream(network, pool);
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
                 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http.encoding.gzip;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import io.helidon.nima.http.encoding.DeflaterPool;
+
+/**
+ * Gzip output stream using a pooled deflater (as opposed to {@link java.util.zip.GZIPOutputStream} that always
+ * allocates a new one).
+ */
+class PooledGzipOutputStream extends DeflaterOutputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] HEADER = {
+            (byte) 0x1f, (byte) 0x8b, // magic
+            Deflater.DEFLATED,        // compression method
+            0,                        // flags
+            0, 0, 0, 0,               // modification time
+            0,                        // extra flags
+            (byte) 0xff               // operating system (unknown)
+    };
+
+    private final CRC32 crc = new CRC32();
+    private final DeflaterPool pool;
+
+    private boolean finished;
+    private boolean closed;
+
+    PooledGzipOutputStream(OutputStream out, DeflaterPool pool) throws IOException {
+        super(out, pool.acquire(), BUFFER_SIZE);
+        this.pool = pool;
+        try {
+            out.write(HEADER);
+        } catch (IOException e) {
+            pool.release(def);
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] buf, int off, int len) throws IOException {
+        super.write(buf, off, len);
+        crc.update(buf, off, len);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        super.finish();
+        long crcValue = crc.getValue();
+        long size = def.getBytesRead();
+        byte[] trailer = new byte[8];
+        writeInt(trailer, 0, crcValue);
+        writeInt(trailer, 4, size);
+        out.write(trailer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            super.close();
+        } finally {
+            pool.release(def);
+        }
+    }
+
+    private static void writeInt(byte[] buffer, int offset, long value) {
+        // little endian, only the lowest 32 bits
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >> 8);
+        buffer[offset + 2] = (byte) (value >> 16);
+        buffer[offset + 3] = (byte) (value >> 24);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.http.encoding.gzip;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import io.helidon.nima.http.encoding.DeflaterPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PooledGzipOutputStreamTest {
+    private static final String TEXT = "Some arbitrary text we want to try to compress, compress, compress";
+
+    private final DeflaterPool pool = DeflaterPool.create(Deflater.DEFAULT_COMPRESSION, true, 1);
+
+    @Test
+    void testEmpty() throws IOException {
+        ByteArrayOutputStream network = new ByteArrayOutputStream();
+        new PooledGzipOutputStream(network, pool).close();
+
+        assertThat(gunzip(network.toByteArray()), is(new byte[0]));
+    }
+
+    @Test
+    void testMultipleWrites() throws IOException {
+        byte[] text = TEXT.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream network = new ByteArrayOutputStream();
+        try (PooledGzipOutputStream out = new PooledGzipOutputStream(network, pool)) {
+            out.write(text[0]);
+            out.write(text, 1, 10);
+            out.write(text, 11, text.length - 11);
+        }
+
+        assertThat(gunzip(network.toByteArray()), is(text));
+    }
+
+    @Test
+    void testLargerThanBuffer() throws IOException {
+        // incompressible content, so compressed data is larger than the deflater buffer as well
+        byte[] content = new byte[100 * 1024 + 7];
+        new Random(42).nextBytes(content);
+        ByteArrayOutputStream network = new ByteArrayOutputStream();
+        try (PooledGzipOutputStream out = new PooledGzipOutputStream(network, pool)) {
+            for (int offset = 0; offset < content.length; offset += 30000) {
+                out.write(content, offset, Math.min(30000, content.length - offset));
+            }
+        }
+
+        assertThat(gunzip(network.toByteArray()), is(content));
+    }
+
+    @Test
+    void testPooledDeflaterReuse() throws IOException {
+        // the second stream uses the deflater released by the first one, it must start from a clean state
+        for (int i = 0; i < 3; i++) {
+            String entity = TEXT + i;
+            ByteArrayOutputStream network = new ByteArrayOutputStream();
+            try (PooledGzipOutputStream out = new PooledGzipOutputStream(network, pool)) {
+                out.write(entity.getBytes(StandardCharsets.UTF_8));
+            }
+            assertThat(new String(gunzip(network.toByteArray()), StandardCharsets.UTF_8), is(entity));
+        }
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http.encoding.zstd;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.nima.http.encoding.ContentDecoder;
+import io.helidon.nima.http.encoding.ContentEncoder;
+import io.helidon.nima.http.encoding.spi.ContentEncodingProvider;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+/**
+ * Support for {@code zstd} (Zstandard, RFC 8878) content encoding.
+ * Compression level can be configured in range {@code 1-22}, default is {@value #DEFAULT_LEVEL}.
+ */
+public class ZstdEncodingProvider implements ContentEncodingProvider {
+    /**
+     * Default compression level, a good balance between speed and compression ratio for dynamic content.
+     */
+    public static final int DEFAULT_LEVEL = 3;
+
+    private static final int MIN_LEVEL = 1;
+    private static final int MAX_LEVEL = 22;
+    private static final Http.HeaderValue CONTENT_ENCODING_ZSTD =
+            Http.Header.createCached(Http.Header.CONTENT_ENCODING,
+                                     false,
+                                     false,
+                                     "zstd");
+
+    @Override
+    public Set<String> ids() {
+        return Set.of("zstd");
+    }
+
+    @Override
+    public boolean supportsEncoding() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsDecoding() {
+        return true;
+    }
+
+    @Override
+    public ContentDecoder decoder() {
+        return network -> {
+            try {
+                return new ZstdInputStream(network);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @Override
+    public ContentEncoder encoder() {
+        return encoder(DEFAULT_LEVEL);
+    }
+
+    @Override
+    public ContentEncoder encoder(int compressionLevel) {
+        if (compressionLevel < MIN_LEVEL || compressionLevel > MAX_LEVEL) {
+            throw new IllegalArgumentException("Invalid zstd compression level: " + compressionLevel
+                                                       + ", must be in range " + MIN_LEVEL + "-" + MAX_LEVEL);
+        }
+        return new ContentEncoder() {
+            @Override
+            public OutputStream encode(OutputStream network) {
+                try {
+                    return new ZstdOutputStream(network, compressionLevel);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void headers(WritableHeaders<?> headers) {
+                headers.add(CONTENT_ENCODING_ZSTD);
+                headers.remove(Http.Header.CONTENT_LENGTH);
+            }
+        };
+    }
+}
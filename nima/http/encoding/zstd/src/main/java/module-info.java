@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+import io.helidon.common.features.api.Feature;
+import io.helidon.common.features.api.HelidonFlavor;
+import io.helidon.nima.http.encoding.zstd.ZstdEncodingProvider;
+
+/**
+ * Zstandard content encoding support.
+ */
+@Feature(value = "Zstd",
+        description = "Zstandard content encoding support",
+        in = HelidonFlavor.NIMA,
+        invalidIn = HelidonFlavor.SE,
+        path = {"Encoding", "Zstd"}
+)
+module io.helidon.nima.http.encoding.zstd {
+    requires static io.helidon.common.features.api;
+
+    requires io.helidon.common;
+    requires io.helidon.nima.http.encoding;
+    requires com.github.luben.zstd_jni;
+
+    exports io.helidon.nima.http.encoding.zstd;
+
+    provides io.helidon.nima.http.encoding.spi.ContentEncodingProvider with ZstdEncodingProvider;
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.http.encoding.zstd;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.nima.http.encoding.ContentEncoder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ZstdEncodingProviderTest {
+    private static final String TEXT = "Some arbitrary text we want to try to compress, compress, compress";
+    private final ZstdEncodingProvider provider = new ZstdEncodingProvider();
+
+    @Test
+    void testRoundTripEmpty() throws IOException {
+        assertThat(roundTrip(provider.encoder(), new byte[0]), is(new byte[0]));
+    }
+
+    @Test
+    void testRoundTripText() throws IOException {
+        byte[] text = TEXT.repeat(100).getBytes(StandardCharsets.UTF_8);
+        assertThat(roundTrip(provider.encoder(), text), is(text));
+    }
+
+    @Test
+    void testRoundTripLarge() throws IOException {
+        // incompressible content larger than internal buffers
+        byte[] content = new byte[256 * 1024 + 13];
+        new Random(42).nextBytes(content);
+        assertThat(roundTrip(provider.encoder(), content), is(content));
+    }
+
+    @Test
+    void testCompressionLevels() throws IOException {
+        byte[] text = TEXT.getBytes(StandardCharsets.UTF_8);
+        assertThat(roundTrip(provider.encoder(1), text), is(text));
+        assertThat(roundTrip(provider.encoder(22), text), is(text));
+    }
+
+    @Test
+    void testInvalidCompressionLevel() {
+        assertThrows(IllegalArgumentException.class, () -> provider.encoder(23));
+    }
+
+    @Test
+    void testHeaders() {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.set(Http.Header.CONTENT_LENGTH, "42");
+        provider.encoder().headers(headers);
+
+        assertThat(headers.get(Http.Header.CONTENT_ENCODING).value(), is("zstd"));
+        assertThat(headers.contains(Http.Header.CONTENT_LENGTH), is(false));
+    }
+
+    private byte[] roundTrip(ContentEncoder encoder, byte[] content) throws IOException {
+        ByteArrayOutputStream network = new ByteArrayOutputStream();
+        try (OutputStream out = encoder.encode(network)) {
+            // write in two parts, to cover multiple writes to the same stream
+            int half = content.length / 2;
+            out.write(content, 0, half);
+            out.write(content, half, content.length - half);
+        }
+        try (InputStream in = provider.decoder().apply(new ByteArrayInputStream(network.toByteArray()))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -70,7 +70,7 @@ class JacksonReader<T> implements EntityReader<T> {
         }
     }
 
-    private Charset contentTypeCharset(Headers headers) {
+    static Charset contentTypeCharset(Headers headers) {
         return headers.contentType()
                 .flatMap(HttpMediaType::charset)
                 .map(Charset::forName)
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http.media.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.Headers;
+import io.helidon.nima.http.media.EntityReader;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads {@link java.util.stream.Stream} and {@link java.util.Iterator} entities lazily, from a JSON array or from
+ * newline delimited JSON ({@code application/x-ndjson}).
+ * Each element is parsed only when requested, and bytes are only read from the network as needed to parse it.
+ * The input is closed once all elements are read, or when the returned stream is closed.
+ */
+class JacksonStreamReader<T> implements EntityReader<T> {
+    private final ObjectMapper objectMapper;
+
+    JacksonStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public T read(GenericType<T> type, InputStream stream, Headers headers) {
+        return read(type, stream, JacksonReader.contentTypeCharset(headers));
+    }
+
+    @Override
+    public T read(GenericType<T> type,
+                  InputStream stream,
+                  Headers requestHeaders,
+                  Headers responseHeaders) {
+        return read(type, stream, JacksonReader.contentTypeCharset(responseHeaders));
+    }
+
+    @Override
+    public boolean streaming() {
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T read(GenericType<T> type, InputStream in, Charset charset) {
+        MappingIterator<Object> iterator;
+        try {
+            // a root level JSON array is unwrapped, whitespace separated values (NDJSON) are read one by one
+            iterator = objectMapper.readerFor(objectMapper.constructType(JacksonSupport.elementType(type)))
+                    .readValues(new InputStreamReader(in, charset));
+        } catch (IOException e) {
+            try {
+                in.close();
+            } catch (IOException ex) {
+                e.addSuppressed(ex);
+            }
+            throw new JacksonRuntimeException("Failed to deserialize JSON to " + type, e);
+        }
+        if (Iterator.class.equals(type.rawType())) {
+            return (T) iterator;
+        }
+        Stream<Object> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),
+                                                     false);
+        return (T) stream.onClose(() -> {
+            try {
+                iterator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
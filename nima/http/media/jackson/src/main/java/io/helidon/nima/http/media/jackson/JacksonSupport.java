@@ -16,7 +16,11 @@
 
 package io.helidon.nima.http.media.jackson;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.config.Config;
@@ -38,17 +42,28 @@ import static io.helidon.common.http.Http.HeaderValues.CONTENT_TYPE_JSON;
 
 /**
  * {@link java.util.ServiceLoader} provider implementation for Jackson media support.
+ * <p>
+ * Entities of type {@link java.util.stream.Stream} and {@link java.util.Iterator} are written and read element
+ * by element, either as a JSON array, or as newline delimited JSON ({@code application/x-ndjson}), so large entities
+ * can be processed in constant memory.
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class JacksonSupport implements MediaSupport {
+    static final Http.HeaderValue CONTENT_TYPE_NDJSON = Http.Header.createCached(Http.Header.CONTENT_TYPE,
+                                                                                MediaTypes.APPLICATION_X_NDJSON.text());
+
     private final ObjectMapper objectMapper;
     private final JacksonReader reader;
     private final JacksonWriter writer;
+    private final JacksonStreamReader streamReader;
+    private final JacksonStreamWriter streamWriter;
 
     private JacksonSupport(ObjectMapper objectMapper, JacksonReader reader, JacksonWriter writer) {
         this.objectMapper = objectMapper;
         this.reader = reader;
         this.writer = writer;
+        this.streamReader = new JacksonStreamReader(objectMapper);
+        this.streamWriter = new JacksonStreamWriter(objectMapper);
     }
 
     /**
@@ -81,6 +96,12 @@ public class JacksonSupport implements MediaSupport {
 
     @Override
     public <T> ReaderResponse<T> reader(GenericType<T> type, Headers requestHeaders) {
+        if (isStream(type)) {
+            if (jsonOrNdjson(requestHeaders)) {
+                return new ReaderResponse<>(SupportLevel.SUPPORTED, this::streamReader);
+            }
+            return ReaderResponse.unsupported();
+        }
         if (requestHeaders.contentType()
                 .map(it -> it.test(MediaTypes.APPLICATION_JSON))
                 .orElse(true)) {
@@ -96,6 +117,13 @@ public class JacksonSupport implements MediaSupport {
     public <T> WriterResponse<T> writer(GenericType<T> type,
                                         Headers requestHeaders,
                                         WritableHeaders<?> responseHeaders) {
+        if (isStream(type)) {
+            // a content type already set by the user must be one we can produce
+            if (jsonOrNdjson(responseHeaders) && jsonOrNdjsonAccepted(requestHeaders)) {
+                return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+            }
+            return WriterResponse.unsupported();
+        }
         // check if accepted
         for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
             if (acceptedType.test(MediaTypes.APPLICATION_JSON)) {
@@ -119,6 +147,12 @@ public class JacksonSupport implements MediaSupport {
     public <T> ReaderResponse<T> reader(GenericType<T> type,
                                         Headers requestHeaders,
                                         Headers responseHeaders) {
+        if (isStream(type)) {
+            if (jsonOrNdjson(responseHeaders)) {
+                return new ReaderResponse<>(SupportLevel.SUPPORTED, this::streamReader);
+            }
+            return ReaderResponse.unsupported();
+        }
         // check if accepted
         for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
             if (acceptedType.test(MediaTypes.APPLICATION_JSON) || acceptedType.mediaType().isWildcardType()) {
@@ -139,6 +173,12 @@ public class JacksonSupport implements MediaSupport {
 
     @Override
     public <T> WriterResponse<T> writer(GenericType<T> type, WritableHeaders<?> requestHeaders) {
+        if (isStream(type)) {
+            if (jsonOrNdjson(requestHeaders)) {
+                return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+            }
+            return WriterResponse.unsupported();
+        }
         if (requestHeaders.contains(Http.Header.CONTENT_TYPE)) {
             if (requestHeaders.contains(CONTENT_TYPE_JSON)) {
                 if (objectMapper.canSerialize(type.rawType())) {
@@ -162,4 +202,48 @@ public class JacksonSupport implements MediaSupport {
     <T> EntityWriter<T> writer() {
         return writer;
     }
+
+    <T> EntityReader<T> streamReader() {
+        return streamReader;
+    }
+
+    <T> EntityWriter<T> streamWriter() {
+        return streamWriter;
+    }
+
+    /**
+     * Element type of a {@link java.util.stream.Stream} or {@link java.util.Iterator} type.
+     *
+     * @param type stream or iterator type
+     * @return type of elements, {@link Object} if not parameterized
+     */
+    static Type elementType(GenericType<?> type) {
+        if (type.type() instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    private static boolean isStream(GenericType<?> type) {
+        Class<?> rawType = type.rawType();
+        return Stream.class.equals(rawType) || Iterator.class.equals(rawType);
+    }
+
+    private static boolean jsonOrNdjson(Headers headers) {
+        return headers.contentType()
+                .map(it -> it.test(MediaTypes.APPLICATION_JSON) || it.test(MediaTypes.APPLICATION_X_NDJSON))
+                .orElse(true);
+    }
+
+    private static boolean jsonOrNdjsonAccepted(Headers requestHeaders) {
+        if (requestHeaders.acceptedTypes().isEmpty()) {
+            return true;
+        }
+        for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
+            if (acceptedType.test(MediaTypes.APPLICATION_JSON) || acceptedType.test(MediaTypes.APPLICATION_X_NDJSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
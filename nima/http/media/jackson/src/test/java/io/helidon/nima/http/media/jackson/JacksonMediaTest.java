@@ -18,11 +18,15 @@ package io.helidon.nima.http.media.jackson;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.config.Config;
@@ -31,6 +35,7 @@ import io.helidon.common.http.HttpMediaType;
 import io.helidon.common.http.WritableHeaders;
 import io.helidon.common.media.type.MediaTypes;
 import io.helidon.common.testing.http.junit5.HttpHeaderMatcher;
+import io.helidon.nima.http.media.EntityReader;
 import io.helidon.nima.http.media.MediaContext;
 import io.helidon.nima.http.media.MediaSupport;
 
@@ -51,6 +56,8 @@ class JacksonMediaTest {
     private static final Charset ISO_8859_2 = Charset.forName("ISO-8859-2");
     private static final GenericType<Book> BOOK_TYPE = GenericType.create(Book.class);
     private static final GenericType<List<Book>> BOOK_LIST_TYPE = new GenericType<List<Book>>() { };
+    private static final GenericType<Stream<Book>> BOOK_STREAM_TYPE = new GenericType<Stream<Book>>() { };
+    private static final GenericType<Iterator<Book>> BOOK_ITERATOR_TYPE = new GenericType<Iterator<Book>>() { };
     private final MediaSupport support;
 
     JacksonMediaTest() {
@@ -209,6 +216,105 @@ class JacksonMediaTest {
         assertThat(books, hasItems(new Book("čř"), new Book("šň")));
     }
 
+    @Test
+    void testWriteServerStream() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+
+        MediaSupport.WriterResponse<Stream<Book>> res = support.writer(BOOK_STREAM_TYPE, requestHeaders, responseHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        Stream<Book> books = Stream.of(new Book("first"), new Book("second"))
+                .onClose(() -> streamClosed.set(true));
+        res.supplier().get()
+                .write(BOOK_STREAM_TYPE, books, os, requestHeaders, responseHeaders);
+
+        assertThat(responseHeaders, HttpHeaderMatcher.hasHeader(Http.HeaderValues.CONTENT_TYPE_JSON));
+        assertThat(os.toString(StandardCharsets.UTF_8), is("[{\"title\":\"first\"},{\"title\":\"second\"}]"));
+        assertThat(streamClosed.get(), is(true));
+    }
+
+    @Test
+    void testWriteServerIteratorNdjson() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        requestHeaders.set(Http.Header.ACCEPT, "application/x-ndjson, application/json;q=0.9");
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+
+        MediaSupport.WriterResponse<Iterator<Book>> res = support.writer(BOOK_ITERATOR_TYPE,
+                                                                         requestHeaders,
+                                                                         responseHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        res.supplier().get()
+                .write(BOOK_ITERATOR_TYPE,
+                       List.of(new Book("first"), new Book("second")).iterator(),
+                       os,
+                       requestHeaders,
+                       responseHeaders);
+
+        assertThat(responseHeaders, HttpHeaderMatcher.hasHeader(JacksonSupport.CONTENT_TYPE_NDJSON));
+        assertThat(os.toString(StandardCharsets.UTF_8), is("{\"title\":\"first\"}\n{\"title\":\"second\"}\n"));
+    }
+
+    @Test
+    void testReadServerStreamArray() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        requestHeaders.contentType(MediaTypes.APPLICATION_JSON);
+
+        MediaSupport.ReaderResponse<Stream<Book>> res = support.reader(BOOK_STREAM_TYPE, requestHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+
+        InputStream is =
+                new ByteArrayInputStream("[{\"title\": \"first\"}, {\"title\": \"second\"}]".getBytes(StandardCharsets.UTF_8));
+        try (Stream<Book> books = res.supplier().get().read(BOOK_STREAM_TYPE, is, requestHeaders)) {
+            assertThat(books.toList(), is(List.of(new Book("first"), new Book("second"))));
+        }
+    }
+
+    @Test
+    void testReadClientIteratorNdjsonLazily() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        responseHeaders.contentType(MediaTypes.APPLICATION_X_NDJSON);
+
+        MediaContext context = MediaContext.builder()
+                .discoverServices(false)
+                .addMediaSupport(support)
+                .build();
+        EntityReader<Iterator<Book>> reader = context.reader(BOOK_ITERATOR_TYPE, requestHeaders, responseHeaders);
+
+        AtomicBoolean inputClosed = new AtomicBoolean();
+        InputStream is = new ByteArrayInputStream("{\"title\": \"first\"}\n{\"title\": \"second\"}\n"
+                                                          .getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() throws IOException {
+                inputClosed.set(true);
+                super.close();
+            }
+        };
+        Iterator<Book> books = reader.read(BOOK_ITERATOR_TYPE, is, requestHeaders, responseHeaders);
+
+        // the media context must not close the stream of a lazily read entity
+        assertThat(inputClosed.get(), is(false));
+        assertThat(books.next(), is(new Book("first")));
+        assertThat(books.next(), is(new Book("second")));
+        assertThat(books.hasNext(), is(false));
+        assertThat(inputClosed.get(), is(true));
+    }
+
+    @Test
+    void testWriteServerStreamOtherContentType() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        responseHeaders.contentType(MediaTypes.TEXT_PLAIN);
+
+        MediaSupport.WriterResponse<Stream<Book>> res = support.writer(BOOK_STREAM_TYPE, requestHeaders, responseHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.NOT_SUPPORTED));
+    }
+
     public static class Book {
         private String title;
 
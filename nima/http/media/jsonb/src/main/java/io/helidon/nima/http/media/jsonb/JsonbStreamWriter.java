@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.http.media.jsonb;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.Headers;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.HttpMediaType;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.common.media.type.MediaTypes;
+import io.helidon.nima.http.media.EntityWriter;
+
+import jakarta.json.bind.Jsonb;
+
+/**
+ * Writes {@link java.util.stream.Stream} and {@link java.util.Iterator} entities element by element, either as a JSON
+ * array, or as newline delimited JSON ({@code application/x-ndjson}), so the whole entity is never held in memory.
+ */
+class JsonbStreamWriter<T> implements EntityWriter<T> {
+    // number of elements after which the written data is flushed to the network
+    private static final int FLUSH_ELEMENTS = 256;
+
+    private final Jsonb jsonb;
+
+    JsonbStreamWriter(Jsonb jsonb) {
+        this.jsonb = jsonb;
+    }
+
+    @Override
+    public void write(GenericType<T> type,
+                      T object,
+                      OutputStream outputStream,
+                      Headers requestHeaders,
+                      WritableHeaders<?> responseHeaders) {
+        boolean ndjson;
+        if (responseHeaders.contains(Http.Header.CONTENT_TYPE)) {
+            ndjson = isNdjson(responseHeaders);
+        } else {
+            ndjson = ndjsonAccepted(requestHeaders);
+            responseHeaders.set(ndjson ? JsonbSupport.CONTENT_TYPE_NDJSON : Http.HeaderValues.CONTENT_TYPE_JSON);
+        }
+        write(type, object, outputStream, ndjson);
+    }
+
+    @Override
+    public void write(GenericType<T> type, T object, OutputStream outputStream, WritableHeaders<?> headers) {
+        headers.setIfAbsent(Http.HeaderValues.CONTENT_TYPE_JSON);
+        write(type, object, outputStream, isNdjson(headers));
+    }
+
+    private static boolean isNdjson(Headers headers) {
+        return headers.contentType()
+                .map(it -> it.test(MediaTypes.APPLICATION_X_NDJSON))
+                .orElse(false);
+    }
+
+    // the first accepted of JSON and NDJSON wins, JSON array is the default
+    private static boolean ndjsonAccepted(Headers requestHeaders) {
+        for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
+            if (acceptedType.mediaType().isWildcardType() || acceptedType.mediaType().isWildcardSubtype()) {
+                continue;
+            }
+            if (acceptedType.test(MediaTypes.APPLICATION_X_NDJSON)) {
+                return true;
+            }
+            if (acceptedType.test(MediaTypes.APPLICATION_JSON)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void write(GenericType<T> type, T object, OutputStream outputStream, boolean ndjson) {
+        Type elementType = JsonbSupport.elementType(type);
+        // JSON-B closes the output it binds to, so each element is bound to a string
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            if (object instanceof Stream<?> stream) {
+                try (stream) {
+                    write(elementType, out, stream.iterator(), ndjson);
+                }
+            } else {
+                write(elementType, out, (Iterator<?>) object, ndjson);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Type elementType, Writer out, Iterator<?> iterator, boolean ndjson) throws IOException {
+        if (!ndjson) {
+            out.write('[');
+        }
+        int count = 0;
+        boolean first = true;
+        while (iterator.hasNext()) {
+            if (!ndjson && !first) {
+                out.write(',');
+            }
+            first = false;
+            out.write(jsonb.toJson(iterator.next(), elementType));
+            if (ndjson) {
+                out.write('\n');
+            }
+            if (++count == FLUSH_ELEMENTS) {
+                count = 0;
+                out.flush();
+            }
+        }
+        if (!ndjson) {
+            out.write(']');
+        }
+    }
+}
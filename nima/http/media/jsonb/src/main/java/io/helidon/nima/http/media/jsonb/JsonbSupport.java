@@ -16,6 +16,11 @@
 
 package io.helidon.nima.http.media.jsonb;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
 import io.helidon.common.GenericType;
 import io.helidon.common.config.Config;
 import io.helidon.common.http.Headers;
@@ -35,14 +40,22 @@ import static io.helidon.common.http.Http.HeaderValues.CONTENT_TYPE_JSON;
 
 /**
  * {@link java.util.ServiceLoader} provider implementation for JSON Binding media support.
+ * <p>
+ * Entities of type {@link java.util.stream.Stream} and {@link java.util.Iterator} are written element by element,
+ * either as a JSON array, or as newline delimited JSON ({@code application/x-ndjson}), so large entities can be
+ * written in constant memory.
  */
+@SuppressWarnings({"rawtypes", "unchecked"})
 public class JsonbSupport implements MediaSupport {
+    static final Http.HeaderValue CONTENT_TYPE_NDJSON = Http.Header.createCached(Http.Header.CONTENT_TYPE,
+                                                                                MediaTypes.APPLICATION_X_NDJSON.text());
     private static final GenericType<JsonObject> JSON_OBJECT_TYPE = GenericType.create(JsonObject.class);
 
     private static final Jsonb JSON_B = JsonbBuilder.create();
 
     private final JsonbReader reader = new JsonbReader(JSON_B);
     private final JsonbWriter writer = new JsonbWriter(JSON_B);
+    private final JsonbStreamWriter streamWriter = new JsonbStreamWriter(JSON_B);
 
     private JsonbSupport() {
     }
@@ -79,6 +92,12 @@ public class JsonbSupport implements MediaSupport {
         if (JSON_OBJECT_TYPE.equals(type)) {
             return WriterResponse.unsupported();
         }
+        if (isStream(type)) {
+            if (jsonOrNdjson(responseHeaders) && jsonOrNdjsonAccepted(requestHeaders)) {
+                return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+            }
+            return WriterResponse.unsupported();
+        }
 
         // check if accepted
         for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
@@ -121,6 +140,12 @@ public class JsonbSupport implements MediaSupport {
         if (type.equals(JSON_OBJECT_TYPE)) {
             return WriterResponse.unsupported();
         }
+        if (isStream(type)) {
+            if (jsonOrNdjson(requestHeaders)) {
+                return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+            }
+            return WriterResponse.unsupported();
+        }
         if (requestHeaders.contains(Http.Header.CONTENT_TYPE)) {
             if (requestHeaders.contains(CONTENT_TYPE_JSON)) {
                 return new WriterResponse<>(SupportLevel.COMPATIBLE, this::writer);
@@ -138,4 +163,44 @@ public class JsonbSupport implements MediaSupport {
     <T> EntityWriter<T> writer() {
         return writer;
     }
+
+    <T> EntityWriter<T> streamWriter() {
+        return streamWriter;
+    }
+
+    /**
+     * Element type of a {@link java.util.stream.Stream} or {@link java.util.Iterator} type.
+     *
+     * @param type stream or iterator type
+     * @return type of elements, {@link Object} if not parameterized
+     */
+    static Type elementType(GenericType<?> type) {
+        if (type.type() instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    private static boolean isStream(GenericType<?> type) {
+        Class<?> rawType = type.rawType();
+        return Stream.class.equals(rawType) || Iterator.class.equals(rawType);
+    }
+
+    private static boolean jsonOrNdjson(Headers headers) {
+        return headers.contentType()
+                .map(it -> it.test(MediaTypes.APPLICATION_JSON) || it.test(MediaTypes.APPLICATION_X_NDJSON))
+                .orElse(true);
+    }
+
+    private static boolean jsonOrNdjsonAccepted(Headers requestHeaders) {
+        if (requestHeaders.acceptedTypes().isEmpty()) {
+            return true;
+        }
+        for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
+            if (acceptedType.test(MediaTypes.APPLICATION_JSON) || acceptedType.test(MediaTypes.APPLICATION_X_NDJSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
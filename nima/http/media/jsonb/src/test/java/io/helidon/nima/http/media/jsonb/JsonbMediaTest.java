@@ -21,8 +21,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.config.Config;
@@ -51,6 +54,8 @@ class JsonbMediaTest {
     private static final Charset ISO_8859_2 = Charset.forName("ISO-8859-2");
     private static final GenericType<Book> BOOK_TYPE = GenericType.create(Book.class);
     private static final GenericType<List<Book>> BOOK_LIST_TYPE = new GenericType<List<Book>>() { };
+    private static final GenericType<Stream<Book>> BOOK_STREAM_TYPE = new GenericType<Stream<Book>>() { };
+    private static final GenericType<Iterator<Book>> BOOK_ITERATOR_TYPE = new GenericType<Iterator<Book>>() { };
     private final MediaSupport provider;
 
     JsonbMediaTest() {
@@ -209,6 +214,59 @@ class JsonbMediaTest {
         assertThat(books, hasItems(new Book("čř"), new Book("šň")));
     }
 
+    @Test
+    void testWriteServerStream() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+
+        MediaSupport.WriterResponse<Stream<Book>> res = provider.writer(BOOK_STREAM_TYPE, requestHeaders, responseHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        Stream<Book> books = Stream.of(new Book("first"), new Book("second"))
+                .onClose(() -> streamClosed.set(true));
+        res.supplier().get()
+                .write(BOOK_STREAM_TYPE, books, os, requestHeaders, responseHeaders);
+
+        assertThat(responseHeaders, HttpHeaderMatcher.hasHeader(Http.HeaderValues.CONTENT_TYPE_JSON));
+        assertThat(os.toString(StandardCharsets.UTF_8), is("[{\"title\":\"first\"},{\"title\":\"second\"}]"));
+        assertThat(streamClosed.get(), is(true));
+    }
+
+    @Test
+    void testWriteServerIteratorNdjson() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        requestHeaders.set(Http.Header.ACCEPT, "application/x-ndjson, application/json;q=0.9");
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+
+        MediaSupport.WriterResponse<Iterator<Book>> res = provider.writer(BOOK_ITERATOR_TYPE,
+                                                                          requestHeaders,
+                                                                          responseHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        res.supplier().get()
+                .write(BOOK_ITERATOR_TYPE,
+                       List.of(new Book("first"), new Book("second")).iterator(),
+                       os,
+                       requestHeaders,
+                       responseHeaders);
+
+        assertThat(responseHeaders, HttpHeaderMatcher.hasHeader(JsonbSupport.CONTENT_TYPE_NDJSON));
+        assertThat(os.toString(StandardCharsets.UTF_8), is("{\"title\":\"first\"}\n{\"title\":\"second\"}\n"));
+    }
+
+    @Test
+    void testWriteServerStreamOtherContentType() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        responseHeaders.contentType(MediaTypes.TEXT_PLAIN);
+
+        MediaSupport.WriterResponse<Stream<Book>> res = provider.writer(BOOK_STREAM_TYPE, requestHeaders, responseHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.NOT_SUPPORTED));
+    }
+
     public static class Book {
         private String title;
 
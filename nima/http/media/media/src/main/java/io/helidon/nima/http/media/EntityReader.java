@@ -50,4 +50,15 @@ public interface EntityReader<T> {
            InputStream stream,
            Headers requestHeaders,
            Headers responseHeaders);
+
+    /**
+     * Whether the entity returned by this reader is read lazily (such as a {@link java.util.stream.Stream} of values).
+     * In such a case the stream is not closed when the read method returns, and the returned entity is responsible
+     * for closing it once fully consumed (or closed itself).
+     *
+     * @return whether the entity is read lazily, defaults to {@code false}
+     */
+    default boolean streaming() {
+        return false;
+    }
 }
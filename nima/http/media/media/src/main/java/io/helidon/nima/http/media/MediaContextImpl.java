@@ -21,13 +21,18 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.Headers;
+import io.helidon.common.http.Http;
 import io.helidon.common.http.WritableHeaders;
 import io.helidon.nima.http.media.MediaSupport.ReaderResponse;
+import io.helidon.nima.http.media.MediaSupport.SupportLevel;
 import io.helidon.nima.http.media.MediaSupport.WriterResponse;
 
 import static io.helidon.nima.http.media.MediaSupport.SupportLevel.COMPATIBLE;
@@ -38,9 +43,21 @@ class MediaContextImpl implements MediaContext {
     private static final System.Logger LOGGER = System.getLogger(MediaContextImpl.class.getName());
     private static final ConcurrentHashMap<GenericType<?>, AtomicBoolean> LOGGED_READERS = new ConcurrentHashMap<>();
     private static final ConcurrentHashMap<GenericType<?>, AtomicBoolean> LOGGED_WRITERS = new ConcurrentHashMap<>();
+    // maximal number of cached resolutions for each of reader/writer kinds, to protect against arbitrary header values
+    static final int RESOLUTION_CACHE_SIZE = 256;
 
     private final List<MediaSupport> supports;
     private final MediaContext fallback;
+    /*
+    Index of the media support resolved for a type and relevant headers.
+    Media supports are fixed for the lifetime of this context, so the cache never needs to be invalidated as a whole;
+    a cached support is always asked again, and if its support level differs from the one it had when resolved,
+    the resolution is done again (so a compatible support never shadows a support that became supported).
+     */
+    private final ResolutionCache serverReaders = new ResolutionCache(RESOLUTION_CACHE_SIZE);
+    private final ResolutionCache serverWriters = new ResolutionCache(RESOLUTION_CACHE_SIZE);
+    private final ResolutionCache clientReaders = new ResolutionCache(RESOLUTION_CACHE_SIZE);
+    private final ResolutionCache clientWriters = new ResolutionCache(RESOLUTION_CACHE_SIZE);
 
     MediaContextImpl(List<MediaSupport> supports, MediaContext fallback) {
         this.supports = supports;
@@ -50,96 +67,133 @@ class MediaContextImpl implements MediaContext {
 
     @Override
     public <T> EntityReader<T> reader(GenericType<T> type, Headers headers) {
-        ReaderResponse<T> compatible = null;
-        for (MediaSupport support : supports) {
-            ReaderResponse<T> response = support.reader(type, headers);
-            if (response.support() == SUPPORTED) {
-                return entityReader(response);
-            } else if (response.support() == COMPATIBLE) {
-                compatible = compatible == null ? response : compatible;
-            }
-        }
-        if (compatible == null) {
+        ReaderResponse<T> response = resolve(serverReaders,
+                                             new ResolutionKey(type, contentType(headers), null),
+                                             support -> support.reader(type, headers),
+                                             ReaderResponse::support);
+        if (response == null) {
             if (fallback == null) {
                 return FailingReader.instance();
             } else {
                 return fallback.reader(type, headers);
             }
         }
-        return entityReader(compatible);
+        return entityReader(response);
     }
 
     @Override
     public <T> EntityWriter<T> writer(GenericType<T> type,
                                       Headers requestHeaders,
                                       WritableHeaders<?> responseHeaders) {
-        WriterResponse<T> compatible = null;
-        for (MediaSupport support : supports) {
-            WriterResponse<T> response = support.writer(type, requestHeaders, responseHeaders);
-            if (response.support() == SUPPORTED) {
-                return entityWriter(response);
-            }
-            if (response.support() == COMPATIBLE) {
-                compatible = compatible == null ? response : compatible;
-            }
-        }
-
-        if (compatible == null) {
+        WriterResponse<T> response = resolve(serverWriters,
+                                             new ResolutionKey(type, contentType(responseHeaders), accept(requestHeaders)),
+                                             support -> support.writer(type, requestHeaders, responseHeaders),
+                                             WriterResponse::support);
+        if (response == null) {
             if (fallback == null) {
                 return FailingWriter.instance();
             } else {
                 return fallback.writer(type, requestHeaders, responseHeaders);
             }
         }
-        return entityWriter(compatible);
+        return entityWriter(response);
     }
 
     @Override
     public <T> EntityReader<T> reader(GenericType<T> type,
                                       Headers requestHeaders,
                                       Headers responseHeaders) {
-
-        ReaderResponse<T> compatible = null;
-        for (MediaSupport support : supports) {
-            ReaderResponse<T> response = support.reader(type, requestHeaders, responseHeaders);
-            if (response.support() == SUPPORTED) {
-                return entityReader(response);
-            }
-            if (response.support() == COMPATIBLE) {
-                compatible = compatible == null ? response : compatible;
-            }
-        }
-        if (compatible == null) {
+        ReaderResponse<T> response = resolve(clientReaders,
+                                             new ResolutionKey(type, contentType(responseHeaders), accept(requestHeaders)),
+                                             support -> support.reader(type, requestHeaders, responseHeaders),
+                                             ReaderResponse::support);
+        if (response == null) {
             if (fallback == null) {
                 return FailingReader.instance();
             } else {
                 return fallback.reader(type, requestHeaders, responseHeaders);
             }
         }
-        return entityReader(compatible);
+        return entityReader(response);
     }
 
     @Override
     public <T> EntityWriter<T> writer(GenericType<T> type, WritableHeaders<?> requestHeaders) {
-        WriterResponse<T> compatible = null;
-        for (MediaSupport support : supports) {
-            WriterResponse<T> response = support.writer(type, requestHeaders);
-            if (response.support() == SUPPORTED) {
-                return entityWriter(response);
-            }
-            if (response.support() == COMPATIBLE) {
-                compatible = compatible == null ? response : compatible;
-            }
-        }
-
-        if (compatible == null) {
+        WriterResponse<T> response = resolve(clientWriters,
+                                             new ResolutionKey(type, contentType(requestHeaders), accept(requestHeaders)),
+                                             support -> support.writer(type, requestHeaders),
+                                             WriterResponse::support);
+        if (response == null) {
             if (fallback == null) {
                 return FailingWriter.instance();
             } else {
                 return fallback.writer(type, requestHeaders);
             }
         }
-        return entityWriter(compatible);
+        return entityWriter(response);
+    }
+
+    /**
+     * Find the first media support that supports the entity, or the first compatible one.
+     *
+     * @param cache    cache of resolved support indexes
+     * @param key      key of the resolution
+     * @param response function to obtain a reader or writer response from a media support
+     * @param level    function to get support level from the response
+     * @return response of the resolved support, or {@code null} if there is no compatible support
+     */
+    private <R> R resolve(ResolutionCache cache,
+                          ResolutionKey key,
+                          Function<MediaSupport, R> response,
+                          Function<R, SupportLevel> level) {
+        Resolution cached = cache.get(key);
+        if (cached != null) {
+            R cachedResponse = response.apply(supports.get(cached.index()));
+            if (level.apply(cachedResponse) == cached.level()) {
+                return cachedResponse;
+            }
+        }
+
+        R compatible = null;
+        int compatibleIndex = -1;
+        for (int i = 0; i < supports.size(); i++) {
+            R supportResponse = response.apply(supports.get(i));
+            SupportLevel supportLevel = level.apply(supportResponse);
+            if (supportLevel == SUPPORTED) {
+                cache.put(key, new Resolution(i, SUPPORTED));
+                return supportResponse;
+            }
+            if (supportLevel == COMPATIBLE && compatible == null) {
+                compatible = supportResponse;
+                compatibleIndex = i;
+            }
+        }
+        if (compatible != null) {
+            cache.put(key, new Resolution(compatibleIndex, COMPATIBLE));
+        }
+        return compatible;
+    }
+
+    // for tests
+    int cachedServerWriters() {
+        return serverWriters.size();
+    }
+
+    private static String contentType(Headers headers) {
+        if (!headers.contains(Http.Header.CONTENT_TYPE)) {
+            return null;
+        }
+        // parameters (such as boundary of multipart) are not part of the key
+        String value = headers.get(Http.Header.CONTENT_TYPE).value();
+        int index = value.indexOf(';');
+        return index == -1 ? value : value.substring(0, index).trim();
+    }
+
+    private static String accept(Headers headers) {
+        if (!headers.contains(Http.Header.ACCEPT)) {
+            return null;
+        }
+        return headers.get(Http.Header.ACCEPT).values();
     }
 
     private <T> EntityWriter<T> entityWriter(WriterResponse<T> response) {
@@ -223,6 +277,9 @@ class MediaContextImpl implements MediaContext {
 
         @Override
         public Object read(GenericType type, InputStream stream, Headers headers) {
+            if (delegate.streaming()) {
+                return delegate.read(type, stream, headers);
+            }
             try (stream) {
                 return delegate.read(type, stream, headers);
             } catch (IOException e) {
@@ -235,6 +292,9 @@ class MediaContextImpl implements MediaContext {
                            InputStream stream,
                            Headers requestHeaders,
                            Headers responseHeaders) {
+            if (delegate.streaming()) {
+                return delegate.read(type, stream, requestHeaders, responseHeaders);
+            }
             try (stream) {
                 return delegate.read(type, stream, requestHeaders, responseHeaders);
             } catch (IOException e) {
@@ -271,4 +331,86 @@ class MediaContextImpl implements MediaContext {
                            headers);
         }
     }
+
+    private record ResolutionKey(GenericType<?> type, String contentType, String accept) {
+    }
+
+    /*
+    Bounded cache of resolutions, the least recently used resolution is evicted when full.
+    Lookups do not lock, only eviction does (and scans the cache, which is small).
+     */
+    private static final class ResolutionCache {
+        private final Map<ResolutionKey, Resolution> cache = new ConcurrentHashMap<>();
+        private final ReentrantLock evictionLock = new ReentrantLock();
+        private final int capacity;
+
+        private ResolutionCache(int capacity) {
+            this.capacity = capacity;
+        }
+
+        Resolution get(ResolutionKey key) {
+            Resolution resolution = cache.get(key);
+            if (resolution != null) {
+                resolution.touch();
+            }
+            return resolution;
+        }
+
+        void put(ResolutionKey key, Resolution resolution) {
+            cache.put(key, resolution);
+            if (cache.size() > capacity) {
+                evict();
+            }
+        }
+
+        int size() {
+            return cache.size();
+        }
+
+        private void evict() {
+            evictionLock.lock();
+            try {
+                while (cache.size() > capacity) {
+                    ResolutionKey eldest = null;
+                    long eldestUsed = 0;
+                    for (Map.Entry<ResolutionKey, Resolution> entry : cache.entrySet()) {
+                        long used = entry.getValue().lastUsed;
+                        if (eldest == null || used - eldestUsed < 0) {
+                            eldest = entry.getKey();
+                            eldestUsed = used;
+                        }
+                    }
+                    if (eldest == null) {
+                        return;
+                    }
+                    cache.remove(eldest);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private static final class Resolution {
+        private final int index;
+        private final SupportLevel level;
+        private volatile long lastUsed = System.nanoTime();
+
+        private Resolution(int index, SupportLevel level) {
+            this.index = index;
+            this.level = level;
+        }
+
+        int index() {
+            return index;
+        }
+
+        SupportLevel level() {
+            return level;
+        }
+
+        void touch() {
+            lastUsed = System.nanoTime();
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.http.media;
+
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.Headers;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.nima.http.media.MediaSupport.SupportLevel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MediaContextImplTest {
+    private static final GenericType<Pojo> POJO = GenericType.create(Pojo.class);
+
+    private TestSupport first;
+    private TestSupport second;
+    private MediaContextImpl context;
+
+    @BeforeEach
+    void setUp() {
+        first = new TestSupport("first");
+        second = new TestSupport("second");
+        context = (MediaContextImpl) MediaContext.builder()
+                .discoverServices(false)
+                .addMediaSupport(first)
+                .addMediaSupport(second)
+                .build();
+    }
+
+    @Test
+    void testCacheHit() {
+        second.level = SupportLevel.SUPPORTED;
+
+        assertThat(write("text/plain"), is("second"));
+        assertThat(first.calls.get(), is(1));
+        assertThat(second.calls.get(), is(1));
+
+        assertThat(write("text/plain"), is("second"));
+        // resolved from cache, only the cached support is asked
+        assertThat(first.calls.get(), is(1));
+        assertThat(second.calls.get(), is(2));
+        assertThat(context.cachedServerWriters(), is(1));
+    }
+
+    @Test
+    void testCacheMiss() {
+        second.level = SupportLevel.SUPPORTED;
+        assertThat(write("text/plain"), is("second"));
+
+        second.level = SupportLevel.NOT_SUPPORTED;
+        first.level = SupportLevel.SUPPORTED;
+        assertThat(write("text/plain"), is("first"));
+        assertThat(first.calls.get(), is(2));
+        assertThat(second.calls.get(), is(2));
+
+        // a different accept header is a different resolution
+        assertThat(write("application/json"), is("first"));
+        assertThat(context.cachedServerWriters(), is(2));
+    }
+
+    @Test
+    void testSupportedPrecedence() {
+        first.level = SupportLevel.COMPATIBLE;
+        second.level = SupportLevel.SUPPORTED;
+        assertThat(write("text/plain"), is("second"));
+        assertThat(write("text/plain"), is("second"));
+
+        // the cached support is only compatible now, the first compatible support takes precedence
+        second.level = SupportLevel.COMPATIBLE;
+        assertThat(write("text/plain"), is("first"));
+        assertThat(first.calls.get(), is(2));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() {
+        second.level = SupportLevel.SUPPORTED;
+        write("text/hot");
+        for (int i = 0; i < MediaContextImpl.RESOLUTION_CACHE_SIZE * 2; i++) {
+            write("text/cold-" + i);
+            write("text/hot");
+        }
+        assertThat(context.cachedServerWriters(), is(MediaContextImpl.RESOLUTION_CACHE_SIZE));
+
+        int firstCalls = first.calls.get();
+        write("text/hot");
+        // still cached, as it was used recently
+        assertThat(first.calls.get(), is(firstCalls));
+
+        write("text/cold-0");
+        // evicted, resolved again
+        assertThat(first.calls.get(), is(firstCalls + 1));
+    }
+
+    private String write(String accept) {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        requestHeaders.set(Http.Header.ACCEPT, accept);
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        context.writer(POJO, requestHeaders, responseHeaders)
+                .write(POJO, new Pojo(), OutputStream.nullOutputStream(), requestHeaders, responseHeaders);
+        return responseHeaders.get(Http.Header.create("X-Support")).value();
+    }
+
+    private static final class Pojo {
+    }
+
+    private static final class TestSupport implements MediaSupport {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final String name;
+        private volatile SupportLevel level = SupportLevel.NOT_SUPPORTED;
+
+        private TestSupport(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public <T> WriterResponse<T> writer(GenericType<T> type,
+                                            Headers requestHeaders,
+                                            WritableHeaders<?> responseHeaders) {
+            calls.incrementAndGet();
+            if (level == SupportLevel.NOT_SUPPORTED) {
+                return WriterResponse.unsupported();
+            }
+            return new WriterResponse<>(level, () -> new EntityWriter<T>() {
+                @Override
+                public void write(GenericType<T> type,
+                                  T object,
+                                  OutputStream outputStream,
+                                  Headers requestHeaders,
+                                  WritableHeaders<?> responseHeaders) {
+                    responseHeaders.set(Http.Header.create("X-Support"), name);
+                }
+
+                @Override
+                public void write(GenericType<T> type, T object, OutputStream outputStream, WritableHeaders<?> headers) {
+                }
+            });
+        }
+    }
+}
@@ -107,6 +107,17 @@ public class ConnectionFlowControl {
         return inboundConnectionWindowSize.decrementWindowSize(decrement);
     }
 
+    /**
+     * Increment inbound connection flow control window, called when DATA frame received for a stream that is no longer
+     * open was discarded. Sends connection WINDOW_UPDATE frame as needed.
+     *
+     * @param increment discarded DATA frame size in bytes
+     * @return inbound window size after increment
+     */
+    public long incrementInboundConnectionWindowSize(int increment) {
+        return inboundConnectionWindowSize.incrementWindowSize(increment);
+    }
+
     /**
      * Reset MAX_FRAME_SIZE for all streams, existing and future ones.
      *
@@ -17,27 +17,29 @@
 package io.helidon.nima.http2;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
+import io.helidon.common.buffers.BufferAllocator;
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.socket.SocketContext;
 
 /**
  * HTTP/2 connection writer.
+ * Frames of concurrent streams are written in the order decided by a write scheduler: control frames first,
+ * then data frames by urgency and weight of their streams.
  */
 public class Http2ConnectionWriter implements Http2StreamWriter {
     private final DataWriter writer;
 
-    // todo replace with prioritized lock (stream priority + connection writes have highest prio)
-    private final Lock streamLock = new ReentrantLock(true);
+    private final Http2WriteScheduler scheduler = new Http2WriteScheduler();
     private final SocketContext ctx;
     private final Http2FrameListener listener;
     private final Http2Headers.DynamicTable outboundDynamicTable;
     private final Http2HuffmanEncoder responseHuffman;
     private final BufferData headerBuffer = BufferData.growing(512);
+    private final BufferAllocator bufferAllocator;
 
     /**
      * A new writer.
@@ -47,7 +49,23 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
      * @param sendFrameListeners send frame listeners
      */
     public Http2ConnectionWriter(SocketContext ctx, DataWriter writer, List<Http2FrameListener> sendFrameListeners) {
+        this(ctx, writer, sendFrameListeners, BufferAllocator.defaultAllocator());
+    }
+
+    /**
+     * A new writer.
+     *
+     * @param ctx                connection context
+     * @param writer             data writer
+     * @param sendFrameListeners send frame listeners
+     * @param bufferAllocator    allocator of buffers used to copy frame data before writing
+     */
+    public Http2ConnectionWriter(SocketContext ctx,
+                                 DataWriter writer,
+                                 List<Http2FrameListener> sendFrameListeners,
+                                 BufferAllocator bufferAllocator) {
         this.ctx = ctx;
+        this.bufferAllocator = bufferAllocator;
         this.listener = Http2FrameListener.create(sendFrameListeners);
         this.writer = writer;
 
@@ -58,7 +76,7 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
 
     @Override
     public void write(Http2FrameData frame) {
-           lockedWrite(frame);
+        lockedWrite(frame);
     }
 
     @Override
@@ -74,7 +92,7 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         // we must enforce parallelism of exactly 1, to make sure the dynamic table is updated
         // and then immediately written
 
-        return withStreamLock(() -> {
+        return withScheduler(streamId, false, 0, () -> {
             int written = 0;
             headerBuffer.clear();
             headers.write(outboundDynamicTable, responseHuffman, headerBuffer);
@@ -101,26 +119,32 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         // we must enforce parallelism of exactly 1, to make sure the dynamic table is updated
         // and then immediately written
 
-        return withStreamLock(() -> {
-            int bytesWritten = 0;
-
-            headerBuffer.clear();
-            headers.write(outboundDynamicTable, responseHuffman, headerBuffer);
-            bytesWritten += headerBuffer.available();
+        if (!flags.endOfHeaders()) {
+            // continuation frames must follow, nothing else may be written in between
+            return withScheduler(streamId, false, 0, () -> writeHeadersAndData(headers, streamId, flags, dataFrame, flowControl));
+        }
+        // once the header block is complete, data frames are scheduled separately (and may wait for flow control)
+        return writeHeadersAndData(headers, streamId, flags, dataFrame, flowControl);
+    }
 
-            Http2FrameHeader frameHeader = Http2FrameHeader.create(headerBuffer.available(),
-                                                                   Http2FrameTypes.HEADERS,
-                                                                   flags,
-                                                                   streamId);
-            bytesWritten += Http2FrameHeader.LENGTH;
+    @Override
+    public void priority(int streamId, int urgency, int weight) {
+        scheduler.priority(streamId, urgency, weight);
+    }
 
-            noLockWrite(new Http2FrameData(frameHeader, headerBuffer));
-            writeData(dataFrame, flowControl);
-            bytesWritten += Http2FrameHeader.LENGTH;
-            bytesWritten += dataFrame.header().length();
+    @Override
+    public void streamClosed(int streamId) {
+        scheduler.closed(streamId);
+    }
 
-            return bytesWritten;
-        });
+    /**
+     * Write statistics of an active stream, including time its frames waited to be written.
+     *
+     * @param streamId stream ID
+     * @return statistics, or empty if this stream has not written any data, or is already closed
+     */
+    public Optional<Http2StreamWriteStatistics> streamStatistics(int streamId) {
+        return scheduler.statistics(streamId);
     }
 
     /**
@@ -130,26 +154,54 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
      * @throws InterruptedException in case we fail to lock on the stream
      */
     public void updateHeaderTableSize(long newSize) throws InterruptedException {
-        withStreamLock(() -> {
+        withScheduler(0, false, 0, () -> {
             outboundDynamicTable.protocolMaxTableSize(newSize);
             return null;
         });
     }
 
+    private int writeHeadersAndData(Http2Headers headers,
+                                    int streamId,
+                                    Http2Flag.HeaderFlags flags,
+                                    Http2FrameData dataFrame,
+                                    FlowControl.Outbound flowControl) {
+        int bytesWritten = withScheduler(streamId, false, 0, () -> {
+            headerBuffer.clear();
+            headers.write(outboundDynamicTable, responseHuffman, headerBuffer);
+            int written = headerBuffer.available();
+
+            Http2FrameHeader frameHeader = Http2FrameHeader.create(headerBuffer.available(),
+                                                                   Http2FrameTypes.HEADERS,
+                                                                   flags,
+                                                                   streamId);
+            written += Http2FrameHeader.LENGTH;
+
+            noLockWrite(new Http2FrameData(frameHeader, headerBuffer));
+            return written;
+        });
+
+        writeData(dataFrame, flowControl);
+        bytesWritten += Http2FrameHeader.LENGTH;
+        bytesWritten += dataFrame.header().length();
+
+        return bytesWritten;
+    }
+
     private void lockedWrite(Http2FrameData frame) {
-        withStreamLock(() -> {
+        Http2FrameHeader header = frame.header();
+        withScheduler(header.streamId(), header.type() == Http2FrameType.DATA, header.length(), () -> {
             noLockWrite(frame);
             return null;
         });
     }
 
-    private <T> T withStreamLock(Callable<T> callable) {
+    private <T> T withScheduler(int streamId, boolean data, int length, Callable<T> callable) {
         try {
-            streamLock.lockInterruptibly();
+            scheduler.acquire(streamId, data, length);
             try {
                 return callable.call();
             } finally {
-                streamLock.unlock();
+                scheduler.release();
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -166,7 +218,8 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         if (frameHeader.length() == 0) {
             writer.write(headerData);
         } else {
-            BufferData data = frame.data().copy();
+            // released by the data writer once written
+            BufferData data = bufferAllocator.copy(frame.data());
             listener.frame(ctx, data);
             writer.write(BufferData.create(headerData, data));
         }
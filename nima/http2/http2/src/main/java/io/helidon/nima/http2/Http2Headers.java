@@ -17,7 +17,6 @@
 package io.helidon.nima.http2;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -72,7 +71,7 @@ public class Http2Headers {
      * Header name of the status pseudo header.
      */
     public static final HeaderName STATUS_NAME = Header.create(STATUS);
-    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0);
+    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, null, 0, -1);
     private static final System.Logger LOGGER = System.getLogger(Http2Headers.class.getName());
     private static final String TRAILERS = "trailers";
     private static final String HTTP = "http";
@@ -1094,7 +1093,18 @@ public class Http2Headers {
      * The table caches header names and values and then uses indexes only when transferring headers over network.
      */
     public static class DynamicTable {
-        private final List<DynamicHeader> headers = new ArrayList<>();
+        private static final int INITIAL_CAPACITY = 16;
+
+        // ring buffer of headers, the newest header is at (next - 1), the oldest at (next - count)
+        private DynamicHeader[] headers = new DynamicHeader[INITIAL_CAPACITY];
+        // lower case name to sequence of the newest header with that name
+        private final Map<String, Long> byName = new HashMap<>();
+        // lower case name to value to sequence of the newest header with that name and value
+        private final Map<String, Map<String, Long>> byNameValue = new HashMap<>();
+        private int next;
+        private int count;
+        // number of headers ever added, sequence of the newest header is (added - 1)
+        private long added;
         private volatile long protocolMaxTableSize;
         private long maxTableSize;
         private int currentTableSize;
@@ -1140,9 +1150,6 @@ public class Http2Headers {
                 throw new Http2Exception(Http2ErrorCode.COMPRESSION, "Attempt to set larger size than protocol max");
             }
             this.maxTableSize = number;
-            if (maxTableSize == 0) {
-                headers.clear();
-            }
             while (maxTableSize < currentTableSize) {
                 evict();
             }
@@ -1153,7 +1160,7 @@ public class Http2Headers {
             int size = name.length() + headerValue.getBytes(StandardCharsets.US_ASCII).length + 32;
 
             if (currentTableSize + size <= maxTableSize) {
-                return add(headerName, headerValue, size);
+                return add(headerName, name, headerValue, size);
             }
 
             while ((currentTableSize + size) > maxTableSize) {
@@ -1165,7 +1172,7 @@ public class Http2Headers {
                                                      + " header size: " + size);
                 }
             }
-            return add(headerName, headerValue, size);
+            return add(headerName, name, headerValue, size);
         }
 
         long protocolMaxTableSize() {
@@ -1192,50 +1199,95 @@ public class Http2Headers {
                 }
                 candidate = staticHeader;
             }
-            for (int i = 0; i < headers.size(); i++) {
-                DynamicHeader header = headers.get(i);
-                if (header.headerName.equals(headerName)) {
-                    if (header.value().equals(headerValue)) {
-                        return new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
-                    if (candidate == null) {
-                        candidate = new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
-                }
+            if (count == 0) {
+                return candidate;
             }
 
+            String name = headerName.lowerCase();
+            Map<String, Long> values = byNameValue.get(name);
+            if (values == null) {
+                // no header with this name
+                return candidate;
+            }
+            Long sequence = values.get(headerValue);
+            if (sequence != null) {
+                return indexed(sequence);
+            }
+            if (candidate == null) {
+                return indexed(byName.get(name));
+            }
             return candidate;
         }
 
+        private IndexedHeader indexed(long sequence) {
+            // newest header has index 1 in the dynamic table
+            int tableIndex = (int) (added - sequence);
+            return new IndexedHeader(doGet(tableIndex), StaticHeader.MAX_INDEX + tableIndex);
+        }
+
         private void evict() {
-            if (headers.isEmpty()) {
+            if (count == 0) {
                 return;
             }
-            DynamicHeader removed = headers.remove(headers.size() - 1);
-
-            if (removed != null) {
-                currentTableSize -= removed.size();
+            int oldest = (next - count) & (headers.length - 1);
+            DynamicHeader removed = headers[oldest];
+            headers[oldest] = null;
+            count--;
+            currentTableSize -= removed.size();
+
+            // indexes only point to the newest header of a name (and value), older ones are evicted before it
+            String name = removed.name();
+            Long sequence = removed.sequence();
+            byName.remove(name, sequence);
+            Map<String, Long> values = byNameValue.get(name);
+            if (values != null) {
+                values.remove(removed.value(), sequence);
+                if (values.isEmpty()) {
+                    byNameValue.remove(name);
+                }
             }
         }
 
-        private int add(HeaderName name, String value, int size) {
-            headers.add(0, new DynamicHeader(name, value, size));
+        private int add(HeaderName headerName, String name, String value, int size) {
+            if (count == headers.length) {
+                grow();
+            }
+            long sequence = added++;
+            headers[next] = new DynamicHeader(headerName, name, value, size, sequence);
+            next = (next + 1) & (headers.length - 1);
+            count++;
             currentTableSize += size;
+
+            byName.put(name, sequence);
+            byNameValue.computeIfAbsent(name, it -> new HashMap<>()).put(value, sequence);
             return 0;
         }
 
-        private HeaderRecord doGet(int index) {
-            try {
-                // table is 1 based, list is 0 based
-                return headers.get(index - 1);
-            } catch (IndexOutOfBoundsException e) {
+        private void grow() {
+            DynamicHeader[] newHeaders = new DynamicHeader[headers.length * 2];
+            // copy from oldest to newest
+            for (int i = 0; i < count; i++) {
+                newHeaders[i] = headers[(next - count + i) & (headers.length - 1)];
+            }
+            headers = newHeaders;
+            next = count;
+        }
+
+        private DynamicHeader doGet(int index) {
+            // table is 1 based, index 1 is the newest header
+            if (index < 1 || index > count) {
                 throw new Http2Exception(Http2ErrorCode.PROTOCOL,
                                          "Dynamic table does not contain required header at index " + index);
             }
+            return headers[(next - index) & (headers.length - 1)];
         }
     }
 
-    private static record DynamicHeader(HeaderName headerName, String value, int size) implements HeaderRecord {
+    private static record DynamicHeader(HeaderName headerName,
+                                        String name,
+                                        String value,
+                                        int size,
+                                        long sequence) implements HeaderRecord {
     }
 
     private static record IndexedHeader(HeaderRecord delegate, int index) implements IndexedHeaderRecord {
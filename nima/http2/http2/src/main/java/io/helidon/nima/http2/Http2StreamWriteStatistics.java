@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http2;
+
+import java.time.Duration;
+
+/**
+ * Write statistics of a single stream, as recorded by the connection write scheduler.
+ *
+ * @param streamId      stream ID
+ * @param urgency       urgency of the stream (0 is the most urgent, 7 the least urgent)
+ * @param weight        weight of the stream relative to other streams of the same urgency (1 to 256)
+ * @param frames        number of frames written
+ * @param bytes         number of bytes of frame payload written
+ * @param queueTime     total time frames of this stream waited for the connection
+ * @param maxQueueTime  longest time a single frame of this stream waited for the connection
+ */
+public record Http2StreamWriteStatistics(int streamId,
+                                         int urgency,
+                                         int weight,
+                                         long frames,
+                                         long bytes,
+                                         Duration queueTime,
+                                         Duration maxQueueTime) {
+}
@@ -61,4 +61,24 @@ public interface Http2StreamWriter {
                      Http2Flag.HeaderFlags flags,
                      Http2FrameData dataFrame,
                      FlowControl.Outbound flowControl);
+
+    /**
+     * Update write priority of a stream.
+     * Data frames of streams with lower urgency are written first, streams of the same urgency
+     * share the connection based on their weight.
+     *
+     * @param streamId stream ID
+     * @param urgency  urgency from {@code 0} (most urgent) to {@code 7} (least urgent), defaults to {@code 3}
+     * @param weight   weight from {@code 1} to {@code 256}, defaults to {@code 16}
+     */
+    default void priority(int streamId, int urgency, int weight) {
+    }
+
+    /**
+     * Stream will not write any more frames, write state of this stream can be discarded.
+     *
+     * @param streamId stream ID
+     */
+    default void streamClosed(int streamId) {
+    }
 }
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http2;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Decides which thread may write the next frame to the connection.
+ * <p>
+ * Frames other than {@code DATA} (headers, settings, window updates, resets etc.) are always written first.
+ * {@code DATA} frames are ordered by urgency of their stream (RFC 9218), and streams of the same urgency share the
+ * connection according to their weight (weighted fair queuing on bytes written).
+ * Streams that wait for flow control windows never wait here, as frames are only scheduled once they can be sent.
+ * <p>
+ * Ownership is reentrant, a thread that holds the connection may acquire it again.
+ */
+final class Http2WriteScheduler {
+    /**
+     * Default urgency as defined by RFC 9218.
+     */
+    static final int DEFAULT_URGENCY = 3;
+    /**
+     * Default weight as defined by RFC 7540.
+     */
+    static final int DEFAULT_WEIGHT = 16;
+
+    private static final System.Logger LOGGER = System.getLogger(Http2WriteScheduler.class.getName());
+    private static final int MAX_WEIGHT = 256;
+    private static final Comparator<Waiter> ORDER = Comparator.comparing((Waiter it) -> !it.control)
+            .thenComparingInt(it -> it.urgency)
+            .thenComparingLong(it -> it.virtualStart)
+            .thenComparingLong(it -> it.sequence);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiting = new PriorityQueue<>(ORDER);
+    private final Map<Integer, StreamState> streams = new HashMap<>();
+
+    private Thread owner;
+    private int holds;
+    private long virtualTime;
+    private long sequence;
+
+    /**
+     * Acquire the connection to write a frame, blocks until this thread is the one allowed to write.
+     *
+     * @param streamId stream ID of the frame
+     * @param data     whether this is a {@code DATA} frame
+     * @param length   length of the frame payload
+     * @throws InterruptedException in case the thread is interrupted while waiting
+     */
+    void acquire(int streamId, boolean data, int length) throws InterruptedException {
+        Thread current = Thread.currentThread();
+        Waiter waiter;
+
+        lock.lock();
+        try {
+            if (owner == current) {
+                holds++;
+                record(stream(streamId, data), length, 0);
+                return;
+            }
+            StreamState state = stream(streamId, data);
+            waiter = waiter(current, state, data, length);
+            if (owner == null && waiting.isEmpty()) {
+                grant(waiter, System.nanoTime());
+                return;
+            }
+            waiter.condition = lock.newCondition();
+            waiting.add(waiter);
+            try {
+                while (!waiter.granted) {
+                    waiter.condition.await();
+                }
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    // we were granted the connection in the meantime, let others proceed
+                    release();
+                } else {
+                    waiting.remove(waiter);
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release the connection, so the next frame can be written.
+     */
+    void release() {
+        lock.lock();
+        try {
+            if (owner != Thread.currentThread()) {
+                throw new IllegalStateException("Connection write released by a thread that does not own it");
+            }
+            holds--;
+            if (holds > 0) {
+                return;
+            }
+            Waiter next = waiting.poll();
+            if (next == null) {
+                owner = null;
+            } else {
+                grant(next, System.nanoTime());
+                next.condition.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Update priority of a stream.
+     *
+     * @param streamId stream ID
+     * @param urgency  urgency from 0 (most urgent) to 7 (least urgent)
+     * @param weight   weight from 1 to 256
+     */
+    void priority(int streamId, int urgency, int weight) {
+        lock.lock();
+        try {
+            StreamState state = streams.computeIfAbsent(streamId, StreamState::new);
+            state.urgency = Math.max(0, Math.min(7, urgency));
+            state.weight = Math.max(1, Math.min(MAX_WEIGHT, weight));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stream is closed, remove its state.
+     *
+     * @param streamId stream ID
+     */
+    void closed(int streamId) {
+        StreamState state;
+        lock.lock();
+        try {
+            state = streams.remove(streamId);
+        } finally {
+            lock.unlock();
+        }
+        if (state != null && LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, "Stream " + streamId + " write statistics: " + state.statistics());
+        }
+    }
+
+    Optional<Http2StreamWriteStatistics> statistics(int streamId) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(streams.get(streamId))
+                    .map(StreamState::statistics);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // must be called while holding the lock
+    private StreamState stream(int streamId, boolean data) {
+        if (streamId == 0) {
+            return null;
+        }
+        if (data) {
+            return streams.computeIfAbsent(streamId, StreamState::new);
+        }
+        // do not create state for control frames, as these may be written after the stream is closed
+        return streams.get(streamId);
+    }
+
+    // must be called while holding the lock
+    private Waiter waiter(Thread thread, StreamState state, boolean data, int length) {
+        Waiter waiter = new Waiter(thread, state, !data, length, sequence++, System.nanoTime());
+        if (data) {
+            waiter.urgency = state.urgency;
+            // virtual time of the stream advances inversely proportional to its weight
+            long start = Math.max(state.virtualFinish, virtualTime);
+            waiter.virtualStart = start;
+            state.virtualFinish = start + (long) Math.max(1, length) * MAX_WEIGHT / state.weight;
+        }
+        return waiter;
+    }
+
+    // must be called while holding the lock
+    private void grant(Waiter waiter, long now) {
+        owner = waiter.thread;
+        holds = 1;
+        waiter.granted = true;
+        virtualTime = Math.max(virtualTime, waiter.virtualStart);
+        record(waiter.state, waiter.length, now - waiter.enqueued);
+    }
+
+    private void record(StreamState state, int length, long queuedNanos) {
+        if (state == null) {
+            return;
+        }
+        state.frames++;
+        state.bytes += length;
+        state.queueNanos += queuedNanos;
+        state.maxQueueNanos = Math.max(state.maxQueueNanos, queuedNanos);
+    }
+
+    private static final class Waiter {
+        private final Thread thread;
+        private final StreamState state;
+        private final boolean control;
+        private final int length;
+        private final long sequence;
+        private final long enqueued;
+
+        private int urgency;
+        private long virtualStart;
+        private Condition condition;
+        private boolean granted;
+
+        private Waiter(Thread thread, StreamState state, boolean control, int length, long sequence, long enqueued) {
+            this.thread = thread;
+            this.state = state;
+            this.control = control;
+            this.length = length;
+            this.sequence = sequence;
+            this.enqueued = enqueued;
+        }
+    }
+
+    private static final class StreamState {
+        private final int streamId;
+
+        private int urgency = DEFAULT_URGENCY;
+        private int weight = DEFAULT_WEIGHT;
+        private long virtualFinish;
+        private long frames;
+        private long bytes;
+        private long queueNanos;
+        private long maxQueueNanos;
+
+        private StreamState(int streamId) {
+            this.streamId = streamId;
+        }
+
+        Http2StreamWriteStatistics statistics() {
+            return new Http2StreamWriteStatistics(streamId,
+                                                  urgency,
+                                                  weight,
+                                                  frames,
+                                                  bytes,
+                                                  Duration.ofNanos(queueNanos),
+                                                  Duration.ofNanos(maxQueueNanos));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DynamicTableTest {
     @Test
@@ -54,6 +55,36 @@ class DynamicTableTest {
         testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 2, "b", "c");
     }
 
+    @Test
+    void testManyHeaders() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(4096);
+
+        // each record is 32 + 6 + 6 bytes, more than fits into the initial ring buffer
+        for (int i = 0; i < 50; i++) {
+            table.add(Header.create(String.format("n%05d", i)), String.format("v%05d", i));
+        }
+        assertThat(table.currentTableSize(), is(50 * 44));
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 1, "n00049", "v00049");
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 50, "n00000", "v00000");
+
+        // 4096 / 44 = 93 records fit into the table
+        for (int i = 50; i < 100; i++) {
+            table.add(Header.create(String.format("n%05d", i)), String.format("v%05d", i));
+        }
+        assertThat(table.currentTableSize(), is(93 * 44));
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 1, "n00099", "v00099");
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 93, "n00007", "v00007");
+        assertThrows(Http2Exception.class, () -> table.get(Http2Headers.StaticHeader.MAX_INDEX + 94));
+
+        table.maxTableSize(440);
+        assertThat(table.currentTableSize(), is(440));
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 10, "n00090", "v00090");
+
+        table.maxTableSize(0);
+        assertThat(table.currentTableSize(), is(0));
+        assertThrows(Http2Exception.class, () -> table.get(Http2Headers.StaticHeader.MAX_INDEX + 1));
+    }
+
     private void testRecord(Http2Headers.DynamicTable table,
                             int index,
                             String expectedName,
@@ -251,8 +251,51 @@ class Http2HeadersTest {
         assertThat(headerRecord.value(), is("www.example.com"));
     }
 
+    @Test
+    void testDynamicTableRoundTrip() {
+        // small table, so the headers are evicted from both tables over time
+        DynamicTable encoderTable = DynamicTable.create(256);
+        DynamicTable decoderTable = DynamicTable.create(256);
+        Http2HuffmanEncoder huffman = new Http2HuffmanEncoder();
+
+        int firstSize = 0;
+        for (int i = 0; i < 20; i++) {
+            WritableHeaders<?> headers = WritableHeaders.create();
+            headers.set(Header.create("x-request-id"), "request-" + (i % 3));
+            headers.set(Header.CONTENT_TYPE, "application/grpc");
+            headers.set(Header.create("grpc-timeout"), "1S");
+            headers.set(CUSTOM_HEADER_NAME, "value-" + (i % 5));
+            Http2Headers http2Headers = Http2Headers.create(headers);
+            http2Headers.method(Http.Method.POST);
+            http2Headers.path("/service/method");
+            http2Headers.authority("localhost:8080");
+
+            BufferData buffer = BufferData.growing(128);
+            http2Headers.write(encoderTable, huffman, buffer);
+            if (i == 0) {
+                firstSize = buffer.available();
+            } else if (i == 1) {
+                assertThat("Repeated headers should be indexed", buffer.available() < firstSize, is(true));
+            }
+
+            Http2Headers decoded = headers(buffer, decoderTable);
+            Headers decodedHeaders = decoded.httpHeaders();
+            assertThat(decoded.method(), is(Http.Method.POST));
+            assertThat(decoded.path(), is("/service/method"));
+            assertThat(decoded.authority(), is("localhost:8080"));
+            assertThat(decodedHeaders.get(Header.create("x-request-id")).value(), is("request-" + (i % 3)));
+            assertThat(decodedHeaders.get(Header.CONTENT_TYPE).value(), is("application/grpc"));
+            assertThat(decodedHeaders.get(Header.create("grpc-timeout")).value(), is("1S"));
+            assertThat(decodedHeaders.get(CUSTOM_HEADER_NAME).value(), is("value-" + (i % 5)));
+            assertThat(decoderTable.currentTableSize(), is(encoderTable.currentTableSize()));
+        }
+    }
+
     private Http2Headers headers(String hexEncoded, DynamicTable dynamicTable) {
-        BufferData data = data(hexEncoded);
+        return headers(data(hexEncoded), dynamicTable);
+    }
+
+    private Http2Headers headers(BufferData data, DynamicTable dynamicTable) {
         Http2FrameHeader header = Http2FrameHeader.create(data.available(),
                                                           Http2FrameTypes.HEADERS,
                                                           Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS),
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http2;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class Http2WriteSchedulerTest {
+    private final Http2WriteScheduler scheduler = new Http2WriteScheduler();
+    private final List<String> order = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testControlFramesFirst() throws Exception {
+        scheduler.acquire(0, false, 0);
+        Thread data = waitingWriter("data", 1, true, 1000);
+        Thread control = waitingWriter("control", 0, false, 8);
+        scheduler.release();
+
+        data.join();
+        control.join();
+        assertThat(order, is(List.of("control", "data")));
+    }
+
+    @Test
+    void testUrgency() throws Exception {
+        scheduler.priority(1, 5, 16);
+        scheduler.priority(3, 1, 16);
+        scheduler.priority(5, 1, 16);
+
+        scheduler.acquire(0, false, 0);
+        Thread background = waitingWriter("background", 1, true, 100);
+        Thread urgent = waitingWriter("urgent", 3, true, 100);
+        Thread urgentToo = waitingWriter("urgent-too", 5, true, 100);
+        scheduler.release();
+
+        background.join();
+        urgent.join();
+        urgentToo.join();
+        // same urgency are ordered by arrival
+        assertThat(order, is(List.of("urgent", "urgent-too", "background")));
+    }
+
+    @Test
+    void testWeight() throws Exception {
+        scheduler.priority(1, 3, 16);
+        scheduler.priority(3, 3, 256);
+
+        // stream 1 already wrote a lot
+        scheduler.acquire(1, true, 16384);
+        scheduler.release();
+
+        scheduler.acquire(0, false, 0);
+        Thread light = waitingWriter("light", 1, true, 1000);
+        Thread heavy = waitingWriter("heavy", 3, true, 1000);
+        scheduler.release();
+
+        light.join();
+        heavy.join();
+        assertThat(order, is(List.of("heavy", "light")));
+    }
+
+    @Test
+    void testReentrantAndStatistics() throws Exception {
+        scheduler.acquire(1, true, 100);
+        scheduler.acquire(1, true, 200);
+        scheduler.release();
+
+        Thread other = waitingWriter("other", 3, true, 50);
+        Thread.sleep(10);
+        scheduler.release();
+        other.join();
+
+        Http2StreamWriteStatistics stats = scheduler.statistics(1).orElseThrow();
+        assertThat(stats.frames(), is(2L));
+        assertThat(stats.bytes(), is(300L));
+        assertThat(stats.urgency(), is(Http2WriteScheduler.DEFAULT_URGENCY));
+        assertThat(stats.weight(), is(Http2WriteScheduler.DEFAULT_WEIGHT));
+
+        stats = scheduler.statistics(3).orElseThrow();
+        assertThat(stats.frames(), is(1L));
+        assertThat("Second stream should have waited for the first one",
+                   stats.maxQueueTime().toMillis() >= 10,
+                   is(true));
+
+        scheduler.closed(1);
+        assertThat(scheduler.statistics(1).isPresent(), is(false));
+    }
+
+    // starts a thread that writes a frame, and waits until it is queued
+    private Thread waitingWriter(String name, int streamId, boolean data, int length) throws InterruptedException {
+        Thread thread = Thread.ofPlatform().start(() -> {
+            try {
+                scheduler.acquire(streamId, data, length);
+                order.add(name);
+                scheduler.release();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+}
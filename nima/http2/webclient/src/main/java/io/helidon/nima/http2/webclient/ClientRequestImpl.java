@@ -132,8 +132,6 @@ class ClientRequestImpl implements Http2ClientRequest {
 
         WritableHeaders<?> headers = WritableHeaders.create(explicitHeaders);
 
-        Http2ClientStream stream = reserveStream();
-
         byte[] entityBytes;
         if (entity == BufferData.EMPTY_BYTES) {
             entityBytes = BufferData.EMPTY_BYTES;
@@ -143,16 +141,23 @@ class ClientRequestImpl implements Http2ClientRequest {
         headers.set(Header.create(Header.CONTENT_LENGTH, entityBytes.length));
         headers.setIfAbsent(USER_AGENT_HEADER);
 
-        Http2Headers http2Headers = prepareHeaders(headers);
-        stream.write(http2Headers, entityBytes.length == 0);
+        Http2ClientStream stream = reserveStream();
+        try {
+            Http2Headers http2Headers = prepareHeaders(headers);
+            stream.write(http2Headers, entityBytes.length == 0);
 
-        stream.flowControl().inbound().incrementWindowSize(requestPrefetch);
+            stream.flowControl().inbound().incrementWindowSize(requestPrefetch);
 
-        if (entityBytes.length != 0) {
-            stream.writeData(BufferData.create(entityBytes), true);
-        }
+            if (entityBytes.length != 0) {
+                stream.writeData(BufferData.create(entityBytes), true);
+            }
 
-        return readResponse(stream);
+            return readResponse(stream);
+        } catch (RuntimeException e) {
+            // release the stream (or its reservation), so it does not count against the connection
+            stream.close();
+            throw e;
+        }
     }
 
     @Override
@@ -162,24 +167,29 @@ class ClientRequestImpl implements Http2ClientRequest {
         WritableHeaders<?> headers = WritableHeaders.create(explicitHeaders);
 
         Http2ClientStream stream = reserveStream();
+        try {
+            Http2Headers http2Headers = prepareHeaders(headers);
 
-        Http2Headers http2Headers = prepareHeaders(headers);
+            stream.write(http2Headers, false);
 
-        stream.write(http2Headers, false);
+            Http2ClientStream.ClientOutputStream outputStream;
+            try {
+                outputStream = stream.outputStream();
+                streamHandler.handle(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
 
-        Http2ClientStream.ClientOutputStream outputStream;
-        try {
-            outputStream = stream.outputStream();
-            streamHandler.handle(outputStream);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+            if (!outputStream.closed()) {
+                throw new IllegalStateException("Output stream was not closed in handler");
+            }
 
-        if (!outputStream.closed()) {
-            throw new IllegalStateException("Output stream was not closed in handler");
+            return readResponse(stream);
+        } catch (RuntimeException e) {
+            // release the stream (or its reservation), so it does not count against the connection
+            stream.close();
+            throw e;
         }
-
-        return readResponse(stream);
     }
 
     @Override
@@ -283,7 +293,10 @@ class ClientRequestImpl implements Http2ClientRequest {
                                                             priorKnowledge,
                                                             tls,
                                                             client.dnsResolver(),
-                                                            client.dnsAddressLookup());
+                                                            client.dnsAddressLookup(),
+                                                            client.connectionsPerAuthority(),
+                                                            client.pingInterval(),
+                                                            client.pingTimeout());
 
             // this statement locks all threads - must not do anything complicated (just create a new instance)
             return CHANNEL_CACHE.computeIfAbsent(connectionKey,
@@ -16,11 +16,14 @@
 
 package io.helidon.nima.http2.webclient;
 
+import java.time.Duration;
+
 import io.helidon.common.http.Http;
 import io.helidon.nima.common.tls.Tls;
 import io.helidon.nima.webclient.DnsAddressLookup;
 import io.helidon.nima.webclient.spi.DnsResolver;
 
 record ConnectionKey(Http.Method method, String scheme, String host, int port, boolean priorKnowledge, Tls tls,
-                     DnsResolver dnsResolver, DnsAddressLookup dnsAddressLookup) {
+                     DnsResolver dnsResolver, DnsAddressLookup dnsAddressLookup,
+                     int connectionsPerAuthority, Duration pingInterval, Duration pingTimeout) {
 }
@@ -16,6 +16,9 @@
 
 package io.helidon.nima.http2.webclient;
 
+import java.time.Duration;
+import java.util.Objects;
+
 import io.helidon.nima.http2.WindowSize;
 import io.helidon.nima.webclient.DefaultDnsResolverProvider;
 import io.helidon.nima.webclient.DnsAddressLookup;
@@ -46,6 +49,9 @@ public interface Http2Client extends HttpClient<Http2ClientRequest, Http2ClientR
         private long maxHeaderListSize = -1;
         private int initialWindowSize = WindowSize.DEFAULT_WIN_SIZE;
         private int prefetch = 33554432;
+        private int connectionsPerAuthority = 1;
+        private Duration pingInterval = Duration.ofSeconds(30);
+        private Duration pingTimeout = Duration.ofSeconds(2);
 
         private Http2ClientBuilder() {
             // until we use the same parent for HTTP/1 and HTTP/2, we need to have these defined as defaults
@@ -128,6 +134,53 @@ public interface Http2Client extends HttpClient<Http2ClientRequest, Http2ClientR
             return this;
         }
 
+        /**
+         * Number of connections to open to a single authority (scheme, host and port) to spread streams across.
+         * New streams are placed on the least loaded connection. Additional connections are opened when all
+         * connections reach the MAX_CONCURRENT_STREAMS limit of the server (or run out of stream identifiers), and are
+         * closed again once idle.
+         * Defaults to {@code 1}.
+         *
+         * @param connectionsPerAuthority number of connections per authority
+         * @return updated client
+         */
+        public Http2ClientBuilder connectionsPerAuthority(int connectionsPerAuthority) {
+            if (connectionsPerAuthority < 1) {
+                throw new IllegalArgumentException("Connections per authority must be at least 1, but is "
+                                                           + connectionsPerAuthority);
+            }
+            this.connectionsPerAuthority = connectionsPerAuthority;
+            return this;
+        }
+
+        /**
+         * A connection that did not receive any frame for this duration is checked with a PING frame before a new stream
+         * is placed on it. Connections that do not acknowledge the PING within {@link #pingTimeout(java.time.Duration)}
+         * are closed.
+         * Defaults to 30 seconds.
+         *
+         * @param pingInterval idle duration after which connection is checked, {@link java.time.Duration#ZERO} to disable
+         * @return updated client
+         */
+        public Http2ClientBuilder pingInterval(Duration pingInterval) {
+            Objects.requireNonNull(pingInterval);
+            this.pingInterval = pingInterval;
+            return this;
+        }
+
+        /**
+         * How long to wait for acknowledgement of a PING frame sent to check an idle connection.
+         * Defaults to 2 seconds.
+         *
+         * @param pingTimeout ping timeout
+         * @return updated client
+         */
+        public Http2ClientBuilder pingTimeout(Duration pingTimeout) {
+            Objects.requireNonNull(pingTimeout);
+            this.pingTimeout = pingTimeout;
+            return this;
+        }
+
         @Override
         public Http2Client build() {
             return new Http2ClientImpl(this);
@@ -152,5 +205,17 @@ public interface Http2Client extends HttpClient<Http2ClientRequest, Http2ClientR
         int maxFrameSize() {
             return this.maxFrameSize;
         }
+
+        int connectionsPerAuthority() {
+            return connectionsPerAuthority;
+        }
+
+        Duration pingInterval() {
+            return pingInterval;
+        }
+
+        Duration pingTimeout() {
+            return pingTimeout;
+        }
     }
 }
@@ -24,13 +24,24 @@ import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
@@ -54,15 +65,21 @@ import io.helidon.nima.http2.Http2Flag;
 import io.helidon.nima.http2.Http2FrameData;
 import io.helidon.nima.http2.Http2FrameHeader;
 import io.helidon.nima.http2.Http2FrameListener;
+import io.helidon.nima.http2.Http2FrameType;
 import io.helidon.nima.http2.Http2FrameTypes;
 import io.helidon.nima.http2.Http2GoAway;
 import io.helidon.nima.http2.Http2Headers;
+import io.helidon.nima.http2.Http2HuffmanDecoder;
 import io.helidon.nima.http2.Http2LoggingFrameListener;
 import io.helidon.nima.http2.Http2Ping;
+import io.helidon.nima.http2.Http2Priority;
 import io.helidon.nima.http2.Http2RstStream;
 import io.helidon.nima.http2.Http2Setting;
 import io.helidon.nima.http2.Http2Settings;
+import io.helidon.nima.http2.Http2Stream;
+import io.helidon.nima.http2.Http2StreamState;
 import io.helidon.nima.http2.Http2WindowUpdate;
+import io.helidon.nima.http2.StreamFlowControl;
 import io.helidon.nima.http2.WindowSize;
 import io.helidon.nima.webclient.spi.DnsResolver;
 
@@ -89,13 +106,23 @@ class Http2ClientConnection {
     private final ConnectionKey connectionKey;
     private final String primaryPath;
     private final LockingStreamIdSequence streamIdSeq = new LockingStreamIdSequence();
-    private final Map<Integer, Http2ClientStream> streams = new HashMap<>();
+    private final Map<Integer, Http2ClientStream> streams = new ConcurrentHashMap<>();
+    // streams created, but not yet started (no stream id assigned yet)
+    private final AtomicInteger reservedStreams = new AtomicInteger();
+    private final AtomicLong pingSequence = new AtomicLong();
+    private final Map<Long, CompletableFuture<Void>> pendingPings = new ConcurrentHashMap<>();
     private final ConnectionFlowControl connectionFlowControl;
     private final ConnectionContext connectionContext;
     private final Http2Headers.DynamicTable inboundDynamicTable =
             Http2Headers.DynamicTable.create(Http2Setting.HEADER_TABLE_SIZE.defaultValue());
-    private Http2Settings serverSettings = Http2Settings.builder()
+    // header blocks of streams that are no longer open, decoded only to keep the inbound dynamic table in sync
+    private final Map<Integer, List<Http2FrameData>> discardedHeaders = new HashMap<>();
+    private final Lock discardLock = new ReentrantLock();
+    private volatile Http2Settings serverSettings = Http2Settings.builder()
             .build();
+    private volatile boolean goAwayReceived;
+    private volatile boolean closed;
+    private volatile long lastFrameNanos = System.nanoTime();
     private String channelId;
     private Socket socket;
     private PlainSocket helidonSocket;
@@ -156,6 +183,7 @@ class Http2ClientConnection {
 
     Http2ClientStream createStream(int priority) {
         //FIXME: priority
+        reservedStreams.incrementAndGet();
         return new Http2ClientStream(this,
                                      serverSettings,
                                      helidonSocket,
@@ -167,19 +195,119 @@ class Http2ClientConnection {
         this.streams.put(streamId, stream);
     }
 
+    /**
+     * Release a stream reservation made by {@link #createStream(int)}, either because the stream was added to
+     * open streams, or because it failed or was closed before it was opened.
+     */
+    void releaseStream() {
+        reservedStreams.decrementAndGet();
+    }
+
     void removeStream(int streamId) {
-        this.streams.remove(streamId);
+        if (this.streams.remove(streamId) != null) {
+            writer.streamClosed(streamId);
+        }
+    }
+
+    /**
+     * Number of streams that are open or were created and are about to be opened on this connection.
+     *
+     * @return number of active streams
+     */
+    int activeStreams() {
+        return streams.size() + reservedStreams.get();
     }
 
-    Http2ClientStream tryStream(int priority) {
+    /**
+     * Whether another stream can be opened on this connection, i.e. the connection is open, the server did not
+     * send GOAWAY, MAX_CONCURRENT_STREAMS of the server is not reached and stream identifiers are not exhausted.
+     *
+     * @return whether a new stream can be created
+     */
+    boolean canCreateStream() {
+        if (closed || goAwayReceived) {
+            return false;
+        }
+        int active = activeStreams();
+        return active < serverSettings.value(Http2Setting.MAX_CONCURRENT_STREAMS)
+                && !streamIdSeq.exhausted(reservedStreams.get());
+    }
+
+    /**
+     * Whether this connection can no longer be used for any new stream.
+     *
+     * @return {@code true} if closed or GOAWAY was received
+     */
+    boolean isClosed() {
+        return closed || goAwayReceived;
+    }
+
+    /**
+     * Whether no frame was received from the server for at least the provided duration.
+     *
+     * @param duration idle duration
+     * @return whether the connection is idle
+     */
+    boolean idleFor(Duration duration) {
+        return System.nanoTime() - lastFrameNanos >= duration.toNanos();
+    }
+
+    /**
+     * Send a PING frame and wait for its acknowledgement.
+     *
+     * @param timeout how long to wait for the acknowledgement
+     * @return {@code true} if the server acknowledged the ping in time
+     */
+    boolean ping(Duration timeout) {
+        if (isClosed()) {
+            return false;
+        }
+        long payload = pingSequence.incrementAndGet();
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        pendingPings.put(payload, ack);
         try {
-            return createStream(priority);
-        } catch (IllegalStateException | UncheckedIOException e) {
-            return null;
+            BufferData data = BufferData.create(8);
+            data.writeInt32((int) (payload >>> 32));
+            data.writeInt32((int) payload);
+            Http2Ping ping = Http2Ping.create(data);
+            Http2FrameData frameData = ping.toFrameData(serverSettings, 0, Http2Flag.PingFlags.create(0));
+            sendListener.frameHeader(helidonSocket, frameData.header());
+            sendListener.frame(helidonSocket, ping);
+            writer.write(frameData);
+            ack.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException | UncheckedIOException e) {
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, String.format("[%s] client ping failed", channelId), e);
+            }
+            return false;
+        } finally {
+            pendingPings.remove(payload);
+        }
+    }
+
+    /**
+     * Close the buffer of a stream that is being closed and discard all frames the stream did not process.
+     * Header blocks are still decoded and DATA frames are returned to the connection inbound flow control window.
+     *
+     * @param buffer       buffer of the closed stream
+     * @param headerFrames frames of an incomplete header block already read by the stream
+     */
+    void discardRemaining(StreamBuffer buffer, List<Http2FrameData> headerFrames) {
+        discardLock.lock();
+        try {
+            headerFrames.forEach(this::discardFrame);
+            buffer.close().forEach(this::discardFrame);
+        } finally {
+            discardLock.unlock();
         }
     }
 
     void close() {
+        closed = true;
         try {
             handleTask.cancel(true);
             socket.close();
@@ -196,6 +324,7 @@ class Http2ClientConnection {
         this.reader.ensureAvailable();
         BufferData frameHeaderBuffer = this.reader.readBuffer(FRAME_HEADER_LENGTH);
         Http2FrameHeader frameHeader = Http2FrameHeader.create(frameHeaderBuffer);
+        lastFrameNanos = System.nanoTime();
         frameHeader.type().checkLength(frameHeader.length());
         BufferData data;
         if (frameHeader.length() != 0) {
@@ -205,12 +334,23 @@ class Http2ClientConnection {
         }
 
         int streamId = frameHeader.streamId();
+        if (streamId != 0 && stream(streamId) == null) {
+            // §5.1 frames received for a stream that was already closed locally (such as cancelled) are ignored,
+            // yet DATA still count against the connection window and header blocks must be decoded (§4.3)
+            recvListener.frameHeader(helidonSocket, frameHeader);
+            if (frameHeader.type() == Http2FrameType.DATA) {
+                connectionFlowControl.decrementInboundConnectionWindowSize(frameHeader.length());
+            }
+            discard(new Http2FrameData(frameHeader, data));
+            return;
+        }
 
         switch (frameHeader.type()) {
         case GO_AWAY:
             Http2GoAway http2GoAway = Http2GoAway.create(data);
             recvListener.frameHeader(helidonSocket, frameHeader);
             recvListener.frame(helidonSocket, http2GoAway);
+            goAwayReceived = true;
             this.close();
             throw new IllegalStateException("Connection closed by the other side, error code: "
                                                     + http2GoAway.errorCode()
@@ -285,6 +425,12 @@ class Http2ClientConnection {
                                                                   Http2Flag.PingFlags.create(Http2Flag.ACK),
                                                                   0);
                 writer.write(new Http2FrameData(header, frame));
+            } else {
+                long payload = data.readLong();
+                CompletableFuture<Void> ack = pendingPings.get(payload);
+                if (ack != null) {
+                    ack.complete(null);
+                }
             }
             break;
 
@@ -297,11 +443,11 @@ class Http2ClientConnection {
         case DATA:
             Http2ClientStream stream = stream(streamId);
             stream.flowControl().inbound().decrementWindowSize(frameHeader.length());
-            stream.push(new Http2FrameData(frameHeader, data));
+            pushOrDiscard(stream, new Http2FrameData(frameHeader, data));
             break;
 
         case HEADERS, CONTINUATION:
-            stream(streamId).push(new Http2FrameData(frameHeader, data));
+            pushOrDiscard(stream(streamId), new Http2FrameData(frameHeader, data));
             return;
 
         default:
@@ -323,7 +469,13 @@ class Http2ClientConnection {
                            (int) socketOptions.connectTimeout().toMillis());
         } else {
             InetAddress address = dnsResolver.resolveAddress(connectionKey.host(), connectionKey.dnsAddressLookup());
-            socket.connect(new InetSocketAddress(address, connectionKey.port()), (int) socketOptions.connectTimeout().toMillis());
+            try {
+                socket.connect(new InetSocketAddress(address, connectionKey.port()),
+                               (int) socketOptions.connectTimeout().toMillis());
+            } catch (IOException e) {
+                dnsResolver.addressFailed(connectionKey.host(), connectionKey.dnsAddressLookup(), address);
+                throw e;
+            }
         }
         channelId = "0x" + HexFormat.of().toHexDigits(System.identityHashCode(socket));
 
@@ -356,13 +508,60 @@ class Http2ClientConnection {
         }
 
         handleTask = executor.submit(() -> {
-            while (!Thread.interrupted()) {
-                handle();
+            try {
+                while (!Thread.interrupted()) {
+                    handle();
+                }
+                LOGGER.log(DEBUG, () -> "Client listener interrupted");
+            } finally {
+                // nobody reads from this connection anymore, it must not be used for new streams
+                closed = true;
             }
-            LOGGER.log(DEBUG, () -> "Client listener interrupted");
         });
     }
 
+    private void pushOrDiscard(Http2ClientStream stream, Http2FrameData frameData) {
+        if (!stream.push(frameData)) {
+            // the stream was closed concurrently
+            discard(frameData);
+        }
+    }
+
+    private void discard(Http2FrameData frameData) {
+        discardLock.lock();
+        try {
+            discardFrame(frameData);
+        } finally {
+            discardLock.unlock();
+        }
+    }
+
+    // must be called with discardLock held, DATA must already be counted against the connection window
+    private void discardFrame(Http2FrameData frameData) {
+        Http2FrameHeader header = frameData.header();
+        switch (header.type()) {
+        case DATA:
+            connectionFlowControl.incrementInboundConnectionWindowSize(header.length());
+            break;
+        case HEADERS, CONTINUATION:
+            List<Http2FrameData> block = discardedHeaders.computeIfAbsent(header.streamId(), it -> new ArrayList<>());
+            block.add(frameData);
+            if ((header.flags() & Http2Flag.END_OF_HEADERS) == Http2Flag.END_OF_HEADERS) {
+                discardedHeaders.remove(header.streamId());
+                // decoded headers are not used, decoding updates the inbound dynamic table
+                Http2Headers.create(DiscardedStream.INSTANCE,
+                                    inboundDynamicTable,
+                                    new Http2HuffmanDecoder(),
+                                    block.toArray(new Http2FrameData[0]));
+            }
+            break;
+        default:
+            if (LOGGER.isLoggable(DEBUG)) {
+                LOGGER.log(DEBUG, String.format("[%s] discarding frame %s of closed stream", channelId, header));
+            }
+        }
+    }
+
     private void ackSettings() {
         Http2Flag.SettingsFlags flags = Http2Flag.SettingsFlags.create(Http2Flag.ACK);
         Http2Settings http2Settings = Http2Settings.create();
@@ -490,4 +689,44 @@ class Http2ClientConnection {
 
         return String.join(", ", certs);
     }
+
+    // target of header blocks decoded only to keep the dynamic table in sync
+    private static final class DiscardedStream implements Http2Stream {
+        private static final DiscardedStream INSTANCE = new DiscardedStream();
+
+        @Override
+        public void rstStream(Http2RstStream rstStream) {
+        }
+
+        @Override
+        public void windowUpdate(Http2WindowUpdate windowUpdate) {
+        }
+
+        @Override
+        public void headers(Http2Headers headers, boolean endOfStream) {
+        }
+
+        @Override
+        public void data(Http2FrameHeader header, BufferData data) {
+        }
+
+        @Override
+        public void priority(Http2Priority http2Priority) {
+        }
+
+        @Override
+        public int streamId() {
+            return 0;
+        }
+
+        @Override
+        public Http2StreamState streamState() {
+            return Http2StreamState.CLOSED;
+        }
+
+        @Override
+        public StreamFlowControl flowControl() {
+            return null;
+        }
+    }
 }
@@ -16,27 +16,32 @@
 
 package io.helidon.nima.http2.webclient;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.helidon.common.socket.SocketOptions;
 
+import static java.lang.System.Logger.Level.DEBUG;
+
 // a representation of a single remote endpoint
-// this may use one or more connections (depending on parallel streams)
+// this uses one or more connections, new streams are placed on the least loaded connection
 class Http2ClientConnectionHandler {
-    // todo requires handling of timeouts and removal from this queue
-    private final List<Http2ClientConnection> fullConnections = new LinkedList<>();
+    private static final System.Logger LOGGER = System.getLogger(Http2ClientConnectionHandler.class.getName());
 
+    private final List<Http2ClientConnection> connections = new ArrayList<>();
     private final ExecutorService executor;
     private final SocketOptions socketOptions;
-    private String primaryPath;
+    private final String primaryPath;
     private final ConnectionKey connectionKey;
-    private final AtomicReference<Http2ClientConnection> activeConnection = new AtomicReference<>();
-    // simple solution for now
-    private final Semaphore semaphore = new Semaphore(1);
+    // guards connections and connecting, only held while choosing a connection and reserving a stream on it,
+    // never while connecting or waiting for PING acknowledgement
+    private final Lock lock = new ReentrantLock();
+    // connections being opened, counted against connections per authority
+    private int connecting;
 
     Http2ClientConnectionHandler(ExecutorService executor,
                                  SocketOptions socketOptions,
@@ -48,39 +53,146 @@ class Http2ClientConnectionHandler {
         this.connectionKey = connectionKey;
     }
 
-    public Http2ClientStream newStream(ConnectionContext ctx) {
-        try {
-            semaphore.acquire();
-        } catch (InterruptedException e) {
-            throw new IllegalStateException("Interrupted", e);
-        }
-        try {
-            // read/write lock to obtain a stream or create a new connection
-            Http2ClientConnection conn = activeConnection.get();
+    Http2ClientStream newStream(ConnectionContext ctx) {
+        while (true) {
+            Http2ClientConnection conn;
             Http2ClientStream stream;
-            if (conn == null) {
-                conn = createConnection(connectionKey, ctx);
-                stream = conn.createStream(ctx.priority());
-            } else {
-                stream = conn.tryStream(ctx.priority());
-                if (stream == null) {
-                    conn = createConnection(connectionKey, ctx);
+            lock.lock();
+            try {
+                evictConnections();
+                conn = leastLoaded();
+                if (conn == null
+                        || (conn.activeStreams() > 0
+                                    && connections.size() + connecting < connectionKey.connectionsPerAuthority())) {
+                    // all connections are exhausted, or we have not yet opened the configured number of connections
+                    connecting++;
+                    conn = null;
+                    stream = null;
+                } else {
+                    // reserve the stream, so the connection is not evicted while we check it
                     stream = conn.createStream(ctx.priority());
+                    if (!needsPing(conn)) {
+                        return stream;
+                    }
                 }
+            } finally {
+                lock.unlock();
             }
 
-            return stream;
+            if (conn == null) {
+                return connectAndCreateStream(ctx);
+            }
+            // PING is sent without holding the lock, other streams can be created in the meantime
+            if (healthy(conn)) {
+                return stream;
+            }
+            stream.close();
+            lock.lock();
+            try {
+                connections.remove(conn);
+            } finally {
+                lock.unlock();
+            }
+            conn.close();
+        }
+    }
+
+    // number of streams of all connections, including reserved streams
+    int activeStreams() {
+        lock.lock();
+        try {
+            int active = 0;
+            for (Http2ClientConnection connection : connections) {
+                active += connection.activeStreams();
+            }
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // number of connections in this handler
+    int connections() {
+        lock.lock();
+        try {
+            return connections.size();
         } finally {
-            semaphore.release();
+            lock.unlock();
         }
     }
 
-    private Http2ClientConnection createConnection(ConnectionKey connectionKey, ConnectionContext connectionContext) {
-        Http2ClientConnection conn =
-                new Http2ClientConnection(executor, socketOptions, connectionKey, primaryPath, connectionContext);
-        conn.connect();
-        activeConnection.set(conn);
-        fullConnections.add(conn);
-        return conn;
+    // least loaded connection that can accept a new stream, must be called while holding the lock
+    private Http2ClientConnection leastLoaded() {
+        Http2ClientConnection candidate = null;
+        for (Http2ClientConnection connection : connections) {
+            if (connection.canCreateStream()
+                    && (candidate == null || connection.activeStreams() < candidate.activeStreams())) {
+                candidate = connection;
+            }
+        }
+        return candidate;
+    }
+
+    private boolean needsPing(Http2ClientConnection connection) {
+        return !connectionKey.pingInterval().isZero() && connection.idleFor(connectionKey.pingInterval());
+    }
+
+    private boolean healthy(Http2ClientConnection connection) {
+        if (connection.ping(connectionKey.pingTimeout())) {
+            return true;
+        }
+        if (LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, "Evicting HTTP/2 connection to " + connectionKey.host() + ":" + connectionKey.port()
+                    + ", PING was not acknowledged within " + connectionKey.pingTimeout());
+        }
+        return false;
+    }
+
+    // remove connections closed or with GOAWAY, and idle connections opened above the configured number
+    private void evictConnections() {
+        int excess = connections.size() - connectionKey.connectionsPerAuthority();
+        Iterator<Http2ClientConnection> iterator = connections.iterator();
+        while (iterator.hasNext()) {
+            Http2ClientConnection connection = iterator.next();
+            if (connection.isClosed()) {
+                iterator.remove();
+                excess--;
+                connection.close();
+            }
+        }
+        for (int i = connections.size() - 1; i >= 0 && excess > 0; i--) {
+            Http2ClientConnection connection = connections.get(i);
+            if (connection.activeStreams() == 0) {
+                connections.remove(i);
+                excess--;
+                connection.close();
+            }
+        }
+    }
+
+    // connects without holding the lock, connecting was incremented by the caller
+    private Http2ClientStream connectAndCreateStream(ConnectionContext connectionContext) {
+        Http2ClientConnection conn;
+        try {
+            conn = new Http2ClientConnection(executor, socketOptions, connectionKey, primaryPath, connectionContext);
+            conn.connect();
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                connecting--;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        lock.lock();
+        try {
+            connecting--;
+            connections.add(conn);
+            // reserve the stream before releasing the lock, so the new connection is not evicted as unused
+            return conn.createStream(connectionContext.priority());
+        } finally {
+            lock.unlock();
+        }
     }
 }
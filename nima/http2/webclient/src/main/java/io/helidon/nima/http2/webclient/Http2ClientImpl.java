@@ -16,6 +16,8 @@
 
 package io.helidon.nima.http2.webclient;
 
+import java.time.Duration;
+
 import io.helidon.common.http.Http;
 import io.helidon.common.uri.UriQueryWriteable;
 import io.helidon.nima.webclient.LoomClient;
@@ -28,6 +30,9 @@ class Http2ClientImpl extends LoomClient implements Http2Client {
     private final int initialWindowSize;
     private final int prefetch;
     private final boolean priorKnowledge;
+    private final int connectionsPerAuthority;
+    private final Duration pingInterval;
+    private final Duration pingTimeout;
 
     Http2ClientImpl(Http2ClientBuilder builder) {
         super(builder);
@@ -36,6 +41,9 @@ class Http2ClientImpl extends LoomClient implements Http2Client {
         this.maxHeaderListSize = builder.maxHeaderListSize();
         this.initialWindowSize = builder.initialWindowSize();
         this.prefetch = builder.prefetch();
+        this.connectionsPerAuthority = builder.connectionsPerAuthority();
+        this.pingInterval = builder.pingInterval();
+        this.pingTimeout = builder.pingTimeout();
     }
 
     @Override
@@ -65,4 +73,16 @@ class Http2ClientImpl extends LoomClient implements Http2Client {
     int maxFrameSize() {
         return this.maxFrameSize;
     }
+
+    int connectionsPerAuthority() {
+        return connectionsPerAuthority;
+    }
+
+    Duration pingInterval() {
+        return pingInterval;
+    }
+
+    Duration pingTimeout() {
+        return pingTimeout;
+    }
 }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.http.ClientRequestHeaders;
@@ -65,6 +66,8 @@ class Http2ClientStream implements Http2Stream {
     private final Http2Settings settings = Http2Settings.create();
     private final List<Http2FrameData> continuationData = new ArrayList<>();
     private final StreamBuffer buffer;
+    // whether this stream still holds a reservation on the connection, released once opened or closed
+    private final AtomicBoolean reserved = new AtomicBoolean(true);
 
     private Http2StreamState state = Http2StreamState.IDLE;
     private Http2Headers currentHeaders;
@@ -161,6 +164,8 @@ class Http2ClientStream implements Http2Stream {
         sendListener.frameHeader(ctx, frameData.header());
         sendListener.frame(ctx, rstStream);
         write(frameData, false);
+        // a cancelled stream no longer counts against the concurrent streams of the connection
+        close();
     }
 
     ReadableEntityBase entity() {
@@ -175,16 +180,22 @@ class Http2ClientStream implements Http2Stream {
     }
 
     void close() {
+        releaseReservation();
         connection.removeStream(streamId);
+        // frames received, but not read before close, still update the connection state
+        List<Http2FrameData> headerFrames = new ArrayList<>(continuationData);
+        continuationData.clear();
+        connection.discardRemaining(buffer, headerFrames);
     }
 
     /**
      * Push data or header frame in to stream buffer.
      *
      * @param frameData data or header frame
+     * @return {@code false} if this stream was already closed and the frame was not added
      */
-    void push(Http2FrameData frameData) {
-        buffer.push(frameData);
+    boolean push(Http2FrameData frameData) {
+        return buffer.push(frameData);
     }
 
     BufferData read(int i) {
@@ -214,6 +225,8 @@ class Http2ClientStream implements Http2Stream {
             this.streamId = streamIdSeq.lockAndNext();
             this.flowControl = connection.flowControl().createStreamFlowControl(streamId);
             this.connection.addStream(streamId, this);
+            // the stream is now counted as open by the connection
+            releaseReservation();
             // First call to the server-starting stream, needs to be increasing sequence of odd numbers
             connection.writer().writeHeaders(http2Headers, streamId, flags, flowControl.outbound());
         } finally {
@@ -276,6 +289,8 @@ class Http2ClientStream implements Http2Stream {
                                                                     connection.getInboundDynamicTable(),
                                                                     requestHuffman,
                                                                     continuationData.toArray(new Http2FrameData[0]));
+                    // the block is decoded, must not be decoded again when the stream is closed
+                    continuationData.clear();
                     this.headers(http2Headers, endOfStream);
                 }
                 break;
@@ -286,6 +301,12 @@ class Http2ClientStream implements Http2Stream {
         return null;
     }
 
+    private void releaseReservation() {
+        if (reserved.compareAndSet(true, false)) {
+            connection.releaseStream();
+        }
+    }
+
     private void splitAndWrite(Http2FrameData frameData) {
         int maxFrameSize = this.serverSettings.value(Http2Setting.MAX_FRAME_SIZE).intValue();
 
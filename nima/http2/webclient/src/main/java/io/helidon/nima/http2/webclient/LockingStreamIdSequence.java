@@ -29,6 +29,17 @@ class LockingStreamIdSequence {
             return streamIdSeq.updateAndGet(o -> o % 2 == 0 ? o + 1 : o + 2);
     }
 
+    /**
+     * Whether the stream identifiers of this connection are (almost) used up.
+     * §5.1.1 - Stream identifiers cannot be reused, a new connection must be opened instead.
+     *
+     * @param reserved number of streams that will obtain an identifier later
+     * @return whether a new stream cannot be safely created
+     */
+    boolean exhausted(int reserved) {
+        return streamIdSeq.get() >= Integer.MAX_VALUE - 2L * (reserved + 1);
+    }
+
     void unlock(){
         lock.unlock();
     }
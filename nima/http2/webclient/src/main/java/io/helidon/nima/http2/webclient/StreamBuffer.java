@@ -18,6 +18,8 @@ package io.helidon.nima.http2.webclient;
 
 import java.time.Duration;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +35,7 @@ class StreamBuffer {
     private final Queue<Http2FrameData> buffer = new ArrayDeque<>();
     private final int streamId;
     private final Duration timeout;
+    private boolean closed;
 
     StreamBuffer(int streamId, Duration timeout) {
         this.streamId = streamId;
@@ -55,14 +58,41 @@ class StreamBuffer {
         }
     }
 
-    void push(Http2FrameData frameData) {
+    /**
+     * Push a frame to this buffer.
+     *
+     * @param frameData frame
+     * @return {@code false} if the buffer was already closed and the frame was not added
+     */
+    boolean push(Http2FrameData frameData) {
+        streamLock.lock();
         try {
-            streamLock.lock();
+            if (closed) {
+                return false;
+            }
             buffer.add(frameData);
         } finally {
             streamLock.unlock();
-            // Release deque threads
-            dequeSemaphore.release();
+        }
+        // Release deque threads
+        dequeSemaphore.release();
+        return true;
+    }
+
+    /**
+     * Close this buffer, no frames are accepted after this method is called.
+     *
+     * @return frames that were pushed, but not polled
+     */
+    List<Http2FrameData> close() {
+        streamLock.lock();
+        try {
+            closed = true;
+            List<Http2FrameData> remaining = new ArrayList<>(buffer);
+            buffer.clear();
+            return remaining;
+        } finally {
+            streamLock.unlock();
         }
     }
 }
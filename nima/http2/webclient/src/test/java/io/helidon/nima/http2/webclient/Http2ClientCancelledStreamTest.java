@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.http2.webclient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+
+import io.helidon.common.http.Http;
+import io.helidon.nima.http2.WindowSize;
+import io.helidon.nima.http2.webserver.Http2Route;
+import io.helidon.nima.testing.junit5.webserver.ServerTest;
+import io.helidon.nima.testing.junit5.webserver.SetUpRoute;
+import io.helidon.nima.webserver.WebServer;
+import io.helidon.nima.webserver.http.HttpRouting;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.http.Http.Method.GET;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ServerTest
+class Http2ClientCancelledStreamTest {
+    private static final Http.HeaderName RESPONSE_ID = Http.Header.create("response-id");
+    private static final byte[] CHUNK = new byte[16 * 1024];
+
+    private final Http2Client client;
+
+    Http2ClientCancelledStreamTest(WebServer server) {
+        this.client = Http2Client.builder()
+                .priorKnowledge(true)
+                .baseUri("http://localhost:" + server.port())
+                .connectionsPerAuthority(1)
+                // connection window of two stream windows, depleted by a few cancelled downloads if not returned
+                .prefetch(WindowSize.DEFAULT_WIN_SIZE)
+                .build();
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder router) {
+        router.route(Http2Route.route(GET, "/large", (req, res) -> {
+                    res.header(RESPONSE_ID, req.query().value("id"));
+                    try (OutputStream out = res.outputStream()) {
+                        for (int i = 0; i < 64; i++) {
+                            out.write(CHUNK);
+                        }
+                    }
+                }))
+                .route(Http2Route.route(GET, "/", (req, res) -> {
+                    res.header(RESPONSE_ID, req.query().value("id"));
+                    res.send("Hello");
+                }));
+    }
+
+    @Test
+    void testConnectionReusedAfterCancel() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            try (Http2ClientResponse response = client.get("/large")
+                    .queryParam("id", "large-" + i)
+                    .timeout(Duration.ofSeconds(5))
+                    .request()) {
+                assertThat(response.status(), is(Http.Status.OK_200));
+                assertThat(response.headers().get(RESPONSE_ID).value(), is("large-" + i));
+                // closing the response in the middle of the entity cancels the stream
+                assertThat(response.inputStream().readNBytes(10).length, is(10));
+            }
+
+            try (Http2ClientResponse response = client.get("/")
+                    .queryParam("id", "small-" + i)
+                    .timeout(Duration.ofSeconds(5))
+                    .request()) {
+                assertThat(response.status(), is(Http.Status.OK_200));
+                assertThat(response.headers().get(RESPONSE_ID).value(), is("small-" + i));
+                assertThat(response.as(String.class), is("Hello"));
+            }
+        }
+    }
+}
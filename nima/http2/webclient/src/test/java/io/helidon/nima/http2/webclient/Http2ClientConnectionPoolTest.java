@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.http2.webclient;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.socket.SocketOptions;
+import io.helidon.nima.http2.WindowSize;
+import io.helidon.nima.http2.webserver.Http2ConfigDefault;
+import io.helidon.nima.http2.webserver.Http2ConnectionProvider;
+import io.helidon.nima.http2.webserver.Http2Route;
+import io.helidon.nima.testing.junit5.webserver.ServerTest;
+import io.helidon.nima.testing.junit5.webserver.SetUpServer;
+import io.helidon.nima.webserver.WebServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.http.Http.Method.GET;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ServerTest
+class Http2ClientConnectionPoolTest {
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    private static final CountDownLatch BLOCKED = new CountDownLatch(1);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    private final Http2Client client;
+    private final int port;
+
+    Http2ClientConnectionPoolTest(WebServer server) {
+        this.port = server.port();
+        this.client = Http2Client.builder()
+                .priorKnowledge(true)
+                .baseUri("http://localhost:" + server.port())
+                .pingInterval(Duration.ofMillis(1))
+                .build();
+    }
+
+    @SetUpServer
+    static void setUpServer(WebServer.Builder serverBuilder) {
+        serverBuilder.addConnectionProvider(Http2ConnectionProvider.builder()
+                                                    .http2Config(Http2ConfigDefault.builder()
+                                                                         .maxConcurrentStreams(1))
+                                                    .build())
+                .routing(router -> router
+                        .route(Http2Route.route(GET, "/blocking", (req, res) -> {
+                            BLOCKED.countDown();
+                            RELEASE.await(10, TimeUnit.SECONDS);
+                            res.send("released");
+                        }))
+                        .route(Http2Route.route(GET, "/", (req, res) -> res.send("Hello"))));
+    }
+
+    @AfterAll
+    static void afterAll() {
+        RELEASE.countDown();
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void testStreamExhaustionOpensConnection() throws Exception {
+        Future<String> blocking = EXECUTOR.submit(() -> {
+            try (Http2ClientResponse response = client.get("/blocking").request()) {
+                return response.as(String.class);
+            }
+        });
+        assertThat(BLOCKED.await(10, TimeUnit.SECONDS), is(true));
+
+        // the only stream allowed by the server is in use, the request must be placed on another connection
+        try (Http2ClientResponse response = client.get("/").request()) {
+            assertThat(response.status(), is(Http.Status.OK_200));
+            assertThat(response.as(String.class), is("Hello"));
+        }
+
+        RELEASE.countDown();
+        assertThat(blocking.get(10, TimeUnit.SECONDS), is("released"));
+
+        // idle connections are checked with PING before reuse
+        try (Http2ClientResponse response = client.get("/").request()) {
+            assertThat(response.as(String.class), is("Hello"));
+        }
+    }
+
+    @Test
+    void testClosedStreamReleasesReservation() {
+        Http2ClientImpl clientImpl = (Http2ClientImpl) client;
+        ConnectionKey connectionKey = new ConnectionKey(GET,
+                                                        "http",
+                                                        "localhost",
+                                                        port,
+                                                        true,
+                                                        null,
+                                                        clientImpl.dnsResolver(),
+                                                        clientImpl.dnsAddressLookup(),
+                                                        1,
+                                                        Duration.ZERO,
+                                                        Duration.ofSeconds(10));
+        ConnectionContext ctx = new ConnectionContext(16,
+                                                      true,
+                                                      WindowSize.DEFAULT_WIN_SIZE,
+                                                      WindowSize.DEFAULT_MAX_FRAME_SIZE,
+                                                      -1,
+                                                      WindowSize.DEFAULT_WIN_SIZE,
+                                                      0,
+                                                      Duration.ofMillis(100),
+                                                      Duration.ofSeconds(10));
+        Http2ClientConnectionHandler handler = new Http2ClientConnectionHandler(EXECUTOR,
+                                                                                SocketOptions.builder().build(),
+                                                                                "/",
+                                                                                connectionKey);
+
+        // stream reserved, but never opened (such as when the request failed before sending headers)
+        Http2ClientStream stream = handler.newStream(ctx);
+        assertThat(handler.activeStreams(), is(1));
+        stream.close();
+        assertThat(handler.activeStreams(), is(0));
+        // closing twice must not release the reservation twice
+        stream.close();
+        assertThat(handler.activeStreams(), is(0));
+
+        // the only stream allowed by the server is available again, so the connection is reused
+        handler.newStream(ctx).close();
+        assertThat(handler.connections(), is(1));
+        assertThat(handler.activeStreams(), is(0));
+    }
+
+    @Test
+    void testInvalidConnectionsPerAuthority() {
+        assertThrows(IllegalArgumentException.class, () -> Http2Client.builder().connectionsPerAuthority(0));
+    }
+}
@@ -113,7 +113,8 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                 .build();
         this.connectionWriter = new Http2ConnectionWriter(ctx,
                                                           ctx.dataWriter(),
-                                                          List.of(new Http2LoggingFrameListener("send")));
+                                                          List.of(new Http2LoggingFrameListener("send")),
+                                                          ctx.listenerContext().config().bufferAllocator());
         this.subProviders = subProviders;
         this.requestDynamicTable = Http2Headers.DynamicTable.create(
                 serverSettings.value(Http2Setting.HEADER_TABLE_SIZE));
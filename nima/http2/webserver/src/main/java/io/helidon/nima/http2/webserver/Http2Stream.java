@@ -24,6 +24,7 @@ import io.helidon.common.buffers.BufferData;
 import io.helidon.common.http.DirectHandler;
 import io.helidon.common.http.Headers;
 import io.helidon.common.http.Http.Header;
+import io.helidon.common.http.Http.HeaderName;
 import io.helidon.common.http.HttpPrologue;
 import io.helidon.common.http.RequestException;
 import io.helidon.common.http.ServerResponseHeaders;
@@ -62,6 +63,10 @@ public class Http2Stream implements Runnable, io.helidon.nima.http2.Http2Stream
                                                   Http2Flag.DataFlags.create(Http2Flag.DataFlags.END_OF_STREAM),
                                                   0), BufferData.empty());
     private static final System.Logger LOGGER = System.getLogger(Http2Stream.class.getName());
+    // RFC 9218 priority request header
+    private static final HeaderName PRIORITY = Header.createFromLowercase("priority");
+    private static final int DEFAULT_URGENCY = 3;
+    private static final int DEFAULT_WEIGHT = 16;
 
     private final ConnectionContext ctx;
     private final Http2Config http2Config;
@@ -77,6 +82,7 @@ public class Http2Stream implements Runnable, io.helidon.nima.http2.Http2Stream
     private boolean wasLastDataFrame = false;
     private volatile Http2Headers headers;
     private volatile Http2Priority priority;
+    private volatile int urgency = DEFAULT_URGENCY;
     // used from this instance and from connection
     private volatile Http2StreamState state = Http2StreamState.IDLE;
     private Http2SubProtocolSelector.SubProtocolHandler subProtocolHandler;
@@ -202,6 +208,12 @@ public class Http2Stream implements Runnable, io.helidon.nima.http2.Http2Stream
     @Override
     public void headers(Http2Headers headers, boolean endOfStream) {
         this.headers = headers;
+        Headers httpHeaders = headers.httpHeaders();
+        if (httpHeaders.contains(PRIORITY)) {
+            this.urgency = urgency(httpHeaders.get(PRIORITY).value());
+            Http2Priority http2Priority = this.priority;
+            writer.priority(streamId, urgency, http2Priority == null ? DEFAULT_WEIGHT : http2Priority.weight());
+        }
         this.state = endOfStream ? Http2StreamState.HALF_CLOSED_REMOTE : Http2StreamState.OPEN;
         if (state == Http2StreamState.HALF_CLOSED_REMOTE) {
             try {
@@ -239,6 +251,7 @@ public class Http2Stream implements Runnable, io.helidon.nima.http2.Http2Stream
             throw new Http2Exception(Http2ErrorCode.PROTOCOL, "Stream depends on itself");
         }
         this.priority = http2Priority;
+        writer.priority(streamId, urgency, http2Priority.weight());
     }
 
     @Override
@@ -302,6 +315,7 @@ public class Http2Stream implements Runnable, io.helidon.nima.http2.Http2Stream
         } finally {
             headers = null;
             subProtocolHandler = null;
+            writer.streamClosed(streamId);
         }
     }
 
@@ -401,5 +415,19 @@ public class Http2Stream implements Runnable, io.helidon.nima.http2.Http2Stream
         }
     }
 
+    // urgency parameter of RFC 9218 priority header, such as "u=5, i"; the incremental parameter is not used
+    private static int urgency(String priorityHeader) {
+        for (String param : priorityHeader.split(",")) {
+            String trimmed = param.trim();
+            if (trimmed.length() == 3 && trimmed.startsWith("u=")) {
+                char value = trimmed.charAt(2);
+                if (value >= '0' && value <= '7') {
+                    return value - '0';
+                }
+            }
+        }
+        return DEFAULT_URGENCY;
+    }
+
     private record DataFrame(Http2FrameHeader header, BufferData data) { }
 }
@@ -23,6 +23,7 @@ import java.util.function.Function;
 import io.helidon.config.Config;
 import io.helidon.nima.http2.Http2Setting;
 import io.helidon.nima.webserver.ConnectionContext;
+import io.helidon.nima.webserver.ListenerConfiguration;
 import io.helidon.nima.webserver.ListenerContext;
 import io.helidon.nima.webserver.Router;
 import io.helidon.nima.webserver.WebServer;
@@ -41,7 +42,9 @@ class ConnectionConfigTest {
     private static ConnectionContext mockContext() {
         ConnectionContext ctx = mock(ConnectionContext.class);
         when(ctx.router()).thenReturn(Router.empty());
-        when(ctx.listenerContext()).thenReturn(mock(ListenerContext.class));
+        ListenerContext listenerContext = mock(ListenerContext.class);
+        when(listenerContext.config()).thenReturn(ListenerConfiguration.create("test"));
+        when(ctx.listenerContext()).thenReturn(listenerContext);
         return ctx;
     }
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.observe.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+import io.helidon.common.buffers.PooledBufferAllocator;
+import io.helidon.metrics.api.RegistryFactory;
+import io.helidon.nima.webserver.ConnectionStatistics;
+import io.helidon.nima.webserver.ListenerContext;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Gauges of open, idle, rejected and idle-closed connections of each server listener, and gauges of the buffer pool
+ * used by the listener (if a {@link io.helidon.common.buffers.PooledBufferAllocator} is configured).
+ * Rejected and idle-closed connections are totals maintained by the server, so they are read through gauges
+ * rather than registered as counters that could be incremented by other code.
+ * Metrics of a listener are registered when the listener starts.
+ */
+class ListenerMetrics {
+    static final String METRICS_NAME_PREFIX = "connections.";
+    static final String BUFFER_POOL_NAME_PREFIX = "buffers.pool.";
+    static final String OPEN_NAME = "open";
+    static final String IDLE_NAME = "idle";
+    static final String REJECTED_NAME = "rejected";
+    static final String IDLE_CLOSED_NAME = "idleClosed";
+    static final String POOL_HITS_NAME = "hits";
+    static final String POOL_MISSES_NAME = "misses";
+    static final String POOL_DISCARDED_NAME = "discarded";
+    static final String POOL_POOLED_NAME = "pooled";
+    static final String SOCKET_TAG = "socket";
+
+    private final Set<ListenerContext> registered = ConcurrentHashMap.newKeySet();
+
+    void register(ListenerContext listenerContext) {
+        if (!registered.add(listenerContext)) {
+            return;
+        }
+        MetricRegistry registry = RegistryFactory.getInstance()
+                .getRegistry(KeyPerformanceIndicatorMetricsImpls.KPI_METRICS_REGISTRY_TYPE);
+        ConnectionStatistics statistics = listenerContext.connectionStatistics();
+        Tag socketTag = new Tag(SOCKET_TAG, listenerContext.config().name());
+
+        gauge(registry, statistics, socketTag, METRICS_NAME_PREFIX + OPEN_NAME,
+              "Open connections",
+              "Number of currently open connections",
+              ConnectionStatistics::openConnections);
+        gauge(registry, statistics, socketTag, METRICS_NAME_PREFIX + IDLE_NAME,
+              "Idle connections",
+              "Number of currently open connections waiting for the next request",
+              ConnectionStatistics::idleConnections);
+        gauge(registry, statistics, socketTag, METRICS_NAME_PREFIX + REJECTED_NAME,
+              "Rejected connections",
+              "Number of connections closed because the maximal number of concurrent connections was reached",
+              ConnectionStatistics::rejectedConnections);
+        gauge(registry, statistics, socketTag, METRICS_NAME_PREFIX + IDLE_CLOSED_NAME,
+              "Closed idle connections",
+              "Number of connections closed because they were idle for longer than the idle connection timeout",
+              ConnectionStatistics::idleClosedConnections);
+
+        if (listenerContext.config().bufferAllocator() instanceof PooledBufferAllocator pool) {
+            gauge(registry, pool, socketTag, BUFFER_POOL_NAME_PREFIX + POOL_HITS_NAME,
+                  "Buffer pool hits",
+                  "Number of buffer allocations served from the pool",
+                  PooledBufferAllocator::hits);
+            gauge(registry, pool, socketTag, BUFFER_POOL_NAME_PREFIX + POOL_MISSES_NAME,
+                  "Buffer pool misses",
+                  "Number of buffer allocations that required a new byte array",
+                  PooledBufferAllocator::misses);
+            gauge(registry, pool, socketTag, BUFFER_POOL_NAME_PREFIX + POOL_DISCARDED_NAME,
+                  "Discarded buffers",
+                  "Number of released buffers not returned to the pool, because the pool was full",
+                  PooledBufferAllocator::discarded);
+            gauge(registry, pool, socketTag, BUFFER_POOL_NAME_PREFIX + POOL_POOLED_NAME,
+                  "Pooled buffers",
+                  "Number of buffers currently available in the pool",
+                  PooledBufferAllocator::pooled);
+        }
+    }
+
+    private static <T> void gauge(MetricRegistry registry,
+                                  T source,
+                                  Tag socketTag,
+                                  String name,
+                                  String displayName,
+                                  String description,
+                                  ToLongFunction<T> value) {
+        // the registry returns an existing gauge, remove a gauge of a previous run of the same listener,
+        // so it reads the current statistics
+        registry.remove(new MetricID(name, socketTag));
+        registry.gauge(Metadata.builder()
+                               .withName(name)
+                               .withDisplayName(displayName)
+                               .withDescription(description)
+                               .withType(MetricType.GAUGE)
+                               .withUnit(MetricUnits.NONE)
+                               .build(),
+                       source,
+                       value::applyAsLong,
+                       socketTag);
+    }
+}
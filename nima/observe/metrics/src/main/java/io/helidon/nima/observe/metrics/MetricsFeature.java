@@ -15,12 +15,19 @@
  */
 package io.helidon.nima.observe.metrics;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import io.helidon.common.LazyValue;
 import io.helidon.common.http.Http;
+import io.helidon.common.http.HttpMediaType;
 import io.helidon.common.media.type.MediaType;
 import io.helidon.common.media.type.MediaTypes;
 import io.helidon.config.Config;
@@ -33,6 +40,7 @@ import io.helidon.metrics.serviceapi.JsonFormat;
 import io.helidon.metrics.serviceapi.PrometheusFormat;
 import io.helidon.nima.servicecommon.HelidonFeatureSupport;
 import io.helidon.nima.webserver.KeyPerformanceIndicatorSupport;
+import io.helidon.nima.webserver.ListenerContext;
 import io.helidon.nima.webserver.http.Handler;
 import io.helidon.nima.webserver.http.HttpRouting;
 import io.helidon.nima.webserver.http.HttpRules;
@@ -82,9 +90,17 @@ public class MetricsFeature extends HelidonFeatureSupport {
     private static final JsonBuilderFactory JSON = Json.createBuilderFactory(Collections.emptyMap());
     private static final Handler DISABLED_ENDPOINT_HANDLER = (req, res) -> res.status(Http.Status.NOT_FOUND_404)
             .send("Metrics are disabled");
+    private static final MediaType OPEN_METRICS = MediaTypes.create("application", "openmetrics-text");
+    private static final HttpMediaType OPEN_METRICS_UTF_8 = HttpMediaType.create(OPEN_METRICS)
+            .withParameter("version", "1.0.0")
+            .withCharset(StandardCharsets.UTF_8);
+    private static final HttpMediaType PROMETHEUS_UTF_8 = HttpMediaType.create(MediaTypes.TEXT_PLAIN)
+            .withParameter("version", "0.0.4")
+            .withCharset(StandardCharsets.UTF_8);
 
     private final MetricsSettings metricsSettings;
     private final RegistryFactory registryFactory;
+    private final ListenerMetrics listenerMetrics = new ListenerMetrics();
 
     private MetricsFeature(Builder builder) {
         super(LOGGER, builder, "Metrics");
@@ -174,6 +190,14 @@ public class MetricsFeature extends HelidonFeatureSupport {
         }
     }
 
+    @Override
+    public void beforeStart(ListenerContext listenerContext) {
+        beforeStart();
+        if (registryFactory.enabled()) {
+            listenerMetrics.register(listenerContext);
+        }
+    }
+
     @Override
     public void afterStop() {
         if (registryFactory.enabled()) {
@@ -198,20 +222,34 @@ public class MetricsFeature extends HelidonFeatureSupport {
 
         if (mediaType == MediaTypes.APPLICATION_JSON) {
             sendJson(res, JsonFormat.jsonData(registry));
-        } else if (mediaType == MediaTypes.TEXT_PLAIN) {
-            res.send(PrometheusFormat.prometheusData(registry));
+        } else if (mediaType == MediaTypes.TEXT_PLAIN || mediaType == OPEN_METRICS) {
+            sendPrometheus(res, mediaType, (writer, openMetrics) ->
+                    PrometheusFormat.prometheusData(writer, openMetrics, registry));
         } else {
             res.status(Http.Status.NOT_ACCEPTABLE_406);
             res.send();
         }
     }
 
+    // Prometheus scrapers prefer OpenMetrics, so that format is what they get when OpenMetrics is accepted
     private static MediaType bestAccepted(ServerRequest req) {
         return req.headers()
-                .bestAccepted(MediaTypes.TEXT_PLAIN, MediaTypes.APPLICATION_JSON)
+                .bestAccepted(MediaTypes.TEXT_PLAIN, MediaTypes.APPLICATION_JSON, OPEN_METRICS)
                 .orElse(null);
     }
 
+    private static void sendPrometheus(ServerResponse res, MediaType mediaType, BiConsumer<Writer, Boolean> data) {
+        // stream the response, so a large scrape is never materialized in memory;
+        // compression (such as gzip) is applied by the server's content encoding when requested by the client
+        boolean openMetrics = mediaType == OPEN_METRICS;
+        res.headers().contentType(openMetrics ? OPEN_METRICS_UTF_8 : PROMETHEUS_UTF_8);
+        try (Writer writer = new OutputStreamWriter(res.outputStream(), StandardCharsets.UTF_8)) {
+            data.accept(writer, openMetrics);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static void sendJson(ServerResponse res, JsonObject object) {
         res.send(object);
     }
@@ -252,8 +290,9 @@ public class MetricsFeature extends HelidonFeatureSupport {
                     MediaType mediaType = bestAccepted(req);
                     if (mediaType == MediaTypes.APPLICATION_JSON) {
                         sendJson(res, JsonFormat.jsonDataByName(registry, metricName));
-                    } else if (mediaType == MediaTypes.TEXT_PLAIN) {
-                        res.send(PrometheusFormat.prometheusDataByName(registry, metricName));
+                    } else if (mediaType == MediaTypes.TEXT_PLAIN || mediaType == OPEN_METRICS) {
+                        sendPrometheus(res, mediaType, (writer, openMetrics) ->
+                                PrometheusFormat.prometheusDataByName(writer, openMetrics, registry, metricName));
                     } else {
                         res.status(Http.Status.NOT_ACCEPTABLE_406);
                         res.send();
@@ -295,8 +334,9 @@ public class MetricsFeature extends HelidonFeatureSupport {
         res.header(Http.HeaderValues.CACHE_NO_CACHE);
         if (mediaType == MediaTypes.APPLICATION_JSON) {
             sendJson(res, JsonFormat.jsonData(registries));
-        } else if (mediaType == MediaTypes.TEXT_PLAIN) {
-            res.send(PrometheusFormat.prometheusData(registries));
+        } else if (mediaType == MediaTypes.TEXT_PLAIN || mediaType == OPEN_METRICS) {
+            sendPrometheus(res, mediaType, (writer, openMetrics) ->
+                    PrometheusFormat.prometheusData(writer, openMetrics, registries));
         } else {
             res.status(Http.Status.NOT_ACCEPTABLE_406);
             res.send();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.util.Optional;
 import io.helidon.common.http.Http;
 import io.helidon.common.socket.PeerInfo;
 import io.helidon.nima.webclient.WebClient;
+import io.helidon.nima.webclient.http1.ConnectionPoolStatistics;
 import io.helidon.nima.webclient.http1.Http1Client;
 import io.helidon.nima.webclient.http1.Http1ClientRequest;
 import io.helidon.nima.webserver.Router;
@@ -94,6 +95,12 @@ public class DirectClient implements Http1Client {
                 .connection(new DirectClientConnection(clientPeer, localPeer, router, isTls));
     }
 
+    @Override
+    public ConnectionPoolStatistics connectionPoolStatistics() {
+        // direct client uses explicit connections, the pool is never used
+        return httpClient.connectionPoolStatistics();
+    }
+
     /**
      * Whether to use tls (mark this connection as secure).
      *
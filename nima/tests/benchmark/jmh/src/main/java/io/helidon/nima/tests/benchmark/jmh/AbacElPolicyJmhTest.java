@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import io.helidon.common.Errors;
+import io.helidon.security.AuthorizationResponse;
+import io.helidon.security.ProviderRequest;
+import io.helidon.security.Security;
+import io.helidon.security.abac.policy.el.JavaxElPolicyExecutor;
+import io.helidon.security.spi.AuthorizationProvider;
+import io.helidon.security.spi.SynchronousProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Authorization throughput of ABAC expression language policies, with the compiled expression cache enabled
+ * and disabled (statement compiled on each evaluation).
+ */
+@State(Scope.Benchmark)
+public class AbacElPolicyJmhTest {
+    private static final String STATEMENT = "${object.owner == 'jmh-owner' && env.time.year >= 2017 && object.shared}";
+
+    @Param({"cached", "uncached"})
+    private String mode;
+
+    private JavaxElPolicyExecutor executor;
+    private ProviderRequest request;
+
+    @Setup
+    public void setup() {
+        executor = JavaxElPolicyExecutor.builder()
+                .cacheSize("cached".equals(mode) ? JavaxElPolicyExecutor.Builder.DEFAULT_CACHE_SIZE : 0)
+                .build();
+
+        // provider request can only be created by security, capture one from an authorization call
+        RequestCapture capture = new RequestCapture();
+        Security.builder()
+                .addAuthorizationProvider(capture)
+                .build()
+                .createContext("jmh")
+                .authorize(new Resource("jmh-owner"));
+        request = capture.request;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void authorize(Blackhole bh) {
+        Errors.Collector collector = Errors.collector();
+        executor.executePolicy(STATEMENT, collector, request);
+        bh.consume(collector.collect());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void authorizeConcurrent(Blackhole bh) {
+        Errors.Collector collector = Errors.collector();
+        executor.executePolicy(STATEMENT, collector, request);
+        bh.consume(collector.collect());
+    }
+
+    // bean must be public, as otherwise EL cannot access properties
+    public static class Resource {
+        private final String owner;
+
+        public Resource(String owner) {
+            this.owner = owner;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public boolean isShared() {
+            return true;
+        }
+    }
+
+    private static final class RequestCapture extends SynchronousProvider implements AuthorizationProvider {
+        private volatile ProviderRequest request;
+
+        @Override
+        protected AuthorizationResponse syncAuthorize(ProviderRequest providerRequest) {
+            this.request = providerRequest;
+            return AuthorizationResponse.permit();
+        }
+    }
+}
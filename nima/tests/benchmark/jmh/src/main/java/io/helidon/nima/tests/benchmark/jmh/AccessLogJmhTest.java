@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import io.helidon.nima.webserver.accesslog.AccessLogFileWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Cost of writing an access log record on the request thread, through a {@link System.Logger} backed by a file handler,
+ * and through the asynchronous {@link AccessLogFileWriter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccessLogJmhTest {
+    private static final String LOGGER_NAME = "io.helidon.nima.tests.benchmark.jmh.AccessLog";
+    private static final String RECORD =
+            "192.168.1.1 - admin [03/Dec/2007:10:15:30 +0000] \"GET /greet/World HTTP/1.1\" 200 42 1140";
+
+    @Param({"logger", "writer"})
+    private String sink;
+
+    private Path directory;
+    private Handler handler;
+    private System.Logger logger;
+    private AccessLogFileWriter writer;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("access-log-jmh");
+        if ("logger".equals(sink)) {
+            handler = new FileHandler(directory.resolve("access.log").toString());
+            handler.setFormatter(new Formatter() {
+                @Override
+                public String format(LogRecord record) {
+                    return record.getMessage() + System.lineSeparator();
+                }
+            });
+            Logger julLogger = Logger.getLogger(LOGGER_NAME);
+            julLogger.setUseParentHandlers(false);
+            julLogger.setLevel(Level.INFO);
+            julLogger.addHandler(handler);
+            logger = System.getLogger(LOGGER_NAME);
+        } else {
+            writer = AccessLogFileWriter.builder()
+                    .path(directory.resolve("access.log"))
+                    .overflowPolicy(AccessLogFileWriter.OverflowPolicy.BLOCK)
+                    .build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (handler != null) {
+            Logger.getLogger(LOGGER_NAME).removeHandler(handler);
+            handler.close();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+        try (var files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a))
+                    .forEach(it -> it.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void log() {
+        if (writer == null) {
+            logger.log(System.Logger.Level.INFO, RECORD);
+        } else {
+            writer.write(RECORD);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.CompositeBufferData;
+import io.helidon.common.socket.HelidonSocket;
+import io.helidon.common.socket.SocketWriter;
+import io.helidon.common.socket.SocketWriterException;
+
+/**
+ * Copy of the asynchronous socket writer as it was before the lock-free batched write path, based on
+ * an {@link java.util.concurrent.ArrayBlockingQueue} and a composite buffer per batch.
+ * Used as a baseline in {@link io.helidon.nima.tests.benchmark.jmh.SocketWriterJmhTest}.
+ */
+class ArrayBlockingQueueSocketWriter extends SocketWriter {
+    private static final BufferData CLOSING_TOKEN = BufferData.empty();
+    private final ExecutorService executor;
+    private final ArrayBlockingQueue<BufferData> writeQueue;
+    private final CountDownLatch cdl = new CountDownLatch(1);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile Throwable caught;
+    private volatile boolean run = true;
+    private Thread thread;
+
+    ArrayBlockingQueueSocketWriter(ExecutorService executor, HelidonSocket socket, int writeQueueLength) {
+        super(socket);
+        this.executor = executor;
+        this.writeQueue = new ArrayBlockingQueue<>(writeQueueLength);
+    }
+
+    @Override
+    public void write(BufferData... buffers) {
+        for (BufferData buffer : buffers) {
+            write(buffer);
+        }
+    }
+
+    @Override
+    public void write(BufferData buffer) {
+        checkRunning();
+        try {
+            if (!writeQueue.offer(buffer, 10, TimeUnit.SECONDS)) {
+                checkRunning();
+                throw new IllegalStateException("Failed to write data to queue, timed out");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("Interrupted while trying to write to a queue", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        run = false;
+        if (!started.get()) {
+            return;
+        }
+        try {
+            writeQueue.put(CLOSING_TOKEN);
+            if (cdl.await(1000, TimeUnit.MILLISECONDS)) {
+                BufferData available;
+                while ((available = writeQueue.poll()) != null) {
+                    try {
+                        writeNow(available);
+                    } catch (Exception ignored) {
+                        // socket already closed, only release remaining buffers
+                    }
+                }
+            }
+            if (thread != null) {
+                thread.interrupt();
+            }
+        } catch (InterruptedException ignored) {
+            // shutting down anyway
+        }
+    }
+
+    private void run() {
+        this.thread = Thread.currentThread();
+        try {
+            while (run) {
+                CompositeBufferData toWrite = BufferData.createComposite(writeQueue.take());
+                for (int i = 0; i < 1000; i++) {
+                    BufferData newBuf = writeQueue.poll();
+                    if (newBuf == null) {
+                        break;
+                    }
+                    toWrite.add(newBuf);
+                }
+                writeNow(toWrite);
+            }
+            cdl.countDown();
+        } catch (Throwable e) {
+            this.caught = e;
+            this.run = false;
+        }
+    }
+
+    private void checkRunning() {
+        if (started.compareAndSet(false, true)) {
+            executor.submit(this::run);
+        }
+        if (!run) {
+            throw new SocketWriterException(caught);
+        }
+    }
+}
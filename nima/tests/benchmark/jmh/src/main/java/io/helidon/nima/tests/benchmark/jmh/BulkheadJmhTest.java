@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.time.Duration;
+
+import io.helidon.nima.faulttolerance.AdaptiveLimit;
+import io.helidon.nima.faulttolerance.Bulkhead;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Bulkhead admission throughput of the locking and lock-free implementations, with more threads
+ * than permits so that callers contend for permits and wait in the queue.
+ */
+@State(Scope.Benchmark)
+public class BulkheadJmhTest {
+    @Param({"locking", "lock-free", "adaptive"})
+    private String implementation;
+
+    private Bulkhead bulkhead;
+
+    @Setup
+    public void setup() {
+        Bulkhead.Builder builder = Bulkhead.builder()
+                .limit(4)
+                .queueLength(1000);
+        switch (implementation) {
+        case "lock-free" -> builder.lockFree(true);
+        case "adaptive" -> builder.adaptiveLimit(AdaptiveLimit.aimd(4, 1, 16, Duration.ofMillis(10)));
+        default -> {
+        }
+        }
+        bulkhead = builder.build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void uncontended(Blackhole bh) {
+        bh.consume(bulkhead.invoke(BulkheadJmhTest::work));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void contended(Blackhole bh) {
+        bh.consume(bulkhead.invoke(BulkheadJmhTest::work));
+    }
+
+    private static long work() {
+        Blackhole.consumeCPU(100);
+        return System.nanoTime();
+    }
+}
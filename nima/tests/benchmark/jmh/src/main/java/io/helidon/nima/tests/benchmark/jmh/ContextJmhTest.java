@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of switching to a request context and looking up values in it, with the context bound using a thread local
+ * and using a scoped value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContextJmhTest {
+    private static final String CLASSIFIER = "request";
+
+    private Context parent;
+
+    @Setup
+    public void setup() {
+        parent = Context.create();
+        parent.register(new StringBuilder("parent"));
+    }
+
+    @Benchmark
+    public void runInContext(Blackhole bh) {
+        run(bh);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {"--enable-preview", "-Dhelidon.context.scopedValue=true"})
+    public void runInScopedContext(Blackhole bh) {
+        run(bh);
+    }
+
+    @Benchmark
+    public void createAndLookup(Blackhole bh) {
+        Context context = Context.create(parent);
+        context.register(CLASSIFIER, "value");
+        bh.consume(context.get(CLASSIFIER, String.class));
+        bh.consume(context.get(StringBuilder.class));
+    }
+
+    private void run(Blackhole bh) {
+        Context context = Context.create(parent);
+        context.register(CLASSIFIER, "value");
+        Contexts.runInContext(context, () -> {
+            Context current = Contexts.context().orElseThrow();
+            bh.consume(current.get(CLASSIFIER, String.class));
+            bh.consume(current.get(StringBuilder.class));
+        });
+    }
+}
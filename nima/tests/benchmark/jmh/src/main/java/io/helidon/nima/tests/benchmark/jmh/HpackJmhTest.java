@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.Http.Header;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.nima.http2.Http2Flag;
+import io.helidon.nima.http2.Http2FrameData;
+import io.helidon.nima.http2.Http2FrameHeader;
+import io.helidon.nima.http2.Http2FrameTypes;
+import io.helidon.nima.http2.Http2Headers;
+import io.helidon.nima.http2.Http2HuffmanDecoder;
+import io.helidon.nima.http2.Http2HuffmanEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * HPACK encoding and decoding of a header block using connection dynamic tables,
+ * for a gRPC like request and a browser like request.
+ */
+@State(Scope.Benchmark)
+public class HpackJmhTest {
+    private static final Http2Flag.HeaderFlags FLAGS = Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS);
+
+    @Param({"grpc", "browser"})
+    private String headerSet;
+
+    private Http2Headers headers;
+    private Http2HuffmanEncoder encoder;
+    private Http2HuffmanDecoder decoder;
+    private Http2Headers.DynamicTable encoderTable;
+    private Http2Headers.DynamicTable decoderTable;
+    private BufferData buffer;
+
+    @Setup
+    public void setup() {
+        WritableHeaders<?> httpHeaders = WritableHeaders.create();
+        if (headerSet.equals("grpc")) {
+            httpHeaders.set(Header.CONTENT_TYPE, "application/grpc+proto");
+            httpHeaders.set(Header.create("te"), "trailers");
+            httpHeaders.set(Header.create("grpc-accept-encoding"), "identity,deflate,gzip");
+            httpHeaders.set(Header.create("grpc-timeout"), "1S");
+            httpHeaders.set(Header.USER_AGENT, "grpc-java-netty/1.52.1");
+            httpHeaders.set(Header.create("x-request-id"), "f4d0a9a2-1c1b-4a4e-8f0e-3c1d7b6a5e21");
+            httpHeaders.set(Header.create("x-b3-traceid"), "80f198ee56343ba864fe8b2a57d3eff7");
+            httpHeaders.set(Header.create("x-b3-spanid"), "e457b5a2e4d86bd1");
+        } else {
+            httpHeaders.set(Header.ACCEPT, "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8");
+            httpHeaders.set(Header.ACCEPT_ENCODING, "gzip, deflate, br");
+            httpHeaders.set(Header.ACCEPT_LANGUAGE, "en-US,en;q=0.5");
+            httpHeaders.set(Header.CACHE_CONTROL, "no-cache");
+            httpHeaders.set(Header.COOKIE, "session=6b1d2f4e9a; theme=dark; consent=true");
+            httpHeaders.set(Header.REFERER, "https://www.example.com/products/list?page=2");
+            httpHeaders.set(Header.USER_AGENT,
+                            "Mozilla/5.0 (X11; Linux x86_64; rv:109.0) Gecko/20100101 Firefox/115.0");
+            httpHeaders.set(Header.create("sec-fetch-dest"), "document");
+            httpHeaders.set(Header.create("sec-fetch-mode"), "navigate");
+            httpHeaders.set(Header.create("upgrade-insecure-requests"), "1");
+        }
+        headers = Http2Headers.create(httpHeaders);
+        headers.method(headerSet.equals("grpc") ? Http.Method.POST : Http.Method.GET);
+        headers.path(headerSet.equals("grpc") ? "/helloworld.Greeter/SayHello" : "/products/detail/42");
+        headers.scheme("https");
+        headers.authority("www.example.com");
+
+        encoder = new Http2HuffmanEncoder();
+        decoder = new Http2HuffmanDecoder();
+        encoderTable = Http2Headers.DynamicTable.create(4096);
+        decoderTable = Http2Headers.DynamicTable.create(4096);
+        buffer = BufferData.growing(1024);
+    }
+
+    @Benchmark
+    public void encode(Blackhole bh) {
+        buffer.clear();
+        headers.write(encoderTable, encoder, buffer);
+        bh.consume(buffer);
+    }
+
+    @Benchmark
+    public void encodeDecode(Blackhole bh) {
+        buffer.clear();
+        headers.write(encoderTable, encoder, buffer);
+        Http2FrameHeader frameHeader = Http2FrameHeader.create(buffer.available(), Http2FrameTypes.HEADERS, FLAGS, 1);
+        bh.consume(Http2Headers.create(null, decoderTable, decoder, new Http2FrameData(frameHeader, buffer)));
+    }
+}
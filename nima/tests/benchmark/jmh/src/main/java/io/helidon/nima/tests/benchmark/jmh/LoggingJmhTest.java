@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+import io.helidon.logging.jul.HelidonAsyncConsoleHandler;
+import io.helidon.logging.jul.HelidonConsoleHandler;
+import io.helidon.logging.jul.HelidonFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of logging a record on the calling thread with {@link HelidonFormatter},
+ * through the synchronous {@link HelidonConsoleHandler} and the {@link HelidonAsyncConsoleHandler}.
+ * Standard out is replaced with a stream that discards all data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingJmhTest {
+    private static final String FORMAT = "java.util.logging.SimpleFormatter.format="
+            + "%1$tY.%1$tm.%1$td %1$tH:%1$tM:%1$tS.%1$tL %4$s %3$s !thread!: %5$s%6$s %X{request}%n";
+
+    @Param({"sync", "async"})
+    private String handlerType;
+
+    private PrintStream originalOut;
+    private HelidonFormatter formatter;
+    private Handler handler;
+
+    @Setup
+    public void setup() throws IOException {
+        LogManager.getLogManager()
+                .readConfiguration(new ByteArrayInputStream(FORMAT.getBytes(StandardCharsets.UTF_8)));
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        formatter = new HelidonFormatter();
+        handler = "sync".equals(handlerType) ? new HelidonConsoleHandler() : new HelidonAsyncConsoleHandler();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        handler.close();
+        System.setOut(originalOut);
+        LogManager.getLogManager().readConfiguration();
+    }
+
+    @Benchmark
+    public void format(Blackhole bh) {
+        bh.consume(formatter.format(record()));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void publish() {
+        handler.publish(record());
+    }
+
+    private static LogRecord record() {
+        LogRecord record = new LogRecord(Level.INFO, "Processing request");
+        record.setLoggerName("io.helidon.nima.tests.benchmark.jmh.LoggingJmhTest");
+        return record;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.io.OutputStream;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.config.Config;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.nima.http.media.EntityWriter;
+import io.helidon.nima.http.media.MediaContext;
+import io.helidon.nima.http.media.jsonp.JsonpSupport;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Server response entity write throughput, including resolution of the entity writer in media context.
+ */
+@State(Scope.Benchmark)
+public class MediaContextJmhTest {
+    private static final GenericType<String> STRING_TYPE = GenericType.create(String.class);
+
+    private MediaContext mediaContext;
+    private WritableHeaders<?> requestHeaders;
+    private JsonObject jsonObject;
+
+    @Setup
+    public void setup() {
+        mediaContext = MediaContext.builder()
+                .discoverServices(false)
+                .addMediaSupport(JsonpSupport.create(Config.empty()))
+                .build();
+        requestHeaders = WritableHeaders.create()
+                .set(Http.Header.ACCEPT, "application/json, text/plain");
+        jsonObject = Json.createObjectBuilder()
+                .add("message", "Hello World!")
+                .build();
+    }
+
+    @Benchmark
+    public void writeString(Blackhole bh) {
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        EntityWriter<String> writer = mediaContext.writer(STRING_TYPE, requestHeaders, responseHeaders);
+        writer.write(STRING_TYPE, "Hello World!", OutputStream.nullOutputStream(), requestHeaders, responseHeaders);
+        bh.consume(responseHeaders);
+    }
+
+    @Benchmark
+    public void writeJson(Blackhole bh) {
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        EntityWriter<JsonObject> writer = mediaContext.writer(JsonpSupport.JSON_OBJECT_TYPE,
+                                                              requestHeaders,
+                                                              responseHeaders);
+        writer.write(JsonpSupport.JSON_OBJECT_TYPE, jsonObject, OutputStream.nullOutputStream(), requestHeaders,
+                     responseHeaders);
+        bh.consume(responseHeaders);
+    }
+
+    @Benchmark
+    public void resolveWriter(Blackhole bh) {
+        bh.consume(mediaContext.writer(STRING_TYPE, requestHeaders, WritableHeaders.create()));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.metrics.Registry;
+import io.helidon.metrics.api.RegistrySettings;
+import io.helidon.metrics.serviceapi.PrometheusFormat;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Prometheus scrape of a registry with many tagged series, created in memory as a string
+ * and streamed to an output stream (plain and gzip compressed).
+ */
+@State(Scope.Benchmark)
+public class PrometheusFormatJmhTest {
+    private static final int METRIC_NAMES = 100;
+
+    @Param({"10000", "100000"})
+    private int series;
+
+    private Registry registry;
+
+    @Setup
+    public void setup() {
+        registry = Registry.create(MetricRegistry.Type.APPLICATION, RegistrySettings.create());
+        for (int i = 0; i < series; i++) {
+            registry.counter("requests.count." + (i % METRIC_NAMES),
+                             new Tag("path", "/greet/" + (i / METRIC_NAMES)),
+                             new Tag("method", "GET"))
+                    .inc(i);
+        }
+    }
+
+    @Benchmark
+    public String string() {
+        return PrometheusFormat.prometheusData(registry);
+    }
+
+    @Benchmark
+    public void streaming() throws IOException {
+        try (Writer writer = new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8)) {
+            PrometheusFormat.prometheusData(writer, false, registry);
+        }
+    }
+
+    @Benchmark
+    public void streamingOpenMetricsGzip() throws IOException {
+        OutputStream gzip = new GZIPOutputStream(OutputStream.nullOutputStream());
+        try (Writer writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8)) {
+            PrometheusFormat.prometheusData(writer, true, registry);
+        }
+    }
+}
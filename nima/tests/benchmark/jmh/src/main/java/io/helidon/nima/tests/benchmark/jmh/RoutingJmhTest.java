@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.lang.reflect.Proxy;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.HttpPrologue;
+import io.helidon.nima.webserver.http.HttpRouting;
+import io.helidon.nima.webserver.http.RoutingRequest;
+import io.helidon.nima.webserver.http.RoutingResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Routing of a request through a routing with many routes (each with a path parameter), to the first, last,
+ * and a service registered route.
+ */
+@State(Scope.Benchmark)
+public class RoutingJmhTest {
+    @Param({"10", "100", "1000"})
+    private int routes;
+
+    private HttpRouting routing;
+    private RoutingResponse response;
+    private RoutingRequest firstRequest;
+    private RoutingRequest lastRequest;
+    private RoutingRequest serviceRequest;
+
+    @Setup
+    public void setup() {
+        HttpRouting.Builder builder = HttpRouting.builder();
+        for (int i = 0; i < routes; i++) {
+            String name = "resource" + i;
+            builder.get("/" + name + "/{id}", (req, res) -> res.send(name));
+            builder.post("/" + name, (req, res) -> res.send(name));
+        }
+        builder.register("/service", () -> rules -> rules.get("/items/{id}/parts/{part}",
+                                                              (req, res) -> res.send("service")));
+        routing = builder.build();
+
+        response = response();
+        firstRequest = request("/resource0/42");
+        lastRequest = request("/resource" + (routes - 1) + "/42");
+        serviceRequest = request("/service/items/42/parts/7");
+    }
+
+    @Benchmark
+    public void firstRoute(Blackhole bh) {
+        routing.route(null, firstRequest, response);
+        bh.consume(firstRequest);
+    }
+
+    @Benchmark
+    public void lastRoute(Blackhole bh) {
+        routing.route(null, lastRequest, response);
+        bh.consume(lastRequest);
+    }
+
+    @Benchmark
+    public void serviceRoute(Blackhole bh) {
+        routing.route(null, serviceRequest, response);
+        bh.consume(serviceRequest);
+    }
+
+    private static RoutingRequest request(String path) {
+        HttpPrologue prologue = HttpPrologue.create("HTTP/1.1", "HTTP", "1.1", Http.Method.GET, path, false);
+        return (RoutingRequest) Proxy.newProxyInstance(RoutingJmhTest.class.getClassLoader(),
+                                                       new Class<?>[] {RoutingRequest.class},
+                                                       (proxy, method, args) -> {
+                                                           if (method.getName().equals("prologue")
+                                                                   && method.getParameterCount() == 0) {
+                                                               return prologue;
+                                                           }
+                                                           return null;
+                                                       });
+    }
+
+    // response that reports an entity (as handlers always send), and ignores everything else
+    private static RoutingResponse response() {
+        return (RoutingResponse) Proxy.newProxyInstance(RoutingJmhTest.class.getClassLoader(),
+                                                        new Class<?>[] {RoutingResponse.class},
+                                                        (proxy, method, args) -> {
+                                                            Class<?> returnType = method.getReturnType();
+                                                            if (returnType == boolean.class) {
+                                                                return method.getName().equals("hasEntity");
+                                                            }
+                                                            if (returnType.isInstance(proxy)) {
+                                                                return proxy;
+                                                            }
+                                                            return null;
+                                                        });
+    }
+}
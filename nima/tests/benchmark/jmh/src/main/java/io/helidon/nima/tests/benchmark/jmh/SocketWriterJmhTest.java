@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.socket.HelidonSocket;
+import io.helidon.common.socket.PeerInfo;
+import io.helidon.common.socket.SocketWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares direct socket writes with the asynchronous (queued and batched) writer, with concurrent writers
+ * such as multiplexed HTTP/2 streams. The {@code baseline} writer is the previous asynchronous writer based on
+ * an {@link java.util.concurrent.ArrayBlockingQueue}.
+ */
+@State(Scope.Benchmark)
+public class SocketWriterJmhTest {
+    private static final byte[] SMALL = new byte[64];
+    private static final byte[] LARGE = new byte[32 * 1024];
+    private static final int WRITE_QUEUE_LENGTH = 32;
+
+    @Param({"direct", "async", "baseline"})
+    private String writerType;
+
+    private ExecutorService executor;
+    private CountingSocket socket;
+    private SocketWriter writer;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        socket = new CountingSocket();
+        writer = switch (writerType) {
+            case "direct" -> SocketWriter.create(executor, socket, 1);
+            case "async" -> SocketWriter.create(executor, socket, WRITE_QUEUE_LENGTH);
+            case "baseline" -> new ArrayBlockingQueueSocketWriter(executor, socket, WRITE_QUEUE_LENGTH);
+            default -> throw new IllegalArgumentException("Unknown writer type: " + writerType);
+        };
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        writer.close();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void smallBuffers(Blackhole bh) {
+        writer.write(BufferData.create(SMALL));
+        bh.consume(socket);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void mixedBuffers(Blackhole bh) {
+        writer.write(BufferData.create(SMALL));
+        writer.write(BufferData.create(LARGE));
+        bh.consume(socket);
+    }
+
+    private static final class CountingSocket implements HelidonSocket {
+        private final LongAdder written = new LongAdder();
+        private final OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.increment();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written.add(len);
+            }
+        };
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public int read(BufferData buffer) {
+            return 0;
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            buffer.writeTo(out);
+        }
+
+        @Override
+        public PeerInfo remotePeer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PeerInfo localPeer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String socketId() {
+            return "jmh";
+        }
+
+        @Override
+        public String childSocketId() {
+            return "writer";
+        }
+
+        @Override
+        public byte[] get() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.tests.benchmark.jmh;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.helidon.tracing.Span;
+import io.helidon.tracing.Tracer;
+import io.helidon.tracing.jaeger.JaegerTracerBuilder;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Latency of a traced request (a server span with a nested client span) with the simple and batch span processors.
+ * Spans are exported to a local stub exporter that simulates the round trip to a collector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TracingExportJmhTest {
+    private static final long EXPORT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"simple", "batch"})
+    private String processor;
+
+    private Tracer tracer;
+
+    @Setup
+    public void setup() {
+        tracer = JaegerTracerBuilder.forService("jmh")
+                .spanProcessorType("simple".equals(processor)
+                                           ? JaegerTracerBuilder.SpanProcessorType.SIMPLE
+                                           : JaegerTracerBuilder.SpanProcessorType.BATCH)
+                .exporter(new StubExporter())
+                .registerGlobal(false)
+                .build();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void request(Blackhole bh) {
+        Span server = tracer.spanBuilder("request").start();
+        Span client = tracer.spanBuilder("outbound")
+                .parent(server.context())
+                .start();
+        Blackhole.consumeCPU(100);
+        client.end();
+        server.end();
+        bh.consume(server);
+    }
+
+    private static final class StubExporter implements SpanExporter {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            // simulate network round trip to the collector
+            LockSupport.parkNanos(EXPORT_NANOS);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.webclient.metrics;
+
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+import io.helidon.metrics.api.RegistryFactory;
+import io.helidon.nima.webclient.http1.ConnectionPoolStatistics;
+import io.helidon.nima.webclient.http1.Http1Client;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Metrics of the keep alive connection pool of an HTTP/1.1 client.
+ * Gauges of leased and idle connections, of pending requests, and of the totals of created and evicted connections
+ * are registered in the vendor registry, tagged with the name of the client.
+ */
+public final class WebClientMetrics {
+    static final String NAME_PREFIX = "client.connections.";
+    static final String LEASED_NAME = "leased";
+    static final String IDLE_NAME = "idle";
+    static final String PENDING_NAME = "pending";
+    static final String CREATED_NAME = "created";
+    static final String EVICTED_NAME = "evicted";
+    static final String CLIENT_TAG = "client";
+
+    private WebClientMetrics() {
+    }
+
+    /**
+     * Register metrics of the connection pool of a client.
+     * Registering a client with the same name again replaces the metrics of the previous client.
+     *
+     * @param client client to observe
+     * @param name   name of the client, used as the value of the {@value #CLIENT_TAG} tag
+     */
+    public static void register(Http1Client client, String name) {
+        Objects.requireNonNull(client, "Client must not be null");
+
+        register(client.connectionPoolStatistics(), name);
+    }
+
+    // for unit tests
+    static void register(ConnectionPoolStatistics statistics, String name) {
+        Objects.requireNonNull(name, "Client name must not be null");
+
+        MetricRegistry registry = RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.VENDOR);
+        Tag clientTag = new Tag(CLIENT_TAG, name);
+
+        gauge(registry, statistics, clientTag, LEASED_NAME,
+              "Leased client connections",
+              "Number of client connections currently used by requests",
+              ConnectionPoolStatistics::leased);
+        gauge(registry, statistics, clientTag, IDLE_NAME,
+              "Idle client connections",
+              "Number of open client connections waiting in the pool to be reused",
+              ConnectionPoolStatistics::idle);
+        gauge(registry, statistics, clientTag, PENDING_NAME,
+              "Pending client requests",
+              "Number of requests waiting for a connection, because connection limits were reached",
+              ConnectionPoolStatistics::pending);
+        gauge(registry, statistics, clientTag, CREATED_NAME,
+              "Created client connections",
+              "Number of keep alive connections opened by the pool",
+              ConnectionPoolStatistics::created);
+        gauge(registry, statistics, clientTag, EVICTED_NAME,
+              "Evicted client connections",
+              "Number of connections closed by the pool because of its limits, idle timeout or maximal lifetime",
+              ConnectionPoolStatistics::evicted);
+    }
+
+    private static void gauge(MetricRegistry registry,
+                              ConnectionPoolStatistics statistics,
+                              Tag clientTag,
+                              String name,
+                              String displayName,
+                              String description,
+                              ToLongFunction<ConnectionPoolStatistics> value) {
+        // the registry returns an existing gauge, remove it so the gauge reads the statistics of the new client
+        registry.remove(new MetricID(NAME_PREFIX + name, clientTag));
+        registry.gauge(metadata(name, displayName, description),
+                       statistics,
+                       value::applyAsLong,
+                       clientTag);
+    }
+
+    private static Metadata metadata(String name, String displayName, String description) {
+        return Metadata.builder()
+                .withName(NAME_PREFIX + name)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.NONE)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.webclient.metrics;
+
+import io.helidon.metrics.api.RegistryFactory;
+import io.helidon.nima.webclient.http1.ConnectionPoolStatistics;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+
+class WebClientMetricsTest {
+    private final MetricRegistry registry = RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.VENDOR);
+
+    @Test
+    void testRegisterAndRead() {
+        WebClientMetrics.register(new TestStatistics(1, 2, 3, 4, 5), "read");
+
+        Tag tag = new Tag(WebClientMetrics.CLIENT_TAG, "read");
+        assertThat(value(WebClientMetrics.LEASED_NAME, tag), is(1L));
+        assertThat(value(WebClientMetrics.IDLE_NAME, tag), is(2L));
+        assertThat(value(WebClientMetrics.PENDING_NAME, tag), is(3L));
+        assertThat(value(WebClientMetrics.CREATED_NAME, tag), is(4L));
+        assertThat(value(WebClientMetrics.EVICTED_NAME, tag), is(5L));
+        // totals are maintained by the pool, they are not exposed as counters anyone could increment
+        assertThat(registry.getMetric(new MetricID(WebClientMetrics.NAME_PREFIX + WebClientMetrics.CREATED_NAME, tag)),
+                   not(instanceOf(Counter.class)));
+    }
+
+    @Test
+    void testRegisterAgainReplaces() {
+        WebClientMetrics.register(new TestStatistics(1, 1, 1, 1, 1), "replace");
+        WebClientMetrics.register(new TestStatistics(7, 7, 7, 7, 7), "replace");
+
+        Tag tag = new Tag(WebClientMetrics.CLIENT_TAG, "replace");
+        assertThat(value(WebClientMetrics.LEASED_NAME, tag), is(7L));
+        assertThat(value(WebClientMetrics.EVICTED_NAME, tag), is(7L));
+    }
+
+    private long value(String name, Tag tag) {
+        Gauge<?> gauge = registry.getGauge(new MetricID(WebClientMetrics.NAME_PREFIX + name, tag));
+        assertThat(name, gauge, notNullValue());
+        return ((Number) gauge.getValue()).longValue();
+    }
+
+    private record TestStatistics(int leased, int idle, int pending, long created, long evicted)
+            implements ConnectionPoolStatistics {
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webclient;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Objects;
+
+import io.helidon.nima.webclient.spi.DnsResolver;
+
+/**
+ * DNS resolver that caches resolved addresses for a configurable time to live.
+ * <p>
+ * Addresses are refreshed in the background shortly before they expire, while the cached addresses are still used,
+ * so requests do not wait for DNS lookups. Failed lookups are cached for a shorter time.
+ * Connections are balanced across all resolved addresses (unless disabled), and an address that failed to connect
+ * is skipped for a while if another address is available.
+ */
+public final class CachingDnsResolver implements DnsResolver {
+    private final DnsCache cache;
+
+    private CachingDnsResolver(Builder builder) {
+        this.cache = new DnsCache(builder.ttl,
+                                  builder.negativeTtl,
+                                  builder.refreshAhead,
+                                  builder.failedAddressEjection,
+                                  builder.roundRobin);
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance with default configuration.
+     *
+     * @return new instance
+     */
+    public static CachingDnsResolver create() {
+        return builder().build();
+    }
+
+    @Override
+    public InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup) {
+        return cache.resolve(hostname, dnsAddressLookup);
+    }
+
+    @Override
+    public void addressFailed(String hostname, DnsAddressLookup dnsAddressLookup, InetAddress address) {
+        cache.failed(hostname, dnsAddressLookup, address);
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.nima.webclient.CachingDnsResolver}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, CachingDnsResolver> {
+        private Duration ttl = Duration.ofSeconds(30);
+        private Duration negativeTtl = Duration.ofSeconds(5);
+        private Duration refreshAhead = Duration.ofSeconds(5);
+        private Duration failedAddressEjection = Duration.ofSeconds(30);
+        private boolean roundRobin = true;
+
+        private Builder() {
+        }
+
+        @Override
+        public CachingDnsResolver build() {
+            return new CachingDnsResolver(this);
+        }
+
+        /**
+         * How long resolved addresses are cached.
+         * Defaults to 30 seconds.
+         *
+         * @param ttl time to live of resolved addresses
+         * @return updated builder
+         */
+        public Builder ttl(Duration ttl) {
+            Objects.requireNonNull(ttl);
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * How long a failed lookup is cached.
+         * Defaults to 5 seconds.
+         *
+         * @param negativeTtl time to live of failed lookups
+         * @return updated builder
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            Objects.requireNonNull(negativeTtl);
+            this.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        /**
+         * How long before expiration the addresses are refreshed in the background.
+         * Defaults to 5 seconds.
+         *
+         * @param refreshAhead time before expiration to start a background refresh
+         * @return updated builder
+         */
+        public Builder refreshAhead(Duration refreshAhead) {
+            Objects.requireNonNull(refreshAhead);
+            this.refreshAhead = refreshAhead;
+            return this;
+        }
+
+        /**
+         * How long an address that failed to connect is skipped.
+         * Defaults to 30 seconds, use {@link java.time.Duration#ZERO} to never skip addresses.
+         *
+         * @param failedAddressEjection time to skip a failed address
+         * @return updated builder
+         */
+        public Builder failedAddressEjection(Duration failedAddressEjection) {
+            Objects.requireNonNull(failedAddressEjection);
+            this.failedAddressEjection = failedAddressEjection;
+            return this;
+        }
+
+        /**
+         * Whether to rotate across all resolved addresses, or to always use the first one that did not fail.
+         * Defaults to {@code true}.
+         *
+         * @param roundRobin whether to use round-robin
+         * @return updated builder
+         */
+        public Builder roundRobin(boolean roundRobin) {
+            this.roundRobin = roundRobin;
+            return this;
+        }
+    }
+}
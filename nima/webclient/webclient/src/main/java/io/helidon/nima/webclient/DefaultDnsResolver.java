@@ -17,29 +17,28 @@
 package io.helidon.nima.webclient;
 
 import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 
 import io.helidon.nima.webclient.spi.DnsResolver;
 
+/**
+ * Resolves the first address of a host, caching it for 30 seconds (refreshed in background before it expires).
+ * If connecting to the address fails, other addresses of the host are used for a while.
+ */
 final class DefaultDnsResolver implements DnsResolver {
-
-    private final Map<String, InetAddress> hostnameAddresses = new ConcurrentHashMap<>();
+    private final DnsCache cache = new DnsCache(Duration.ofSeconds(30),
+                                                Duration.ofSeconds(5),
+                                                Duration.ofSeconds(5),
+                                                Duration.ofSeconds(30),
+                                                false);
 
     @Override
     public InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup) {
-        return hostnameAddresses.computeIfAbsent(hostname, host -> {
-            try {
-                InetAddress[] processed = dnsAddressLookup.filter(InetAddress.getAllByName(hostname));
-                if (processed.length == 0) {
-                    throw new RuntimeUnknownHostException("No IP version " + dnsAddressLookup.name() + " found for host " + host);
-                }
-                return processed[0];
-            } catch (UnknownHostException e) {
-                throw new RuntimeUnknownHostException(e);
-            }
-        });
+        return cache.resolve(hostname, dnsAddressLookup);
     }
 
+    @Override
+    public void addressFailed(String hostname, DnsAddressLookup dnsAddressLookup, InetAddress address) {
+        cache.failed(hostname, dnsAddressLookup, address);
+    }
 }
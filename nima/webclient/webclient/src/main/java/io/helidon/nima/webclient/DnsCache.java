@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webclient;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Cache of resolved addresses shared by the DNS resolvers of this module.
+ * <p>
+ * Addresses are cached for a time to live. Shortly before they expire, they are refreshed in the background while
+ * the cached addresses are still used. Failed lookups are cached for a shorter time. Addresses that failed to connect
+ * are skipped for a while, as long as there is another address available.
+ */
+final class DnsCache {
+    private static final System.Logger LOGGER = System.getLogger(DnsCache.class.getName());
+
+    private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long refreshAheadNanos;
+    private final long ejectionNanos;
+    private final boolean rotate;
+    private final Lookup lookup;
+    private final LongSupplier nanoTime;
+
+    DnsCache(Duration ttl, Duration negativeTtl, Duration refreshAhead, Duration ejection, boolean rotate) {
+        this(ttl, negativeTtl, refreshAhead, ejection, rotate, InetAddress::getAllByName, System::nanoTime);
+    }
+
+    DnsCache(Duration ttl,
+             Duration negativeTtl,
+             Duration refreshAhead,
+             Duration ejection,
+             boolean rotate,
+             Lookup lookup,
+             LongSupplier nanoTime) {
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.refreshAheadNanos = Math.min(refreshAhead.toNanos(), ttlNanos);
+        this.ejectionNanos = ejection.toNanos();
+        this.rotate = rotate;
+        this.lookup = lookup;
+        this.nanoTime = nanoTime;
+    }
+
+    InetAddress resolve(String hostname, DnsAddressLookup addressLookup) {
+        Entry entry = entries.computeIfAbsent(new CacheKey(hostname, addressLookup), Entry::new);
+        long now = nanoTime.getAsLong();
+        Resolved resolved = entry.resolved;
+
+        if (resolved == null || now - resolved.expiresAt >= 0) {
+            resolved = entry.resolveNow(now);
+        } else if (resolved.failure == null
+                && now - (resolved.expiresAt - refreshAheadNanos) >= 0
+                && entry.refreshing.compareAndSet(false, true)) {
+            // still valid, but about to expire - refresh in background and use what we have
+            Thread.ofVirtual()
+                    .name("dns-refresh-" + hostname)
+                    .start(entry::refresh);
+        }
+
+        if (resolved.failure != null) {
+            throw new RuntimeUnknownHostException(resolved.failure);
+        }
+        return entry.select(resolved.addresses, now);
+    }
+
+    void failed(String hostname, DnsAddressLookup addressLookup, InetAddress address) {
+        Entry entry = entries.get(new CacheKey(hostname, addressLookup));
+        if (entry != null && ejectionNanos > 0) {
+            entry.ejectedUntil.put(address, nanoTime.getAsLong() + ejectionNanos);
+        }
+    }
+
+    @FunctionalInterface
+    interface Lookup {
+        InetAddress[] lookup(String hostname) throws UnknownHostException;
+    }
+
+    private record CacheKey(String hostname, DnsAddressLookup addressLookup) {
+    }
+
+    // either addresses, or a failure
+    private record Resolved(InetAddress[] addresses, String failure, long expiresAt) {
+    }
+
+    private final class Entry {
+        private final CacheKey key;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final AtomicInteger counter = new AtomicInteger();
+        private final Map<InetAddress, Long> ejectedUntil = new ConcurrentHashMap<>();
+        private volatile Resolved resolved;
+
+        private Entry(CacheKey key) {
+            this.key = key;
+        }
+
+        private Resolved resolveNow(long now) {
+            lock.lock();
+            try {
+                Resolved current = resolved;
+                if (current != null && now - current.expiresAt < 0) {
+                    // another thread resolved it while we waited
+                    return current;
+                }
+                current = lookup();
+                resolved = current;
+                return current;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refresh() {
+            try {
+                Resolved refreshed = lookup();
+                if (refreshed.failure == null) {
+                    resolved = refreshed;
+                } else {
+                    // keep using the addresses we have until they expire
+                    LOGGER.log(DEBUG, () -> "Failed to refresh addresses of " + key.hostname() + ": " + refreshed.failure);
+                }
+            } finally {
+                refreshing.set(false);
+            }
+        }
+
+        private Resolved lookup() {
+            String hostname = key.hostname();
+            DnsAddressLookup addressLookup = key.addressLookup();
+            try {
+                InetAddress[] processed = addressLookup.filter(lookup.lookup(hostname));
+                long now = nanoTime.getAsLong();
+                if (processed.length == 0) {
+                    return new Resolved(null,
+                                        "No IP version " + addressLookup.name() + " found for host " + hostname,
+                                        now + negativeTtlNanos);
+                }
+                // addresses that are no longer returned cannot stay ejected
+                ejectedUntil.keySet().retainAll(Arrays.asList(processed));
+                return new Resolved(processed, null, now + ttlNanos);
+            } catch (UnknownHostException e) {
+                String message = e.getMessage() == null ? hostname : e.getMessage();
+                return new Resolved(null, message, nanoTime.getAsLong() + negativeTtlNanos);
+            }
+        }
+
+        private InetAddress select(InetAddress[] addresses, long now) {
+            int start = rotate ? Math.floorMod(counter.getAndIncrement(), addresses.length) : 0;
+            if (ejectedUntil.isEmpty()) {
+                return addresses[start];
+            }
+            for (int i = 0; i < addresses.length; i++) {
+                InetAddress candidate = addresses[(start + i) % addresses.length];
+                Long until = ejectedUntil.get(candidate);
+                if (until == null) {
+                    return candidate;
+                }
+                if (now - until >= 0) {
+                    ejectedUntil.remove(candidate, until);
+                    return candidate;
+                }
+            }
+            // all addresses failed recently, better to try one than to fail without trying
+            return addresses[start];
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,19 +17,21 @@
 package io.helidon.nima.webclient;
 
 import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.time.Duration;
 
 import io.helidon.nima.webclient.spi.DnsResolver;
 
 /**
  * Round-robin DNS resolver implementation.
+ * Resolved addresses are cached for 30 seconds, see {@link io.helidon.nima.webclient.CachingDnsResolver} to configure
+ * caching.
  */
 public final class RoundRobinDnsResolver implements DnsResolver {
-
-    private final Map<String, HostnameAddresses> hostnameAddresses = new HashMap<>();
+    private final DnsCache cache = new DnsCache(Duration.ofSeconds(30),
+                                                Duration.ofSeconds(5),
+                                                Duration.ofSeconds(5),
+                                                Duration.ofSeconds(30),
+                                                true);
 
     private RoundRobinDnsResolver() {
     }
@@ -45,21 +47,11 @@ public final class RoundRobinDnsResolver implements DnsResolver {
 
     @Override
     public InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup) {
-        HostnameAddresses hostnameAddress = hostnameAddresses.computeIfAbsent(hostname, host -> {
-            try {
-                InetAddress[] processed = dnsAddressLookup.filter(InetAddress.getAllByName(host));
-                if (processed.length == 0) {
-                    throw new RuntimeUnknownHostException("No IP version " + dnsAddressLookup.name() + " found for host " + host);
-                }
-                return new HostnameAddresses(new AtomicInteger(), processed);
-            } catch (UnknownHostException e) {
-                throw new RuntimeUnknownHostException(e);
-            }
-        });
-        return hostnameAddress.addresses[hostnameAddress.count.getAndIncrement() % hostnameAddress.addresses.length];
+        return cache.resolve(hostname, dnsAddressLookup);
     }
 
-    private record HostnameAddresses(AtomicInteger count, InetAddress[] addresses) {
+    @Override
+    public void addressFailed(String hostname, DnsAddressLookup dnsAddressLookup, InetAddress address) {
+        cache.failed(hostname, dnsAddressLookup, address);
     }
-
 }
@@ -50,6 +50,7 @@ class ClientRequestImpl implements Http1ClientRequest {
     private final UriHelper uri;
     private final String requestId;
     private final Http1ClientConfig clientConfig;
+    private final ConnectionCache connectionCache;
 
     private WritableHeaders<?> explicitHeaders = WritableHeaders.create();
     private Tls tls;
@@ -58,6 +59,7 @@ class ClientRequestImpl implements Http1ClientRequest {
     private UriFragment fragment;
 
     ClientRequestImpl(Http1ClientConfig clientConfig,
+                      ConnectionCache connectionCache,
                       Http.Method method,
                       UriHelper helper,
                       UriQueryWriteable query) {
@@ -65,6 +67,7 @@ class ClientRequestImpl implements Http1ClientRequest {
         this.uri = helper;
 
         this.clientConfig = clientConfig;
+        this.connectionCache = connectionCache;
         this.tls = clientConfig.tls().orElse(null);
         this.query = query;
 
@@ -139,6 +142,7 @@ class ClientRequestImpl implements Http1ClientRequest {
         CompletableFuture<WebClientServiceRequest> whenSent = new CompletableFuture<>();
         CompletableFuture<WebClientServiceResponse> whenComplete = new CompletableFuture<>();
         WebClientService.Chain callChain = new HttpCallEntityChain(clientConfig,
+                                                                   connectionCache,
                                                                    connection,
                                                                    tls,
                                                                    whenSent,
@@ -155,6 +159,7 @@ class ClientRequestImpl implements Http1ClientRequest {
         CompletableFuture<WebClientServiceRequest> whenSent = new CompletableFuture<>();
         CompletableFuture<WebClientServiceResponse> whenComplete = new CompletableFuture<>();
         WebClientService.Chain callChain = new HttpCallOutputStreamChain(clientConfig,
+                                                                         connectionCache,
                                                                          connection,
                                                                          tls,
                                                                          whenSent,
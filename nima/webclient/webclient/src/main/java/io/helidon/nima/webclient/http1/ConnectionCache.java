@@ -16,10 +16,19 @@
 
 package io.helidon.nima.webclient.http1;
 
+import java.lang.ref.WeakReference;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.helidon.common.http.ClientRequestHeaders;
 import io.helidon.common.http.Http;
@@ -32,28 +41,165 @@ import static java.lang.System.Logger.Level.DEBUG;
 
 /**
  * Cache of HTTP/1.1 connections for keep alive.
+ * Each client has its own cache, limiting the number of connections per route and in total, and closing connections
+ * that are idle for too long or exceed their lifetime.
  */
-class ConnectionCache {
+class ConnectionCache implements ConnectionPoolStatistics {
     private static final System.Logger LOGGER = System.getLogger(ConnectionCache.class.getName());
     private static final String HTTPS = "https";
-    private static final Map<KeepAliveKey, LinkedBlockingDeque<Http1ClientConnection>> CHANNEL_CACHE = new ConcurrentHashMap<>();
+    private static final long MIN_REAPER_PERIOD_MILLIS = 100;
+    private static final long MAX_REAPER_PERIOD_MILLIS = 5000;
 
-    private ConnectionCache() {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition connectionAvailable = lock.newCondition();
+    private final Map<KeepAliveKey, Route> routes = new HashMap<>();
+    private final AtomicBoolean reaperRunning = new AtomicBoolean();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final Http1ClientConfig clientConfig;
+    private final int maxConnectionsPerRoute;
+    private final int maxConnections;
+    private final long acquireTimeoutNanos;
+    private final long idleTimeoutNanos;
+    private final long maxLifetimeNanos;
+    private final long reaperPeriodMillis;
+
+    // guarded by lock, volatile to allow reading statistics without locking
+    private volatile int open;
+    private volatile int leased;
+    private volatile int idle;
+    private volatile int pending;
+
+    ConnectionCache(Http1ClientConfig clientConfig) {
+        this.clientConfig = clientConfig;
+        this.maxConnectionsPerRoute = clientConfig.maxConnectionsPerRoute();
+        this.maxConnections = clientConfig.maxConnections();
+        this.acquireTimeoutNanos = clientConfig.connectionAcquireTimeout().toNanos();
+        this.idleTimeoutNanos = clientConfig.connectionIdleTimeout().toNanos();
+        this.maxLifetimeNanos = clientConfig.connectionMaxLifetime().toNanos();
+        this.reaperPeriodMillis = reaperPeriod(clientConfig.connectionIdleTimeout(), clientConfig.connectionMaxLifetime());
+    }
+
+    @Override
+    public int leased() {
+        return leased;
     }
 
-    static ClientConnection connection(Http1ClientConfig clientConfig,
-                                       Tls tls,
-                                       UriHelper uri,
-                                       ClientRequestHeaders headers) {
+    @Override
+    public int idle() {
+        return idle;
+    }
+
+    @Override
+    public int pending() {
+        return pending;
+    }
+
+    @Override
+    public long created() {
+        return created.sum();
+    }
+
+    @Override
+    public long evicted() {
+        return evicted.sum();
+    }
+
+    ClientConnection connection(Tls tls,
+                                UriHelper uri,
+                                ClientRequestHeaders headers) {
         boolean keepAlive = handleKeepAlive(clientConfig.defaultKeepAlive(), headers);
         Tls effectiveTls = HTTPS.equals(uri.scheme()) ? tls : null;
         if (keepAlive) {
-            return keepAliveConnection(clientConfig, effectiveTls, uri);
+            return keepAliveConnection(effectiveTls, uri);
         } else {
-            return oneOffConnection(clientConfig, effectiveTls, uri);
+            return oneOffConnection(effectiveTls, uri);
+        }
+    }
+
+    /*
+     * Return a leased connection to the pool, or close it if it cannot be reused.
+     */
+    void release(Http1ClientConnection connection) {
+        boolean pooled = false;
+        lock.lock();
+        try {
+            if (connection.poolState() != PoolState.LEASED) {
+                return;
+            }
+            leased--;
+            Route route = connection.route();
+            long now = System.nanoTime();
+            if (usable(connection, now) && route.idle.size() < clientConfig.connectionQueueSize()) {
+                connection.poolState(PoolState.IDLE);
+                connection.idleSince(now);
+                // most recently used connections are reused first, so the others may time out
+                route.idle.addFirst(connection);
+                idle++;
+                pooled = true;
+            } else {
+                discard(route, connection);
+            }
+            signalWaiting();
+        } finally {
+            lock.unlock();
+        }
+
+        if (pooled) {
+            LOGGER.log(DEBUG, () -> String.format("[%s] client connection returned %s",
+                                                  connection.channelId(),
+                                                  Thread.currentThread().getName()));
+            startReaper();
+        } else {
+            LOGGER.log(DEBUG, () -> String.format("[%s] Unable to return client connection to the pool %s",
+                                                  connection.channelId(),
+                                                  Thread.currentThread().getName()));
+            connection.closeSocket();
+        }
+    }
+
+    /*
+     * Connection was closed outside of the pool (such as when the server requested connection close).
+     */
+    void closed(Http1ClientConnection connection) {
+        lock.lock();
+        try {
+            PoolState state = connection.poolState();
+            if (state == PoolState.CLOSED) {
+                return;
+            }
+            Route route = connection.route();
+            if (state == PoolState.LEASED) {
+                leased--;
+            } else {
+                route.idle.remove(connection);
+                idle--;
+            }
+            connection.poolState(PoolState.CLOSED);
+            open--;
+            route.open--;
+            removeUnused(route);
+            signalWaiting();
+        } finally {
+            lock.unlock();
         }
     }
 
+    private static long reaperPeriod(Duration idleTimeout, Duration maxLifetime) {
+        long shortest = Long.MAX_VALUE;
+        if (!idleTimeout.isZero() && !idleTimeout.isNegative()) {
+            shortest = idleTimeout.toMillis();
+        }
+        if (!maxLifetime.isZero() && !maxLifetime.isNegative()) {
+            shortest = Math.min(shortest, maxLifetime.toMillis());
+        }
+        if (shortest == Long.MAX_VALUE) {
+            // nothing expires, no need for background eviction
+            return 0;
+        }
+        return Math.max(MIN_REAPER_PERIOD_MILLIS, Math.min(MAX_REAPER_PERIOD_MILLIS, shortest / 2));
+    }
+
     private static boolean handleKeepAlive(boolean defaultKeepAlive, WritableHeaders<?> headers) {
         if (headers.contains(Http.HeaderValues.CONNECTION_CLOSE)) {
             return false;
@@ -69,9 +215,13 @@ class ConnectionCache {
         return false;
     }
 
-    private static ClientConnection keepAliveConnection(Http1ClientConfig clientConfig,
-                                                        Tls tls,
-                                                        UriHelper uri) {
+    private static void closeAll(List<Http1ClientConnection> connections) {
+        for (Http1ClientConnection connection : connections) {
+            connection.closeSocket();
+        }
+    }
+
+    private ClientConnection keepAliveConnection(Tls tls, UriHelper uri) {
         // todo add proxy to the key
         KeepAliveKey keepAliveKey = new KeepAliveKey(uri.scheme(),
                                                      uri.authority(),
@@ -79,36 +229,71 @@ class ConnectionCache {
                                                      clientConfig.socketOptions().connectTimeout(),
                                                      clientConfig.socketOptions().readTimeout());
 
-        var connectionQueue = CHANNEL_CACHE.computeIfAbsent(keepAliveKey,
-                                                            it -> new LinkedBlockingDeque<>(clientConfig.connectionQueueSize()));
-
+        List<Http1ClientConnection> toClose = new ArrayList<>();
         Http1ClientConnection connection;
-        while ((connection = connectionQueue.poll()) != null && !connection.isConnected()) {
-        }
-
-        if (connection == null) {
-            connection = new Http1ClientConnection(clientConfig.socketOptions(),
-                                                   connectionQueue,
-                                                   new ConnectionKey(uri.scheme(),
-                                                                     uri.host(),
-                                                                     uri.port(),
-                                                                     tls,
-                                                                     clientConfig.dnsResolver(),
-                                                                     clientConfig.dnsAddressLookup()))
-                    .connect();
-        } else {
+        Route route;
+        lock.lock();
+        try {
+            route = routes.computeIfAbsent(keepAliveKey, Route::new);
+            long deadline = System.nanoTime() + acquireTimeoutNanos;
+            while (true) {
+                connection = pollIdle(route, toClose);
+                if (connection != null) {
+                    break;
+                }
+                if (canOpen(route) || (blockedByMaxConnections(route) && evictLeastRecentlyUsed(toClose))) {
+                    open++;
+                    route.open++;
+                    leased++;
+                    break;
+                }
+                awaitConnection(route, deadline - System.nanoTime(), uri);
+            }
+        } finally {
+            lock.unlock();
+            closeAll(toClose);
+        }
+
+        if (connection != null) {
             if (LOGGER.isLoggable(DEBUG)) {
                 LOGGER.log(DEBUG, String.format("[%s] client connection obtained %s",
                                                 connection.channelId(),
                                                 Thread.currentThread().getName()));
             }
+            return connection;
+        }
+
+        // we have reserved space for a new connection
+        connection = new Http1ClientConnection(clientConfig.socketOptions(),
+                                               this,
+                                               route,
+                                               new ConnectionKey(uri.scheme(),
+                                                                 uri.host(),
+                                                                 uri.port(),
+                                                                 tls,
+                                                                 clientConfig.dnsResolver(),
+                                                                 clientConfig.dnsAddressLookup()));
+        try {
+            connection.connect();
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                connection.poolState(PoolState.CLOSED);
+                open--;
+                route.open--;
+                leased--;
+                removeUnused(route);
+                signalWaiting();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
         }
+        created.increment();
         return connection;
     }
 
-    private static ClientConnection oneOffConnection(Http1ClientConfig clientConfig,
-                                                     Tls tls,
-                                                     UriHelper uri) {
+    private ClientConnection oneOffConnection(Tls tls, UriHelper uri) {
         return new Http1ClientConnection(clientConfig.socketOptions(), new ConnectionKey(uri.scheme(),
                                                                                          uri.host(),
                                                                                          uri.port(),
@@ -118,6 +303,213 @@ class ConnectionCache {
                 .connect();
     }
 
+    // must be called while holding the lock
+    private Http1ClientConnection pollIdle(Route route, List<Http1ClientConnection> toClose) {
+        long now = System.nanoTime();
+        Http1ClientConnection connection;
+        while ((connection = route.idle.pollFirst()) != null) {
+            idle--;
+            if (usable(connection, now)) {
+                connection.poolState(PoolState.LEASED);
+                leased++;
+                return connection;
+            }
+            discard(route, connection);
+            toClose.add(connection);
+        }
+        return null;
+    }
+
+    // must be called while holding the lock
+    private void awaitConnection(Route route, long remainingNanos, UriHelper uri) {
+        if (remainingNanos <= 0) {
+            throw new IllegalStateException("Timed out waiting for a connection to " + uri.authority()
+                                                    + ", connection limit reached");
+        }
+        pending++;
+        route.pending++;
+        try {
+            connectionAvailable.awaitNanos(remainingNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a connection to " + uri.authority(), e);
+        } finally {
+            pending--;
+            route.pending--;
+        }
+    }
+
+    // must be called while holding the lock
+    private boolean canOpen(Route route) {
+        return (maxConnectionsPerRoute < 0 || route.open < maxConnectionsPerRoute)
+                && (maxConnections < 0 || open < maxConnections);
+    }
+
+    // must be called while holding the lock
+    // only the global limit can be resolved by evicting an idle connection of another route
+    private boolean blockedByMaxConnections(Route route) {
+        return (maxConnectionsPerRoute < 0 || route.open < maxConnectionsPerRoute)
+                && maxConnections >= 0
+                && open >= maxConnections;
+    }
+
+    // must be called while holding the lock
+    private boolean evictLeastRecentlyUsed(List<Http1ClientConnection> toClose) {
+        Route oldestRoute = null;
+        Http1ClientConnection oldest = null;
+        for (Route route : routes.values()) {
+            Http1ClientConnection candidate = route.idle.peekLast();
+            if (candidate != null && (oldest == null || candidate.idleSince() - oldest.idleSince() < 0)) {
+                oldest = candidate;
+                oldestRoute = route;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        oldestRoute.idle.pollLast();
+        idle--;
+        discard(oldestRoute, oldest);
+        toClose.add(oldest);
+        return true;
+    }
+
+    // must be called while holding the lock, the connection must already be removed from idle connections
+    private void discard(Route route, Http1ClientConnection connection) {
+        connection.poolState(PoolState.CLOSED);
+        open--;
+        route.open--;
+        if (connection.isConnected()) {
+            // closed because of the pool limits, idle timeout or maximal lifetime, not because the peer disconnected
+            evicted.increment();
+        }
+        removeUnused(route);
+    }
+
+    // must be called while holding the lock
+    private void removeUnused(Route route) {
+        if (route.open == 0 && route.pending == 0) {
+            routes.remove(route.key);
+        }
+    }
+
+    // must be called while holding the lock
+    private void signalWaiting() {
+        if (pending > 0) {
+            connectionAvailable.signalAll();
+        }
+    }
+
+    private boolean usable(Http1ClientConnection connection, long now) {
+        if (!connection.isConnected()) {
+            return false;
+        }
+        if (maxLifetimeNanos > 0 && now - connection.createdNanos() >= maxLifetimeNanos) {
+            return false;
+        }
+        if (idleTimeoutNanos > 0 && connection.poolState() == PoolState.IDLE) {
+            return now - connection.idleSince() < idleTimeoutNanos;
+        }
+        return true;
+    }
+
+    private void startReaper() {
+        if (reaperPeriodMillis > 0 && reaperRunning.compareAndSet(false, true)) {
+            Thread.ofVirtual()
+                    .name("http1-client-connection-reaper")
+                    .start(new Reaper(this, reaperPeriodMillis));
+        }
+    }
+
+    /*
+     * Closes idle connections that are expired or no longer connected.
+     * Returns false if there are no idle connections left, in which case the reaper stops.
+     */
+    private boolean evictExpired() {
+        List<Http1ClientConnection> toClose = new ArrayList<>();
+        try {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                for (Route route : List.copyOf(routes.values())) {
+                    Iterator<Http1ClientConnection> iterator = route.idle.descendingIterator();
+                    while (iterator.hasNext()) {
+                        Http1ClientConnection connection = iterator.next();
+                        if (!usable(connection, now)) {
+                            iterator.remove();
+                            idle--;
+                            discard(route, connection);
+                            toClose.add(connection);
+                        }
+                    }
+                }
+                if (idle == 0) {
+                    // next connection returned to the pool starts a new reaper
+                    reaperRunning.set(false);
+                    return false;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            if (!toClose.isEmpty()) {
+                LOGGER.log(DEBUG, () -> "Evicting " + toClose.size() + " idle client connections");
+                closeAll(toClose);
+            }
+        }
+    }
+
+    enum PoolState {
+        LEASED,
+        IDLE,
+        CLOSED
+    }
+
+    static final class Route {
+        private final KeepAliveKey key;
+        // idle connections, most recently used first
+        private final ArrayDeque<Http1ClientConnection> idle = new ArrayDeque<>();
+        private int open;
+        private int pending;
+
+        private Route(KeepAliveKey key) {
+            this.key = key;
+        }
+    }
+
+    /*
+     * Only keeps a weak reference to the cache, so a client that is no longer used can be garbage collected.
+     */
+    private static final class Reaper implements Runnable {
+        private final WeakReference<ConnectionCache> cache;
+        private final long periodMillis;
+
+        private Reaper(ConnectionCache cache, long periodMillis) {
+            this.cache = new WeakReference<>(cache);
+            this.periodMillis = periodMillis;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(periodMillis);
+                } catch (InterruptedException e) {
+                    ConnectionCache connectionCache = cache.get();
+                    if (connectionCache != null) {
+                        connectionCache.reaperRunning.set(false);
+                    }
+                    return;
+                }
+                ConnectionCache connectionCache = cache.get();
+                if (connectionCache == null || !connectionCache.evictExpired()) {
+                    return;
+                }
+            }
+        }
+    }
+
     private record KeepAliveKey(String scheme, String authority, Tls tlsConfig, Duration connectTimeout, Duration readTimeout) {
     }
 }
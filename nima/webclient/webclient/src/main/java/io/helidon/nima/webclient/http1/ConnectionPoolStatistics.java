@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webclient.http1;
+
+/**
+ * Statistics of the keep alive connection pool of an HTTP/1.1 client.
+ * Values are a snapshot and may change concurrently.
+ */
+public interface ConnectionPoolStatistics {
+    /**
+     * Number of connections currently used by requests.
+     *
+     * @return leased connections
+     */
+    int leased();
+
+    /**
+     * Number of open connections waiting in the pool to be reused.
+     *
+     * @return idle connections
+     */
+    int idle();
+
+    /**
+     * Number of requests waiting for a connection, because connection limits were reached.
+     *
+     * @return pending requests
+     */
+    int pending();
+
+    /**
+     * Total number of keep alive connections opened by the pool.
+     *
+     * @return created connections
+     */
+    long created();
+
+    /**
+     * Total number of connections closed by the pool, because they were idle for too long, exceeded their lifetime,
+     * or did not fit into the pool. Connections discarded because they were no longer connected are not counted.
+     *
+     * @return evicted connections
+     */
+    long evicted();
+}
@@ -17,6 +17,7 @@
 package io.helidon.nima.webclient.http1;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
@@ -49,6 +50,13 @@ public interface Http1Client extends HttpClient<Http1ClientRequest, Http1ClientR
         return new Http1ClientBuilder();
     }
 
+    /**
+     * Statistics of the keep alive connection pool of this client.
+     *
+     * @return connection pool statistics
+     */
+    ConnectionPoolStatistics connectionPoolStatistics();
+
     /**
      * Builder for {@link io.helidon.nima.webclient.http1.Http1Client}.
      */
@@ -189,6 +197,64 @@ public interface Http1Client extends HttpClient<Http1ClientRequest, Http1ClientR
             return this;
         }
 
+        /**
+         * Configure the maximal number of keep alive connections open to a single route (scheme, authority and TLS).
+         *
+         * @param maxConnectionsPerRoute maximal number of connections per route, {@code -1} for unlimited
+         * @return updated builder
+         */
+        public Http1ClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            configBuilder.maxConnectionsPerRoute(maxConnectionsPerRoute);
+            return this;
+        }
+
+        /**
+         * Configure the maximal number of keep alive connections open by this client across all routes.
+         *
+         * @param maxConnections maximal number of connections, {@code -1} for unlimited
+         * @return updated builder
+         */
+        public Http1ClientBuilder maxConnections(int maxConnections) {
+            configBuilder.maxConnections(maxConnections);
+            return this;
+        }
+
+        /**
+         * Configure how long a request waits for a connection when connection limits are reached.
+         *
+         * @param connectionAcquireTimeout acquire timeout
+         * @return updated builder
+         */
+        public Http1ClientBuilder connectionAcquireTimeout(Duration connectionAcquireTimeout) {
+            Objects.requireNonNull(connectionAcquireTimeout);
+            configBuilder.connectionAcquireTimeout(connectionAcquireTimeout);
+            return this;
+        }
+
+        /**
+         * Configure how long an idle keep alive connection is kept open.
+         *
+         * @param connectionIdleTimeout idle timeout, {@link java.time.Duration#ZERO} to keep idle connections open
+         * @return updated builder
+         */
+        public Http1ClientBuilder connectionIdleTimeout(Duration connectionIdleTimeout) {
+            Objects.requireNonNull(connectionIdleTimeout);
+            configBuilder.connectionIdleTimeout(connectionIdleTimeout);
+            return this;
+        }
+
+        /**
+         * Configure the maximal lifetime of a keep alive connection.
+         *
+         * @param connectionMaxLifetime maximal lifetime, {@link java.time.Duration#ZERO} for unlimited
+         * @return updated builder
+         */
+        public Http1ClientBuilder connectionMaxLifetime(Duration connectionMaxLifetime) {
+            Objects.requireNonNull(connectionMaxLifetime);
+            configBuilder.connectionMaxLifetime(connectionMaxLifetime);
+            return this;
+        }
+
         /**
          * Register new instance of {@link io.helidon.nima.webclient.spi.WebClientService}.
          *
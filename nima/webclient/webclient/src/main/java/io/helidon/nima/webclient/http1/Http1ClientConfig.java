@@ -16,6 +16,7 @@
 
 package io.helidon.nima.webclient.http1;
 
+import java.time.Duration;
 import java.util.List;
 
 import io.helidon.builder.Builder;
@@ -42,14 +43,59 @@ interface Http1ClientConfig extends ClientConfig {
     boolean defaultKeepAlive();
 
     /**
-     * Configure the maximum allowed size of the connection queue - the number of keep alive connections kept open at the same
-     * time.
+     * Configure the maximum allowed size of the connection queue - the number of idle keep alive connections kept open
+     * for a single route.
      *
      * @return maximum connection queue size
      */
     @ConfiguredOption("256")
     int connectionQueueSize();
 
+    /**
+     * Maximal number of keep alive connections (both in use and idle) open to a single route at the same time.
+     * A route is the combination of scheme, authority, TLS and socket timeouts.
+     * When the limit is reached, requests wait for a connection up to {@link #connectionAcquireTimeout()}.
+     *
+     * @return maximal number of connections per route, {@code -1} for unlimited
+     */
+    @ConfiguredOption("-1")
+    int maxConnectionsPerRoute();
+
+    /**
+     * Maximal number of keep alive connections open by this client at the same time, across all routes.
+     * When the limit is reached, the least recently used idle connection of another route is closed, or requests wait
+     * for a connection up to {@link #connectionAcquireTimeout()}.
+     *
+     * @return maximal number of connections, {@code -1} for unlimited
+     */
+    @ConfiguredOption("-1")
+    int maxConnections();
+
+    /**
+     * How long to wait for a keep alive connection when connection limits are reached.
+     *
+     * @return acquire timeout
+     */
+    @ConfiguredOption("PT10S")
+    Duration connectionAcquireTimeout();
+
+    /**
+     * How long an idle keep alive connection is kept open before it is closed.
+     *
+     * @return idle timeout, {@link java.time.Duration#ZERO} to keep idle connections open
+     */
+    @ConfiguredOption("PT60S")
+    Duration connectionIdleTimeout();
+
+    /**
+     * Maximal time a keep alive connection is used since it was opened; older connections are closed
+     * when returned to the pool.
+     *
+     * @return maximal lifetime of a connection, {@link java.time.Duration#ZERO} for unlimited
+     */
+    @ConfiguredOption("PT0S")
+    Duration connectionMaxLifetime();
+
     @ConfiguredOption("16384")
     int maxHeaderSize();
 
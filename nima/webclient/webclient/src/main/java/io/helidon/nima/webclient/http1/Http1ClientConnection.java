@@ -24,8 +24,6 @@ import java.net.Socket;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.util.HexFormat;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
@@ -46,10 +44,9 @@ import static java.lang.System.Logger.Level.TRACE;
 
 class Http1ClientConnection implements ClientConnection {
     private static final System.Logger LOGGER = System.getLogger(Http1ClientConnection.class.getName());
-    private static final long QUEUE_TIMEOUT = 10;
-    private static final TimeUnit QUEUE_TIMEOUT_TIME_UNIT = TimeUnit.MILLISECONDS;
 
-    private final LinkedBlockingDeque<Http1ClientConnection> connectionQueue;
+    private final ConnectionCache connectionCache;
+    private final ConnectionCache.Route route;
     private final ConnectionKey connectionKey;
     private final io.helidon.common.socket.SocketOptions options;
     private final boolean keepAlive;
@@ -58,17 +55,23 @@ class Http1ClientConnection implements ClientConnection {
     private HelidonSocket helidonSocket;
     private DataReader reader;
     private DataWriter writer;
+    private long createdNanos;
+    // guarded by connection cache lock
+    private ConnectionCache.PoolState poolState = ConnectionCache.PoolState.LEASED;
+    private long idleSince;
 
     Http1ClientConnection(SocketOptions options, ConnectionKey connectionKey) {
-        this(options, null, connectionKey);
+        this(options, null, null, connectionKey);
     }
 
     Http1ClientConnection(SocketOptions options,
-                          LinkedBlockingDeque<Http1ClientConnection> connectionQueue,
+                          ConnectionCache connectionCache,
+                          ConnectionCache.Route route,
                           ConnectionKey connectionKey) {
         this.options = options;
-        this.connectionQueue = connectionQueue;
-        this.keepAlive = (connectionQueue != null);
+        this.connectionCache = connectionCache;
+        this.route = route;
+        this.keepAlive = (connectionCache != null);
         this.connectionKey = connectionKey;
     }
 
@@ -89,11 +92,10 @@ class Http1ClientConnection implements ClientConnection {
 
     @Override
     public void close() {
-        try {
-            this.socket.close();
-        } catch (IOException e) {
-            e.printStackTrace();
+        if (connectionCache != null) {
+            connectionCache.closed(this);
         }
+        closeSocket();
     }
 
     @Override
@@ -102,7 +104,7 @@ class Http1ClientConnection implements ClientConnection {
     }
 
     boolean isConnected() {
-        return socket != null && socket.isConnected();
+        return socket != null && socket.isConnected() && !socket.isClosed() && !socket.isInputShutdown();
     }
 
     Http1ClientConnection connect() {
@@ -118,10 +120,17 @@ class Http1ClientConnection implements ClientConnection {
                                (int) options.connectTimeout().toMillis());
             } else {
                 InetAddress address = dnsResolver.resolveAddress(connectionKey.host(), connectionKey.dnsAddressLookup());
-                socket.connect(new InetSocketAddress(address, connectionKey.port()), (int) options.connectTimeout().toMillis());
+                try {
+                    socket.connect(new InetSocketAddress(address, connectionKey.port()),
+                                   (int) options.connectTimeout().toMillis());
+                } catch (IOException e) {
+                    dnsResolver.addressFailed(connectionKey.host(), connectionKey.dnsAddressLookup(), address);
+                    throw e;
+                }
             }
 
             channelId = "0x" + HexFormat.of().toHexDigits(System.identityHashCode(socket));
+            createdNanos = System.nanoTime();
 
             if (sslSocket == null) {
                 helidonSocket = PlainSocket.client(socket, channelId);
@@ -172,27 +181,43 @@ class Http1ClientConnection implements ClientConnection {
     }
 
     void finishRequest() {
-        if (keepAlive && connectionQueue != null && socket.isConnected()) {
-            try {
-                if (connectionQueue.offer(this, QUEUE_TIMEOUT, QUEUE_TIMEOUT_TIME_UNIT)) {
-                    LOGGER.log(DEBUG, () -> String.format("[%s] client connection returned %s",
-                                                          channelId,
-                                                          Thread.currentThread().getName()));
-                    return;
-                } else {
-                    LOGGER.log(DEBUG, () -> String.format("[%s] Unable to return client connection because queue is full %s",
-                                                          channelId,
-                                                          Thread.currentThread().getName()));
-                }
-            } catch (InterruptedException ie) {
-                LOGGER.log(DEBUG, () -> String.format("[%s] Unable to return client connection due to '%s' %s",
-                                                    channelId,
-                                                    ie.getMessage(),
-                                                    Thread.currentThread().getName()));
-            }
+        if (keepAlive) {
+            connectionCache.release(this);
+        } else {
+            close();
+        }
+    }
+
+    void closeSocket() {
+        try {
+            this.socket.close();
+        } catch (IOException e) {
+            LOGGER.log(DEBUG, () -> String.format("[%s] failed to close client connection", channelId()), e);
         }
-        // Close if unable to add to queue
-        close();
+    }
+
+    ConnectionCache.Route route() {
+        return route;
+    }
+
+    long createdNanos() {
+        return createdNanos;
+    }
+
+    ConnectionCache.PoolState poolState() {
+        return poolState;
+    }
+
+    void poolState(ConnectionCache.PoolState poolState) {
+        this.poolState = poolState;
+    }
+
+    long idleSince() {
+        return idleSince;
+    }
+
+    void idleSince(long idleSince) {
+        this.idleSince = idleSince;
     }
 
     private void debugTls(SSLSocket sslSocket) {
@@ -34,6 +34,7 @@ import io.helidon.nima.webclient.spi.WebClientServiceProvider;
 class Http1ClientImpl extends LoomClient implements Http1Client {
     private static final Tls EMPTY_TLS = Tls.builder().build();
     private final Http1ClientConfig clientConfig;
+    private final ConnectionCache connectionCache;
 
     Http1ClientImpl(Http1ClientConfig clientConfig) {
         super(Http1Client.builder()
@@ -48,6 +49,7 @@ class Http1ClientImpl extends LoomClient implements Http1Client {
                 .update(it -> services(clientConfig).forEach(it::addService)) // add all configured services
                 .update(it -> it.tls(it.tls().orElse(EMPTY_TLS)))
                 .build();
+        this.connectionCache = new ConnectionCache(this.clientConfig);
     }
 
     @Override
@@ -55,7 +57,12 @@ class Http1ClientImpl extends LoomClient implements Http1Client {
         UriQueryWriteable query = UriQueryWriteable.create();
         UriHelper helper = (uri() == null) ? UriHelper.create() : UriHelper.create(uri(), query);
 
-        return new ClientRequestImpl(clientConfig, method, helper, query);
+        return new ClientRequestImpl(clientConfig, connectionCache, method, helper, query);
+    }
+
+    @Override
+    public ConnectionPoolStatistics connectionPoolStatistics() {
+        return connectionCache;
     }
 
     Http1ClientConfig clientConfig() {
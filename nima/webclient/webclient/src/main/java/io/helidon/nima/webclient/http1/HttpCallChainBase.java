@@ -36,13 +36,16 @@ import io.helidon.nima.webclient.spi.WebClientService;
 abstract class HttpCallChainBase implements WebClientService.Chain {
     private final BufferData writeBuffer = BufferData.growing(128);
     private final Http1ClientConfig clientConfig;
+    private final ConnectionCache connectionCache;
     private final ClientConnection connection;
     private final Tls tls;
 
     HttpCallChainBase(Http1ClientConfig clientConfig,
+                      ConnectionCache connectionCache,
                       ClientConnection connection,
                       Tls tls) {
         this.clientConfig = clientConfig;
+        this.connectionCache = connectionCache;
         this.connection = connection;
         this.tls = tls;
     }
@@ -94,8 +97,7 @@ abstract class HttpCallChainBase implements WebClientService.Chain {
     }
 
     private ClientConnection obtainConnection(WebClientServiceRequest request) {
-        return ConnectionCache.connection(clientConfig,
-                                          tls,
+        return connectionCache.connection(tls,
                                           request.uri(),
                                           request.headers());
     }
@@ -43,12 +43,13 @@ class HttpCallEntityChain extends HttpCallChainBase {
     private final Object entity;
 
     HttpCallEntityChain(Http1ClientConfig clientConfig,
+                        ConnectionCache connectionCache,
                         ClientConnection connection,
                         Tls tls,
                         CompletableFuture<WebClientServiceRequest> whenSent,
                         CompletableFuture<WebClientServiceResponse> whenComplete,
                         Object entity) {
-        super(clientConfig, connection, tls);
+        super(clientConfig, connectionCache, connection, tls);
         this.mediaContext = clientConfig.mediaContext();
         this.maxStatusLineLength = clientConfig.maxStatusLineLength();
         this.whenSent = whenSent;
@@ -45,12 +45,13 @@ class HttpCallOutputStreamChain extends HttpCallChainBase {
     private final ClientRequest.OutputStreamHandler osHandler;
 
     HttpCallOutputStreamChain(Http1ClientConfig clientConfig,
+                              ConnectionCache connectionCache,
                               ClientConnection connection,
                               Tls tls,
                               CompletableFuture<WebClientServiceRequest> whenSent,
                               CompletableFuture<WebClientServiceResponse> whenComplete,
                               ClientRequest.OutputStreamHandler osHandler) {
-        super(clientConfig, connection, tls);
+        super(clientConfig, connectionCache, connection, tls);
         this.maxStatusLineLength = clientConfig.maxStatusLineLength();
         this.sendExpect100Continue = clientConfig.sendExpectContinue();
         this.whenSent = whenSent;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,4 +45,15 @@ public interface DnsResolver {
      */
     InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup);
 
+    /**
+     * Notification that connecting to an address obtained from {@link #resolveAddress(String, DnsAddressLookup)} failed.
+     * Resolvers may use this to prefer other addresses of the host for a while.
+     *
+     * @param hostname         hostname that was resolved
+     * @param dnsAddressLookup allowed version of the IP used when resolving
+     * @param address          address that failed
+     */
+    default void addressFailed(String hostname, DnsAddressLookup dnsAddressLookup, InetAddress address) {
+    }
+
 }
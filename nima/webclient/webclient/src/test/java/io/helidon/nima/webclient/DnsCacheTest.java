@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webclient;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DnsCacheTest {
+    private static final InetAddress FIRST = address(1);
+    private static final InetAddress SECOND = address(2);
+    private static final InetAddress THIRD = address(3);
+
+    private final AtomicLong time = new AtomicLong();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicReference<InetAddress[]> addresses = new AtomicReference<>();
+
+    @BeforeEach
+    void reset() {
+        time.set(0);
+        lookups.set(0);
+        addresses.set(new InetAddress[] {FIRST, SECOND});
+    }
+
+    @Test
+    void testTtl() {
+        DnsCache cache = cache(false);
+
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+        assertThat(lookups.get(), is(1));
+
+        addresses.set(new InetAddress[] {THIRD});
+        time.set(Duration.ofSeconds(30).toNanos());
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(THIRD));
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    void testRefreshAhead() throws InterruptedException {
+        DnsCache cache = cache(false);
+
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+        addresses.set(new InetAddress[] {THIRD});
+        time.set(Duration.ofSeconds(26).toNanos());
+        // stale value is returned, refresh happens in background
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (lookups.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        InetAddress resolved = cache.resolve("host", DnsAddressLookup.IPV4);
+        while (resolved != THIRD && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            resolved = cache.resolve("host", DnsAddressLookup.IPV4);
+        }
+        assertThat(resolved, is(THIRD));
+    }
+
+    @Test
+    void testNegativeTtl() {
+        DnsCache cache = cache(false);
+        addresses.set(null);
+
+        assertThrows(RuntimeUnknownHostException.class, () -> cache.resolve("host", DnsAddressLookup.IPV4));
+        assertThrows(RuntimeUnknownHostException.class, () -> cache.resolve("host", DnsAddressLookup.IPV4));
+        assertThat(lookups.get(), is(1));
+
+        addresses.set(new InetAddress[] {SECOND});
+        time.set(Duration.ofSeconds(5).toNanos());
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(SECOND));
+    }
+
+    @Test
+    void testRoundRobin() {
+        DnsCache cache = cache(true);
+
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(SECOND));
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+    }
+
+    @Test
+    void testEjection() {
+        DnsCache cache = cache(false);
+
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+        cache.failed("host", DnsAddressLookup.IPV4, FIRST);
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(SECOND));
+
+        cache.failed("host", DnsAddressLookup.IPV4, SECOND);
+        // all failed, still try one of them
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+
+        time.set(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.resolve("host", DnsAddressLookup.IPV4), is(FIRST));
+    }
+
+    private static InetAddress address(int last) {
+        try {
+            return InetAddress.getByAddress(new byte[] {10, 0, 0, (byte) last});
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DnsCache cache(boolean rotate) {
+        return new DnsCache(Duration.ofSeconds(30),
+                            Duration.ofSeconds(5),
+                            Duration.ofSeconds(5),
+                            Duration.ofSeconds(10),
+                            rotate,
+                            hostname -> {
+                                lookups.incrementAndGet();
+                                InetAddress[] result = addresses.get();
+                                if (result == null) {
+                                    throw new UnknownHostException(hostname);
+                                }
+                                return result;
+                            },
+                            time::get);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webclient.http1;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.ClientRequestHeaders;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.common.uri.UriQueryWriteable;
+import io.helidon.nima.webclient.ClientConnection;
+import io.helidon.nima.webclient.UriHelper;
+import io.helidon.nima.webclient.WebClient;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConnectionCacheTest {
+    private static final List<Socket> ACCEPTED = new CopyOnWriteArrayList<>();
+    private static ServerSocket serverSocket;
+    private static UriHelper uri;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        serverSocket = new ServerSocket(0);
+        Thread.ofVirtual().start(() -> {
+            try {
+                while (!serverSocket.isClosed()) {
+                    ACCEPTED.add(serverSocket.accept());
+                }
+            } catch (IOException ignored) {
+                // server socket closed
+            }
+        });
+        uri = UriHelper.create(URI.create("http://localhost:" + serverSocket.getLocalPort()), UriQueryWriteable.create());
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        serverSocket.close();
+        for (Socket socket : ACCEPTED) {
+            socket.close();
+        }
+    }
+
+    @Test
+    void testReuse() {
+        ConnectionCache cache = cache(Http1Client.builder());
+
+        ClientConnection first = cache.connection(null, uri, headers());
+        assertThat(cache.leased(), is(1));
+        first.release();
+        assertThat(cache.leased(), is(0));
+        assertThat(cache.idle(), is(1));
+
+        ClientConnection second = cache.connection(null, uri, headers());
+        assertThat(second.channelId(), is(first.channelId()));
+        assertThat(cache.created(), is(1L));
+        second.close();
+        assertThat(cache.leased(), is(0));
+        assertThat(cache.idle(), is(0));
+    }
+
+    @Test
+    void testMaxConnectionsPerRoute() throws InterruptedException {
+        ConnectionCache cache = cache(Http1Client.builder()
+                                              .maxConnectionsPerRoute(1)
+                                              .connectionAcquireTimeout(Duration.ofMillis(100)));
+
+        ClientConnection first = cache.connection(null, uri, headers());
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                                               () -> cache.connection(null, uri, headers()));
+        assertThat(e.getMessage(), containsString("Timed out"));
+
+        ConnectionCache waitingCache = cache(Http1Client.builder()
+                                                     .maxConnectionsPerRoute(1)
+                                                     .connectionAcquireTimeout(Duration.ofSeconds(10)));
+        ClientConnection leased = waitingCache.connection(null, uri, headers());
+        CountDownLatch obtained = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> {
+            waitingCache.connection(null, uri, headers()).close();
+            obtained.countDown();
+        });
+        while (waitingCache.pending() == 0) {
+            Thread.sleep(10);
+        }
+        leased.release();
+        assertThat(obtained.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(waitingCache.created(), is(1L));
+        first.close();
+    }
+
+    @Test
+    void testMaxConnectionsEvictsIdle() {
+        ConnectionCache cache = cache(Http1Client.builder()
+                                              .maxConnections(1)
+                                              .connectionAcquireTimeout(Duration.ofMillis(100)));
+
+        ClientConnection first = cache.connection(null, uri, headers());
+        first.release();
+        UriHelper otherRoute = UriHelper.create(URI.create("http://127.0.0.1:" + serverSocket.getLocalPort()),
+                                                UriQueryWriteable.create());
+        ClientConnection second = cache.connection(null, otherRoute, headers());
+        assertThat(second.channelId(), not(first.channelId()));
+        assertThat(cache.idle(), is(0));
+        assertThat(cache.evicted(), is(1L));
+        second.close();
+    }
+
+    @Test
+    void testRouteLimitDoesNotEvictOtherRoutes() {
+        ConnectionCache cache = cache(Http1Client.builder()
+                                              .maxConnectionsPerRoute(1)
+                                              .maxConnections(2)
+                                              .connectionAcquireTimeout(Duration.ofMillis(100)));
+
+        ClientConnection leased = cache.connection(null, uri, headers());
+        UriHelper otherRoute = UriHelper.create(URI.create("http://127.0.0.1:" + serverSocket.getLocalPort()),
+                                                UriQueryWriteable.create());
+        cache.connection(null, otherRoute, headers()).release();
+        assertThat(cache.idle(), is(1));
+
+        // the route is at its limit, evicting the idle connection of the other route would not help
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                                               () -> cache.connection(null, uri, headers()));
+        assertThat(e.getMessage(), containsString("Timed out"));
+        assertThat(cache.idle(), is(1));
+        assertThat(cache.evicted(), is(0L));
+        leased.close();
+    }
+
+    @Test
+    void testIdleTimeout() throws InterruptedException {
+        ConnectionCache cache = cache(Http1Client.builder()
+                                              .connectionIdleTimeout(Duration.ofMillis(200)));
+
+        cache.connection(null, uri, headers()).release();
+        assertThat(cache.idle(), is(1));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.idle() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(cache.idle(), is(0));
+        assertThat(cache.evicted(), is(1L));
+    }
+
+    @Test
+    void testMaxLifetime() throws InterruptedException {
+        ConnectionCache cache = cache(Http1Client.builder()
+                                              .connectionIdleTimeout(Duration.ZERO)
+                                              .connectionMaxLifetime(Duration.ofMillis(50)));
+
+        ClientConnection first = cache.connection(null, uri, headers());
+        Thread.sleep(100);
+        first.release();
+        assertThat(cache.idle(), is(0));
+        assertThat(cache.evicted(), is(1L));
+    }
+
+    @Test
+    void testDisconnectedNotCountedAsEvicted() {
+        ConnectionCache cache = cache(Http1Client.builder());
+
+        Http1ClientConnection connection = (Http1ClientConnection) cache.connection(null, uri, headers());
+        connection.closeSocket();
+        connection.release();
+        assertThat(cache.idle(), is(0));
+        assertThat(cache.leased(), is(0));
+        assertThat(cache.evicted(), is(0L));
+    }
+
+    private static ConnectionCache cache(Http1Client.Http1ClientBuilder builder) {
+        Http1ClientImpl client = (Http1ClientImpl) builder.build();
+        return new ConnectionCache(client.clientConfig());
+    }
+
+    private static ClientRequestHeaders headers() {
+        return ClientRequestHeaders.create(WritableHeaders.create());
+    }
+}
@@ -19,6 +19,7 @@ import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -33,6 +34,10 @@ import io.helidon.nima.webserver.http.RoutingResponse;
 
 /**
  * Service that adds support for Access logging to Server.
+ * <p>
+ * Records are logged through {@link System.Logger} by default. To keep logging off the request path,
+ * an {@link AccessLogFileWriter} can be configured instead, which writes the records to a file
+ * from a single background thread.
  */
 public final class AccessLogFeature implements HttpFeature, Weighted {
     /**
@@ -45,9 +50,11 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
     public static final String DEFAULT_LOGGER_NAME = "io.helidon.nima.webserver.AccessLog";
     private static final Pattern HEADER_ENTRY_PATTERN = Pattern.compile("%\\{(.*?)}i");
     private static final double WEIGHT = 1000;
+    private static final int RECORD_SIZE_HINT = 256;
 
     private final List<AccessLogEntry> logFormat;
     private final System.Logger logger;
+    private final AccessLogFileWriter writer;
     private final boolean enabled;
     private final Clock clock;
     private final double weight;
@@ -57,6 +64,7 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
         this.logFormat = builder.entries;
         this.clock = builder.clock;
         this.logger = System.getLogger(builder.loggerName);
+        this.writer = builder.writer;
         this.weight = builder.weight;
     }
 
@@ -98,6 +106,13 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
         }
     }
 
+    @Override
+    public void afterStop() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
     private void filter(FilterChain chain, RoutingRequest req, RoutingResponse res) {
         ZonedDateTime now = ZonedDateTime.now(clock);
         long nanoNow = System.nanoTime();
@@ -147,7 +162,7 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
                 return res;
             }
         };
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder(RECORD_SIZE_HINT);
 
         for (AccessLogEntry entry : logFormat) {
             sb.append(entry.apply(ctx));
@@ -162,8 +177,14 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
     }
 
     private void log(RoutingRequest req, RoutingResponse res, ZonedDateTime timeStart, long nanoStart) {
-        logger.log(System.Logger.Level.INFO,
-                   createLogRecord(req, res, timeStart, nanoStart, ZonedDateTime.now(clock), System.nanoTime()));
+        if (writer == null) {
+            if (logger.isLoggable(System.Logger.Level.INFO)) {
+                logger.log(System.Logger.Level.INFO,
+                           createLogRecord(req, res, timeStart, nanoStart, ZonedDateTime.now(clock), System.nanoTime()));
+            }
+        } else {
+            writer.write(createLogRecord(req, res, timeStart, nanoStart, ZonedDateTime.now(clock), System.nanoTime()));
+        }
     }
 
     /**
@@ -193,6 +214,7 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
         private final List<AccessLogEntry> entries = new LinkedList<>();
 
         private Clock clock = Clock.systemDefaultZone();
+        private AccessLogFileWriter writer;
         private String loggerName = DEFAULT_LOGGER_NAME;
         private boolean enabled = true;
         private double weight = WEIGHT;
@@ -394,6 +416,8 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
         /**
          * Update this builder from configuration. In case {@code format} is specified
          * in configuration, it would replace the currently configured format in this builder.
+         * In case {@code file} node is present, records are written using an {@link AccessLogFileWriter}
+         * configured from it.
          *
          * @param config configuration with Access log configuration options
          * @return updated builder instance
@@ -403,6 +427,7 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
             config.get("logger-name").asString().ifPresent(this::loggerName);
             config.get("format").asString().ifPresent(this::configLogFormat);
             config.get("weight").asDouble().ifPresent(this::weight);
+            config.get("file").ifExists(it -> writer(AccessLogFileWriter.create(it)));
             return this;
         }
 
@@ -430,6 +455,19 @@ public final class AccessLogFeature implements HttpFeature, Weighted {
             return this;
         }
 
+        /**
+         * Write access log records using an asynchronous file writer instead of {@link System.Logger}.
+         * The writer is closed when the server stops.
+         * When configured, {@link #loggerName(String)} is ignored.
+         *
+         * @param writer file writer to use
+         * @return updated builder instance
+         */
+        public Builder writer(AccessLogFileWriter writer) {
+            this.writer = Objects.requireNonNull(writer);
+            return this;
+        }
+
         /**
          * Configure an alternative clock to use, such as {@link java.time.Clock#fixed(java.time.Instant, java.time.ZoneId)}.
          * Defaults to {@link java.time.Clock#systemDefaultZone()}.
@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.webserver.accesslog;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+import io.helidon.common.internal.MpscRingBuffer;
+import io.helidon.config.Config;
+
+/**
+ * Asynchronous access log writer that writes records to a rotating file.
+ * <p>
+ * Request threads only hand the formatted record to a bounded lock-free queue; a single writer thread
+ * encodes the records and writes them through a buffered stream. The buffer is flushed whenever the queue
+ * becomes empty, so records reach the file with a small delay without a flush per request.
+ * <p>
+ * When the file would exceed {@link Builder#maxFileSize(long)}, it is renamed to {@code <path>.1}
+ * (existing rotated files are shifted by one, up to {@link Builder#maxFiles(int)}) and a new file is started.
+ * If the rotation fails, records are appended to the current file, and the rotation is retried a minute later.
+ * <p>
+ * When the queue is full, the record is either dropped (and counted in {@link #droppedRecords()}),
+ * or the request thread waits for space, as configured by {@link Builder#overflowPolicy(OverflowPolicy)}.
+ *
+ * @see AccessLogFeature.Builder#writer(AccessLogFileWriter)
+ */
+public final class AccessLogFileWriter implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(AccessLogFileWriter.class.getName());
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROP_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // interval of failure warnings, and of retries of a failed rotation
+    private static final long FAILURE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Path path;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final OverflowPolicy overflowPolicy;
+    private final UnaryOperator<OutputStream> outputWrapper;
+    private final MpscRingBuffer<String> queue;
+    private final Thread writerThread;
+    private final LongAdder droppedRecords = new LongAdder();
+    private final AtomicLong lastDropLog = new AtomicLong(System.nanoTime() - DROP_LOG_INTERVAL_NANOS);
+
+    private volatile boolean closed;
+    private volatile boolean writerWaiting;
+
+    // only accessed by the writer thread (and the constructor)
+    private OutputStream out;
+    private long fileSize;
+    private long lastFailureLog = System.nanoTime() - FAILURE_INTERVAL_NANOS;
+    private long lastRotationFailure = System.nanoTime() - FAILURE_INTERVAL_NANOS;
+    private boolean rotationFailed;
+
+    private AccessLogFileWriter(Builder builder) {
+        this.path = builder.path;
+        this.maxFileSize = builder.maxFileSize;
+        this.maxFiles = builder.maxFiles;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.outputWrapper = builder.outputWrapper;
+        this.queue = new MpscRingBuffer<>(builder.queueSize);
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            openFile();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open access log file " + path, e);
+        }
+
+        this.writerThread = Thread.ofPlatform()
+                .daemon(true)
+                .name("helidon-access-log-writer")
+                .unstarted(this::run);
+        this.writerThread.start();
+    }
+
+    /**
+     * Create a new writer for the provided file with default configuration.
+     *
+     * @param path path of the access log file
+     * @return a new writer
+     */
+    public static AccessLogFileWriter create(Path path) {
+        return builder()
+                .path(path)
+                .build();
+    }
+
+    /**
+     * Create a new writer from configuration.
+     *
+     * @param config configuration of the writer, {@code path} is required
+     * @return a new writer
+     */
+    public static AccessLogFileWriter create(Config config) {
+        return builder()
+                .config(config)
+                .build();
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Hand a record over to the writer thread.
+     * A line separator is appended to each record when written.
+     *
+     * @param record access log record to write
+     * @return {@code true} if the record was queued, {@code false} if it was dropped
+     */
+    public boolean write(String record) {
+        if (closed) {
+            dropped();
+            return false;
+        }
+        if (!queue.offer(record)) {
+            if (overflowPolicy == OverflowPolicy.DROP || !waitAndOffer(record)) {
+                dropped();
+                return false;
+            }
+        }
+        if (writerWaiting) {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    /**
+     * Number of records dropped since this writer was created, either because the queue was full
+     * (with {@link OverflowPolicy#DROP}), because the writer was already closed, or because the access log file
+     * could not be opened.
+     *
+     * @return number of dropped records
+     */
+    public long droppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    /**
+     * Path of the current access log file.
+     *
+     * @return file path
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Stop accepting new records, write all queued records and close the file.
+     * This method waits for the writer thread to finish.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writerThread);
+        if (Thread.currentThread() == writerThread) {
+            return;
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean waitAndOffer(String record) {
+        while (!closed) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (queue.offer(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void dropped() {
+        droppedRecords.increment();
+        long now = System.nanoTime();
+        long last = lastDropLog.get();
+        if (now - last >= DROP_LOG_INTERVAL_NANOS && lastDropLog.compareAndSet(last, now)) {
+            LOGGER.log(System.Logger.Level.WARNING, "Access log records are being dropped, queue capacity: "
+                    + queue.capacity() + ", dropped so far: " + droppedRecords.sum());
+        }
+    }
+
+    private void run() {
+        while (true) {
+            String record = queue.poll();
+            if (record != null) {
+                writeRecord(record);
+                continue;
+            }
+            // queue is empty, make sure everything written so far reaches the file
+            flush();
+            if (closed) {
+                // producers may have finished an offer just before the close flag was observed
+                if (queue.isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            writerWaiting = true;
+            if (queue.isEmpty()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            writerWaiting = false;
+        }
+        closeFile();
+    }
+
+    private void writeRecord(String record) {
+        byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length + LINE_SEPARATOR.length;
+        try {
+            if (out == null) {
+                // the file could not be opened before, try again
+                openFile();
+            }
+            if (fileSize > 0 && fileSize + length > maxFileSize && rotationAllowed()) {
+                rotate();
+            }
+            out.write(bytes);
+            out.write(LINE_SEPARATOR);
+            fileSize += length;
+        } catch (IOException e) {
+            if (out == null) {
+                droppedRecords.increment();
+            }
+            failed("Failed to write access log record to " + path, e);
+        }
+    }
+
+    private void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failed("Failed to flush access log file " + path, e);
+        }
+    }
+
+    private boolean rotationAllowed() {
+        return !rotationFailed || System.nanoTime() - lastRotationFailure >= FAILURE_INTERVAL_NANOS;
+    }
+
+    private void rotate() throws IOException {
+        closeFile();
+        try {
+            if (maxFiles == 0) {
+                Files.delete(path);
+            } else {
+                for (int i = maxFiles - 1; i > 0; i--) {
+                    Path source = rotatedPath(i);
+                    if (Files.exists(source)) {
+                        Files.move(source, rotatedPath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }
+                Files.move(path, rotatedPath(1), StandardCopyOption.REPLACE_EXISTING);
+            }
+            rotationFailed = false;
+        } catch (IOException e) {
+            // keep appending to the current file rather than losing records
+            rotationFailed = true;
+            lastRotationFailure = System.nanoTime();
+            failed("Failed to rotate access log file " + path + ", appending to it", e);
+        }
+        openFile();
+    }
+
+    // warnings of the writer thread are logged at most once per interval, as they usually repeat for each record
+    private void failed(String message, IOException e) {
+        long now = System.nanoTime();
+        if (now - lastFailureLog >= FAILURE_INTERVAL_NANOS) {
+            lastFailureLog = now;
+            LOGGER.log(System.Logger.Level.WARNING, message, e);
+        }
+    }
+
+    private Path rotatedPath(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private void openFile() throws IOException {
+        OutputStream file = Files.newOutputStream(path,
+                                                  StandardOpenOption.CREATE,
+                                                  StandardOpenOption.APPEND,
+                                                  StandardOpenOption.WRITE);
+        try {
+            fileSize = Files.size(path);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+        out = new BufferedOutputStream(outputWrapper.apply(file), BUFFER_SIZE);
+    }
+
+    private void closeFile() {
+        if (out == null) {
+            return;
+        }
+        OutputStream current = out;
+        out = null;
+        try {
+            current.close();
+        } catch (IOException e) {
+            failed("Failed to close access log file " + path, e);
+        }
+    }
+
+    /**
+     * What to do with a record when the queue of the writer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the record and increase the dropped records counter.
+         */
+        DROP,
+        /**
+         * Wait on the request thread until there is space in the queue.
+         */
+        BLOCK
+    }
+
+    /**
+     * Fluent API builder for {@link AccessLogFileWriter}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, AccessLogFileWriter> {
+        /**
+         * Default maximal size of a single access log file in bytes.
+         */
+        public static final long DEFAULT_MAX_FILE_SIZE = 100 * 1024 * 1024;
+        /**
+         * Default number of rotated files to keep.
+         */
+        public static final int DEFAULT_MAX_FILES = 10;
+        /**
+         * Default capacity of the record queue.
+         */
+        public static final int DEFAULT_QUEUE_SIZE = 8192;
+        private static final int MAX_QUEUE_SIZE = 1 << 24;
+
+        private Path path;
+        private long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+        private int maxFiles = DEFAULT_MAX_FILES;
+        private int queueSize = DEFAULT_QUEUE_SIZE;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+        private UnaryOperator<OutputStream> outputWrapper = UnaryOperator.identity();
+
+        private Builder() {
+        }
+
+        @Override
+        public AccessLogFileWriter build() {
+            if (path == null) {
+                throw new IllegalArgumentException("Access log file path must be configured");
+            }
+            return new AccessLogFileWriter(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         *
+         * @param config configuration of the writer
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("path").as(Path.class).ifPresent(this::path);
+            config.get("max-file-size").asLong().ifPresent(this::maxFileSize);
+            config.get("max-files").asInt().ifPresent(this::maxFiles);
+            config.get("queue-size").asInt().ifPresent(this::queueSize);
+            config.get("overflow-policy").asString()
+                    .map(it -> OverflowPolicy.valueOf(it.toUpperCase(Locale.ROOT)))
+                    .ifPresent(this::overflowPolicy);
+            return this;
+        }
+
+        /**
+         * Path of the access log file. Rotated files are created in the same directory,
+         * with an index appended to the file name.
+         *
+         * @param path path of the file
+         * @return updated builder instance
+         */
+        public Builder path(Path path) {
+            this.path = Objects.requireNonNull(path);
+            return this;
+        }
+
+        /**
+         * Path of the access log file.
+         *
+         * @param path path of the file
+         * @return updated builder instance
+         * @see #path(java.nio.file.Path)
+         */
+        public Builder path(String path) {
+            return path(Paths.get(path));
+        }
+
+        /**
+         * Maximal size of the access log file in bytes, the file is rotated before it would grow beyond this size.
+         * Defaults to {@value #DEFAULT_MAX_FILE_SIZE}.
+         *
+         * @param maxFileSize maximal file size in bytes
+         * @return updated builder instance
+         */
+        public Builder maxFileSize(long maxFileSize) {
+            if (maxFileSize < 1) {
+                throw new IllegalArgumentException("Max file size must be positive, but is: " + maxFileSize);
+            }
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        /**
+         * Number of rotated files to keep. When set to {@code 0}, the file is truncated instead of rotated.
+         * Defaults to {@value #DEFAULT_MAX_FILES}.
+         *
+         * @param maxFiles number of rotated files
+         * @return updated builder instance
+         */
+        public Builder maxFiles(int maxFiles) {
+            if (maxFiles < 0) {
+                throw new IllegalArgumentException("Max files must not be negative, but is: " + maxFiles);
+            }
+            this.maxFiles = maxFiles;
+            return this;
+        }
+
+        /**
+         * Capacity of the queue between request threads and the writer thread, rounded up to a power of two.
+         * Defaults to {@value #DEFAULT_QUEUE_SIZE}.
+         *
+         * @param queueSize queue capacity
+         * @return updated builder instance
+         */
+        public Builder queueSize(int queueSize) {
+            if (queueSize < 1 || queueSize > MAX_QUEUE_SIZE) {
+                throw new IllegalArgumentException("Queue size must be between 1 and " + MAX_QUEUE_SIZE
+                                                           + ", but is: " + queueSize);
+            }
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        /**
+         * What to do when the queue is full.
+         * Defaults to {@link OverflowPolicy#DROP}.
+         *
+         * @param overflowPolicy overflow policy
+         * @return updated builder instance
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+            return this;
+        }
+
+        // for unit tests, to wrap the stream of each opened file
+        Builder outputWrapper(UnaryOperator<OutputStream> outputWrapper) {
+            this.outputWrapper = outputWrapper;
+            return this;
+        }
+    }
+}
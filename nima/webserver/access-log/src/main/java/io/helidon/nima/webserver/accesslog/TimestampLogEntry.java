@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,20 +15,28 @@
  */
 package io.helidon.nima.webserver.accesslog;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Access log entry for timestamp.
  * Default time format is {@value DEFAULT_FORMAT}.
+ * <p>
+ * As the default format has a precision of one second, the formatted value is cached and only re-created
+ * when the second (or time zone) changes.
  */
 public final class TimestampLogEntry extends AbstractLogEntry {
     private static final String DEFAULT_FORMAT = "'['dd/MMM/YYYY:HH:mm:ss ZZZ']'";
     private static final DateTimeFormatter DEFAULT_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_FORMAT);
     private final DateTimeFormatter formatter;
+    private final boolean cacheable;
+    private volatile CachedTimestamp cached = new CachedTimestamp(Long.MIN_VALUE, null, null);
 
     private TimestampLogEntry(Builder builder) {
         super(builder);
         this.formatter = builder.formatter;
+        this.cacheable = builder.formatter == DEFAULT_FORMATTER;
     }
 
     /**
@@ -52,7 +60,22 @@ public final class TimestampLogEntry extends AbstractLogEntry {
 
     @Override
     public String doApply(AccessLogContext context) {
-        return formatter.format(context.requestDateTime());
+        ZonedDateTime dateTime = context.requestDateTime();
+        if (!cacheable) {
+            return formatter.format(dateTime);
+        }
+        long epochSecond = dateTime.toEpochSecond();
+        ZoneId zone = dateTime.getZone();
+        CachedTimestamp current = cached;
+        if (current.epochSecond() == epochSecond && zone.equals(current.zone())) {
+            return current.value();
+        }
+        String value = formatter.format(dateTime);
+        cached = new CachedTimestamp(epochSecond, zone, value);
+        return value;
+    }
+
+    private record CachedTimestamp(long epochSecond, ZoneId zone, String value) {
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ module io.helidon.nima.webserver.accesslog {
 
     requires java.logging;
 
+    requires io.helidon.common;
     requires io.helidon.nima.webserver;
     requires io.helidon.common.security;
 
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.webserver.accesslog;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link AccessLogFileWriter}.
+ */
+class AccessLogFileWriterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWriteAndClose() throws IOException {
+        Path file = tempDir.resolve("logs").resolve("access.log");
+        AccessLogFileWriter writer = AccessLogFileWriter.create(file);
+
+        assertThat(writer.write("first"), is(true));
+        assertThat(writer.write("second"), is(true));
+        writer.close();
+
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8), contains("first", "second"));
+        assertThat(writer.droppedRecords(), is(0L));
+    }
+
+    @Test
+    void testDroppedAfterClose() {
+        AccessLogFileWriter writer = AccessLogFileWriter.create(tempDir.resolve("closed.log"));
+        writer.close();
+
+        assertThat(writer.write("record"), is(false));
+        assertThat(writer.droppedRecords(), is(1L));
+    }
+
+    @Test
+    void testRotation() throws IOException {
+        Path file = tempDir.resolve("rotated.log");
+        int lineLength = "record-0".length() + System.lineSeparator().length();
+        AccessLogFileWriter writer = AccessLogFileWriter.builder()
+                .path(file)
+                .maxFileSize(2L * lineLength)
+                .maxFiles(2)
+                .build();
+
+        for (int i = 0; i < 7; i++) {
+            writer.write("record-" + i);
+        }
+        writer.close();
+
+        // 7 records, 2 per file, only 2 rotated files are kept
+        assertThat(Files.readAllLines(file), contains("record-6"));
+        assertThat(Files.readAllLines(tempDir.resolve("rotated.log.1")), contains("record-4", "record-5"));
+        assertThat(Files.readAllLines(tempDir.resolve("rotated.log.2")), contains("record-2", "record-3"));
+        assertThat(Files.exists(tempDir.resolve("rotated.log.3")), is(false));
+    }
+
+    @Test
+    void testFailedRotationAppends() throws IOException {
+        Path file = tempDir.resolve("stuck.log");
+        // a non-empty directory in place of the rotated file makes the rotation fail
+        Files.createDirectories(tempDir.resolve("stuck.log.1"));
+        Files.writeString(tempDir.resolve("stuck.log.1").resolve("keep"), "keep");
+        int lineLength = "record-0".length() + System.lineSeparator().length();
+        AccessLogFileWriter writer = AccessLogFileWriter.builder()
+                .path(file)
+                .maxFileSize(2L * lineLength)
+                .maxFiles(1)
+                .build();
+
+        for (int i = 0; i < 4; i++) {
+            writer.write("record-" + i);
+        }
+        writer.close();
+
+        assertThat(Files.readAllLines(file), contains("record-0", "record-1", "record-2", "record-3"));
+        assertThat(writer.droppedRecords(), is(0L));
+    }
+
+    @Test
+    void testDropWhenFull() throws Exception {
+        Path file = tempDir.resolve("drop.log");
+        BlockingOutput output = new BlockingOutput();
+        AccessLogFileWriter writer = AccessLogFileWriter.builder()
+                .path(file)
+                .queueSize(2)
+                .outputWrapper(output::wrap)
+                .build();
+
+        // the writer thread blocks when writing the first record to the file
+        assertThat(writer.write("first"), is(true));
+        output.awaitBlocked();
+        assertThat(writer.write("second"), is(true));
+        assertThat(writer.write("third"), is(true));
+        assertThat(writer.write("dropped"), is(false));
+        assertThat(writer.droppedRecords(), is(1L));
+
+        output.release();
+        writer.close();
+        assertThat(Files.readAllLines(file), contains("first", "second", "third"));
+    }
+
+    @Test
+    void testBlockWhenFull() throws Exception {
+        Path file = tempDir.resolve("block.log");
+        BlockingOutput output = new BlockingOutput();
+        AccessLogFileWriter writer = AccessLogFileWriter.builder()
+                .path(file)
+                .queueSize(2)
+                .overflowPolicy(AccessLogFileWriter.OverflowPolicy.BLOCK)
+                .outputWrapper(output::wrap)
+                .build();
+
+        assertThat(writer.write("first"), is(true));
+        output.awaitBlocked();
+        assertThat(writer.write("second"), is(true));
+        assertThat(writer.write("third"), is(true));
+
+        AtomicBoolean written = new AtomicBoolean();
+        Thread producer = Thread.ofPlatform().start(() -> written.set(writer.write("fourth")));
+        producer.join(200);
+        // waits for space in the queue
+        assertThat(producer.isAlive(), is(true));
+
+        output.release();
+        producer.join(10_000);
+        assertThat(written.get(), is(true));
+        writer.close();
+
+        assertThat(Files.readAllLines(file), contains("first", "second", "third", "fourth"));
+        assertThat(writer.droppedRecords(), is(0L));
+    }
+
+    @Test
+    void testConfigValidation() {
+        assertThrows(IllegalArgumentException.class, () -> AccessLogFileWriter.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> AccessLogFileWriter.builder().queueSize(0));
+        assertThrows(IllegalArgumentException.class, () -> AccessLogFileWriter.builder().maxFileSize(0));
+    }
+
+    // blocks the first write to the file until released
+    private static final class BlockingOutput {
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        OutputStream wrap(OutputStream delegate) {
+            return new FilterOutputStream(delegate) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    blocked.countDown();
+                    try {
+                        released.await();
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                    out.write(b, off, len);
+                }
+            };
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(10, TimeUnit.SECONDS), is(true));
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -66,4 +67,22 @@ class TimestampLogEntryTest {
 
         assertThat(value, is(dateTimeFormatter.format(TEST_TIME)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDefaultFormatCachedPerSecond() {
+        TimestampLogEntry entry = TimestampLogEntry.create();
+
+        AccessLogContext context = mock(AccessLogContext.class);
+        ZonedDateTime second = TEST_TIME.withNano(0);
+        when(context.requestDateTime()).thenReturn(second);
+        String first = entry.doApply(context);
+
+        when(context.requestDateTime()).thenReturn(second.plusNanos(999_000_000));
+        assertThat(entry.doApply(context), sameInstance(first));
+
+        ZonedDateTime next = second.plusSeconds(1);
+        when(context.requestDateTime()).thenReturn(next);
+        DateTimeFormatter defaultPattern = DateTimeFormatter.ofPattern("'['dd/MMM/YYYY:HH:mm:ss ZZZ']'");
+        assertThat(entry.doApply(context), is(defaultPattern.format(next)));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -86,7 +86,8 @@ record ByteRangeRequest(long fileLength, long offset, long length) {
             throw new HttpException("Wrong range", Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416, true);
         }
 
-        long length = (last - offset) + 1;
+        // last position beyond the end of the file means until the end of the file
+        long length = (Math.min(last, fileLength - 1) - offset) + 1;
 
         return new ByteRangeRequest(fileLength, offset, length);
     }
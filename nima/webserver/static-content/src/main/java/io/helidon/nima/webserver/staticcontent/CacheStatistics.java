@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webserver.staticcontent;
+
+/**
+ * Statistics of the in-memory cache of a static content service.
+ * Values are a snapshot and may change concurrently.
+ *
+ * @see io.helidon.nima.webserver.staticcontent.StaticContentService#cacheStatistics()
+ */
+public interface CacheStatistics {
+    /**
+     * Number of requests served from memory.
+     *
+     * @return cache hits
+     */
+    long hits();
+
+    /**
+     * Number of requests that could not be served from memory.
+     *
+     * @return cache misses
+     */
+    long misses();
+
+    /**
+     * Ratio of requests served from memory.
+     *
+     * @return hit ratio between {@code 0} and {@code 1}, {@code 0} if there were no requests yet
+     */
+    default double hitRatio() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Number of resources removed from the cache, because the cache reached its capacity, or the file changed.
+     *
+     * @return evicted resources
+     */
+    long evictions();
+
+    /**
+     * Number of resources currently cached in memory.
+     *
+     * @return cached resources
+     */
+    int entries();
+
+    /**
+     * Number of bytes currently cached in memory.
+     *
+     * @return cached bytes
+     */
+    long bytes();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.helidon.nima.webserver.staticcontent;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -33,13 +34,16 @@ import io.helidon.nima.webserver.http.ServerResponse;
 
 import static io.helidon.nima.webserver.staticcontent.FileBasedContentHandler.processContentLength;
 import static io.helidon.nima.webserver.staticcontent.FileBasedContentHandler.send;
+import static io.helidon.nima.webserver.staticcontent.StaticContentHandler.inMemoryHandler;
 import static io.helidon.nima.webserver.staticcontent.StaticContentHandler.processEtag;
 import static io.helidon.nima.webserver.staticcontent.StaticContentHandler.processModifyHeaders;
 
 record CachedHandlerPath(Path path,
                          MediaType mediaType,
                          IoFunction<Path, Optional<Instant>> lastModified,
-                         BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader) implements CachedHandler {
+                         BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
+                         InMemoryCache inMemoryCache,
+                         boolean precompressed) implements CachedHandler {
     private static final System.Logger LOGGER = System.getLogger(CachedHandlerPath.class.getName());
 
     @Override
@@ -61,6 +65,23 @@ record CachedHandlerPath(Path path,
             throw new ForbiddenException("File is not accessible");
         }
 
+        if (precompressed) {
+            response.headers().set(PrecompressedVariant.VARY_ACCEPT_ENCODING);
+            if (!request.headers().contains(Http.Header.RANGE)) {
+                Optional<PrecompressedVariant> variant = PrecompressedVariant.find(path, request.headers());
+                if (variant.isPresent()) {
+                    return sendVariant(method, request, response, variant.get());
+                }
+            }
+        }
+
+        if (method == Http.Method.GET) {
+            Optional<CachedHandlerInMemory> inMemory = cacheInMemory(requestedResource);
+            if (inMemory.isPresent()) {
+                return inMemory.get().handle(cache, method, request, response, requestedResource);
+            }
+        }
+
         Instant lastModified = lastModified().apply(path).orElse(null);
 
         // etag etc.
@@ -80,4 +101,44 @@ record CachedHandlerPath(Path path,
 
         return true;
     }
+
+    private boolean sendVariant(Http.Method method,
+                                ServerRequest request,
+                                ServerResponse response,
+                                PrecompressedVariant variant) throws IOException {
+        Instant lastModified = lastModified().apply(variant.path()).orElse(null);
+
+        // the variant is a different representation, so it must have a different entity tag
+        if (lastModified != null) {
+            processEtag(lastModified.toEpochMilli() + "-" + variant.encoding(), request.headers(), response.headers());
+            processModifyHeaders(lastModified, request.headers(), response.headers(), setLastModifiedHeader());
+        }
+
+        response.headers().contentType(mediaType);
+        response.headers().set(Http.Header.create(Http.Header.CONTENT_ENCODING, variant.encoding()));
+
+        if (method == Http.Method.GET) {
+            send(request, response, variant.path());
+        } else {
+            processContentLength(variant.path(), response.headers());
+            response.send();
+        }
+        return true;
+    }
+
+    // load the file into memory, if it fits into the in-memory cache
+    private Optional<CachedHandlerInMemory> cacheInMemory(String requestedResource) throws IOException {
+        if (!inMemoryCache.onDemand() || !inMemoryCache.cacheable(Files.size(path))) {
+            return Optional.empty();
+        }
+        if (precompressed && PrecompressedVariant.exists(path)) {
+            // the in-memory handler would always send the original file
+            return Optional.empty();
+        }
+        FileTime fileTime = Files.getLastModifiedTime(path);
+        byte[] bytes = Files.readAllBytes(path);
+        CachedHandlerInMemory handler = inMemoryHandler(mediaType, bytes, lastModified().apply(path));
+        inMemoryCache.cache(requestedResource, handler, path, fileTime);
+        return Optional.of(handler);
+    }
 }
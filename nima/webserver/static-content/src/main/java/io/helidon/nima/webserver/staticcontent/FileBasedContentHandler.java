@@ -16,21 +16,21 @@
 
 package io.helidon.nima.webserver.staticcontent;
 
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.SeekableByteChannel;
-import java.nio.channels.WritableByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
 
 import io.helidon.common.http.Http.Header;
 import io.helidon.common.http.ServerRequestHeaders;
@@ -41,12 +41,22 @@ import io.helidon.nima.webserver.http.ServerRequest;
 import io.helidon.nima.webserver.http.ServerResponse;
 
 abstract class FileBasedContentHandler extends StaticContentHandler {
+    // files (and ranges) up to this size are sent using a single write together with response headers
+    private static final int SINGLE_WRITE_SIZE = 64 * 1024;
+    // larger files are read in chunks of this size
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_POOLED_CHUNKS = 64;
+    // chunks are reused by subsequent requests, output streams do not keep references to written arrays
+    private static final ArrayBlockingQueue<ByteBuffer> CHUNK_POOL = new ArrayBlockingQueue<>(MAX_POOLED_CHUNKS);
+
     private final Map<String, MediaType> customMediaTypes;
+    private final boolean precompressed;
 
     FileBasedContentHandler(StaticContentService.FileBasedBuilder<?> builder) {
         super(builder);
 
         this.customMediaTypes = builder.specificContentTypes();
+        this.precompressed = builder.precompressed();
     }
 
     static String fileName(Path path) {
@@ -73,8 +83,8 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
 
     static void send(ServerRequest request, ServerResponse response, Path path) throws IOException {
         ServerRequestHeaders headers = request.headers();
+        long contentLength = contentLength(path);
         if (headers.contains(Header.RANGE)) {
-            long contentLength = contentLength(path);
             List<ByteRangeRequest> ranges = ByteRangeRequest.parse(request,
                                                                    response,
                                                                    headers.get(Header.RANGE).values(),
@@ -85,38 +95,61 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
                 range.setContentRange(response);
 
                 // only send a part of the file
-                try (OutputStream out = response.outputStream(); SeekableByteChannel channel = Files.newByteChannel(path)) {
-                    WritableByteChannel outChannel = Channels.newChannel(out);
-                    channel.position(range.offset());
-                    long toRead = range.length();
-                    ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(toRead, 1000));
-                    while (toRead != 0) {
-                        int read = channel.read(buffer);
-                        int toWrite = (int) Math.min(toRead, read);
-                        buffer.flip();
-                        buffer.limit(toWrite);
-                        outChannel.write(buffer);
-                        buffer.flip();
-                        toRead -= toWrite;
+                send(response, path, range.offset(), range.length());
+                return;
+            }
+            // multipart response not yet supported, send all
+        }
+        response.headers().set(Header.create(Header.CONTENT_LENGTH, contentLength));
+        // send the full file
+        send(response, path, 0, contentLength);
+    }
+
+    private static void send(ServerResponse response, Path path, long position, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (length <= SINGLE_WRITE_SIZE) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) length);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) == -1) {
+                        throw new EOFException("File " + path + " was truncated while being sent");
                     }
                 }
-            } else {
-                // multipart response not yet supported, send all
-                processContentLength(path, response.headers());
-                // send the full file
-                try (InputStream in = Files.newInputStream(path); OutputStream out = response.outputStream()) {
-                    in.transferTo(out);
-                }
+                response.send(buffer.array());
+                return;
             }
-        } else {
-            processContentLength(path, response.headers());
-            // send the full file
-            try (InputStream in = Files.newInputStream(path); OutputStream out = response.outputStream()) {
-                in.transferTo(out);
+
+            // the socket is not a channel, and the entity is framed (and possibly encrypted) before it is written,
+            // so the file is read with positional reads into a pooled chunk and copied to the output stream
+            ByteBuffer chunk = acquireChunk();
+            try (OutputStream out = response.outputStream()) {
+                long offset = position;
+                long end = position + length;
+                while (offset < end) {
+                    chunk.clear();
+                    chunk.limit((int) Math.min(CHUNK_SIZE, end - offset));
+                    int read = channel.read(chunk, offset);
+                    if (read == -1) {
+                        throw new EOFException("File " + path + " was truncated while being sent");
+                    }
+                    out.write(chunk.array(), 0, read);
+                    offset += read;
+                }
+            } finally {
+                releaseChunk(chunk);
             }
         }
     }
 
+    private static ByteBuffer acquireChunk() {
+        ByteBuffer chunk = CHUNK_POOL.poll();
+        return chunk == null ? ByteBuffer.allocate(CHUNK_SIZE) : chunk;
+    }
+
+    private static void releaseChunk(ByteBuffer chunk) {
+        // if the pool is full, the chunk is left to the garbage collector
+        CHUNK_POOL.offer(chunk);
+    }
+
     Optional<MediaType> findCustomMediaType(String fileName) {
         int ind = fileName.lastIndexOf('.');
 
@@ -131,10 +164,16 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
 
     Optional<CachedHandler> fileHandler(Path path) {
         // we know the file exists and is a file
-        return Optional.of(new CachedHandlerPath(path,
-                                                 detectType(fileName(path)),
-                                                 FileBasedContentHandler::lastModified,
-                                                 ServerResponseHeaders::lastModified));
+        return Optional.of(pathHandler(path));
+    }
+
+    CachedHandlerPath pathHandler(Path path) {
+        return new CachedHandlerPath(path,
+                                     detectType(fileName(path)),
+                                     FileBasedContentHandler::lastModified,
+                                     ServerResponseHeaders::lastModified,
+                                     inMemoryCache(),
+                                     precompressed);
     }
 
     MediaType detectType(String fileName) {
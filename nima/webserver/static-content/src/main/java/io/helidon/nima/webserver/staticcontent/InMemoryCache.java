@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webserver.staticcontent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory cache of static content.
+ * Resources explicitly configured to be cached in memory are never evicted. Files cached on demand are limited by the
+ * configured capacity in bytes, the least recently used are evicted first, and they are evicted when the file changes.
+ */
+class InMemoryCache {
+    private final Map<String, CachedHandlerInMemory> configured = new ConcurrentHashMap<>();
+    // access ordered, guarded by lock
+    private final LinkedHashMap<String, Entry> onDemand = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final long capacity;
+    // guarded by lock
+    private long onDemandBytes;
+
+    InMemoryCache(long capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Find a cached resource, counts towards cache statistics.
+     * A resource that is not found is only counted as a miss if files are cached on demand.
+     *
+     * @param resource resource
+     * @return handler if cached and still valid
+     */
+    Optional<CachedHandlerInMemory> get(String resource) {
+        CachedHandlerInMemory handler = configured.get(resource);
+        if (handler != null) {
+            hits.increment();
+            return Optional.of(handler);
+        }
+        if (onDemand()) {
+            Entry entry;
+            lock.lock();
+            try {
+                entry = onDemand.get(resource);
+            } finally {
+                lock.unlock();
+            }
+            if (entry != null) {
+                if (entry.valid()) {
+                    hits.increment();
+                    return Optional.of(entry.handler());
+                }
+                remove(resource, entry);
+                evictions.increment();
+            }
+            // only a miss if the resource could have been cached
+            misses.increment();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Find a resource explicitly configured to be cached in memory.
+     *
+     * @param resource resource
+     * @return handler if configured
+     */
+    Optional<CachedHandlerInMemory> configured(String resource) {
+        return Optional.ofNullable(configured.get(resource));
+    }
+
+    void configured(String resource, CachedHandlerInMemory handler) {
+        configured.put(resource, handler);
+    }
+
+    /**
+     * Whether files are cached on demand.
+     *
+     * @return {@code true} if capacity is configured
+     */
+    boolean onDemand() {
+        return capacity > 0;
+    }
+
+    /**
+     * Whether a file of the provided size can be cached on demand.
+     *
+     * @param size file size in bytes
+     * @return {@code true} if caching on demand is enabled and the file fits into the cache
+     */
+    boolean cacheable(long size) {
+        return onDemand() && size <= capacity;
+    }
+
+    /**
+     * Cache a file on demand, evicting the least recently used files if capacity is exceeded.
+     *
+     * @param resource     resource
+     * @param handler      in memory handler with the file content
+     * @param path         path of the file, to detect changes
+     * @param lastModified last modified time of the file when it was read
+     */
+    void cache(String resource, CachedHandlerInMemory handler, Path path, FileTime lastModified) {
+        if (!cacheable(handler.contentLength())) {
+            return;
+        }
+        Entry entry = new Entry(handler, path, lastModified);
+        lock.lock();
+        try {
+            Entry previous = onDemand.put(resource, entry);
+            if (previous != null) {
+                onDemandBytes -= previous.handler().contentLength();
+            }
+            onDemandBytes += handler.contentLength();
+
+            Iterator<Entry> iterator = onDemand.values().iterator();
+            while (onDemandBytes > capacity && iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                iterator.remove();
+                onDemandBytes -= eldest.handler().contentLength();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        configured.clear();
+        lock.lock();
+        try {
+            onDemand.clear();
+            onDemandBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    CacheStatistics statistics() {
+        lock.lock();
+        try {
+            long bytes = onDemandBytes;
+            for (CachedHandlerInMemory handler : configured.values()) {
+                bytes += handler.contentLength();
+            }
+            return new Statistics(hits.sum(),
+                                  misses.sum(),
+                                  evictions.sum(),
+                                  configured.size() + onDemand.size(),
+                                  bytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String resource, Entry entry) {
+        lock.lock();
+        try {
+            if (onDemand.remove(resource, entry)) {
+                onDemandBytes -= entry.handler().contentLength();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(CachedHandlerInMemory handler, Path path, FileTime lastModified) {
+        boolean valid() {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return lastModified.equals(attributes.lastModifiedTime()) && attributes.size() == handler.contentLength();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+
+    private record Statistics(long hits, long misses, long evictions, int entries, long bytes) implements CacheStatistics {
+    }
+}
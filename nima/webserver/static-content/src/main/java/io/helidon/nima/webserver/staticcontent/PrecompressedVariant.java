@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webserver.staticcontent;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.ServerRequestHeaders;
+
+/**
+ * Pre-compressed variant of a file, such as {@code app.js.br} for {@code app.js}.
+ *
+ * @param path     path of the compressed file
+ * @param encoding content encoding of the compressed file
+ */
+record PrecompressedVariant(Path path, String encoding) {
+    static final Http.HeaderValue VARY_ACCEPT_ENCODING = Http.Header.create(Http.Header.VARY, "Accept-Encoding");
+
+    // in order of preference
+    private static final List<Encoding> ENCODINGS = List.of(new Encoding("br", ".br"),
+                                                            new Encoding("gzip", ".gz"));
+
+    /**
+     * Find the preferred variant of the file that is accepted by the client.
+     *
+     * @param path    original file
+     * @param headers request headers
+     * @return variant if one exists and is accepted
+     */
+    static Optional<PrecompressedVariant> find(Path path, ServerRequestHeaders headers) {
+        if (!headers.contains(Http.Header.ACCEPT_ENCODING)) {
+            return Optional.empty();
+        }
+        List<String> accepted = headers.get(Http.Header.ACCEPT_ENCODING).allValues(true);
+        for (Encoding encoding : ENCODINGS) {
+            if (accepts(accepted, encoding.name())) {
+                Path variant = encoding.resolve(path);
+                if (Files.isRegularFile(variant) && Files.isReadable(variant)) {
+                    return Optional.of(new PrecompressedVariant(variant, encoding.name()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether any variant of the file exists.
+     *
+     * @param path original file
+     * @return {@code true} if there is at least one pre-compressed variant
+     */
+    static boolean exists(Path path) {
+        for (Encoding encoding : ENCODINGS) {
+            if (Files.isRegularFile(encoding.resolve(path))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // explicitly named encoding with non-zero quality (we never send pre-compressed content for a wildcard)
+    private static boolean accepts(List<String> accepted, String encoding) {
+        for (String value : accepted) {
+            int semicolon = value.indexOf(';');
+            String name = (semicolon == -1 ? value : value.substring(0, semicolon)).trim();
+            if (!name.equalsIgnoreCase(encoding)) {
+                continue;
+            }
+            if (semicolon == -1) {
+                return true;
+            }
+            String parameter = value.substring(semicolon + 1).trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim()) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private record Encoding(String name, String suffix) {
+        Path resolve(Path path) {
+            return path.resolveSibling(path.getFileName() + suffix);
+        }
+    }
+}
@@ -22,7 +22,6 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import io.helidon.common.http.Http;
-import io.helidon.common.http.ServerResponseHeaders;
 import io.helidon.nima.webserver.http.ServerRequest;
 import io.helidon.nima.webserver.http.ServerResponse;
 
@@ -61,7 +60,7 @@ class SingleFileContentHandler extends FileBasedContentHandler {
         if ("".equals(requestedPath) || "/".equals(requestedPath)) {
             Optional<CachedHandler> cachedHandler = cacheHandler(".");
             if (cachedHandler.isPresent()) {
-                return cachedHandler.get().handle(handlerCache(), method, req, res, requestedPath);
+                return cachedHandler.get().handle(handlerCache(), method, req, res, ".");
             }
             return doHandle(method, req, res);
         }
@@ -77,10 +76,7 @@ class SingleFileContentHandler extends FileBasedContentHandler {
     }
 
     private CachedHandler cacheFileHandler() {
-        CachedHandler handler = new CachedHandlerPath(path,
-                                                      detectType(fileName(path)),
-                                                      FileBasedContentHandler::lastModified,
-                                                      ServerResponseHeaders::lastModified);
+        CachedHandler handler = pathHandler(path);
         cacheHandler(".", handler);
 
         return handler;
@@ -24,9 +24,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -51,7 +49,7 @@ import io.helidon.nima.webserver.http.ServerResponse;
 abstract class StaticContentHandler implements StaticContentService {
     private static final System.Logger LOGGER = System.getLogger(StaticContentHandler.class.getName());
 
-    private final Map<String, CachedHandlerInMemory> inMemoryCache = new ConcurrentHashMap<>();
+    private final InMemoryCache inMemoryCache;
     private final LruCache<String, CachedHandler> handlerCache;
     private final String welcomeFilename;
     private final Function<String, String> resolvePathFunction;
@@ -61,6 +59,7 @@ abstract class StaticContentHandler implements StaticContentService {
         this.welcomeFilename = builder.welcomeFileName();
         this.resolvePathFunction = builder.resolvePathFunction();
         this.handlerCache = builder.handlerCache();
+        this.inMemoryCache = new InMemoryCache(builder.inMemoryCacheCapacity());
     }
 
     /**
@@ -178,6 +177,11 @@ abstract class StaticContentHandler implements StaticContentService {
         }
     }
 
+    @Override
+    public CacheStatistics cacheStatistics() {
+        return inMemoryCache.statistics();
+    }
+
     @Override
     public void routing(HttpRules rules) {
         rules.route(Http.Method.predicate(Http.Method.GET, Http.Method.HEAD),
@@ -248,7 +252,7 @@ abstract class StaticContentHandler implements StaticContentService {
     /**
      * Cache in memory.
      * Only use when explicitly requested by a user, we NEVER clear the cache during runtime. If you cache too much,
-     * you run out of memory.
+     * you run out of memory. Files cached on demand are bounded, see {@link #inMemoryCache()}.
      *
      * @param resource resource identifier (such as relative path), MUST be normalized and MUST exist to prevent caching
      *                 records based on user's requests (that could cause us to cache the same resource multiple time using
@@ -256,7 +260,7 @@ abstract class StaticContentHandler implements StaticContentService {
      * @param handler  in memory handler
      */
     void cacheInMemory(String resource, CachedHandlerInMemory handler) {
-        inMemoryCache.put(resource, handler);
+        inMemoryCache.configured(resource, handler);
     }
 
     /**
@@ -266,7 +270,7 @@ abstract class StaticContentHandler implements StaticContentService {
      * @return handler if found
      */
     Optional<CachedHandlerInMemory> cacheInMemory(String resource) {
-        return Optional.ofNullable(inMemoryCache.get(resource));
+        return inMemoryCache.configured(resource);
     }
 
     /**
@@ -277,7 +281,7 @@ abstract class StaticContentHandler implements StaticContentService {
      */
 
     Optional<CachedHandler> cacheHandler(String resource) {
-        return cacheInMemory(resource)
+        return inMemoryCache.get(resource)
                 .map(CachedHandler.class::cast)
                 .or(() -> handlerCache.get(resource));
     }
@@ -290,6 +294,16 @@ abstract class StaticContentHandler implements StaticContentService {
         return handlerCache;
     }
 
+    /**
+     * In-memory cache, also used to cache files on demand when
+     * {@link io.helidon.nima.webserver.staticcontent.StaticContentService.Builder#inMemoryCacheCapacity(long)} is configured.
+     *
+     * @return in-memory cache
+     */
+    InMemoryCache inMemoryCache() {
+        return inMemoryCache;
+    }
+
     private static String unquoteETag(String etag) {
         if (etag == null || etag.isEmpty()) {
             return etag;
@@ -304,6 +318,10 @@ abstract class StaticContentHandler implements StaticContentService {
     }
 
     void cacheInMemory(String resource, MediaType contentType, byte[] bytes, Optional<Instant> lastModified) {
+        cacheInMemory(resource, inMemoryHandler(contentType, bytes, lastModified));
+    }
+
+    static CachedHandlerInMemory inMemoryHandler(MediaType contentType, byte[] bytes, Optional<Instant> lastModified) {
         int contentLength = bytes.length;
         Http.HeaderValue contentLengthHeader = Http.Header.create(Http.Header.CONTENT_LENGTH, contentLength);
 
@@ -330,7 +348,7 @@ abstract class StaticContentHandler implements StaticContentService {
                                                          contentLengthHeader);
         }
 
-        cacheInMemory(resource, inMemoryResource);
+        return inMemoryResource;
     }
 
     static String formatLastModified(Instant lastModified) {
@@ -125,6 +125,16 @@ public interface StaticContentService extends HttpService {
         return builder(root).build();
     }
 
+    /**
+     * Statistics of the in-memory cache of this service, including both resources configured through
+     * {@link io.helidon.nima.webserver.staticcontent.StaticContentService.Builder#addCacheInMemory(String)} and
+     * files cached on demand (see
+     * {@link io.helidon.nima.webserver.staticcontent.StaticContentService.Builder#inMemoryCacheCapacity(long)}).
+     *
+     * @return cache statistics
+     */
+    CacheStatistics cacheStatistics();
+
     /**
      * Fluent builder of the StaticContent detailed parameters.
      *
@@ -135,7 +145,7 @@ public interface StaticContentService extends HttpService {
         private Function<String, String> resolvePathFunction = Function.identity();
         private Set<String> cacheInMemory = new HashSet<>();
         private LruCache<String, CachedHandler> handlerCache;
-
+        private long inMemoryCacheCapacity;
 
         /**
          * Default constructor.
@@ -197,6 +207,25 @@ public interface StaticContentService extends HttpService {
             return identity();
         }
 
+        /**
+         * Configure capacity in bytes of the in-memory cache of files served from the file system.
+         * When configured, each file that fits into the cache is loaded into memory when first requested, and served
+         * from memory until it is changed on the file system, or until it is evicted as the least recently used file
+         * to make room for other files.
+         * Resources added through {@link #addCacheInMemory(String)} are not limited by this capacity and are never evicted.
+         * Defaults to {@code 0}, which disables caching on demand.
+         *
+         * @param capacity maximal number of bytes cached on demand
+         * @return updated builder
+         */
+        public B inMemoryCacheCapacity(long capacity) {
+            if (capacity < 0) {
+                throw new IllegalArgumentException("In memory cache capacity must not be negative, but is " + capacity);
+            }
+            this.inMemoryCacheCapacity = capacity;
+            return identity();
+        }
+
         /**
          * Configure capacity of cache used for resources. This cache will make sure the media type and location is discovered
          * faster.
@@ -235,6 +264,10 @@ public interface StaticContentService extends HttpService {
         LruCache<String, CachedHandler> handlerCache() {
             return handlerCache == null ? LruCache.create() : handlerCache;
         }
+
+        long inMemoryCacheCapacity() {
+            return inMemoryCacheCapacity;
+        }
     }
 
     /**
@@ -245,6 +278,8 @@ public interface StaticContentService extends HttpService {
     @SuppressWarnings("unchecked")
     abstract class FileBasedBuilder<T extends FileBasedBuilder<T>> extends Builder<FileBasedBuilder<T>> {
         private final Map<String, MediaType> specificContentTypes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private boolean precompressed;
+
         /**
          * Default constructor.
          */
@@ -279,9 +314,29 @@ public interface StaticContentService extends HttpService {
             return (T) this;
         }
 
+        /**
+         * Serve pre-compressed variants of files when the client accepts them.
+         * When a file {@code app.js} is requested and files {@code app.js.br} or {@code app.js.gz} exist next to it,
+         * the compressed variant is sent with {@code Content-Encoding} set to {@code br} or {@code gzip}
+         * (Brotli is preferred), if accepted by the {@code Accept-Encoding} header of the request.
+         * Range requests are always served from the original file.
+         * Defaults to {@code false}.
+         *
+         * @param precompressed whether to serve pre-compressed variants
+         * @return updated builder
+         */
+        public T precompressed(boolean precompressed) {
+            this.precompressed = precompressed;
+            return (T) this;
+        }
+
         Map<String, MediaType> specificContentTypes() {
             return specificContentTypes;
         }
+
+        boolean precompressed() {
+            return precompressed;
+        }
     }
 
     /**
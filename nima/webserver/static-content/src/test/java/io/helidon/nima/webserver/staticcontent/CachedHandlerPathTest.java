@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webserver.staticcontent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.HttpPrologue;
+import io.helidon.common.http.ServerRequestHeaders;
+import io.helidon.common.http.ServerResponseHeaders;
+import io.helidon.common.http.WritableHeaders;
+import io.helidon.nima.webserver.http.ServerRequest;
+import io.helidon.nima.webserver.http.ServerResponse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.hasHeader;
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.noHeader;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedHandlerPathTest {
+    @TempDir
+    Path root;
+
+    @Test
+    void testOnDemandInMemoryCache() throws IOException {
+        Path file = Files.writeString(root.resolve("resource.txt"), "Hello");
+        FileSystemContentHandler handler = (FileSystemContentHandler) StaticContentService.builder(root)
+                .inMemoryCacheCapacity(1024)
+                .build();
+        handler.beforeStart();
+
+        assertThat(get(handler, "resource.txt"), is("Hello"));
+        assertThat(get(handler, "resource.txt"), is("Hello"));
+
+        CacheStatistics statistics = handler.cacheStatistics();
+        assertThat(statistics.misses(), is(1L));
+        assertThat(statistics.hits(), is(1L));
+        assertThat(statistics.entries(), is(1));
+        assertThat(statistics.bytes(), is(5L));
+
+        // a changed file must not be served from memory
+        Files.writeString(file, "Changed");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+
+        assertThat(get(handler, "resource.txt"), is("Changed"));
+        statistics = handler.cacheStatistics();
+        assertThat(statistics.evictions(), is(1L));
+        assertThat(statistics.bytes(), is(7L));
+    }
+
+    @Test
+    void testNoMissesWithoutOnDemandCache() throws IOException {
+        Files.writeString(root.resolve("resource.txt"), "Hello");
+        FileSystemContentHandler handler = (FileSystemContentHandler) StaticContentService.builder(root)
+                .build();
+        handler.beforeStart();
+
+        assertThat(get(handler, "resource.txt"), is("Hello"));
+
+        CacheStatistics statistics = handler.cacheStatistics();
+        assertThat(statistics.misses(), is(0L));
+        assertThat(statistics.hits(), is(0L));
+    }
+
+    @Test
+    void testInMemoryCacheCapacity() throws IOException {
+        Files.writeString(root.resolve("first.txt"), "a".repeat(600));
+        Files.writeString(root.resolve("second.txt"), "b".repeat(600));
+        Files.writeString(root.resolve("large.txt"), "c".repeat(2000));
+        FileSystemContentHandler handler = (FileSystemContentHandler) StaticContentService.builder(root)
+                .inMemoryCacheCapacity(1000)
+                .build();
+        handler.beforeStart();
+
+        get(handler, "first.txt");
+        get(handler, "second.txt");
+        get(handler, "large.txt");
+
+        CacheStatistics statistics = handler.cacheStatistics();
+        assertThat(statistics.entries(), is(1));
+        assertThat(statistics.bytes(), is(600L));
+        assertThat(statistics.evictions(), is(1L));
+    }
+
+    @Test
+    void testPrecompressed() throws IOException {
+        Files.writeString(root.resolve("app.js"), "plain");
+        Files.writeString(root.resolve("app.js.gz"), "gzip");
+        Files.writeString(root.resolve("app.js.br"), "brotli");
+        FileSystemContentHandler handler = (FileSystemContentHandler) StaticContentService.builder(root)
+                .precompressed(true)
+                .build();
+        handler.beforeStart();
+
+        ServerResponseHeaders responseHeaders = ServerResponseHeaders.create();
+        assertThat(get(handler, "app.js", responseHeaders, "gzip, deflate"), is("gzip"));
+        assertThat(responseHeaders, hasHeader(Http.Header.CONTENT_ENCODING, "gzip"));
+        assertThat(responseHeaders, hasHeader(Http.Header.VARY, "Accept-Encoding"));
+        assertThat(responseHeaders, hasHeader(Http.Header.CONTENT_TYPE));
+
+        responseHeaders = ServerResponseHeaders.create();
+        assertThat(get(handler, "app.js", responseHeaders, "gzip;q=0.5, br"), is("brotli"));
+        assertThat(responseHeaders, hasHeader(Http.Header.CONTENT_ENCODING, "br"));
+
+        responseHeaders = ServerResponseHeaders.create();
+        assertThat(get(handler, "app.js", responseHeaders, "br;q=0, identity"), is("plain"));
+        assertThat(responseHeaders, noHeader(Http.Header.CONTENT_ENCODING));
+        assertThat(responseHeaders, hasHeader(Http.Header.VARY, "Accept-Encoding"));
+    }
+
+    private static String get(FileSystemContentHandler handler, String path) throws IOException {
+        return get(handler, path, ServerResponseHeaders.create(), null);
+    }
+
+    private static String get(FileSystemContentHandler handler,
+                              String path,
+                              ServerResponseHeaders responseHeaders,
+                              String acceptEncoding) throws IOException {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        if (acceptEncoding != null) {
+            requestHeaders.set(Http.Header.ACCEPT_ENCODING, acceptEncoding);
+        }
+        ServerRequest req = mock(ServerRequest.class);
+        when(req.headers()).thenReturn(ServerRequestHeaders.create(requestHeaders));
+        when(req.prologue()).thenReturn(HttpPrologue.create("http/1.1", "http", "1.1", Http.Method.GET, "/" + path, false));
+
+        ServerResponse res = mock(ServerResponse.class);
+        when(res.headers()).thenReturn(responseHeaders);
+
+        assertThat(handler.doHandle(Http.Method.GET, path, req, res), is(true));
+
+        ArgumentCaptor<byte[]> entity = ArgumentCaptor.forClass(byte[].class);
+        verify(res).send(entity.capture());
+        return new String(entity.getValue(), StandardCharsets.UTF_8);
+    }
+}
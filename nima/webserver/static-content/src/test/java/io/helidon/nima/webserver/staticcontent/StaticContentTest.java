@@ -18,6 +18,7 @@ package io.helidon.nima.webserver.staticcontent;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import io.helidon.common.http.Http;
 import io.helidon.common.http.Http.Header;
@@ -36,6 +37,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 @RoutingTest
 class StaticContentTest {
+    // larger than a single write and than a read chunk
+    private static final byte[] LARGE_CONTENT = largeContent(200 * 1024 + 17);
+
     @TempDir
     static Path tempDir;
 
@@ -56,6 +60,7 @@ class StaticContentTest {
         Files.writeString(resource, "Content");
         Files.writeString(favicon, "Wrong icon text");
         Files.writeString(nested.resolve("resource.txt"), "Nested content");
+        Files.write(tempDir.resolve("large.bin"), LARGE_CONTENT);
 
         builder.register("/classpath", StaticContentService.builder("web"))
                 .register("/singleclasspath", StaticContentService.builder("web/resource.txt"))
@@ -116,6 +121,31 @@ class StaticContentTest {
         }
     }
 
+    @Test
+    void testFileSystemLargeFile() {
+        try (Http1ClientResponse response = testClient.get("/path/large.bin")
+                .request()) {
+
+            assertThat(response.status(), is(Http.Status.OK_200));
+            assertThat(response.headers(), HttpHeaderMatcher.hasHeader(Header.CONTENT_LENGTH,
+                                                                       String.valueOf(LARGE_CONTENT.length)));
+            assertThat(response.as(byte[].class), is(LARGE_CONTENT));
+        }
+    }
+
+    @Test
+    void testFileSystemLargeFileRange() {
+        int from = 1000;
+        int to = 150 * 1024;
+        try (Http1ClientResponse response = testClient.get("/path/large.bin")
+                .header(Header.RANGE, "bytes=" + from + "-" + to)
+                .request()) {
+
+            assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+            assertThat(response.as(byte[].class), is(Arrays.copyOfRange(LARGE_CONTENT, from, to + 1)));
+        }
+    }
+
     @Test
     void testFileSystemSingleFile() {
         try (Http1ClientResponse response = testClient.get("/singlepath")
@@ -126,4 +156,12 @@ class StaticContentTest {
             assertThat(response.as(String.class), is("Content"));
         }
     }
+
+    private static byte[] largeContent(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        return content;
+    }
 }
@@ -17,6 +17,7 @@
 package io.helidon.nima.webserver;
 
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -51,14 +52,20 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
     private final Router router;
     private final SocketWriter writer;
     private final DataReader reader;
+    private final ConnectionTracker tracker;
+    private final long createdMillis;
 
-    private ServerConnection connection;
+    private volatile ServerConnection connection;
+    private volatile boolean closedAsIdle;
 
     ConnectionHandler(ListenerContext listenerContext,
                       ConnectionProviders connectionProviders,
                       HelidonSocket socket,
-                      Router router) {
+                      Router router,
+                      ConnectionTracker tracker) {
         this.listenerContext = listenerContext;
+        this.tracker = tracker;
+        this.createdMillis = System.currentTimeMillis();
         this.connectionProviders = connectionProviders;
         this.providerCandidates = connectionProviders.providerCandidates();
         this.socket = socket;
@@ -120,6 +127,7 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
         } finally {
             writer.close();
             closeChannel();
+            tracker.closed(this);
         }
 
         socket.log(LOGGER, DEBUG, "socket closed");
@@ -175,6 +183,46 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
         return router;
     }
 
+    /**
+     * How long this connection has been idle. Until a connection is identified, the time since the socket was accepted
+     * is considered idle time.
+     *
+     * @return idle time, {@link java.time.Duration#ZERO} if the connection is active
+     */
+    Duration idleTime() {
+        ServerConnection current = connection;
+        if (current == null) {
+            return Duration.ofMillis(System.currentTimeMillis() - createdMillis);
+        }
+        return current.idleTime();
+    }
+
+    /**
+     * Whether this connection is idle, as reported by a connection that tracks its idle time.
+     * Connections that are not yet identified, and connections that do not track idle time, are never considered idle.
+     *
+     * @return whether the connection is idle
+     */
+    boolean isIdle() {
+        ServerConnection current = connection;
+        return current != null && !current.idleTime().isZero();
+    }
+
+    /**
+     * Close the underlying socket of an idle connection, the reading thread will terminate on the next read attempt.
+     *
+     * @return {@code true} if the connection was closed by this call, {@code false} if it was already closed
+     */
+    boolean closeIdle() {
+        if (closedAsIdle) {
+            return false;
+        }
+        closedAsIdle = true;
+        socket.log(LOGGER, DEBUG, "closing idle connection");
+        closeChannel();
+        return true;
+    }
+
     private ServerConnection identifyConnection() {
         try {
             reader.ensureAvailable();
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.webserver;
+
+/**
+ * Statistics of connections accepted by a single listener (server socket).
+ * Values are a point in time snapshot and may change concurrently.
+ */
+public interface ConnectionStatistics {
+    /**
+     * Statistics with all values set to zero, used by listeners that do not track connections.
+     *
+     * @return empty statistics
+     */
+    static ConnectionStatistics empty() {
+        return EmptyConnectionStatistics.INSTANCE;
+    }
+
+    /**
+     * Number of connections that are currently open.
+     *
+     * @return open connections
+     */
+    int openConnections();
+
+    /**
+     * Number of open connections that are currently idle, such as HTTP/1.1 keep-alive connections waiting
+     * for the next request.
+     *
+     * @return idle connections
+     */
+    int idleConnections();
+
+    /**
+     * Number of connections that were closed immediately after accept, because the listener reached its
+     * {@link io.helidon.nima.webserver.ListenerConfiguration#maxConcurrentConnections()}.
+     *
+     * @return total number of rejected connections since the listener started
+     */
+    long rejectedConnections();
+
+    /**
+     * Number of connections closed by the server, because they were idle for longer than
+     * {@link io.helidon.nima.webserver.ListenerConfiguration#idleConnectionTimeout()}.
+     *
+     * @return total number of idle connections closed since the listener started
+     */
+    long idleClosedConnections();
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.webserver;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.TRACE;
+
+/**
+ * Tracks open connections of a single listener, enforces the maximal number of concurrent connections
+ * and closes connections that are idle for too long.
+ */
+class ConnectionTracker implements ConnectionStatistics {
+    private static final System.Logger LOGGER = System.getLogger(ConnectionTracker.class.getName());
+    private static final long MIN_IDLE_CHECK_MILLIS = 100;
+    private static final long MAX_IDLE_CHECK_MILLIS = 1000;
+
+    private final Set<ConnectionHandler> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong idleClosed = new AtomicLong();
+    private final String socketName;
+    private final Semaphore permits;
+    private final ListenerConfiguration.ConnectionLimitPolicy limitPolicy;
+    private final long idleTimeoutMillis;
+
+    private volatile Thread idleReaper;
+
+    ConnectionTracker(String socketName, ListenerConfiguration listenerConfig) {
+        this.socketName = socketName;
+        int maxConnections = listenerConfig.maxConcurrentConnections();
+        this.permits = maxConnections > 0 ? new Semaphore(maxConnections) : null;
+        this.limitPolicy = listenerConfig.connectionLimitPolicy();
+        this.idleTimeoutMillis = listenerConfig.idleConnectionTimeout().toMillis();
+    }
+
+    @Override
+    public int openConnections() {
+        return connections.size();
+    }
+
+    @Override
+    public int idleConnections() {
+        int idle = 0;
+        for (ConnectionHandler connection : connections) {
+            if (connection.isIdle()) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    @Override
+    public long rejectedConnections() {
+        return rejected.get();
+    }
+
+    @Override
+    public long idleClosedConnections() {
+        return idleClosed.get();
+    }
+
+    /**
+     * Called by the listener thread before accepting a new connection.
+     * When the connection limit is reached and the policy is to pause accepting, this method blocks until
+     * a connection is closed.
+     *
+     * @throws InterruptedException in case the listener thread was interrupted while waiting
+     */
+    void beforeAccept() throws InterruptedException {
+        if (permits != null && limitPolicy == ListenerConfiguration.ConnectionLimitPolicy.PAUSE_ACCEPT) {
+            permits.acquire();
+        }
+    }
+
+    /**
+     * Called by the listener thread after a connection was accepted, to check whether it can be handled.
+     * If this method returns {@code false}, the caller is expected to close the socket.
+     *
+     * @return whether the connection is admitted
+     */
+    boolean admit() {
+        if (permits == null || limitPolicy == ListenerConfiguration.ConnectionLimitPolicy.PAUSE_ACCEPT) {
+            // either unlimited, or permit already acquired in beforeAccept
+            return true;
+        }
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Called by the listener thread when accept failed, to release a permit obtained by {@link #beforeAccept()}.
+     */
+    void acceptFailed() {
+        if (permits != null && limitPolicy == ListenerConfiguration.ConnectionLimitPolicy.PAUSE_ACCEPT) {
+            permits.release();
+        }
+    }
+
+    /**
+     * Release a permit of an admitted connection that was not registered (such as when TLS handshake failed).
+     */
+    void releaseAdmission() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    void register(ConnectionHandler connection) {
+        connections.add(connection);
+    }
+
+    void closed(ConnectionHandler connection) {
+        if (connections.remove(connection)) {
+            releaseAdmission();
+        }
+    }
+
+    void start() {
+        if (idleTimeoutMillis > 0) {
+            long period = Math.max(MIN_IDLE_CHECK_MILLIS, Math.min(MAX_IDLE_CHECK_MILLIS, idleTimeoutMillis / 2));
+            idleReaper = Thread.ofVirtual()
+                    .name("server-" + socketName + "-idle-reaper")
+                    .start(() -> reapIdle(period));
+        }
+    }
+
+    void stop() {
+        Thread reaper = idleReaper;
+        if (reaper != null) {
+            reaper.interrupt();
+        }
+    }
+
+    private void reapIdle(long period) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(period);
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (ConnectionHandler connection : connections) {
+                Duration idleTime = connection.idleTime();
+                if (idleTime.toMillis() >= idleTimeoutMillis) {
+                    if (LOGGER.isLoggable(DEBUG)) {
+                        LOGGER.log(DEBUG, "Closing connection " + connection.childSocketId() + " on socket " + socketName
+                                + ", idle for " + idleTime);
+                    }
+                    try {
+                        if (connection.closeIdle()) {
+                            idleClosed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        LOGGER.log(TRACE, "Failed to close idle connection", e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -23,11 +23,13 @@ import java.net.ServerSocket;
 import java.net.SocketOption;
 import java.net.StandardSocketOptions;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import io.helidon.common.buffers.BufferAllocator;
 import io.helidon.common.context.Context;
 import io.helidon.common.http.DirectHandler;
 import io.helidon.common.http.RequestedUriDiscoveryContext;
@@ -42,6 +44,7 @@ import io.helidon.nima.webserver.http.DirectHandlers;
  */
 public final class ListenerConfiguration {
     private final Map<SocketOption, Object> socketOptions;
+    private final String name;
     private final int port;
     private final InetAddress address;
     private final int backlog;
@@ -55,9 +58,14 @@ public final class ListenerConfiguration {
     private final DirectHandlers directHandlers;
     private final Context context;
     private final RequestedUriDiscoveryContext discoveryContext;
+    private final int maxConcurrentConnections;
+    private final ConnectionLimitPolicy connectionLimitPolicy;
+    private final Duration idleConnectionTimeout;
+    private final BufferAllocator bufferAllocator;
 
     private ListenerConfiguration(Builder builder) {
         this.socketOptions = new HashMap<>(builder.socketOptions);
+        this.name = builder.socketName;
         this.port = builder.port;
         this.address = builder.address;
         this.backlog = builder.backlog;
@@ -71,6 +79,10 @@ public final class ListenerConfiguration {
         this.directHandlers = builder.directHandlers.build();
         this.context = builder.context;
         this.discoveryContext = builder.discoveryContext;
+        this.maxConcurrentConnections = builder.maxConcurrentConnections;
+        this.connectionLimitPolicy = builder.connectionLimitPolicy;
+        this.idleConnectionTimeout = builder.idleConnectionTimeout;
+        this.bufferAllocator = builder.bufferAllocator;
     }
 
     /**
@@ -111,6 +123,15 @@ public final class ListenerConfiguration {
         }
     }
 
+    /**
+     * Name of the socket this listener is configured for.
+     *
+     * @return socket name
+     */
+    public String name() {
+        return name;
+    }
+
     /**
      * Maximal number of buffers to be queued in the write queue (when used).
      *
@@ -183,6 +204,43 @@ public final class ListenerConfiguration {
         return discoveryContext;
     }
 
+    /**
+     * Maximal number of connections that can be open at the same time on this listener.
+     *
+     * @return maximal number of concurrent connections, {@code -1} for unlimited
+     */
+    public int maxConcurrentConnections() {
+        return maxConcurrentConnections;
+    }
+
+    /**
+     * What to do when {@link #maxConcurrentConnections()} is reached.
+     *
+     * @return connection limit policy
+     */
+    public ConnectionLimitPolicy connectionLimitPolicy() {
+        return connectionLimitPolicy;
+    }
+
+    /**
+     * How long a connection may stay idle (such as an HTTP/1.1 keep-alive connection waiting for the next request)
+     * before it is closed by the server.
+     *
+     * @return idle connection timeout, {@link java.time.Duration#ZERO} if idle connections are never closed
+     */
+    public Duration idleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Allocator of buffers used when writing responses.
+     *
+     * @return buffer allocator
+     */
+    public BufferAllocator bufferAllocator() {
+        return bufferAllocator;
+    }
+
     /**
      * Options for connections accepted by this listener.
      *
@@ -218,6 +276,21 @@ public final class ListenerConfiguration {
         return tls;
     }
 
+    /**
+     * Policy to apply when a listener reaches its maximal number of concurrent connections.
+     */
+    public enum ConnectionLimitPolicy {
+        /**
+         * Stop accepting new connections until an open connection is closed. New connections wait in the
+         * operating system accept backlog (see {@link Builder#backlog(int)}).
+         */
+        PAUSE_ACCEPT,
+        /**
+         * Accept new connections and close them immediately.
+         */
+        CLOSE
+    }
+
     /**
      * Fluent API builder for {@link io.helidon.nima.webserver.ListenerConfiguration}.
      */
@@ -240,6 +313,10 @@ public final class ListenerConfiguration {
         private MediaContext mediaContext;
         private Context context;
         private RequestedUriDiscoveryContext discoveryContext;
+        private int maxConcurrentConnections = -1;
+        private ConnectionLimitPolicy connectionLimitPolicy = ConnectionLimitPolicy.PAUSE_ACCEPT;
+        private Duration idleConnectionTimeout = Duration.ZERO;
+        private BufferAllocator bufferAllocator;
 
         private Builder(String socketName) {
             this.socketName = socketName;
@@ -266,6 +343,9 @@ public final class ListenerConfiguration {
             if (mediaContext == null) {
                 mediaContext = MediaContext.create();
             }
+            if (bufferAllocator == null) {
+                bufferAllocator = BufferAllocator.defaultAllocator();
+            }
             if (discoveryContext == null) {
                 discoveryContext = RequestedUriDiscoveryContext.builder()
                         .socketId(socketName)
@@ -324,6 +404,59 @@ public final class ListenerConfiguration {
             return this;
         }
 
+        /**
+         * Maximal number of connections that can be open at the same time on this listener.
+         * When reached, {@link #connectionLimitPolicy(ConnectionLimitPolicy)} is applied to new connections.
+         * Defaults to unlimited ({@code -1}).
+         *
+         * @param maxConcurrentConnections maximal number of concurrent connections
+         * @return updated builder
+         */
+        public Builder maxConcurrentConnections(int maxConcurrentConnections) {
+            this.maxConcurrentConnections = maxConcurrentConnections;
+            return this;
+        }
+
+        /**
+         * What to do with new connections when {@link #maxConcurrentConnections(int)} is reached.
+         * Defaults to {@link ConnectionLimitPolicy#PAUSE_ACCEPT}.
+         *
+         * @param connectionLimitPolicy policy to use
+         * @return updated builder
+         */
+        public Builder connectionLimitPolicy(ConnectionLimitPolicy connectionLimitPolicy) {
+            Objects.requireNonNull(connectionLimitPolicy);
+            this.connectionLimitPolicy = connectionLimitPolicy;
+            return this;
+        }
+
+        /**
+         * How long a connection may stay idle before it is closed by the server.
+         * Defaults to {@link java.time.Duration#ZERO}, which disables closing of idle connections.
+         *
+         * @param idleConnectionTimeout idle connection timeout
+         * @return updated builder
+         */
+        public Builder idleConnectionTimeout(Duration idleConnectionTimeout) {
+            Objects.requireNonNull(idleConnectionTimeout);
+            this.idleConnectionTimeout = idleConnectionTimeout;
+            return this;
+        }
+
+        /**
+         * Allocator of buffers used when writing responses, such as
+         * {@link io.helidon.common.buffers.PooledBufferAllocator}.
+         * Defaults to {@link io.helidon.common.buffers.BufferAllocator#defaultAllocator()}.
+         *
+         * @param bufferAllocator buffer allocator
+         * @return updated builder
+         */
+        public Builder bufferAllocator(BufferAllocator bufferAllocator) {
+            Objects.requireNonNull(bufferAllocator);
+            this.bufferAllocator = bufferAllocator;
+            return this;
+        }
+
         /**
          * Listener receive buffer size.
          *
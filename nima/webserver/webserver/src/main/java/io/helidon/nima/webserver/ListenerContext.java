@@ -70,4 +70,13 @@ public interface ListenerContext {
      * @return executor service
      */
     ExecutorService executor();
+
+    /**
+     * Statistics of connections accepted by this listener.
+     *
+     * @return connection statistics, empty statistics by default
+     */
+    default ConnectionStatistics connectionStatistics() {
+        return ConnectionStatistics.empty();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,6 +61,16 @@ public interface Router {
      */
     void beforeStart();
 
+    /**
+     * This is called before a server listener that uses this router opens its port.
+     * The default implementation calls {@link #beforeStart()}.
+     *
+     * @param listenerContext context of the listener that is starting
+     */
+    default void beforeStart(ListenerContext listenerContext) {
+        beforeStart();
+    }
+
     /**
      * Builder for a standalone router.
      */
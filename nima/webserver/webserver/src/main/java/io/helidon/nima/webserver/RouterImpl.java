@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +56,13 @@ class RouterImpl implements Router {
         }
     }
 
+    @Override
+    public void beforeStart(ListenerContext listenerContext) {
+        for (Routing value : routings.values()) {
+            value.beforeStart(listenerContext);
+        }
+    }
+
     static class Builder implements Router.Builder {
         private static final System.Logger LOGGER = System.getLogger(Builder.class.getName());
 
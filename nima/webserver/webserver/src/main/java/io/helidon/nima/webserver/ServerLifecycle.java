@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,16 @@ public interface ServerLifecycle {
     default void beforeStart() {
     }
 
+    /**
+     * Before a server listener starts, called once for each listener this component is used by.
+     * The default implementation calls {@link #beforeStart()}.
+     *
+     * @param listenerContext context of the listener that is starting
+     */
+    default void beforeStart(ListenerContext listenerContext) {
+        beforeStart();
+    }
+
     /**
      * After server stop.
      */
@@ -69,6 +69,7 @@ class ServerListener implements ListenerContext {
     private final CompletableFuture<Void> closeFuture;
     private final SocketOptions connectionOptions;
     private final InetSocketAddress configuredAddress;
+    private final ConnectionTracker connectionTracker;
 
     private final MediaContext mediaContext;
     private final ContentEncodingContext contentEncodingContext;
@@ -114,6 +115,7 @@ class ServerListener implements ListenerContext {
                                                                          .factory());
 
         this.closeFuture = new CompletableFuture<>();
+        this.connectionTracker = new ConnectionTracker(socketName, listenerConfig);
 
         int port = listenerConfig.port();
         if (port < 1) {
@@ -152,6 +154,11 @@ class ServerListener implements ListenerContext {
         return sharedExecutor;
     }
 
+    @Override
+    public ConnectionStatistics connectionStatistics() {
+        return connectionTracker;
+    }
+
     @Override
     public String toString() {
         return socketName + " (" + configuredAddress + ")";
@@ -173,6 +180,7 @@ class ServerListener implements ListenerContext {
         try {
             // Stop listening for connections
             serverSocket.close();
+            connectionTracker.stop();
 
             // Shutdown reader executor
             readerExecutor.terminate(EXECUTOR_SHUTDOWN_MILLIS, TimeUnit.MILLISECONDS);
@@ -204,7 +212,7 @@ class ServerListener implements ListenerContext {
     }
 
     void start() {
-        router.beforeStart();
+        router.beforeStart(this);
 
         try {
             Tls tls = listenerConfig.hasTls() ? listenerConfig.tls() : null;
@@ -250,6 +258,7 @@ class ServerListener implements ListenerContext {
             }
         }
 
+        connectionTracker.start();
         serverThread.start();
     }
 
@@ -287,11 +296,26 @@ class ServerListener implements ListenerContext {
 
         while (running) {
             try {
-                // if accept fails itself, we consider it end of story, the listener is broken
-                Socket socket = serverSocket.accept();
+                // blocks when the maximal number of connections is reached and we should pause accepting
+                connectionTracker.beforeAccept();
+                Socket socket;
+                try {
+                    // if accept fails itself, we consider it end of story, the listener is broken
+                    socket = serverSocket.accept();
+                } catch (Throwable e) {
+                    connectionTracker.acceptFailed();
+                    throw e;
+                }
 
+                if (!connectionTracker.admit()) {
+                    LOGGER.log(DEBUG, "Maximal number of concurrent connections reached on socket " + socketName
+                            + ", closing new connection");
+                    closeQuietly(socket);
+                    continue;
+                }
+
+                ConnectionHandler handler = null;
                 try {
-                    ConnectionHandler handler;
                     String channelId = "0x" + HexFormat.of().toHexDigits(System.identityHashCode(socket));
                     connectionOptions.configureSocket(socket);
 
@@ -317,14 +341,23 @@ class ServerListener implements ListenerContext {
                     handler = new ConnectionHandler(this,
                                                     connectionProviders,
                                                     helidonSocket,
-                                                    router);
+                                                    router,
+                                                    connectionTracker);
 
+                    connectionTracker.register(handler);
                     readerExecutor.execute(handler);
                 } catch (RejectedExecutionException e) {
                     LOGGER.log(ERROR, "Executor rejected handler for new connection");
+                    releaseFailed(socket, handler);
                 } catch (Exception e) {
                     // we may get an SSL handshake errors, which should only fail one socket, not the listener
                     LOGGER.log(TRACE, "Failed to handle accepted socket", e);
+                    releaseFailed(socket, handler);
+                }
+            } catch (InterruptedException e) {
+                // listener thread interrupted while waiting for connections to close, we are probably stopping
+                if (running) {
+                    stop();
                 }
             } catch (SocketException e) {
                 if (!e.getMessage().contains("Socket closed")) {
@@ -344,4 +377,22 @@ class ServerListener implements ListenerContext {
         LOGGER.log(INFO, String.format("[%s] %s socket closed.", serverChannelId, socketName));
         closeFuture.complete(null);
     }
+
+    // connection was admitted, but its handler is not running
+    private void releaseFailed(Socket socket, ConnectionHandler handler) {
+        if (handler == null) {
+            connectionTracker.releaseAdmission();
+        } else {
+            connectionTracker.closed(handler);
+        }
+        closeQuietly(socket);
+    }
+
+    private void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            LOGGER.log(TRACE, "Failed to close socket", e);
+        }
+    }
 }
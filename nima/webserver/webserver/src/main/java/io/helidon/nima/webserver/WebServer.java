@@ -19,6 +19,7 @@ package io.helidon.nima.webserver;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
@@ -251,6 +252,14 @@ public interface WebServer {
                         listenerConfig.get("receive-buffer-size").asInt().ifPresent(listener::receiveBufferSize);
                         listenerConfig.get("write-queue-length").asInt().ifPresent(listener::writeQueueLength);
                         listenerConfig.get("write-buffer-size").asInt().ifPresent(listener::writeBufferSize);
+                        listenerConfig.get("max-concurrent-connections").asInt()
+                                .ifPresent(listener::maxConcurrentConnections);
+                        listenerConfig.get("connection-limit-policy").asString()
+                                .map(it -> ListenerConfiguration.ConnectionLimitPolicy.valueOf(it.toUpperCase(Locale.ROOT)
+                                                                                                   .replace('-', '_')))
+                                .ifPresent(listener::connectionLimitPolicy);
+                        listenerConfig.get("idle-connection-timeout").as(Duration.class)
+                                .ifPresent(listener::idleConnectionTimeout);
 
                         listenerConfig.get("tls").as(Tls::create).ifPresent(listener::tls);
 
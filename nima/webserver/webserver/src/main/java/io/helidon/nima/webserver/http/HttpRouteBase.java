@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,9 @@
 package io.helidon.nima.webserver.http;
 
 import java.util.List;
+import java.util.Set;
 
+import io.helidon.common.http.Http;
 import io.helidon.common.http.HttpPrologue;
 import io.helidon.common.http.PathMatchers;
 
@@ -26,10 +28,20 @@ abstract class HttpRouteBase implements HttpRoute {
         throw new IllegalStateException("This is not a list route");
     }
 
-    List<HttpRouteBase> routes() {
+    RouteIndex routeIndex() {
         throw new IllegalStateException("This is not a list route");
     }
 
+    // methods this route may accept, empty for any method; used to index routes
+    Set<Http.Method> acceptedMethods() {
+        return Set.of();
+    }
+
+    // literal segments paths accepted by this route start with; used to index routes
+    List<String> literalSegments() {
+        return List.of();
+    }
+
     boolean isList() {
         return false;
     }
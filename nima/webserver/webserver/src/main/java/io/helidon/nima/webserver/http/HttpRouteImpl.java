@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.nima.webserver.http;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.helidon.common.http.Http;
@@ -58,6 +60,19 @@ class HttpRouteImpl extends HttpRouteBase implements HttpRoute {
         handler.afterStop();
     }
 
+    @Override
+    Set<Http.Method> acceptedMethods() {
+        if (methodPredicate instanceof Http.MethodPredicate mp) {
+            return mp.acceptedMethods();
+        }
+        return Set.of();
+    }
+
+    @Override
+    List<String> literalSegments() {
+        return pathMatcher.literalSegments();
+    }
+
     @Override
     public String toString() {
         return methodPredicate + " (" + pathMatcher + "): " + handler;
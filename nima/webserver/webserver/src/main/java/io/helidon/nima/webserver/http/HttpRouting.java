@@ -35,6 +35,7 @@ import io.helidon.common.http.NotFoundException;
 import io.helidon.common.http.PathMatcher;
 import io.helidon.common.http.RequestException;
 import io.helidon.nima.webserver.ConnectionContext;
+import io.helidon.nima.webserver.ListenerContext;
 import io.helidon.nima.webserver.Routing;
 import io.helidon.nima.webserver.ServerLifecycle;
 
@@ -114,6 +115,13 @@ public final class HttpRouting implements Routing {
         features.forEach(ServerLifecycle::beforeStart);
     }
 
+    @Override
+    public void beforeStart(ListenerContext listenerContext) {
+        filters.beforeStart();
+        rootRoute.beforeStart();
+        features.forEach(it -> it.beforeStart(listenerContext));
+    }
+
     @Override
     public void afterStop() {
         filters.afterStop();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,6 @@
 package io.helidon.nima.webserver.http;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -31,30 +30,33 @@ import io.helidon.nima.webserver.ConnectionContext;
 class RouteCrawler {
     private final ConnectionContext ctx;
     private final RoutingRequest request;
-    private final Iterator<HttpRouteBase> routeIterator;
+    private final RouteIndex routeIndex;
+    private final int[] candidates;
     private final UriPath matchingPath;
     private final RoutedPath parent;
     private final HttpPrologue prologue;
 
+    private int candidateIndex;
     private CrawlerItem next;
     private RouteCrawler subCrawler;
 
-    RouteCrawler(ConnectionContext ctx, RoutingRequest request, List<HttpRouteBase> rootRoute) {
+    RouteCrawler(ConnectionContext ctx, RoutingRequest request, RouteIndex rootRoute) {
         this.ctx = ctx;
-        this.routeIterator = rootRoute.iterator();
+        this.routeIndex = rootRoute;
         this.matchingPath = request.prologue().uriPath();
         this.prologue = request.prologue();
         this.request = request;
         this.parent = null;
+        this.candidates = rootRoute.candidates(prologue);
     }
 
     RouteCrawler(ConnectionContext ctx,
                  RoutingRequest request,
-                 List<HttpRouteBase> rootRoute,
+                 RouteIndex rootRoute,
                  RoutedPath parent,
                  UriPath child) {
         this.ctx = ctx;
-        this.routeIterator = rootRoute.iterator();
+        this.routeIndex = rootRoute;
         this.matchingPath = child;
         this.request = request;
         this.parent = parent;
@@ -67,6 +69,7 @@ class RouteCrawler {
                                             child,
                                             prologue.query(),
                                             prologue.fragment());
+        this.candidates = rootRoute.candidates(this.prologue);
     }
 
     boolean hasNext() {
@@ -87,14 +90,14 @@ class RouteCrawler {
         }
 
         // otherwise, try to find the next valid route
-        while (routeIterator.hasNext()) {
-            HttpRouteBase nextRoute = routeIterator.next();
+        while (candidateIndex < candidates.length) {
+            HttpRouteBase nextRoute = routeIndex.route(candidates[candidateIndex++]);
             if (nextRoute.isList()) {
                 PathMatchers.PrefixMatchResult accepts = nextRoute.acceptsPrefix(prologue);
                 if (accepts.accepted()) {
                     subCrawler = new RouteCrawler(ctx,
                                                   request,
-                                                  nextRoute.routes(),
+                                                  nextRoute.routeIndex(),
                                                   accepts.matchedPath(),
                                                   accepts.unmatchedPath());
                     if (subCrawler.hasNext()) {
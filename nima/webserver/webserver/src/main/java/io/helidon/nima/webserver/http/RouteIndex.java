@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webserver.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.HttpPrologue;
+
+/**
+ * Routing table of a single list of routes.
+ * Routes are indexed in a trie by the literal segments their path must start with and by the methods they accept,
+ * so only routes that may accept a request are tested for it. Routes without any literal segments or method
+ * restrictions are candidates for every request. Candidates are always provided in registration order, so the
+ * result of routing is the same as if all routes were tested one by one.
+ */
+final class RouteIndex {
+    private static final int[] NO_ROUTES = new int[0];
+
+    private final HttpRouteBase[] routes;
+    private final Node root;
+    private final boolean indexedPaths;
+
+    private RouteIndex(HttpRouteBase[] routes, Node root) {
+        this.routes = routes;
+        this.root = root;
+        this.indexedPaths = !root.children.isEmpty();
+    }
+
+    static RouteIndex create(List<HttpRouteBase> routes) {
+        HttpRouteBase[] routeArray = routes.toArray(new HttpRouteBase[0]);
+        NodeBuilder rootBuilder = new NodeBuilder();
+
+        for (int i = 0; i < routeArray.length; i++) {
+            HttpRouteBase route = routeArray[i];
+            NodeBuilder node = rootBuilder;
+            for (String segment : route.literalSegments()) {
+                node = node.children.computeIfAbsent(segment, it -> new NodeBuilder());
+            }
+            Set<Http.Method> methods = route.acceptedMethods();
+            if (methods.isEmpty()) {
+                node.anyMethod.add(i);
+            } else {
+                for (Http.Method method : methods) {
+                    node.byMethod.computeIfAbsent(method, it -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        return new RouteIndex(routeArray, rootBuilder.build());
+    }
+
+    HttpRouteBase route(int index) {
+        return routes[index];
+    }
+
+    /**
+     * Indices of routes that may accept the prologue, in registration order.
+     *
+     * @param prologue prologue to route (with path relative to this list of routes)
+     * @return indices of candidate routes, must not be modified
+     */
+    int[] candidates(HttpPrologue prologue) {
+        Http.Method method = prologue.method();
+        Node node = root;
+        int[] first = node.routes(method);
+        if (!indexedPaths) {
+            return first;
+        }
+
+        int[][] found = null;
+        int count = 0;
+        int total = first.length;
+
+        String path = prologue.uriPath().path();
+        int pos = 1;
+        int length = path.length();
+        if (length == 0 || path.charAt(0) != '/') {
+            return first;
+        }
+        while (!node.children.isEmpty()) {
+            int end = path.indexOf('/', pos);
+            if (end == -1) {
+                end = length;
+            }
+            node = node.children.get(path.substring(pos, end));
+            if (node == null) {
+                break;
+            }
+            int[] nodeRoutes = node.routes(method);
+            if (nodeRoutes.length != 0) {
+                if (total == 0) {
+                    first = nodeRoutes;
+                } else {
+                    if (found == null) {
+                        found = new int[8][];
+                        found[count++] = first;
+                    } else if (count == found.length) {
+                        found = Arrays.copyOf(found, count * 2);
+                    }
+                    found[count++] = nodeRoutes;
+                }
+                total += nodeRoutes.length;
+            }
+            if (end == length) {
+                break;
+            }
+            pos = end + 1;
+        }
+
+        if (found == null) {
+            return first;
+        }
+        int[] result = new int[total];
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            int[] nodeRoutes = found[i];
+            System.arraycopy(nodeRoutes, 0, result, index, nodeRoutes.length);
+            index += nodeRoutes.length;
+        }
+        // restore registration order
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static int[] merge(int[] first, int[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+        if (second.length == 0) {
+            return first;
+        }
+        int[] result = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < first.length && j < second.length) {
+            result[k++] = first[i] < second[j] ? first[i++] : second[j++];
+        }
+        while (i < first.length) {
+            result[k++] = first[i++];
+        }
+        while (j < second.length) {
+            result[k++] = second[j++];
+        }
+        return result;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children;
+        private final Map<Http.Method, int[]> byMethod;
+        private final int[] anyMethod;
+
+        private Node(Map<String, Node> children, Map<Http.Method, int[]> byMethod, int[] anyMethod) {
+            this.children = children;
+            this.byMethod = byMethod;
+            this.anyMethod = anyMethod;
+        }
+
+        int[] routes(Http.Method method) {
+            if (byMethod.isEmpty()) {
+                return anyMethod;
+            }
+            int[] methodRoutes = byMethod.get(method);
+            return methodRoutes == null ? anyMethod : methodRoutes;
+        }
+    }
+
+    private static final class NodeBuilder {
+        private final Map<String, NodeBuilder> children = new HashMap<>();
+        private final Map<Http.Method, List<Integer>> byMethod = new HashMap<>();
+        private final List<Integer> anyMethod = new ArrayList<>();
+
+        Node build() {
+            Map<String, Node> builtChildren = new HashMap<>();
+            children.forEach((segment, child) -> builtChildren.put(segment, child.build()));
+
+            int[] any = toArray(anyMethod);
+            Map<Http.Method, int[]> builtByMethod = new HashMap<>();
+            // routes accepting any method are merged into each method, so a lookup is a single array
+            byMethod.forEach((method, indices) -> builtByMethod.put(method, merge(toArray(indices), any)));
+
+            return new Node(Map.copyOf(builtChildren), Map.copyOf(builtByMethod), any);
+        }
+
+        private static int[] toArray(List<Integer> indices) {
+            if (indices.isEmpty()) {
+                return NO_ROUTES;
+            }
+            int[] result = new int[indices.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = indices.get(i);
+            }
+            return result;
+        }
+    }
+}
@@ -186,14 +186,19 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
 
     /**
      * Entity bytes encoded using content encoding.
+     * Entity is not encoded if the response already has {@code Content-Encoding} header (such as for pre-compressed
+     * content).
      *
      * @param configuredEntity plain bytes
      * @return encoded bytes
      */
     protected byte[] entityBytes(byte[] configuredEntity) {
         byte[] entity = configuredEntity;
-        if (contentEncodingContext.contentEncodingEnabled()) {
-            ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders);
+        if (contentEncodingContext.contentEncodingEnabled() && !headers().contains(Http.Header.CONTENT_ENCODING)) {
+            ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders, headers(), entity.length);
+            if (encoder == ContentEncoder.NO_OP) {
+                return entity;
+            }
             // we want to preserve optimization here, let's create a new byte array
             ByteArrayOutputStream baos = new ByteArrayOutputStream(entity.length);
             OutputStream os = encoder.encode(baos);
@@ -216,8 +221,9 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
      * @return output stream to write plain data to
      */
     protected OutputStream contentEncode(OutputStream outputStream) {
-        if (contentEncodingContext.contentEncodingEnabled()) {
-            ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders);
+        if (contentEncodingContext.contentEncodingEnabled() && !headers().contains(Http.Header.CONTENT_ENCODING)) {
+            long contentLength = headers().contentLength().orElse(-1);
+            ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders, headers(), contentLength);
             encoder.headers(headers());
 
             return encoder.encode(outputStream);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.nima.webserver.http;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import io.helidon.common.http.Http;
@@ -30,6 +31,7 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     private final Predicate<Http.Method> methodPredicate;
     private final PathMatcher pathMatcher;
     private final List<HttpRouteBase> routes;
+    private final RouteIndex routeIndex;
 
     ServiceRoute(HttpService theService,
                  Predicate<Http.Method> methodPredicate,
@@ -39,6 +41,7 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
         this.methodPredicate = methodPredicate;
         this.pathMatcher = pathMatcher;
         this.routes = routes;
+        this.routeIndex = RouteIndex.create(routes);
     }
 
     @Override
@@ -78,8 +81,21 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     }
 
     @Override
-    List<HttpRouteBase> routes() {
-        return routes;
+    RouteIndex routeIndex() {
+        return routeIndex;
+    }
+
+    @Override
+    Set<Http.Method> acceptedMethods() {
+        if (methodPredicate instanceof Http.MethodPredicate mp) {
+            return mp.acceptedMethods();
+        }
+        return Set.of();
+    }
+
+    @Override
+    List<String> literalSegments() {
+        return pathMatcher.prefixLiteralSegments();
     }
 
     @Override
@@ -88,6 +104,6 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     }
 
     RouteCrawler crawler(ConnectionContext ctx, RoutingRequest request) {
-        return new RouteCrawler(ctx, request, routes);
+        return new RouteCrawler(ctx, request, routeIndex);
     }
 }
@@ -18,6 +18,7 @@ package io.helidon.nima.webserver.http1;
 
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
@@ -77,6 +78,7 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
     private long currentEntitySizeRead;
 
     private volatile boolean currentlyReadingPrologue;
+    private volatile long idleSince;
 
     /**
      * Create a new connection.
@@ -109,12 +111,21 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
         return currentlyReadingPrologue;
     }
 
+    @Override
+    public Duration idleTime() {
+        if (currentlyReadingPrologue) {
+            return Duration.ofMillis(System.currentTimeMillis() - idleSince);
+        }
+        return Duration.ZERO;
+    }
+
     @Override
     public void handle() throws InterruptedException {
         try {
             // handle connection until an exception (or explicit connection close)
             while (true) {
                 // prologue (first line of request)
+                idleSince = System.currentTimeMillis();
                 currentlyReadingPrologue = true;
                 HttpPrologue prologue = http1prologue.readPrologue();
                 currentlyReadingPrologue = false;
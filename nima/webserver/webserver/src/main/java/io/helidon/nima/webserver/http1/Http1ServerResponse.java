@@ -27,6 +27,7 @@ import java.util.function.Supplier;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.HelidonServiceLoader;
+import io.helidon.common.buffers.BufferAllocator;
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.http.Headers;
@@ -320,6 +321,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         private final boolean keepAlive;
         private final Supplier<String> streamResult;
         private final boolean forcedChunked;
+        private final BufferAllocator bufferAllocator;
 
         private BufferData firstBuffer;
         private boolean closed;
@@ -353,6 +355,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             this.request = request;
             this.keepAlive = keepAlive;
             this.forcedChunked = headers.contains(HeaderValues.TRANSFER_ENCODING_CHUNKED);
+            this.bufferAllocator = ctx.listenerContext().config().bufferAllocator();
         }
 
         @Override
@@ -413,6 +416,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                     // no sense in sending no data, only do this if chunked requested through a header
                     sendHeadersAndPrepare();
                     writeChunked(firstBuffer);
+                    firstBuffer.release();
                     terminatingChunk();
                 } else {
                     sendFirstChunkOnly();
@@ -482,7 +486,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             // try chunked data optimization
             if (firstByte && firstBuffer == null) {
                 // if somebody re-uses the byte buffer sent to us, we must copy it
-                firstBuffer = buffer.copy();
+                firstBuffer = bufferAllocator.copy(buffer);
                 return;
             }
 
@@ -495,6 +499,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                 firstByte = false;
                 BufferData combined = BufferData.create(firstBuffer, buffer);
                 writeChunked(combined);
+                firstBuffer.release();
                 firstBuffer = null;
             } else {
                 writeChunked(buffer);
@@ -520,6 +525,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
 
             if (firstBuffer != null) {
                 bufferData.write(firstBuffer);
+                firstBuffer.release();
             }
 
             sendListener.data(ctx, bufferData);
@@ -557,7 +563,8 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             int available = buffer.available();
             byte[] hex = Integer.toHexString(available).getBytes(StandardCharsets.UTF_8);
 
-            BufferData toWrite = BufferData.create(available + hex.length + 4); // \r\n after size, another after chunk
+            // \r\n after size, another after chunk; released by the data writer once written
+            BufferData toWrite = bufferAllocator.allocate(available + hex.length + 4);
             toWrite.write(hex);
             toWrite.write('\r');
             toWrite.write('\n');
@@ -16,6 +16,8 @@
 
 package io.helidon.nima.webserver.spi;
 
+import java.time.Duration;
+
 /**
  * Server connection abstraction, used by any provider to handle a socket connection.
  */
@@ -27,4 +29,15 @@ public interface ServerConnection {
      * @throws InterruptedException to interrupt any waiting state and terminate this connection
      */
     void handle() throws InterruptedException;
+
+    /**
+     * How long this connection has been idle, such as an HTTP/1.1 keep-alive connection waiting for the next request.
+     * Connections idle for longer than
+     * {@link io.helidon.nima.webserver.ListenerConfiguration#idleConnectionTimeout()} are closed by the server.
+     *
+     * @return idle time, {@link java.time.Duration#ZERO} if this connection is active (default)
+     */
+    default Duration idleTime() {
+        return Duration.ZERO;
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.nima.webserver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ConnectionTrackerTest {
+    @Test
+    void testUnlimited() throws InterruptedException {
+        ConnectionTracker tracker = new ConnectionTracker("test", ListenerConfiguration.builder("test").build());
+
+        for (int i = 0; i < 10; i++) {
+            tracker.beforeAccept();
+            assertThat(tracker.admit(), is(true));
+        }
+        assertThat(tracker.rejectedConnections(), is(0L));
+    }
+
+    @Test
+    void testClosePolicy() throws InterruptedException {
+        ConnectionTracker tracker = new ConnectionTracker("test", ListenerConfiguration.builder("test")
+                .maxConcurrentConnections(2)
+                .connectionLimitPolicy(ListenerConfiguration.ConnectionLimitPolicy.CLOSE)
+                .build());
+
+        tracker.beforeAccept();
+        assertThat(tracker.admit(), is(true));
+        tracker.beforeAccept();
+        assertThat(tracker.admit(), is(true));
+        tracker.beforeAccept();
+        assertThat(tracker.admit(), is(false));
+        assertThat(tracker.rejectedConnections(), is(1L));
+
+        // accept failure must not release a permit that was never acquired
+        tracker.acceptFailed();
+        tracker.beforeAccept();
+        assertThat(tracker.admit(), is(false));
+        assertThat(tracker.rejectedConnections(), is(2L));
+
+        tracker.releaseAdmission();
+        tracker.beforeAccept();
+        assertThat(tracker.admit(), is(true));
+    }
+
+    @Test
+    void testPauseAcceptPolicy() throws InterruptedException {
+        ConnectionTracker tracker = new ConnectionTracker("test", ListenerConfiguration.builder("test")
+                .maxConcurrentConnections(1)
+                .build());
+
+        tracker.beforeAccept();
+        assertThat(tracker.admit(), is(true));
+
+        Thread waiting = Thread.ofVirtual().start(() -> {
+            try {
+                tracker.beforeAccept();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        waiting.join(100);
+        assertThat("Accept must be paused when limit is reached", waiting.isAlive(), is(true));
+
+        tracker.releaseAdmission();
+        waiting.join(5000);
+        assertThat(waiting.isAlive(), is(false));
+        assertThat(tracker.rejectedConnections(), is(0L));
+    }
+}
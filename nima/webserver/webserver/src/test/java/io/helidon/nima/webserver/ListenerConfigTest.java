@@ -16,6 +16,8 @@
 
 package io.helidon.nima.webserver;
 
+import java.time.Duration;
+
 import io.helidon.config.Config;
 import org.junit.jupiter.api.Test;
 
@@ -32,8 +34,15 @@ public class ListenerConfigTest {
         ListenerConfiguration.Builder listenerBuilder1 = webServerBuilder.socket(DEFAULT_SOCKET_NAME);
         assertThat(listenerBuilder1.build().writeQueueLength(), is(0));         // default
         assertThat(listenerBuilder1.build().writeBufferSize(), is(512));        // default
+        assertThat(listenerBuilder1.build().maxConcurrentConnections(), is(-1));       // default
+        assertThat(listenerBuilder1.build().connectionLimitPolicy(),
+                   is(ListenerConfiguration.ConnectionLimitPolicy.PAUSE_ACCEPT));     // default
+        assertThat(listenerBuilder1.build().idleConnectionTimeout(), is(Duration.ZERO)); // default
         ListenerConfiguration.Builder listenerBuilder2 = webServerBuilder.socket("other");
         assertThat(listenerBuilder2.build().writeQueueLength(), is(64));
         assertThat(listenerBuilder2.build().writeBufferSize(), is(1024));
+        assertThat(listenerBuilder2.build().maxConcurrentConnections(), is(100));
+        assertThat(listenerBuilder2.build().connectionLimitPolicy(), is(ListenerConfiguration.ConnectionLimitPolicy.CLOSE));
+        assertThat(listenerBuilder2.build().idleConnectionTimeout(), is(Duration.ofSeconds(30)));
     }
 }
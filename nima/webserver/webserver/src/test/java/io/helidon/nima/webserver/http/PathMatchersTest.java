@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.nima.webserver.http;
 
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -88,6 +89,71 @@ class PathMatchersTest {
         assertThat("/a//b", not(pathMatcherMatches("/a//*")));
     }
 
+    @Test
+    void testSegmentPatternSameAsRegexp() {
+        // {name:[^/]+} forces a regular expression, that must behave the same as the segment matcher for {name}
+        List<String> templates = List.of("/a/{x}/c",
+                                         "/a/{x}",
+                                         "/a/{x}/{y}",
+                                         "/a/{}/c",
+                                         "/a/{x}/b/{x}",
+                                         "/{x}/b");
+        List<String> paths = List.of("/a/b/c",
+                                     "/a/b",
+                                     "/a/b/c/d",
+                                     "/a",
+                                     "/a/",
+                                     "/a//c",
+                                     "/a/b/b/d",
+                                     "/x/b",
+                                     "/x/b/c",
+                                     "/x/bc");
+        for (String template : templates) {
+            PathMatcher segment = PathMatchers.pattern(template);
+            PathMatcher regexp = PathMatchers.pattern(template.replace("{x}", "{x:[^/]+}")
+                                                              .replace("{}", "{:[^/]+}"));
+            for (String path : paths) {
+                UriPath uriPath = UriPath.create(path);
+                String description = template + " with path " + path;
+
+                PathMatchers.MatchResult expected = regexp.match(uriPath);
+                PathMatchers.MatchResult actual = segment.match(uriPath);
+                assertThat(description, actual.accepted(), is(expected.accepted()));
+                if (expected.accepted()) {
+                    assertThat(description, actual.path().pathParameters().toMap(),
+                               is(expected.path().pathParameters().toMap()));
+                }
+
+                PathMatchers.PrefixMatchResult expectedPrefix = regexp.prefixMatch(uriPath);
+                PathMatchers.PrefixMatchResult actualPrefix = segment.prefixMatch(uriPath);
+                assertThat(description, actualPrefix.accepted(), is(expectedPrefix.accepted()));
+                if (expectedPrefix.accepted()) {
+                    assertThat(description, actualPrefix.unmatchedPath().path(), is(expectedPrefix.unmatchedPath().path()));
+                    if (!expectedPrefix.unmatchedPath().path().equals("/")) {
+                        // when fully matched, the whole path is the matched path (same as for exact matcher)
+                        assertThat(description, actualPrefix.matchedPath().path(), is(expectedPrefix.matchedPath().path()));
+                    }
+                    assertThat(description, actualPrefix.matchedPath().pathParameters().toMap(),
+                               is(expectedPrefix.matchedPath().pathParameters().toMap()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLiteralSegments() {
+        assertThat(PathMatchers.create("/a/b").literalSegments(), is(List.of("a", "b")));
+        assertThat(PathMatchers.create("/a/b").prefixLiteralSegments(), is(List.of("a")));
+        assertThat(PathMatchers.create("/").literalSegments(), is(List.of("")));
+        assertThat(PathMatchers.create("/").prefixLiteralSegments(), is(List.of()));
+        // exact matcher may match raw path only
+        assertThat(PathMatchers.create("/a//b").literalSegments(), is(List.of()));
+        assertThat(PathMatchers.create("/a/b/*").literalSegments(), is(List.of("a", "b")));
+        assertThat(PathMatchers.create("/a/{id}/c").literalSegments(), is(List.of("a")));
+        assertThat(PathMatchers.create("/a/{id:\\d+}").literalSegments(), is(List.of()));
+        assertThat(PathMatchers.any().literalSegments(), is(List.of()));
+    }
+
     private static org.hamcrest.Matcher<String> pathMatcherMatches(String pattern) {
         PathMatcher matcher = PathMatchers.create(pattern);
         return new TypeSafeMatcher<>() {
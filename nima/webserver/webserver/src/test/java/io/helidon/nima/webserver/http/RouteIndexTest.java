@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.nima.webserver.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.HttpPrologue;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RouteIndexTest {
+    private static final List<HttpRouteBase> ROUTES = List.of(
+            route(0, null),
+            route(1, "/greet", Http.Method.GET),
+            route(2, "/greet/{name}", Http.Method.GET),
+            route(3, "/greet/*"),
+            route(4, "/greet", Http.Method.PUT),
+            route(5, "/greeting", Http.Method.GET),
+            route(6, "/other/{id:\\d+}", Http.Method.GET),
+            route(7, "/{any}/me", Http.Method.GET, Http.Method.POST),
+            route(8, "/", Http.Method.GET),
+            route(9, "/greet/me/again", Http.Method.GET),
+            route(10, "/greet"));
+
+    @Test
+    void testSameAsLinear() {
+        RouteIndex index = RouteIndex.create(ROUTES);
+        List<String> paths = List.of("/",
+                                     "/greet",
+                                     "/greet/me",
+                                     "/greet/me/again",
+                                     "/greeting",
+                                     "/greet/",
+                                     "/other/42",
+                                     "/other/me",
+                                     "/unknown",
+                                     "/a/./greet",
+                                     "/gr%65et/me");
+        List<Http.Method> methods = List.of(Http.Method.GET, Http.Method.PUT, Http.Method.POST, Http.Method.DELETE);
+
+        for (Http.Method method : methods) {
+            for (String path : paths) {
+                HttpPrologue prologue = HttpPrologue.create("HTTP/1.1", "HTTP", "1.1", method, path, true);
+
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < ROUTES.size(); i++) {
+                    if (ROUTES.get(i).accepts(prologue).accepted()) {
+                        expected.add(i);
+                    }
+                }
+                List<Integer> actual = new ArrayList<>();
+                int previous = -1;
+                for (int candidate : index.candidates(prologue)) {
+                    assertThat("Candidates must be in registration order", candidate > previous, is(true));
+                    previous = candidate;
+                    if (index.route(candidate).accepts(prologue).accepted()) {
+                        actual.add(candidate);
+                    }
+                }
+                assertThat(method + " " + path, actual, is(expected));
+            }
+        }
+    }
+
+    @Test
+    void testCandidatesNarrowed() {
+        RouteIndex index = RouteIndex.create(ROUTES);
+        HttpPrologue prologue = HttpPrologue.create("HTTP/1.1", "HTTP", "1.1", Http.Method.PUT, "/greet", true);
+
+        // route accepting any path and method, routes under /greet accepting PUT (or any method)
+        assertThat(index.candidates(prologue), is(new int[] {0, 3, 4, 10}));
+    }
+
+    private static HttpRouteBase route(int id, String path, Http.Method... methods) {
+        HttpRoute.Builder builder = HttpRoute.builder()
+                .handler((req, res) -> res.send(String.valueOf(id)));
+        if (path != null) {
+            builder.path(path);
+        }
+        if (methods.length > 0) {
+            builder.methods(methods);
+        }
+        return (HttpRouteBase) builder.build();
+    }
+}
@@ -90,7 +90,13 @@ class WsClientImpl extends LoomClient implements WsClient {
                                (int) socketOptions().connectTimeout().toMillis());
             } else {
                 InetAddress address = dnsResolver.resolveAddress(uri.getHost(), dnsAddressLookup());
-                socket.connect(new InetSocketAddress(address, uri.getPort()), (int) socketOptions().connectTimeout().toMillis());
+                try {
+                    socket.connect(new InetSocketAddress(address, uri.getPort()),
+                                   (int) socketOptions().connectTimeout().toMillis());
+                } catch (IOException e) {
+                    dnsResolver.addressFailed(uri.getHost(), dnsAddressLookup(), address);
+                    throw e;
+                }
             }
         } catch (Exception e) {
             throw new WsClientException("Failed to connect to remote server on " + uri, e);
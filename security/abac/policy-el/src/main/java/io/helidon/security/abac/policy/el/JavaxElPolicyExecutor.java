@@ -18,40 +18,62 @@ package io.helidon.security.abac.policy.el;
 
 import java.lang.System.Logger.Level;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.helidon.common.Errors;
 import io.helidon.config.Config;
 import io.helidon.security.ProviderRequest;
-import io.helidon.security.SecurityContext;
-import io.helidon.security.SecurityEnvironment;
 import io.helidon.security.Subject;
 import io.helidon.security.abac.policy.spi.PolicyExecutor;
 
+import jakarta.el.ArrayELResolver;
+import jakarta.el.BeanELResolver;
+import jakarta.el.CompositeELResolver;
 import jakarta.el.ELException;
+import jakarta.el.ELResolver;
 import jakarta.el.ExpressionFactory;
 import jakarta.el.FunctionMapper;
-import jakarta.el.StandardELContext;
+import jakarta.el.ListELResolver;
+import jakarta.el.MapELResolver;
+import jakarta.el.ResourceBundleELResolver;
+import jakarta.el.StaticFieldELResolver;
 import jakarta.el.ValueExpression;
-import jakarta.el.VariableMapper;
 
 /**
  * {@link PolicyExecutor} for Java EE Expression Language (EL).
  *
  * See tutorial for details of the EL: <a href="https://docs.oracle.com/javaee/7/tutorial/jsf-el005.htm#BNAIK">https://docs
  * .oracle.com/javaee/7/tutorial/jsf-el005.htm#BNAIK</a>
+ * <p>
+ * Each distinct policy statement is compiled once and the compiled expression is cached (up to
+ * {@link Builder#cacheSize(int)} statements), request specific variables are resolved when the expression is evaluated.
  */
 public final class JavaxElPolicyExecutor implements PolicyExecutor {
     private static final System.Logger LOGGER = System.getLogger(JavaxElPolicyExecutor.class.getName());
     private static final AttributeResolver ATTRIBUTE_RESOLVER = new AttributeResolver();
+    private static final PolicyVariableResolver VARIABLE_RESOLVER = new PolicyVariableResolver();
 
+    private final Map<String, ValueExpression> expressions = new ConcurrentHashMap<>();
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder evaluationNanos = new LongAdder();
+    private final LongAccumulator maxEvaluationNanos = new LongAccumulator(Math::max, 0);
     private final ExpressionFactory ef;
-    private final List<CustomFunction> customMethods = new LinkedList<>();
+    private final ELResolver resolver;
+    private final FunctionMapper functions;
+    private final int cacheSize;
 
     private JavaxElPolicyExecutor(Builder builder) {
         this.ef = builder.expressionFactory;
-        this.customMethods.addAll(builder.customMethods);
+        this.resolver = resolver(builder.expressionFactory);
+        this.functions = new Functions(builder.customMethods);
+        this.cacheSize = builder.cacheSize;
     }
 
     /**
@@ -84,48 +106,109 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
 
     @Override
     public void executePolicy(String policyStatement, Errors.Collector collector, ProviderRequest request) {
-        StandardELContext context = new StandardELContext(ef);
-        context.addELResolver(ATTRIBUTE_RESOLVER);
-
-        FunctionMapper functions = context.getFunctionMapper();
-        VariableMapper variables = context.getVariableMapper();
-
-        customMethods.forEach(customFunction -> functions.mapFunction(customFunction.prefix,
-                                                                      customFunction.localName,
-                                                                      customFunction.method));
-
-        Subject userSubject = request.subject().orElse(SecurityContext.ANONYMOUS);
-
-        variable(variables, "user", userSubject, Subject.class);
-        variable(variables, "subject", userSubject, Subject.class);
-        variable(variables, "service", request.service().orElse(SecurityContext.ANONYMOUS), Subject.class);
-        variable(variables, "env", request.env(), SecurityEnvironment.class);
-        variable(variables, "object", request.getObject().orElse(null), Object.class);
-        variable(variables, "request", request, ProviderRequest.class);
-
+        long start = System.nanoTime();
         try {
-            ValueExpression expression = ef.createValueExpression(context, policyStatement, boolean.class);
-            boolean value = (boolean) expression.getValue(context);
+            ValueExpression expression = expression(policyStatement);
+            boolean value = (boolean) expression.getValue(new PolicyElContext(ef, resolver, functions, request));
             if (!value) {
                 collector.fatal(this, "Policy statement \"" + policyStatement + "\" evaluated to false");
             }
         } catch (Exception e) {
             LOGGER.log(Level.TRACE, () -> "Statement " + policyStatement + " evaluation failed", e);
             throw new SecurityException("Policy statement \"" + policyStatement + "\" evaluated to an exception", e);
+        } finally {
+            long duration = System.nanoTime() - start;
+            evaluations.increment();
+            evaluationNanos.add(duration);
+            maxEvaluationNanos.accumulate(duration);
+        }
+    }
+
+    /**
+     * Number of policy statements evaluated by this executor (including evaluations that failed).
+     *
+     * @return number of evaluations
+     */
+    public long evaluationCount() {
+        return evaluations.sum();
+    }
+
+    /**
+     * Total time spent compiling and evaluating policy statements.
+     * Together with {@link #evaluationCount()} this gives the average evaluation latency.
+     *
+     * @return total evaluation time
+     */
+    public Duration evaluationTime() {
+        return Duration.ofNanos(evaluationNanos.sum());
+    }
+
+    /**
+     * The longest time a single policy statement took to compile and evaluate.
+     *
+     * @return maximal evaluation time
+     */
+    public Duration maxEvaluationTime() {
+        return Duration.ofNanos(maxEvaluationNanos.get());
+    }
+
+    /**
+     * Number of compiled policy statements currently cached.
+     *
+     * @return number of cached expressions
+     */
+    public int cachedExpressions() {
+        return expressions.size();
+    }
+
+    private ValueExpression expression(String policyStatement) {
+        ValueExpression expression = expressions.get(policyStatement);
+        if (expression == null) {
+            expression = compile(policyStatement);
+            // statements come from configuration and annotations, so the bound is only reached when statements
+            // are generated dynamically; these are then compiled on each evaluation
+            if (expressions.size() < cacheSize) {
+                expressions.putIfAbsent(policyStatement, expression);
+            }
         }
+        return expression;
     }
 
-    private <T> void variable(VariableMapper variables, String varName, T object, Class<T> objectClass) {
-        ValueExpression variable = ef.createValueExpression(object, objectClass);
-        variables.setVariable(varName, variable);
+    private ValueExpression compile(String policyStatement) {
+        return ef.createValueExpression(new PolicyElContext(ef, resolver, functions, null), policyStatement, boolean.class);
+    }
+
+    private static ELResolver resolver(ExpressionFactory ef) {
+        // same resolvers as jakarta.el.StandardELContext, shared by all evaluations (so bean introspection is cached),
+        // and read-only, as policy statements must not modify the request
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(VARIABLE_RESOLVER);
+        resolver.add(ATTRIBUTE_RESOLVER);
+        ELResolver streamResolver = ef.getStreamELResolver();
+        if (streamResolver != null) {
+            resolver.add(streamResolver);
+        }
+        resolver.add(new StaticFieldELResolver());
+        resolver.add(new MapELResolver(true));
+        resolver.add(new ResourceBundleELResolver());
+        resolver.add(new ListELResolver(true));
+        resolver.add(new ArrayELResolver(true));
+        resolver.add(new BeanELResolver(true));
+        return resolver;
     }
 
     /**
      * A fluent API builder for {@link JavaxElPolicyExecutor}.
      */
     public static final class Builder implements io.helidon.common.Builder<Builder, JavaxElPolicyExecutor> {
+        /**
+         * Default maximal number of compiled policy statements kept in the cache.
+         */
+        public static final int DEFAULT_CACHE_SIZE = 1000;
+
         private final List<CustomFunction> customMethods = new LinkedList<>();
         private ExpressionFactory expressionFactory;
+        private int cacheSize = DEFAULT_CACHE_SIZE;
 
         private Builder() {
             // configure built-in methods
@@ -208,6 +291,22 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
             return this;
         }
 
+        /**
+         * Maximal number of compiled policy statements to cache.
+         * Statements that do not fit into the cache are compiled each time they are evaluated.
+         * Defaults to {@value #DEFAULT_CACHE_SIZE}, use {@code 0} to disable the cache.
+         *
+         * @param cacheSize maximal number of cached statements
+         * @return updated builder instance
+         */
+        public Builder cacheSize(int cacheSize) {
+            if (cacheSize < 0) {
+                throw new IllegalArgumentException("Cache size must not be negative, but is " + cacheSize);
+            }
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
         /**
          * Updated builder from configuration.
          *
@@ -215,11 +314,24 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
          * @return updated builder instance
          */
         public Builder config(Config config) {
-            // currently no configurable options exist
+            config.get("cache-size").asInt().ifPresent(this::cacheSize);
             return this;
         }
     }
 
+    private static final class Functions extends FunctionMapper {
+        private final Map<String, Method> methods = new HashMap<>();
+
+        private Functions(List<CustomFunction> customMethods) {
+            customMethods.forEach(it -> methods.put(it.prefix + ":" + it.localName, it.method));
+        }
+
+        @Override
+        public Method resolveFunction(String prefix, String localName) {
+            return methods.get(prefix + ":" + localName);
+        }
+    }
+
     private static final class CustomFunction {
         private final String prefix;
         private final String localName;
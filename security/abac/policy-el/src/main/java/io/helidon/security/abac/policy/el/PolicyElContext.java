@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.abac.policy.el;
+
+import io.helidon.security.ProviderRequest;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.ExpressionFactory;
+import jakarta.el.FunctionMapper;
+import jakarta.el.ValueExpression;
+import jakarta.el.VariableMapper;
+
+/**
+ * Lightweight {@link ELContext} used to compile and evaluate policy statements.
+ * The resolvers and functions are shared by all contexts of a single executor, only the request is specific
+ * to each evaluation.
+ */
+final class PolicyElContext extends ELContext {
+    private static final VariableMapper NO_VARIABLES = new NoVariables();
+
+    private final ELResolver resolver;
+    private final FunctionMapper functions;
+
+    PolicyElContext(ExpressionFactory factory, ELResolver resolver, FunctionMapper functions, ProviderRequest request) {
+        this.resolver = resolver;
+        this.functions = functions;
+
+        putContext(ExpressionFactory.class, factory);
+        if (request != null) {
+            putContext(ProviderRequest.class, request);
+        }
+    }
+
+    @Override
+    public ELResolver getELResolver() {
+        return resolver;
+    }
+
+    @Override
+    public FunctionMapper getFunctionMapper() {
+        return functions;
+    }
+
+    @Override
+    public VariableMapper getVariableMapper() {
+        // variables are resolved by PolicyVariableResolver at evaluation time, so they are never bound
+        // into the compiled expression
+        return NO_VARIABLES;
+    }
+
+    private static final class NoVariables extends VariableMapper {
+        @Override
+        public ValueExpression resolveVariable(String variable) {
+            return null;
+        }
+
+        @Override
+        public ValueExpression setVariable(String variable, ValueExpression expression) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.abac.policy.el;
+
+import io.helidon.security.ProviderRequest;
+import io.helidon.security.SecurityContext;
+import io.helidon.security.SecurityEnvironment;
+import io.helidon.security.Subject;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.PropertyNotWritableException;
+
+/**
+ * Resolver of the top level variables available to policy statements ({@code user}, {@code subject}, {@code service},
+ * {@code env}, {@code object} and {@code request}).
+ * The variables are resolved against the {@link ProviderRequest} stored in the {@link ELContext} when the expression
+ * is evaluated, so the same compiled expression can be shared by all requests.
+ */
+final class PolicyVariableResolver extends ELResolver {
+    @Override
+    public Object getValue(ELContext context, Object base, Object property) {
+        if (variableType(base, property) == null) {
+            return null;
+        }
+        ProviderRequest request = (ProviderRequest) context.getContext(ProviderRequest.class);
+        if (request == null) {
+            return null;
+        }
+        context.setPropertyResolved(true);
+        return switch (String.valueOf(property)) {
+            case "user", "subject" -> request.subject().orElse(SecurityContext.ANONYMOUS);
+            case "service" -> request.service().orElse(SecurityContext.ANONYMOUS);
+            case "env" -> request.env();
+            case "object" -> request.getObject().orElse(null);
+            default -> request;
+        };
+    }
+
+    @Override
+    public Class<?> getType(ELContext context, Object base, Object property) {
+        Class<?> type = variableType(base, property);
+        if (type != null) {
+            context.setPropertyResolved(true);
+        }
+        return type;
+    }
+
+    @Override
+    public void setValue(ELContext context, Object base, Object property, Object value) {
+        if (variableType(base, property) != null) {
+            throw new PropertyNotWritableException("Cannot write: " + property + ", as security expressions are read-only");
+        }
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context, Object base, Object property) {
+        if (variableType(base, property) != null) {
+            context.setPropertyResolved(true);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Class<?> getCommonPropertyType(ELContext context, Object base) {
+        return base == null ? String.class : null;
+    }
+
+    private static Class<?> variableType(Object base, Object property) {
+        if (base != null) {
+            return null;
+        }
+        return switch (String.valueOf(property)) {
+            case "user", "subject", "service" -> Subject.class;
+            case "env" -> SecurityEnvironment.class;
+            case "object" -> Object.class;
+            case "request" -> ProviderRequest.class;
+            default -> null;
+        };
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,8 @@ import io.helidon.security.Subject;
 
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -83,6 +85,70 @@ public class JakartaElPolicyExecutorTest {
         collector.collect().checkValid();
     }
 
+    @Test
+    public void testCompiledExpressionReusedForRequests() {
+        JavaxElPolicyExecutor ex = JavaxElPolicyExecutor.create();
+        String statement = "${user.principal.id == object.owner}";
+
+        Errors.Collector collector = Errors.collector();
+        ex.executePolicy(statement, collector, request("first-user", new MyResource("first-user")));
+        collector.collect().checkValid();
+
+        collector = Errors.collector();
+        ex.executePolicy(statement, collector, request("second-user", new MyResource("second-user")));
+        collector.collect().checkValid();
+
+        // the compiled expression must not keep variables of previous requests
+        collector = Errors.collector();
+        ex.executePolicy(statement, collector, request("second-user", new MyResource("first-user")));
+        if (collector.collect().isValid()) {
+            fail("Should have failed, as second-user is not the owner of the object");
+        }
+
+        assertThat(ex.cachedExpressions(), is(1));
+        assertThat(ex.evaluationCount(), is(3L));
+    }
+
+    @Test
+    public void testCacheSize() {
+        JavaxElPolicyExecutor ex = JavaxElPolicyExecutor.builder()
+                .cacheSize(1)
+                .build();
+        ProviderRequest request = request("unit-test-user", new MyResource("unit-test-user"));
+
+        Errors.Collector collector = Errors.collector();
+        ex.executePolicy("${user.principal.id == object.owner}", collector, request);
+        ex.executePolicy("${inRole(user, 'unit-test-user-role')}", collector, request);
+        ex.executePolicy("${inRole(user, 'unit-test-user-role')}", collector, request);
+        collector.collect().checkValid();
+
+        assertThat(ex.cachedExpressions(), is(1));
+        assertThat(ex.evaluationCount(), is(3L));
+
+        ex = JavaxElPolicyExecutor.builder()
+                .cacheSize(0)
+                .build();
+        collector = Errors.collector();
+        ex.executePolicy("${user.principal.id == object.owner}", collector, request);
+        collector.collect().checkValid();
+
+        assertThat(ex.cachedExpressions(), is(0));
+    }
+
+    private static ProviderRequest request(String userName, MyResource object) {
+        Subject user = Subject.builder()
+                .principal(Principal.create(userName))
+                .addGrant(Role.create("unit-test-user-role"))
+                .build();
+
+        ProviderRequest request = mock(ProviderRequest.class);
+        when(request.service()).thenReturn(Optional.empty());
+        when(request.subject()).thenReturn(Optional.of(user));
+        when(request.env()).thenReturn(SecurityEnvironment.create());
+        when(request.getObject()).thenReturn(Optional.of(object));
+        return request;
+    }
+
     // bean must be public, as otherwise EL cannot access properties
     public static class MyResource {
         private String owner;
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import io.helidon.config.Config;
+
+/**
+ * A bounded cache of tokens that were already verified, so a token sent with many requests
+ * is parsed and verified (signature check or introspection) only once.
+ * <p>
+ * Tokens are keyed by their SHA-256 hash. An entry expires together with the token ({@code exp} claim),
+ * and never lives longer than the configured maximal time to live. When the cache is full, the token closest
+ * to its expiration is evicted. Only the verification is cached; callers still validate the claims (time, issuer,
+ * audience) of the cached token.
+ * <p>
+ * Tokens can be revoked explicitly using {@link #revoke(String)} or {@link #revokeIf(java.util.function.Predicate)},
+ * or by configuring a {@link Builder#revocationCheck(java.util.function.Predicate) revocation check} that is
+ * consulted each time a cached token is used.
+ */
+public final class VerifiedTokenCache {
+    /**
+     * Default maximal number of cached tokens.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+    /**
+     * Default maximal time a token stays in the cache.
+     */
+    public static final Duration DEFAULT_MAX_TTL = Duration.ofMinutes(5);
+
+    private static final MessageDigest SHA_256 = sha256();
+    private static final Comparator<Entry> EXPIRATION_ORDER = Comparator.comparing(Entry::expiresAt)
+            .thenComparingLong(Entry::sequence);
+
+    private final Map<TokenKey, Entry> cache = new ConcurrentHashMap<>();
+    // the same entries ordered by expiration, so eviction of a full cache takes logarithmic time
+    private final ConcurrentSkipListSet<Entry> byExpiration = new ConcurrentSkipListSet<>(EXPIRATION_ORDER);
+    // guards adding and evicting, so each cached entry is also ordered by expiration; lookups do not lock
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final boolean enabled;
+    private final int maxSize;
+    private final Duration maxTtl;
+    private final Predicate<SignedJwt> revocationCheck;
+    private final Clock clock;
+
+    private VerifiedTokenCache(Builder builder) {
+        this.enabled = builder.enabled;
+        this.maxSize = builder.maxSize;
+        this.maxTtl = builder.maxTtl;
+        this.revocationCheck = builder.revocationCheck;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * A new builder for this class.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a cache with default configuration.
+     *
+     * @return a new cache
+     */
+    public static VerifiedTokenCache create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a cache from configuration.
+     *
+     * @param config configuration of the cache
+     * @return a new cache
+     */
+    public static VerifiedTokenCache create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Get a verified token from the cache.
+     *
+     * @param token token content as received
+     * @return verified token, or empty if the token is not cached, expired, or was revoked
+     */
+    public Optional<SignedJwt> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        TokenKey key = TokenKey.create(token);
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (!entry.expiresAt().isAfter(clock.instant()) || revocationCheck.test(entry.signedJwt())) {
+            remove(entry);
+            misses.increment();
+            return Optional.empty();
+        }
+        if (!entry.signedJwt().tokenContent().equals(token)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.signedJwt());
+    }
+
+    /**
+     * Add a verified token to the cache.
+     * Tokens that are already expired are ignored. If the cache is full, the token closest to its expiration
+     * is evicted.
+     *
+     * @param signedJwt token that was verified
+     */
+    public void put(SignedJwt signedJwt) {
+        if (!enabled) {
+            return;
+        }
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(maxTtl);
+        Optional<Instant> tokenExpiration = signedJwt.getJwt().expirationTime();
+        if (tokenExpiration.isPresent() && tokenExpiration.get().isBefore(expiresAt)) {
+            expiresAt = tokenExpiration.get();
+        }
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        TokenKey key = TokenKey.create(signedJwt.tokenContent());
+        Entry entry = new Entry(key, signedJwt, expiresAt, sequence.incrementAndGet());
+        putLock.lock();
+        try {
+            Entry previous = cache.put(key, entry);
+            if (previous != null) {
+                byExpiration.remove(previous);
+            }
+            byExpiration.add(entry);
+            while (cache.size() > maxSize) {
+                Entry eldest = byExpiration.pollFirst();
+                if (eldest == null) {
+                    break;
+                }
+                cache.remove(eldest.key(), eldest);
+            }
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * Remove a token from the cache, so it is verified again when used next time.
+     *
+     * @param token token content
+     */
+    public void revoke(String token) {
+        Entry entry = cache.get(TokenKey.create(token));
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * Remove all tokens matching the predicate from the cache, such as all tokens of a subject.
+     *
+     * @param predicate predicate to match tokens to remove
+     */
+    public void revokeIf(Predicate<SignedJwt> predicate) {
+        for (Entry entry : cache.values()) {
+            if (predicate.test(entry.signedJwt())) {
+                remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Remove all tokens from the cache.
+     */
+    public void clear() {
+        putLock.lock();
+        try {
+            cache.clear();
+            byExpiration.clear();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * Whether this cache is enabled.
+     *
+     * @return {@code true} if verified tokens are cached
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Number of tokens currently cached.
+     *
+     * @return cache size
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Number of lookups that found a verified token.
+     *
+     * @return cache hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups that required the token to be verified.
+     *
+     * @return cache misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Ratio of lookups that found a verified token.
+     *
+     * @return hit rate between {@code 0} and {@code 1}, {@code 0} if there were no lookups
+     */
+    public double hitRate() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private void remove(Entry entry) {
+        if (cache.remove(entry.key(), entry)) {
+            byExpiration.remove(entry);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new JwtException("SHA-256 is not available. This is JVM misconfiguration", e);
+        }
+    }
+
+    private record Entry(TokenKey key, SignedJwt signedJwt, Instant expiresAt, long sequence) {
+    }
+
+    private record TokenKey(long first, long second, long third, long fourth) {
+        static TokenKey create(String token) {
+            MessageDigest digest;
+            try {
+                digest = (MessageDigest) SHA_256.clone();
+            } catch (CloneNotSupportedException e) {
+                digest = sha256();
+            }
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenKey(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link VerifiedTokenCache}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, VerifiedTokenCache> {
+        private boolean enabled = true;
+        private int maxSize = DEFAULT_MAX_SIZE;
+        private Duration maxTtl = DEFAULT_MAX_TTL;
+        private Predicate<SignedJwt> revocationCheck = it -> false;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        @Override
+        public VerifiedTokenCache build() {
+            return new VerifiedTokenCache(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         *
+         * @param config configuration of the cache
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("enabled").asBoolean().ifPresent(this::enabled);
+            config.get("max-size").asInt().ifPresent(this::maxSize);
+            config.get("max-ttl").as(Duration.class).ifPresent(this::maxTtl);
+            return this;
+        }
+
+        /**
+         * Whether to cache verified tokens.
+         * Defaults to {@code true}.
+         *
+         * @param enabled set to {@code false} to verify each token on each request
+         * @return updated builder instance
+         */
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Maximal number of cached tokens. When the cache is full, the token closest to its expiration is evicted
+         * to cache a new one.
+         * Defaults to {@value #DEFAULT_MAX_SIZE}.
+         *
+         * @param maxSize maximal number of cached tokens
+         * @return updated builder instance
+         */
+        public Builder maxSize(int maxSize) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("Max size must be positive, but is: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Maximal time a token stays in the cache, even if it expires later.
+         * This bounds the time a token revoked on the identity server may still be accepted when
+         * tokens are verified using introspection.
+         * Defaults to 5 minutes.
+         *
+         * @param maxTtl maximal time to live of a cached token
+         * @return updated builder instance
+         */
+        public Builder maxTtl(Duration maxTtl) {
+            Objects.requireNonNull(maxTtl);
+            if (maxTtl.isNegative() || maxTtl.isZero()) {
+                throw new IllegalArgumentException("Max TTL must be positive, but is: " + maxTtl);
+            }
+            this.maxTtl = maxTtl;
+            return this;
+        }
+
+        /**
+         * Revocation check invoked each time a cached token is used. If the predicate returns {@code true},
+         * the token is removed from the cache and verified again.
+         *
+         * @param revocationCheck predicate returning {@code true} for revoked tokens
+         * @return updated builder instance
+         */
+        public Builder revocationCheck(Predicate<SignedJwt> revocationCheck) {
+            this.revocationCheck = Objects.requireNonNull(revocationCheck);
+            return this;
+        }
+
+        // for unit tests
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.jwt.jwk;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of initialized JCA instances (such as {@link java.security.Signature} or {@link javax.crypto.Mac})
+ * bound to a single key.
+ * The instances are not thread safe, yet they can be reused once an operation completes, which saves
+ * the provider lookup and key initialization on each call.
+ *
+ * @param <T> type of the pooled instances
+ */
+final class JcaPool<T> {
+    private static final int MAX_POOLED = 16;
+
+    private final Queue<T> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final Supplier<T> factory;
+
+    JcaPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Get an instance from the pool, or create a new one if the pool is empty.
+     *
+     * @return initialized instance
+     */
+    T acquire() {
+        T instance = pool.poll();
+        if (instance == null) {
+            return factory.get();
+        }
+        pooled.decrementAndGet();
+        return instance;
+    }
+
+    /**
+     * Return an instance to the pool. Only instances that completed their operation (and are in their
+     * initialized state) may be returned.
+     *
+     * @param instance instance to return
+     */
+    void release(T instance) {
+        if (pooled.incrementAndGet() <= MAX_POOLED) {
+            pool.offer(instance);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.util.Map;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
+import io.helidon.common.LazyValue;
 import io.helidon.security.jwt.JwtException;
 import io.helidon.security.jwt.JwtUtil;
 
@@ -72,6 +73,7 @@ public class JwkOctet extends Jwk {
     }
 
     private final byte[] keyBytes;
+    private final LazyValue<JcaPool<Mac>> macs = LazyValue.create(() -> new JcaPool<>(this::createMac));
 
     private JwkOctet(Builder builder) {
         super(builder, ALG_HS256);
@@ -129,6 +131,15 @@ public class JwkOctet extends Jwk {
             return EMPTY_BYTES;
         }
 
+        Mac mac = macs.get().acquire();
+        byte[] result = mac.doFinal(bytesToSign);
+        // doFinal resets the mac to the state after init, so it can be reused
+        macs.get().release(mac);
+        return result;
+    }
+
+    private Mac createMac() {
+        String alg = getSignatureAlgorithm();
         Mac mac = JwtUtil.getMac(alg);
         SecretKeySpec secretKey = new SecretKeySpec(keyBytes, alg);
         try {
@@ -136,8 +147,7 @@ public class JwkOctet extends Jwk {
         } catch (InvalidKeyException e) {
             throw new JwtException("Failed to init Mac for algorithm: " + alg, e);
         }
-
-        return mac.doFinal(bytesToSign);
+        return mac;
     }
 
     private String getSignatureAlgorithm() {
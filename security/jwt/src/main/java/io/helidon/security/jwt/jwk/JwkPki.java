@@ -31,6 +31,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
+import io.helidon.common.LazyValue;
 import io.helidon.security.jwt.JwtException;
 import io.helidon.security.jwt.JwtUtil;
 
@@ -70,6 +71,8 @@ abstract class JwkPki extends Jwk {
     private final Optional<List<X509Certificate>> certificateChain;
     private final Optional<byte[]> sha1Thumbprint;
     private final Optional<byte[]> sha256Thumbprint;
+    // signature algorithm is defined by subclasses, so the pool must not be created in constructor
+    private final LazyValue<JcaPool<Signature>> verifiers = LazyValue.create(() -> new JcaPool<>(this::createVerifier));
 
     JwkPki(Builder<?> builder, PrivateKey privKey, PublicKey pubKey, String defaultAlgorithm) {
         super(builder, defaultAlgorithm);
@@ -111,17 +114,29 @@ abstract class JwkPki extends Jwk {
             return verifyNoneAlg(signatureToVerify);
         }
 
-        Signature signature = JwtUtil.getSignature(alg);
+        Signature signature = verifiers.get().acquire();
 
         try {
-            signature.initVerify(publicKey);
             signature.update(signedBytes);
-            return signature.verify(signatureToVerify);
+            boolean result = signature.verify(signatureToVerify);
+            // verify resets the signature to the state after initVerify, so it can be reused
+            verifiers.get().release(signature);
+            return result;
         } catch (Exception e) {
             throw new JwtException("Failed to verify signature. It may still be valid, but an exception was thrown", e);
         }
     }
 
+    private Signature createVerifier() {
+        Signature signature = JwtUtil.getSignature(signatureAlgorithm());
+        try {
+            signature.initVerify(publicKey);
+        } catch (Exception e) {
+            throw new JwtException("Failed to initialize signature verification for algorithm: " + signatureAlgorithm(), e);
+        }
+        return signature;
+    }
+
     @Override
     public byte[] doSign(byte[] bytesToSign) {
         String alg = signatureAlgorithm();
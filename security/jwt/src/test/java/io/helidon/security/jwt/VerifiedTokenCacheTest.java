@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import io.helidon.common.configurable.Resource;
+import io.helidon.security.jwt.jwk.JwkKeys;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link VerifiedTokenCache}.
+ */
+class VerifiedTokenCacheTest {
+    private static final Instant NOW = Instant.parse("2023-03-01T10:00:00Z");
+
+    private static JwkKeys keys;
+
+    @BeforeAll
+    static void init() {
+        keys = JwkKeys.builder()
+                .resource(Resource.create("jwk_data.json"))
+                .build();
+    }
+
+    @Test
+    void testHitAndMiss() {
+        VerifiedTokenCache cache = VerifiedTokenCache.builder()
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .build();
+        SignedJwt signedJwt = sign("jack", NOW.plus(Duration.ofHours(1)));
+        String token = signedJwt.tokenContent();
+
+        assertThat(cache.get(token), is(Optional.empty()));
+        cache.put(signedJwt);
+        assertThat(cache.get(token).map(SignedJwt::tokenContent), is(Optional.of(token)));
+        assertThat(cache.get(sign("jill", NOW.plus(Duration.ofHours(1))).tokenContent()), is(Optional.empty()));
+
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(2L));
+        assertThat(cache.hitRate(), is(1.0 / 3));
+    }
+
+    @Test
+    void testExpiration() {
+        MutableClock clock = new MutableClock(NOW);
+        VerifiedTokenCache cache = VerifiedTokenCache.builder()
+                .maxTtl(Duration.ofMinutes(5))
+                .clock(clock)
+                .build();
+        SignedJwt expiresSoon = sign("jack", NOW.plus(Duration.ofMinutes(1)));
+        SignedJwt expiresLater = sign("jill", NOW.plus(Duration.ofHours(1)));
+        cache.put(expiresSoon);
+        cache.put(expiresLater);
+        cache.put(sign("joe", NOW.minus(Duration.ofMinutes(1))));
+
+        assertThat(cache.size(), is(2));
+
+        clock.instant = NOW.plus(Duration.ofMinutes(2));
+        // token expired
+        assertThat(cache.get(expiresSoon.tokenContent()), is(Optional.empty()));
+        assertThat(cache.get(expiresLater.tokenContent()).isPresent(), is(true));
+
+        clock.instant = NOW.plus(Duration.ofMinutes(6));
+        // max TTL exceeded
+        assertThat(cache.get(expiresLater.tokenContent()), is(Optional.empty()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testMaxSize() {
+        VerifiedTokenCache cache = VerifiedTokenCache.builder()
+                .maxSize(2)
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .build();
+        SignedJwt jack = sign("jack", NOW.plus(Duration.ofMinutes(3)));
+        SignedJwt jill = sign("jill", NOW.plus(Duration.ofMinutes(2)));
+        SignedJwt joe = sign("joe", NOW.plus(Duration.ofMinutes(4)));
+        cache.put(jack);
+        cache.put(jill);
+        cache.put(joe);
+
+        // the token closest to its expiration is evicted
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(jill.tokenContent()), is(Optional.empty()));
+        assertThat(cache.get(jack.tokenContent()), is(Optional.of(jack)));
+        assertThat(cache.get(joe.tokenContent()), is(Optional.of(joe)));
+
+        // tokens expiring after the maximal time to live are evicted in the order they were cached
+        SignedJwt jim = sign("jim", NOW.plus(Duration.ofHours(1)));
+        SignedJwt jane = sign("jane", NOW.plus(Duration.ofHours(1)));
+        cache.put(jim);
+        cache.put(jane);
+        assertThat(cache.get(jim.tokenContent()), is(Optional.of(jim)));
+        assertThat(cache.get(jane.tokenContent()), is(Optional.of(jane)));
+
+        SignedJwt jenny = sign("jenny", NOW.plus(Duration.ofHours(1)));
+        cache.put(jenny);
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(jim.tokenContent()), is(Optional.empty()));
+        assertThat(cache.get(jenny.tokenContent()), is(Optional.of(jenny)));
+    }
+
+    @Test
+    void testRevocation() {
+        VerifiedTokenCache cache = VerifiedTokenCache.builder()
+                .revocationCheck(it -> it.getJwt().subject().equals(Optional.of("joe")))
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .build();
+        SignedJwt jack = sign("jack", NOW.plus(Duration.ofHours(1)));
+        SignedJwt jill = sign("jill", NOW.plus(Duration.ofHours(1)));
+        SignedJwt joe = sign("joe", NOW.plus(Duration.ofHours(1)));
+        cache.put(jack);
+        cache.put(jill);
+        cache.put(joe);
+
+        cache.revoke(jack.tokenContent());
+        cache.revokeIf(it -> it.getJwt().subject().equals(Optional.of("jill")));
+
+        assertThat(cache.get(jack.tokenContent()), is(Optional.empty()));
+        assertThat(cache.get(jill.tokenContent()), is(Optional.empty()));
+        assertThat(cache.get(joe.tokenContent()), is(Optional.empty()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testDisabled() {
+        VerifiedTokenCache cache = VerifiedTokenCache.builder()
+                .enabled(false)
+                .build();
+        SignedJwt signedJwt = sign("jack", Instant.now().plus(Duration.ofHours(1)));
+        cache.put(signedJwt);
+
+        assertThat(cache.get(signedJwt.tokenContent()), is(Optional.empty()));
+        assertThat(cache.size(), is(0));
+    }
+
+    private static SignedJwt sign(String subject, Instant expirationTime) {
+        Jwt jwt = Jwt.builder()
+                .keyId("HS_512")
+                .subject(subject)
+                .expirationTime(expirationTime)
+                .build();
+        return SignedJwt.sign(jwt, keys);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -216,6 +216,21 @@ public class JwkKeysTest {
         }, () -> fail("Key should be in json: " + keyId));
     }
 
+    @Test
+    public void testRepeatedVerification() {
+        byte[] bytes = "someTextToSign 3232".getBytes(StandardCharsets.UTF_8);
+        byte[] otherBytes = "someOtherText 3232".getBytes(StandardCharsets.UTF_8);
+        for (String keyId : List.of("RS_384", "ES_384", "HS_512")) {
+            Jwk key = customKeys.forKeyId(keyId).orElseThrow();
+            byte[] sig = key.sign(bytes);
+            // signature and mac instances are reused, make sure a failed verification does not affect the next one
+            for (int i = 0; i < 5; i++) {
+                assertThat(keyId, key.verifySignature(bytes, sig), is(true));
+                assertThat(keyId, key.verifySignature(otherBytes, sig), is(false));
+            }
+        }
+    }
+
     @Test
     public void testOct() {
         testOct("HS_384", JwkOctet.ALG_HS384);
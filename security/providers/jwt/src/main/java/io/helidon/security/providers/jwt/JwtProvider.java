@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import io.helidon.common.Errors;
@@ -45,6 +46,7 @@ import io.helidon.security.jwt.Jwt;
 import io.helidon.security.jwt.JwtException;
 import io.helidon.security.jwt.JwtUtil;
 import io.helidon.security.jwt.SignedJwt;
+import io.helidon.security.jwt.VerifiedTokenCache;
 import io.helidon.security.jwt.jwk.Jwk;
 import io.helidon.security.jwt.jwk.JwkKeys;
 import io.helidon.security.providers.common.OutboundConfig;
@@ -88,6 +90,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
     private final Map<OutboundTarget, JwtOutboundTarget> targetToJwtConfig = new IdentityHashMap<>();
     private final Jwk defaultJwk;
     private final boolean useJwtGroups;
+    private final VerifiedTokenCache tokenCache;
 
     private JwtProvider(Builder builder) {
         this.optional = builder.optional;
@@ -103,6 +106,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         this.expectedAudience = builder.expectedAudience;
         this.verifySignature = builder.verifySignature;
         this.useJwtGroups = builder.useJwtGroups;
+        this.tokenCache = builder.tokenCache;
 
         if (null == atnTokenHandler) {
             defaultTokenHandler = TokenHandler.builder()
@@ -161,6 +165,12 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
     }
 
     private AuthenticationResponse authenticateToken(String token) {
+        if (verifySignature) {
+            Optional<SignedJwt> verified = tokenCache.get(token);
+            if (verified.isPresent()) {
+                return validate(verified.get());
+            }
+        }
         SignedJwt signedJwt;
         try {
             signedJwt = SignedJwt.parseToken(token);
@@ -171,14 +181,8 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         if (verifySignature) {
             Errors errors = signedJwt.verifySignature(verifyKeys, defaultJwk);
             if (errors.isValid()) {
-                Jwt jwt = signedJwt.getJwt();
-                // perform all validations, including expected audience verification
-                Errors validate = jwt.validate(null, expectedAudience);
-                if (validate.isValid()) {
-                    return AuthenticationResponse.success(buildSubject(jwt, signedJwt));
-                } else {
-                    return failOrAbstain(validate.toString());
-                }
+                tokenCache.put(signedJwt);
+                return validate(signedJwt);
             } else {
                 return failOrAbstain(errors.toString());
             }
@@ -187,6 +191,17 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         }
     }
 
+    private AuthenticationResponse validate(SignedJwt signedJwt) {
+        Jwt jwt = signedJwt.getJwt();
+        // perform all validations, including expected audience verification
+        Errors validate = jwt.validate(null, expectedAudience);
+        if (validate.isValid()) {
+            return AuthenticationResponse.success(buildSubject(jwt, signedJwt));
+        } else {
+            return failOrAbstain(validate.toString());
+        }
+    }
+
     private AuthenticationResponse failOrAbstain(String message) {
         if (optional) {
             return AuthenticationResponse.builder()
@@ -616,6 +631,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         private String issuer;
         private String expectedAudience;
         private boolean useJwtGroups = true;
+        private VerifiedTokenCache tokenCache;
 
         private Builder() {
         }
@@ -625,6 +641,9 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
             if (verifySignature && (null == verifyKeys)) {
                 throw new JwtException("Failed to extract verify JWK from configuration");
             }
+            if (tokenCache == null) {
+                tokenCache = VerifiedTokenCache.create();
+            }
             return new JwtProvider(this);
         }
 
@@ -814,6 +833,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
             config.get("atn-token").ifExists(this::verifyKeys);
             config.get("atn-token.jwt-audience").asString().ifPresent(this::expectedAudience);
             config.get("atn-token.verify-signature").asBoolean().ifPresent(this::verifySignature);
+            config.get("atn-token.verified-token-cache").as(VerifiedTokenCache::create).ifPresent(this::verifiedTokenCache);
             config.get("sign-token").ifExists(outbound -> outboundConfig(OutboundConfig.create(outbound)));
             config.get("sign-token").ifExists(this::outbound);
             config.get("allow-unsigned").asBoolean().ifPresent(this::allowUnsigned);
@@ -845,6 +865,21 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
             return this;
         }
 
+        /**
+         * Cache of tokens with verified signature, so a token sent with many requests is parsed and its
+         * signature verified only once. Claims of cached tokens are still validated on each request.
+         * Defaults to a cache created using {@link VerifiedTokenCache#create()}; use a cache that is not
+         * {@link VerifiedTokenCache.Builder#enabled(boolean) enabled} to verify each token on each request.
+         *
+         * @param tokenCache cache of verified tokens
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = "atn-token.verified-token-cache")
+        public Builder verifiedTokenCache(VerifiedTokenCache tokenCache) {
+            this.tokenCache = Objects.requireNonNull(tokenCache);
+            return this;
+        }
+
         private void verifyKeys(Config config) {
             config.get("jwk.resource").as(Resource::create).ifPresent(this::verifyJwk);
         }
@@ -28,6 +28,7 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import io.helidon.common.HelidonServiceLoader;
@@ -44,6 +45,7 @@ import io.helidon.security.ProviderRequest;
 import io.helidon.security.SecurityEnvironment;
 import io.helidon.security.Subject;
 import io.helidon.security.abac.scope.ScopeValidator;
+import io.helidon.security.jwt.VerifiedTokenCache;
 import io.helidon.security.providers.common.OutboundConfig;
 import io.helidon.security.providers.common.OutboundTarget;
 import io.helidon.security.providers.common.TokenCredential;
@@ -85,6 +87,7 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
     private final OidcOutboundConfig outboundConfig;
     private final boolean useJwtGroups;
     private final LruCache<String, TenantAuthenticationHandler> tenantAuthHandlers = LruCache.create();
+    private final VerifiedTokenCache.Builder tokenCache;
 
     private OidcProvider(Builder builder, OidcOutboundConfig oidcOutboundConfig) {
         this.optional = builder.optional;
@@ -92,6 +95,7 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
         this.propagate = builder.propagate && (oidcOutboundConfig.hasOutbound());
         this.useJwtGroups = builder.useJwtGroups;
         this.outboundConfig = oidcOutboundConfig;
+        this.tokenCache = builder.tokenCache;
 
         tenantConfigFinders = List.copyOf(builder.tenantConfigFinders);
         tenantIdFinders = List.copyOf(builder.tenantIdFinders);
@@ -160,7 +164,8 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
                                 TenantAuthenticationHandler handler = new TenantAuthenticationHandler(oidcConfig,
                                                                                                       tenant,
                                                                                                       useJwtGroups,
-                                                                                                      optional);
+                                                                                                      optional,
+                                                                                                      tokenCache.build());
                                 return tenantAuthHandlers.computeValue(tenantId, () -> Optional.of(handler)).get();
                             },
                             providerRequest.securityContext().executorService())
@@ -257,6 +262,7 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
         private final HelidonServiceLoader.Builder<TenantIdProvider> tenantIdProviders = HelidonServiceLoader
                 .builder(ServiceLoader.load(TenantIdProvider.class))
                 .defaultWeight(DEFAULT_WEIGHT);
+        private final VerifiedTokenCache.Builder tokenCache = VerifiedTokenCache.builder();
         private boolean optional = false;
         private OidcConfig oidcConfig;
         private List<TenantIdFinder> tenantIdFinders;
@@ -346,6 +352,7 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
                 config.get("outbound").ifExists(outbound -> outboundConfig(OutboundConfig.create(config)));
             }
             config.get("use-jwt-groups").asBoolean().ifPresent(this::useJwtGroups);
+            config.get("verified-token-cache").ifExists(tokenCache::config);
             config.get("discover-tenant-config-providers").asBoolean().ifPresent(this::discoverTenantConfigProviders);
             config.get("discover-tenant-id-providers").asBoolean().ifPresent(this::discoverTenantIdProviders);
             return this;
@@ -416,6 +423,23 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
             return this;
         }
 
+        /**
+         * Update the cache of verified tokens, so a token sent with many requests is verified (using its signature,
+         * or the introspection endpoint) only once. Each tenant uses its own cache created from this configuration.
+         * Claims and scopes of cached tokens are still validated on each request.
+         * A token revoked on the identity server may be accepted until it leaves the cache when introspection is used;
+         * see {@link VerifiedTokenCache.Builder#maxTtl(java.time.Duration)}.
+         * Cache is enabled by default.
+         *
+         * @param updater consumer of the cache builder
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = "verified-token-cache")
+        public Builder verifiedTokenCache(Consumer<VerifiedTokenCache.Builder> updater) {
+            updater.accept(tokenCache);
+            return this;
+        }
+
         /**
          * Whether to allow {@link TenantConfigProvider} service loader discovery.
          * Default value is {@code true}.
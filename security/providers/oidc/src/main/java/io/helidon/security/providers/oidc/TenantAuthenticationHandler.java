@@ -56,6 +56,7 @@ import io.helidon.security.jwt.Jwt;
 import io.helidon.security.jwt.JwtException;
 import io.helidon.security.jwt.JwtUtil;
 import io.helidon.security.jwt.SignedJwt;
+import io.helidon.security.jwt.VerifiedTokenCache;
 import io.helidon.security.jwt.jwk.JwkKeys;
 import io.helidon.security.providers.common.TokenCredential;
 import io.helidon.security.providers.oidc.common.OidcConfig;
@@ -81,13 +82,19 @@ class TenantAuthenticationHandler {
     private final BiFunction<SignedJwt, Errors.Collector, Single<Errors.Collector>> jwtValidator;
     private final BiConsumer<StringBuilder, String> scopeAppender;
     private final Pattern attemptPattern;
+    private final VerifiedTokenCache tokenCache;
 
-    TenantAuthenticationHandler(OidcConfig oidcConfig, Tenant tenant, boolean useJwtGroups, boolean optional) {
+    TenantAuthenticationHandler(OidcConfig oidcConfig,
+                                Tenant tenant,
+                                boolean useJwtGroups,
+                                boolean optional,
+                                VerifiedTokenCache tokenCache) {
         this.oidcConfig = oidcConfig;
         this.tenant = tenant;
         this.tenantConfig = tenant.tenantConfig();
         this.useJwtGroups = useJwtGroups;
         this.optional = optional;
+        this.tokenCache = tokenCache;
 
         attemptPattern = Pattern.compile(".*?" + oidcConfig.redirectAttemptParam() + "=(\\d+).*");
         if (tenantConfig.validateJwtWithJwk()) {
@@ -406,6 +413,11 @@ class TenantAuthenticationHandler {
     private Single<AuthenticationResponse> validateToken(String tenantId,
                                                          ProviderRequest providerRequest,
                                                          String token) {
+        Optional<SignedJwt> verified = tokenCache.get(token);
+        if (verified.isPresent()) {
+            // signature or introspection already verified, claims and scopes are validated on each request
+            return Single.just(processValidationResult(providerRequest, verified.get(), tenantId, Errors.collector()));
+        }
         SignedJwt signedJwt;
         try {
             signedJwt = SignedJwt.parseToken(token);
@@ -416,10 +428,15 @@ class TenantAuthenticationHandler {
         }
 
         return jwtValidator.apply(signedJwt, Errors.collector())
-                .map(it -> processValidationResult(providerRequest,
+                .map(it -> {
+                    if (!it.hasFatal()) {
+                        tokenCache.put(signedJwt);
+                    }
+                    return processValidationResult(providerRequest,
                                                    signedJwt,
                                                    tenantId,
-                                                   it))
+                                                   it);
+                })
                 .onErrorResume(t -> {
                     LOGGER.log(System.Logger.Level.DEBUG, "Failed to validate request", t);
                     return AuthenticationResponse.failed("Failed to validate JWT", t);
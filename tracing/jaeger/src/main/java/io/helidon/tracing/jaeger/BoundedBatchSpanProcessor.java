@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing.jaeger;
+
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Batch span processor that exports spans from a background thread.
+ * Spans are exported by {@link io.opentelemetry.sdk.trace.export.BatchSpanProcessor}, this processor only admits at most
+ * {@code maxQueueSize} spans into its queue, so spans that do not fit are dropped (and counted) here, instead of
+ * silently within the batch processor.
+ */
+final class BoundedBatchSpanProcessor implements SpanProcessor {
+    private static final System.Logger LOGGER = System.getLogger(BoundedBatchSpanProcessor.class.getName());
+    private static final long DROPPED_LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong lastDroppedLog = new AtomicLong(System.nanoTime() - DROPPED_LOG_INTERVAL_NANOS);
+    private final int maxQueueSize;
+    private final SpanProcessor delegate;
+
+    private BoundedBatchSpanProcessor(SpanExporter exporter,
+                                      int maxQueueSize,
+                                      int maxExportBatchSize,
+                                      Duration scheduleDelay,
+                                      Duration exporterTimeout) {
+        this.maxQueueSize = maxQueueSize;
+        this.delegate = BatchSpanProcessor.builder(new DequeuingExporter(exporter))
+                .setMaxQueueSize(maxQueueSize)
+                .setMaxExportBatchSize(maxExportBatchSize)
+                .setScheduleDelay(scheduleDelay)
+                .setExporterTimeout(exporterTimeout)
+                .build();
+    }
+
+    static BoundedBatchSpanProcessor create(SpanExporter exporter,
+                                            int maxQueueSize,
+                                            int maxExportBatchSize,
+                                            Duration scheduleDelay,
+                                            Duration exporterTimeout) {
+        return new BoundedBatchSpanProcessor(exporter, maxQueueSize, maxExportBatchSize, scheduleDelay, exporterTimeout);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueueSize) {
+            queued.decrementAndGet();
+            dropped();
+            return;
+        }
+        delegate.onEnd(span);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    /**
+     * Number of spans dropped because the export queue was full.
+     *
+     * @return number of dropped spans
+     */
+    long droppedSpans() {
+        return dropped.sum();
+    }
+
+    private void dropped() {
+        dropped.increment();
+        long now = System.nanoTime();
+        long last = lastDroppedLog.get();
+        if (now - last >= DROPPED_LOG_INTERVAL_NANOS && lastDroppedLog.compareAndSet(last, now)) {
+            LOGGER.log(Level.WARNING, () -> "Span export queue is full (max-queue-size: " + maxQueueSize + "), "
+                    + dropped.sum() + " spans dropped so far");
+        }
+    }
+
+    // spans handed over to the exporter have left the queue of the batch processor
+    private final class DequeuingExporter implements SpanExporter {
+        private final SpanExporter exporter;
+
+        private DequeuingExporter(SpanExporter exporter) {
+            this.exporter = exporter;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            queued.addAndGet(-spans.size());
+            return exporter.export(spans);
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return exporter.flush();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return exporter.shutdown();
+        }
+    }
+}
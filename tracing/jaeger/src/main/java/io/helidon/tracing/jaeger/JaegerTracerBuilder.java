@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import io.helidon.common.config.Config;
@@ -46,6 +47,7 @@ import io.opentelemetry.extension.trace.propagation.JaegerPropagator;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
@@ -103,6 +105,27 @@ import io.opentelemetry.semconv.resource.attributes.ResourceAttributes;
  *         <td>Timeout of exporter</td>
  *     </tr>
  *     <tr>
+ *         <td>{@code span-processor-type}</td>
+ *         <td>{@code batch}</td>
+ *         <td>Span processor type, {@code batch} to export spans in batches from a background thread,
+ *              {@code simple} to export each span when it ends</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code max-queue-size}</td>
+ *         <td>{@value #DEFAULT_MAX_QUEUE_SIZE}</td>
+ *         <td>Maximal number of spans waiting for export (batch processor), spans over this limit are dropped</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code max-export-batch-size}</td>
+ *         <td>{@value #DEFAULT_MAX_EXPORT_BATCH_SIZE}</td>
+ *         <td>Maximal number of spans exported in a single batch (batch processor)</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code schedule-delay-millis}</td>
+ *         <td>5 seconds</td>
+ *         <td>Delay between two consecutive exports (batch processor)</td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code private-key-pem}</td>
  *         <td>&nbsp;</td>
  *         <td>Client private key in PEM format</td>
@@ -121,7 +144,8 @@ import io.opentelemetry.semconv.resource.attributes.ResourceAttributes;
  *         <td>{@code sampler-type}</td>
  *         <td>{@code const} with param set to {@code 1}</td>
  *         <td>Sampler type {@code const} (0 to disable, 1 to always enabled),
- *              {@code ratio} (sample param contains the ratio as a double)</td>
+ *              {@code ratio} (sample param contains the ratio as a double),
+ *              {@code ratelimiting} (sample param contains the maximal number of traces per second)</td>
  *     </tr>
  *     <tr>
  *         <td>{@code sampler-param}</td>
@@ -129,6 +153,26 @@ import io.opentelemetry.semconv.resource.attributes.ResourceAttributes;
  *         <td>Numeric parameter specifying details for the sampler type.</td>
  *     </tr>
  *     <tr>
+ *         <td>{@code tail-sampling.enabled}</td>
+ *         <td>{@code false}</td>
+ *         <td>Buffer spans of each trace until its root span ends, and export only failed or slow traces</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code tail-sampling.latency-threshold-millis}</td>
+ *         <td>1 second</td>
+ *         <td>Traces whose root span takes at least this long are exported when tail sampling is enabled</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code tail-sampling.max-traces}</td>
+ *         <td>{@value #DEFAULT_TAIL_SAMPLING_MAX_TRACES}</td>
+ *         <td>Maximal number of traces buffered by the tail sampler</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code tail-sampling.max-spans-per-trace}</td>
+ *         <td>{@value #DEFAULT_TAIL_SAMPLING_MAX_SPANS}</td>
+ *         <td>Maximal number of spans buffered for a single trace by the tail sampler</td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code tags}</td>
  *         <td>&nbsp;</td>
  *         <td>see {@link io.helidon.tracing.TracerBuilder}</td>
@@ -152,6 +196,12 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
     static final boolean DEFAULT_ENABLED = true;
     static final String DEFAULT_HTTP_HOST = "localhost";
     static final int DEFAULT_HTTP_PORT = 14250;
+    static final int DEFAULT_MAX_QUEUE_SIZE = 2048;
+    static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
+    static final Duration DEFAULT_SCHEDULE_DELAY = Duration.ofSeconds(5);
+    static final Duration DEFAULT_TAIL_SAMPLING_LATENCY_THRESHOLD = Duration.ofSeconds(1);
+    static final int DEFAULT_TAIL_SAMPLING_MAX_TRACES = 1000;
+    static final int DEFAULT_TAIL_SAMPLING_MAX_SPANS = 500;
 
     private final Map<String, String> tags = new HashMap<>();
     // this is a backward incompatible change, but the correct choice is Jaeger, not B3
@@ -165,6 +215,17 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
     private boolean enabled = DEFAULT_ENABLED;
     private boolean global = true;
     private Duration exporterTimeout = Duration.ofSeconds(10);
+    private SpanProcessorType spanProcessorType = SpanProcessorType.BATCH;
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+    private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
+    private Duration scheduleDelay = DEFAULT_SCHEDULE_DELAY;
+    private SpanExporter exporter;
+    private boolean tailSampling;
+    private Duration tailSamplingLatencyThreshold = DEFAULT_TAIL_SAMPLING_LATENCY_THRESHOLD;
+    private int tailSamplingMaxTraces = DEFAULT_TAIL_SAMPLING_MAX_TRACES;
+    private int tailSamplingMaxSpansPerTrace = DEFAULT_TAIL_SAMPLING_MAX_SPANS;
+    private volatile TailSamplingStatistics tailSamplingStatistics;
+    private volatile BoundedBatchSpanProcessor batchSpanProcessor;
     private byte[] privateKey;
     private byte[] certificate;
     private byte[] trustedCertificates;
@@ -262,6 +323,15 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
         config.get("sampler-type").asString().as(SamplerType::create).ifPresent(this::samplerType);
         config.get("sampler-param").asDouble().ifPresent(this::samplerParam);
         config.get("exporter-timeout-millis").asLong().ifPresent(it -> exporterTimeout(Duration.ofMillis(it)));
+        config.get("span-processor-type").asString().as(SpanProcessorType::create).ifPresent(this::spanProcessorType);
+        config.get("max-queue-size").asInt().ifPresent(this::maxQueueSize);
+        config.get("max-export-batch-size").asInt().ifPresent(this::maxExportBatchSize);
+        config.get("schedule-delay-millis").asLong().ifPresent(it -> scheduleDelay(Duration.ofMillis(it)));
+        config.get("tail-sampling.enabled").asBoolean().ifPresent(this::tailSampling);
+        config.get("tail-sampling.latency-threshold-millis").asLong()
+                .ifPresent(it -> tailSamplingLatencyThreshold(Duration.ofMillis(it)));
+        config.get("tail-sampling.max-traces").asInt().ifPresent(this::tailSamplingMaxTraces);
+        config.get("tail-sampling.max-spans-per-trace").asInt().ifPresent(this::tailSamplingMaxSpansPerTrace);
         config.get("private-key-pem").map(io.helidon.common.configurable.Resource::create).ifPresent(this::privateKey);
         config.get("client-cert-pem").map(io.helidon.common.configurable.Resource::create).ifPresent(this::clientCertificate);
         config.get("trusted-cert-pem").map(io.helidon.common.configurable.Resource::create).ifPresent(this::trustedCertificates);
@@ -347,6 +417,137 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
         return this;
     }
 
+    /**
+     * Span processor type, used to hand over finished spans to the exporter.
+     * Batch processor exports spans from a background thread, so request threads do not wait for the collector.
+     *
+     * @param spanProcessorType type of the span processor
+     * @return updated builder
+     */
+    @ConfiguredOption("batch")
+    public JaegerTracerBuilder spanProcessorType(SpanProcessorType spanProcessorType) {
+        this.spanProcessorType = Objects.requireNonNull(spanProcessorType);
+        return this;
+    }
+
+    /**
+     * Maximal number of spans waiting for export when using the {@link SpanProcessorType#BATCH batch} span processor.
+     * Spans finished while the queue is full are dropped.
+     *
+     * @param maxQueueSize maximal queue size
+     * @return updated builder
+     */
+    @ConfiguredOption("2048")
+    public JaegerTracerBuilder maxQueueSize(int maxQueueSize) {
+        if (maxQueueSize < 1) {
+            throw new IllegalArgumentException("Max queue size must be positive, but is " + maxQueueSize);
+        }
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    /**
+     * Maximal number of spans exported in a single batch when using the {@link SpanProcessorType#BATCH batch} span
+     * processor.
+     *
+     * @param maxExportBatchSize maximal batch size
+     * @return updated builder
+     */
+    @ConfiguredOption("512")
+    public JaegerTracerBuilder maxExportBatchSize(int maxExportBatchSize) {
+        if (maxExportBatchSize < 1) {
+            throw new IllegalArgumentException("Max export batch size must be positive, but is " + maxExportBatchSize);
+        }
+        this.maxExportBatchSize = maxExportBatchSize;
+        return this;
+    }
+
+    /**
+     * Delay between two consecutive exports when using the {@link SpanProcessorType#BATCH batch} span processor.
+     * A batch is exported sooner if it reaches {@link #maxExportBatchSize(int)}.
+     *
+     * @param scheduleDelay delay between exports
+     * @return updated builder
+     */
+    @ConfiguredOption(key = "schedule-delay-millis", value = "5000")
+    public JaegerTracerBuilder scheduleDelay(Duration scheduleDelay) {
+        this.scheduleDelay = Objects.requireNonNull(scheduleDelay);
+        return this;
+    }
+
+    /**
+     * Enable in-process tail sampling.
+     * Spans of each trace are kept in memory until the local root span of the trace ends, and the trace is exported
+     * only if any of its spans failed, or the root span took at least {@link #tailSamplingLatencyThreshold(Duration)}.
+     * Tail sampling only sees spans sampled by the {@link #samplerType(SamplerType) sampler}.
+     *
+     * @param tailSampling whether to use tail sampling
+     * @return updated builder
+     */
+    @ConfiguredOption(key = "tail-sampling.enabled", value = "false")
+    public JaegerTracerBuilder tailSampling(boolean tailSampling) {
+        this.tailSampling = tailSampling;
+        return this;
+    }
+
+    /**
+     * Latency of the root span from which a trace is exported when {@link #tailSampling(boolean) tail sampling}
+     * is enabled.
+     *
+     * @param latencyThreshold latency threshold
+     * @return updated builder
+     */
+    @ConfiguredOption(key = "tail-sampling.latency-threshold-millis", value = "1000")
+    public JaegerTracerBuilder tailSamplingLatencyThreshold(Duration latencyThreshold) {
+        this.tailSamplingLatencyThreshold = Objects.requireNonNull(latencyThreshold);
+        return this;
+    }
+
+    /**
+     * Maximal number of traces buffered when {@link #tailSampling(boolean) tail sampling} is enabled.
+     * Spans of further traces are dropped until buffered traces complete.
+     *
+     * @param maxTraces maximal number of buffered traces
+     * @return updated builder
+     */
+    @ConfiguredOption(key = "tail-sampling.max-traces", value = "1000")
+    public JaegerTracerBuilder tailSamplingMaxTraces(int maxTraces) {
+        if (maxTraces < 1) {
+            throw new IllegalArgumentException("Tail sampling max traces must be positive, but is " + maxTraces);
+        }
+        this.tailSamplingMaxTraces = maxTraces;
+        return this;
+    }
+
+    /**
+     * Maximal number of spans buffered for a single trace when {@link #tailSampling(boolean) tail sampling}
+     * is enabled. Further spans of the trace are dropped.
+     *
+     * @param maxSpansPerTrace maximal number of spans buffered per trace
+     * @return updated builder
+     */
+    @ConfiguredOption(key = "tail-sampling.max-spans-per-trace", value = "500")
+    public JaegerTracerBuilder tailSamplingMaxSpansPerTrace(int maxSpansPerTrace) {
+        if (maxSpansPerTrace < 1) {
+            throw new IllegalArgumentException("Tail sampling max spans per trace must be positive, but is "
+                                                       + maxSpansPerTrace);
+        }
+        this.tailSamplingMaxSpansPerTrace = maxSpansPerTrace;
+        return this;
+    }
+
+    /**
+     * Span exporter to use instead of the Jaeger gRPC exporter created from the collector configuration
+     * (such as an exporter to a local agent, or an in-memory exporter for testing).
+     *
+     * @param exporter span exporter
+     * @return updated builder
+     */
+    public JaegerTracerBuilder exporter(SpanExporter exporter) {
+        this.exporter = Objects.requireNonNull(exporter);
+        return this;
+    }
+
     @Override
     public JaegerTracerBuilder enabled(boolean enabled) {
         this.enabled = enabled;
@@ -422,31 +623,39 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
                         "Configuration must at least contain the 'service' key ('tracing.service` in MP) with service name");
             }
 
-            JaegerGrpcSpanExporterBuilder spanExporterBuilder = JaegerGrpcSpanExporter.builder()
-                    .setEndpoint(protocol + "://" + host + ":" + port + (path == null ? "" : path))
-                    .setTimeout(exporterTimeout);
-
-            if (privateKey != null && certificate != null) {
-                spanExporterBuilder.setClientTls(privateKey, certificate);
-            }
-
-            if (trustedCertificates != null) {
-                spanExporterBuilder.setTrustedCertificates(trustedCertificates);
+            if (maxExportBatchSize > maxQueueSize) {
+                throw new IllegalArgumentException("Max export batch size (" + maxExportBatchSize + ") must not be"
+                                                           + " larger than max queue size (" + maxQueueSize + ")");
             }
 
-            SpanExporter exporter = spanExporterBuilder.build();
+            SpanExporter exporter = (this.exporter == null) ? createExporter() : this.exporter;
 
             Sampler sampler = switch (samplerType) {
                 case RATIO -> Sampler.traceIdRatioBased(samplerParam.doubleValue());
                 case CONSTANT -> samplerParam.intValue() == 1
                         ? Sampler.alwaysOn()
                         : Sampler.alwaysOff();
+                // child spans follow the decision of their parent, so sampled traces are complete
+                case RATE_LIMITING -> Sampler.parentBased(new RateLimitingSampler(samplerParam.doubleValue()));
             };
 
+            SpanProcessor spanProcessor = createSpanProcessor(exporter);
+            if (spanProcessor instanceof BoundedBatchSpanProcessor batchProcessor) {
+                batchSpanProcessor = batchProcessor;
+            }
+            if (tailSampling) {
+                TailSamplingSpanProcessor tailSamplingProcessor = new TailSamplingSpanProcessor(spanProcessor,
+                                                                                                tailSamplingLatencyThreshold,
+                                                                                                tailSamplingMaxTraces,
+                                                                                                tailSamplingMaxSpansPerTrace);
+                tailSamplingStatistics = tailSamplingProcessor;
+                spanProcessor = tailSamplingProcessor;
+            }
+
             Resource serviceName = Resource.create(Attributes.of(ResourceAttributes.SERVICE_NAME, this.serviceName));
             OpenTelemetry ot = OpenTelemetrySdk.builder()
                     .setTracerProvider(SdkTracerProvider.builder()
-                                               .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                                               .addSpanProcessor(spanProcessor)
                                                .setSampler(sampler)
                                                .setResource(serviceName)
                                                .build())
@@ -473,10 +682,63 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
         return result;
     }
 
+    /**
+     * Statistics of {@link #tailSampling(boolean) tail sampling} of the tracer last built by this builder,
+     * such as the number of kept and dropped traces.
+     *
+     * @return tail sampling statistics, empty if no tracer with tail sampling was built
+     */
+    public Optional<TailSamplingStatistics> tailSamplingStatistics() {
+        return Optional.ofNullable(tailSamplingStatistics);
+    }
+
+    /**
+     * Number of spans dropped by the tracer last built by this builder, because the export queue
+     * (see {@link #maxQueueSize(int)}) was full. Only the {@link SpanProcessorType#BATCH batch} span processor drops spans.
+     *
+     * @return number of dropped spans, {@code 0} if no tracer with a batch span processor was built
+     */
+    public long droppedSpans() {
+        BoundedBatchSpanProcessor processor = batchSpanProcessor;
+        return processor == null ? 0 : processor.droppedSpans();
+    }
+
     String path() {
         return path;
     }
 
+    SpanProcessorType spanProcessorType() {
+        return spanProcessorType;
+    }
+
+    int maxQueueSize() {
+        return maxQueueSize;
+    }
+
+    int maxExportBatchSize() {
+        return maxExportBatchSize;
+    }
+
+    Duration scheduleDelay() {
+        return scheduleDelay;
+    }
+
+    boolean tailSampling() {
+        return tailSampling;
+    }
+
+    Duration tailSamplingLatencyThreshold() {
+        return tailSamplingLatencyThreshold;
+    }
+
+    int tailSamplingMaxTraces() {
+        return tailSamplingMaxTraces;
+    }
+
+    int tailSamplingMaxSpansPerTrace() {
+        return tailSamplingMaxSpansPerTrace;
+    }
+
     Map<String, String> tags() {
         return tags;
     }
@@ -515,6 +777,33 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
                 .toList();
     }
 
+    SpanProcessor createSpanProcessor(SpanExporter exporter) {
+        return switch (spanProcessorType) {
+            case SIMPLE -> SimpleSpanProcessor.create(exporter);
+            case BATCH -> BoundedBatchSpanProcessor.create(exporter,
+                                                           maxQueueSize,
+                                                           maxExportBatchSize,
+                                                           scheduleDelay,
+                                                           exporterTimeout);
+        };
+    }
+
+    private SpanExporter createExporter() {
+        JaegerGrpcSpanExporterBuilder spanExporterBuilder = JaegerGrpcSpanExporter.builder()
+                .setEndpoint(protocol + "://" + host + ":" + port + (path == null ? "" : path))
+                .setTimeout(exporterTimeout);
+
+        if (privateKey != null && certificate != null) {
+            spanExporterBuilder.setClientTls(privateKey, certificate);
+        }
+
+        if (trustedCertificates != null) {
+            spanExporterBuilder.setTrustedCertificates(trustedCertificates);
+        }
+
+        return spanExporterBuilder.build();
+    }
+
     private static TextMapPropagator mapFormatToPropagator(PropagationFormat propagationFormat) {
         return switch (propagationFormat) {
             case B3 -> B3Propagator.injectingMultiHeaders();
@@ -527,7 +816,7 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
 
     /**
      * Sampler type definition.
-     * Available options are "const", "probabilistic", "ratelimiting" and "remote".
+     * Available options are "const", "ratio" and "ratelimiting".
      */
     public enum SamplerType {
         /**
@@ -538,7 +827,11 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
         /**
          * Ratio of the requests to sample, double value.
          */
-        RATIO("ratio");
+        RATIO("ratio"),
+        /**
+         * Maximal number of traces to sample per second, double value.
+         */
+        RATE_LIMITING("ratelimiting");
         private final String config;
 
         SamplerType(String config) {
@@ -559,6 +852,34 @@ public class JaegerTracerBuilder implements TracerBuilder<JaegerTracerBuilder> {
         }
     }
 
+    /**
+     * Span processor type, that hands over finished spans to the exporter.
+     */
+    public enum SpanProcessorType {
+        /**
+         * Export each span on the thread that finishes it.
+         */
+        SIMPLE("simple"),
+        /**
+         * Queue finished spans and export them in batches from a background thread.
+         */
+        BATCH("batch");
+        private final String config;
+
+        SpanProcessorType(String config) {
+            this.config = config;
+        }
+
+        static SpanProcessorType create(String value) {
+            for (SpanProcessorType type : SpanProcessorType.values()) {
+                if (type.config.equals(value)) {
+                    return type;
+                }
+            }
+            throw new IllegalStateException("SpanProcessorType " + value + " is not supported");
+        }
+    }
+
     /**
      * Supported Jaeger trace context propagation formats.
      */
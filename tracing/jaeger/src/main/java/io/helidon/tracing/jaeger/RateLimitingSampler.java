@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing.jaeger;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * Sampler that samples at most the configured number of traces per second.
+ * Up to one second worth of traces may be sampled in a burst (at least one trace).
+ * <p>
+ * The limit is implemented as a generic cell rate algorithm, so the decision is a single compare-and-set
+ * on the theoretical arrival time of the next trace.
+ */
+final class RateLimitingSampler implements Sampler {
+    private final AtomicLong theoreticalArrival;
+    private final LongSupplier nanoClock;
+    private final double tracesPerSecond;
+    private final long emissionInterval;
+    private final long burstTolerance;
+
+    RateLimitingSampler(double tracesPerSecond) {
+        this(tracesPerSecond, System::nanoTime);
+    }
+
+    // for unit tests
+    RateLimitingSampler(double tracesPerSecond, LongSupplier nanoClock) {
+        if (tracesPerSecond <= 0) {
+            throw new IllegalArgumentException("Traces per second must be positive, but is " + tracesPerSecond);
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.nanoClock = nanoClock;
+        this.emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / tracesPerSecond);
+        this.burstTolerance = (long) ((Math.max(tracesPerSecond, 1) - 1) * emissionInterval);
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext,
+                                       String traceId,
+                                       String name,
+                                       SpanKind spanKind,
+                                       Attributes attributes,
+                                       List<LinkData> parentLinks) {
+        return tryAcquire() ? SamplingResult.recordAndSample() : SamplingResult.drop();
+    }
+
+    @Override
+    public String getDescription() {
+        return "RateLimitingSampler{" + tracesPerSecond + "}";
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+
+    boolean tryAcquire() {
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = Math.max(arrival, now);
+            if (start - now > burstTolerance) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + emissionInterval)) {
+                return true;
+            }
+        }
+    }
+}
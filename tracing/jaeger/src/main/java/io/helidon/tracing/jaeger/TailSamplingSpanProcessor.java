@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing.jaeger;
+
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * In-process tail sampler.
+ * Spans of a trace are buffered until the local root span of the trace ends (a span without a parent, or with
+ * a remote parent). The whole trace is then passed to the delegate processor if any of its spans ended with
+ * an error, or if the root span took at least the latency threshold; otherwise the trace is dropped.
+ * <p>
+ * Memory is bounded by the maximal number of buffered traces and of spans buffered per trace. Spans that do not fit
+ * are dropped, and traces whose root span does not end within {@link #TRACE_TIMEOUT} are evicted when room is needed.
+ * <p>
+ * Recently completed traces are remembered (as many as the maximal number of buffered traces), so spans ending
+ * after their local root span are exported with a kept trace, or dropped with a dropped trace, without being buffered.
+ */
+final class TailSamplingSpanProcessor implements SpanProcessor, TailSamplingStatistics {
+    static final Duration TRACE_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final System.Logger LOGGER = System.getLogger(TailSamplingSpanProcessor.class.getName());
+    private static final long TRACE_TIMEOUT_NANOS = TRACE_TIMEOUT.toNanos();
+    private static final long EVICTION_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final Map<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    private final LongAdder keptTraces = new LongAdder();
+    private final LongAdder droppedTraces = new LongAdder();
+    private final LongAdder droppedSpans = new LongAdder();
+    private final AtomicLong lastEviction = new AtomicLong(System.nanoTime());
+    private final SpanProcessor delegate;
+    private final long latencyThresholdNanos;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final CompletedTraces completedTraces;
+
+    TailSamplingSpanProcessor(SpanProcessor delegate, Duration latencyThreshold, int maxTraces, int maxSpansPerTrace) {
+        this.delegate = delegate;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxTraces = maxTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.completedTraces = new CompletedTraces(maxTraces);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        boolean error = span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+        SpanContext parent = span.getParentSpanContext();
+
+        if (!parent.isValid() || parent.isRemote()) {
+            TraceBuffer buffer = traces.remove(traceId);
+            boolean kept = error || span.getLatencyNanos() >= latencyThresholdNanos || (buffer != null && buffer.error);
+            completedTraces.add(traceId, kept);
+            if (kept) {
+                keptTraces.increment();
+                if (buffer != null) {
+                    buffer.spans.forEach(delegate::onEnd);
+                }
+                delegate.onEnd(span);
+            } else {
+                droppedTraces.increment();
+            }
+            // a span ending concurrently with its root may have been buffered after the trace was removed
+            TraceBuffer late = traces.remove(traceId);
+            if (late != null && kept) {
+                late.spans.forEach(delegate::onEnd);
+            }
+            return;
+        }
+
+        Boolean completedKept = completedTraces.kept(traceId);
+        if (completedKept != null) {
+            // the local root span already ended, follow the decision made for the trace
+            if (completedKept) {
+                delegate.onEnd(span);
+            }
+            return;
+        }
+
+        TraceBuffer buffer = traces.get(traceId);
+        if (buffer == null) {
+            if (traces.size() >= maxTraces) {
+                evictStale();
+                if (traces.size() >= maxTraces) {
+                    // no room to buffer another trace
+                    droppedSpans.increment();
+                    return;
+                }
+            }
+            buffer = traces.computeIfAbsent(traceId, it -> new TraceBuffer(System.nanoTime()));
+        }
+        if (!buffer.add(span, error, maxSpansPerTrace)) {
+            droppedSpans.increment();
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        LOGGER.log(Level.DEBUG, () -> "Tail sampling kept " + keptTraces.sum() + " and dropped " + droppedTraces.sum()
+                + " traces, dropped " + droppedSpans.sum() + " spans that did not fit, discarding " + traces.size()
+                + " incomplete traces");
+        traces.clear();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public long keptTraces() {
+        return keptTraces.sum();
+    }
+
+    @Override
+    public long droppedTraces() {
+        return droppedTraces.sum();
+    }
+
+    @Override
+    public long droppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    @Override
+    public int bufferedTraces() {
+        return traces.size();
+    }
+
+    private void evictStale() {
+        long now = System.nanoTime();
+        long last = lastEviction.get();
+        // only scan once in a while, as the scan is linear to the number of buffered traces
+        if (now - last < EVICTION_INTERVAL_NANOS || !lastEviction.compareAndSet(last, now)) {
+            return;
+        }
+        traces.entrySet().removeIf(entry -> {
+            if (now - entry.getValue().created >= TRACE_TIMEOUT_NANOS) {
+                droppedTraces.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static final class TraceBuffer {
+        private final Queue<ReadableSpan> spans = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final long created;
+        private volatile boolean error;
+
+        private TraceBuffer(long created) {
+            this.created = created;
+        }
+
+        boolean add(ReadableSpan span, boolean error, int maxSpans) {
+            if (error) {
+                this.error = true;
+            }
+            if (size.incrementAndGet() <= maxSpans) {
+                spans.add(span);
+                return true;
+            }
+            size.decrementAndGet();
+            return false;
+        }
+    }
+
+    /*
+    Bounded set of trace ids whose local root span ended, with the sampling decision; the oldest are forgotten first.
+     */
+    private static final class CompletedTraces {
+        private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+        private final AtomicReferenceArray<String> ring;
+        private final AtomicLong next = new AtomicLong();
+
+        private CompletedTraces(int capacity) {
+            this.ring = new AtomicReferenceArray<>(capacity);
+        }
+
+        void add(String traceId, boolean kept) {
+            if (decisions.put(traceId, kept) != null) {
+                // already remembered (such as a trace with more local roots)
+                return;
+            }
+            int index = (int) (next.getAndIncrement() % ring.length());
+            String forgotten = ring.getAndSet(index, traceId);
+            if (forgotten != null) {
+                decisions.remove(forgotten);
+            }
+        }
+
+        Boolean kept(String traceId) {
+            return decisions.get(traceId);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing.jaeger;
+
+/**
+ * Statistics of in-process tail sampling of a Jaeger tracer.
+ * Values are a snapshot and may change concurrently.
+ *
+ * @see JaegerTracerBuilder#tailSampling(boolean)
+ */
+public interface TailSamplingStatistics {
+    /**
+     * Number of traces exported, because a span failed or the root span was slow.
+     *
+     * @return kept traces
+     */
+    long keptTraces();
+
+    /**
+     * Number of traces not exported, either because they were neither failed nor slow, or because their root span
+     * did not end in time.
+     *
+     * @return dropped traces
+     */
+    long droppedTraces();
+
+    /**
+     * Number of spans not exported because there was no room to buffer them, either as the maximal number of
+     * buffered traces was reached, or the maximal number of spans of their trace.
+     *
+     * @return dropped spans
+     */
+    long droppedSpans();
+
+    /**
+     * Number of traces currently buffered, waiting for their root span to end.
+     *
+     * @return buffered traces
+     */
+    int bufferedTraces();
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing.jaeger;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link BoundedBatchSpanProcessor}.
+ */
+class BoundedBatchSpanProcessorTest {
+    @Test
+    void testDropWhenQueueFull() throws InterruptedException {
+        CountDownLatch exportAllowed = new CountDownLatch(1);
+        BlockingExporter exporter = new BlockingExporter(exportAllowed);
+        BoundedBatchSpanProcessor processor = BoundedBatchSpanProcessor.create(exporter,
+                                                                               10,
+                                                                               5,
+                                                                               Duration.ofMillis(10),
+                                                                               Duration.ofSeconds(10));
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(processor)
+                .build();
+        Tracer tracer = provider.get("unit-test");
+
+        for (int i = 0; i < 100; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        // the exporter is blocked on the first batch (at most 5 spans), so at most 10 more spans may wait in the queue
+        assertThat(processor.droppedSpans(), greaterThanOrEqualTo(85L));
+
+        exportAllowed.countDown();
+        provider.shutdown().join(10, TimeUnit.SECONDS);
+
+        assertThat(exporter.exported.size() + processor.droppedSpans(), is(100L));
+    }
+
+    private static final class BlockingExporter implements SpanExporter {
+        private final List<SpanData> exported = new CopyOnWriteArrayList<>();
+        private final CountDownLatch exportAllowed;
+
+        private BlockingExporter(CountDownLatch exportAllowed) {
+            this.exportAllowed = exportAllowed;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            try {
+                exportAllowed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableResultCode.ofFailure();
+            }
+            exported.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -16,8 +16,11 @@
 
 package io.helidon.tracing.jaeger;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Collection;
+import java.util.Optional;
 
 import io.helidon.config.Config;
 import io.helidon.tracing.Tracer;
@@ -27,6 +30,9 @@ import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.extension.trace.propagation.B3Propagator;
 import io.opentelemetry.extension.trace.propagation.JaegerPropagator;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +41,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -74,6 +81,10 @@ class JaegerTracerBuilderTest {
         assertThat("Enabled", jBuilder.isEnabled(), is(true));
         assertThat("Sampler type", jBuilder.samplerType(), is(JaegerTracerBuilder.SamplerType.CONSTANT));
         assertThat("Sampler param", jBuilder.samplerParam(), is(Integer.valueOf(1)));
+        assertThat("Span processor type", jBuilder.spanProcessorType(), is(JaegerTracerBuilder.SpanProcessorType.BATCH));
+        assertThat("Max queue size", jBuilder.maxQueueSize(), is(JaegerTracerBuilder.DEFAULT_MAX_QUEUE_SIZE));
+        assertThat("Max export batch size", jBuilder.maxExportBatchSize(), is(JaegerTracerBuilder.DEFAULT_MAX_EXPORT_BATCH_SIZE));
+        assertThat("Schedule delay", jBuilder.scheduleDelay(), is(JaegerTracerBuilder.DEFAULT_SCHEDULE_DELAY));
     }
 
     @Test
@@ -103,6 +114,10 @@ class JaegerTracerBuilderTest {
         assertThat("Path", jBuilder.path(), is("/api/traces/mine"));
         assertThat("Sampler type", jBuilder.samplerType(), is(JaegerTracerBuilder.SamplerType.RATIO));
         assertThat("Sampler param", jBuilder.samplerParam(), is(0.5));
+        assertThat("Span processor type", jBuilder.spanProcessorType(), is(JaegerTracerBuilder.SpanProcessorType.SIMPLE));
+        assertThat("Max queue size", jBuilder.maxQueueSize(), is(42));
+        assertThat("Max export batch size", jBuilder.maxExportBatchSize(), is(21));
+        assertThat("Schedule delay", jBuilder.scheduleDelay(), is(Duration.ofSeconds(1)));
         assertThat("Tags", jBuilder.tags(), is(Map.of(
                 "tag1", "tag1-value",
                 "tag2", "tag2-value",
@@ -119,4 +134,65 @@ class JaegerTracerBuilderTest {
         assertThat(propagators.get(1), instanceOf(JaegerPropagator.class));
         assertThat(propagators.get(2), instanceOf(W3CBaggagePropagator.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTailSampling() {
+        TracerBuilder<?> builder = TracerBuilder.create(config.get("jaeger-tail-sampling"));
+
+        JaegerTracerBuilder jBuilder = builder.unwrap(JaegerTracerBuilder.class);
+
+        assertThat("Sampler type", jBuilder.samplerType(), is(JaegerTracerBuilder.SamplerType.RATE_LIMITING));
+        assertThat("Sampler param", jBuilder.samplerParam(), is(10.0));
+        assertThat("Tail sampling", jBuilder.tailSampling(), is(true));
+        assertThat("Latency threshold", jBuilder.tailSamplingLatencyThreshold(), is(Duration.ofMillis(500)));
+        assertThat("Max traces", jBuilder.tailSamplingMaxTraces(), is(100));
+        assertThat("Max spans per trace", jBuilder.tailSamplingMaxSpansPerTrace(), is(50));
+
+        assertThat(jBuilder.tailSamplingStatistics(), is(Optional.empty()));
+        jBuilder.registerGlobal(false)
+                .exporter(SpanExporter.composite())
+                .build();
+        TailSamplingStatistics statistics = jBuilder.tailSamplingStatistics().orElseThrow();
+        assertThat("Kept traces", statistics.keptTraces(), is(0L));
+        assertThat("Buffered traces", statistics.bufferedTraces(), is(0));
+    }
+
+    @Test
+    void testDroppedSpans() {
+        JaegerTracerBuilder jBuilder = JaegerTracerBuilder.forService("helidon-dropped-spans")
+                .registerGlobal(false)
+                .exporter(new PendingExporter())
+                .spanProcessorType(JaegerTracerBuilder.SpanProcessorType.BATCH)
+                .maxQueueSize(2)
+                .maxExportBatchSize(2)
+                .exporterTimeout(Duration.ofMinutes(1));
+
+        assertThat(jBuilder.droppedSpans(), is(0L));
+        Tracer tracer = jBuilder.build();
+        for (int i = 0; i < 10; i++) {
+            tracer.spanBuilder("dropped-" + i)
+                    .start()
+                    .end();
+        }
+        // at most one batch is being exported and at most one more batch waits in the queue
+        assertThat("Dropped spans", jBuilder.droppedSpans(), greaterThanOrEqualTo(6L));
+    }
+
+    // export never completes, so the batch processor is stuck until the exporter timeout
+    private static final class PendingExporter implements SpanExporter {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return new CompletableResultCode();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
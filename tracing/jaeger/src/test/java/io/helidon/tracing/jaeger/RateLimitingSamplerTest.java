@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing.jaeger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link RateLimitingSampler}.
+ */
+class RateLimitingSamplerTest {
+    @Test
+    void testBurstAndRate() {
+        AtomicLong now = new AtomicLong();
+        RateLimitingSampler sampler = new RateLimitingSampler(2, now::get);
+
+        // one second worth of traces in a burst
+        assertThat(sampler.tryAcquire(), is(true));
+        assertThat(sampler.tryAcquire(), is(true));
+        assertThat(sampler.tryAcquire(), is(false));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(sampler.tryAcquire(), is(true));
+        assertThat(sampler.tryAcquire(), is(false));
+
+        // credit does not accumulate over the burst
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(sampler.tryAcquire(), is(true));
+        assertThat(sampler.tryAcquire(), is(true));
+        assertThat(sampler.tryAcquire(), is(false));
+    }
+
+    @Test
+    void testLessThanOnePerSecond() {
+        AtomicLong now = new AtomicLong();
+        RateLimitingSampler sampler = new RateLimitingSampler(0.5, now::get);
+
+        assertThat(sampler.tryAcquire(), is(true));
+        assertThat(sampler.tryAcquire(), is(false));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(sampler.tryAcquire(), is(false));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(sampler.tryAcquire(), is(true));
+    }
+
+    @Test
+    void testInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitingSampler(0));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing.jaeger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link TailSamplingSpanProcessor}.
+ */
+class TailSamplingSpanProcessorTest {
+    private final CollectingProcessor collected = new CollectingProcessor();
+    private TailSamplingSpanProcessor processor;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        collected.spans.clear();
+        processor = new TailSamplingSpanProcessor(collected, Duration.ofSeconds(1), 2, 2);
+        tracer = SdkTracerProvider.builder()
+                .addSpanProcessor(processor)
+                .build()
+                .get("unit-test");
+    }
+
+    @Test
+    void testFastTraceDropped() {
+        Span root = tracer.spanBuilder("root").startSpan();
+        child(root, "child").end();
+        root.end();
+
+        assertThat(collected.spans, empty());
+        assertThat(processor.droppedTraces(), is(1L));
+        assertThat(processor.keptTraces(), is(0L));
+        assertThat(processor.bufferedTraces(), is(0));
+    }
+
+    @Test
+    void testFailedTraceKept() {
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span child = child(root, "child");
+        child.setStatus(StatusCode.ERROR);
+        child.end();
+        root.end();
+
+        assertThat(collected.spans, contains("child", "root"));
+        assertThat(processor.keptTraces(), is(1L));
+    }
+
+    @Test
+    void testSlowTraceKept() {
+        long now = System.currentTimeMillis();
+        Span root = tracer.spanBuilder("root")
+                .setStartTimestamp(now - 2000, TimeUnit.MILLISECONDS)
+                .startSpan();
+        child(root, "child").end();
+        root.end();
+
+        assertThat(collected.spans, contains("child", "root"));
+        assertThat(processor.keptTraces(), is(1L));
+    }
+
+    @Test
+    void testMemoryBounds() {
+        Span root = tracer.spanBuilder("root").startSpan();
+        child(root, "child-1").end();
+        child(root, "child-2").end();
+        // over the limit of spans per trace
+        child(root, "child-3").setStatus(StatusCode.ERROR).end();
+
+        // over the limit of traces
+        Span first = tracer.spanBuilder("first").startSpan();
+        Span second = tracer.spanBuilder("second").startSpan();
+        child(first, "first-child").end();
+        child(second, "second-child").end();
+        assertThat(processor.bufferedTraces(), is(2));
+        assertThat(processor.droppedSpans(), is(2L));
+
+        root.end();
+
+        // the error of a span that did not fit is still considered
+        assertThat(collected.spans, contains("child-1", "child-2", "root"));
+    }
+
+    @Test
+    void testLateSpans() {
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span late = child(root, "late");
+        root.setStatus(StatusCode.ERROR);
+        root.end();
+        late.end();
+
+        // the trace was kept, so is its late span
+        assertThat(collected.spans, contains("root", "late"));
+        assertThat(processor.bufferedTraces(), is(0));
+
+        Span fastRoot = tracer.spanBuilder("fast-root").startSpan();
+        Span fastLate = child(fastRoot, "fast-late");
+        fastRoot.end();
+        fastLate.end();
+
+        // the trace was dropped, so is its late span, and it is not buffered as a new trace
+        assertThat(collected.spans, contains("root", "late"));
+        assertThat(processor.bufferedTraces(), is(0));
+        assertThat(processor.droppedSpans(), is(0L));
+    }
+
+    private Span child(Span parent, String name) {
+        return tracer.spanBuilder(name)
+                .setParent(Context.current().with(parent))
+                .startSpan();
+    }
+
+    private static final class CollectingProcessor implements SpanProcessor {
+        private final List<String> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span.getName());
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing.zipkin;
+
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import zipkin2.reporter.ReporterMetrics;
+
+/**
+ * Reporter metrics counting spans dropped by the asynchronous reporter, either because its queue is full,
+ * or because a message could not be sent to the collector.
+ */
+final class DroppedSpansMetrics implements ReporterMetrics {
+    private static final System.Logger LOGGER = System.getLogger(DroppedSpansMetrics.class.getName());
+    private static final long DROPPED_LOG_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong lastDroppedLog = new AtomicLong(System.nanoTime() - DROPPED_LOG_INTERVAL_NANOS);
+
+    @Override
+    public void incrementMessages() {
+    }
+
+    @Override
+    public void incrementMessagesDropped(Throwable cause) {
+        LOGGER.log(Level.DEBUG, "Failed to send spans to Zipkin", cause);
+    }
+
+    @Override
+    public void incrementSpans(int quantity) {
+    }
+
+    @Override
+    public void incrementSpanBytes(int quantity) {
+    }
+
+    @Override
+    public void incrementMessageBytes(int quantity) {
+    }
+
+    @Override
+    public void incrementSpansDropped(int quantity) {
+        dropped.add(quantity);
+        long now = System.nanoTime();
+        long last = lastDroppedLog.get();
+        if (now - last >= DROPPED_LOG_INTERVAL_NANOS && lastDroppedLog.compareAndSet(last, now)) {
+            LOGGER.log(Level.WARNING, () -> "Zipkin reporter dropped spans (queue full or collector not available), "
+                    + dropped.sum() + " spans dropped so far");
+        }
+    }
+
+    @Override
+    public void updateQueuedSpans(int update) {
+    }
+
+    @Override
+    public void updateQueuedBytes(int update) {
+    }
+
+    /**
+     * Number of spans dropped by the reporter.
+     *
+     * @return number of dropped spans
+     */
+    long droppedSpans() {
+        return dropped.sum();
+    }
+}
@@ -20,9 +20,12 @@ import java.lang.System.Logger.Level;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import io.helidon.common.config.Config;
 import io.helidon.config.metadata.Configured;
@@ -89,6 +92,16 @@ import zipkin2.reporter.urlconnection.URLConnectionSender;
  *         <td>Default for {@link Version#V2}, which is the default version</td>
  *     </tr>
  *     <tr>
+ *         <td>{@code max-queue-size}</td>
+ *         <td>{@value #DEFAULT_MAX_QUEUE_SIZE}</td>
+ *         <td>Maximal number of spans waiting to be sent, spans over this limit are dropped</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code schedule-delay-millis}</td>
+ *         <td>1 second</td>
+ *         <td>Maximal time a span waits before it is sent to the collector</td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code tags}</td>
  *         <td>&nbsp;</td>
  *         <td>see {@link TracerBuilder}</td>
@@ -116,6 +129,8 @@ public class ZipkinTracerBuilder implements OpenTracingTracerBuilder<ZipkinTrace
     static final String DEFAULT_ZIPKIN_HOST = "127.0.0.1";
     static final Version DEFAULT_VERSION = Version.V2;
     static final boolean DEFAULT_ENABLED = true;
+    static final int DEFAULT_MAX_QUEUE_SIZE = 10000;
+    static final Duration DEFAULT_SCHEDULE_DELAY = Duration.ofSeconds(1);
 
     private final List<Tag<?>> tags = new LinkedList<>();
     private String serviceName;
@@ -128,6 +143,9 @@ public class ZipkinTracerBuilder implements OpenTracingTracerBuilder<ZipkinTrace
     private String userInfo;
     private boolean enabled = DEFAULT_ENABLED;
     private boolean global = true;
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+    private Duration scheduleDelay = DEFAULT_SCHEDULE_DELAY;
+    private volatile DroppedSpansMetrics droppedSpansMetrics;
 
     /**
      * Default constructor, does not modify state.
@@ -264,6 +282,8 @@ public class ZipkinTracerBuilder implements OpenTracingTracerBuilder<ZipkinTrace
         config.get("port").asInt().ifPresent(this::collectorPort);
         config.get("path").asString().ifPresent(this::collectorPath);
         config.get("api-version").asString().ifPresent(this::configApiVersion);
+        config.get("max-queue-size").asInt().ifPresent(this::maxQueueSize);
+        config.get("schedule-delay-millis").asLong().ifPresent(it -> scheduleDelay(Duration.ofMillis(it)));
 
         config.get("tags").detach()
                 .asMap()
@@ -308,8 +328,13 @@ public class ZipkinTracerBuilder implements OpenTracingTracerBuilder<ZipkinTrace
 
             Sender buildSender = (this.sender == null) ? createSender() : this.sender;
 
+            DroppedSpansMetrics metrics = new DroppedSpansMetrics();
             Reporter<Span> reporter = AsyncReporter.builder(buildSender)
+                    .queuedMaxSpans(maxQueueSize)
+                    .messageTimeout(scheduleDelay.toMillis(), TimeUnit.MILLISECONDS)
+                    .metrics(metrics)
                     .build(version.encoder());
+            droppedSpansMetrics = metrics;
 
             // Now, create a Brave tracing component with the service name you want to see in Zipkin.
             //   (the dependency is io.zipkin.brave:brave)
@@ -339,6 +364,17 @@ public class ZipkinTracerBuilder implements OpenTracingTracerBuilder<ZipkinTrace
         return result;
     }
 
+    /**
+     * Number of spans dropped by the reporter of the tracer last built by this builder, either because its queue
+     * (see {@link #maxQueueSize(int)}) was full, or because they could not be sent to Zipkin.
+     *
+     * @return number of dropped spans, {@code 0} if no tracer was built
+     */
+    public long droppedSpans() {
+        DroppedSpansMetrics metrics = droppedSpansMetrics;
+        return metrics == null ? 0 : metrics.droppedSpans();
+    }
+
     /**
      * Version of Zipkin API to use.
      * Defaults to {@link Version#V2}.
@@ -367,6 +403,35 @@ public class ZipkinTracerBuilder implements OpenTracingTracerBuilder<ZipkinTrace
         return this;
     }
 
+    /**
+     * Maximal number of spans waiting to be sent to Zipkin.
+     * Spans are sent in batches from a background thread, spans finished while the queue is full are dropped.
+     *
+     * @param maxQueueSize maximal queue size
+     * @return updated builder instance
+     */
+    @ConfiguredOption("10000")
+    public ZipkinTracerBuilder maxQueueSize(int maxQueueSize) {
+        if (maxQueueSize < 1) {
+            throw new IllegalArgumentException("Max queue size must be positive, but is " + maxQueueSize);
+        }
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    /**
+     * Maximal time a finished span waits in the queue before the batch containing it is sent to Zipkin.
+     * A batch is sent sooner if it reaches the maximal message size of the sender.
+     *
+     * @param scheduleDelay delay between sending batches
+     * @return updated builder instance
+     */
+    @ConfiguredOption(key = "schedule-delay-millis", value = "1000")
+    public ZipkinTracerBuilder scheduleDelay(Duration scheduleDelay) {
+        this.scheduleDelay = Objects.requireNonNull(scheduleDelay);
+        return this;
+    }
+
     private void configApiVersion(String version) {
         String workingVersion = version.trim().toLowerCase();
 
@@ -442,6 +507,14 @@ public class ZipkinTracerBuilder implements OpenTracingTracerBuilder<ZipkinTrace
         return sender;
     }
 
+    int maxQueueSize() {
+        return maxQueueSize;
+    }
+
+    Duration scheduleDelay() {
+        return scheduleDelay;
+    }
+
     String userInfo() {
         return userInfo;
     }
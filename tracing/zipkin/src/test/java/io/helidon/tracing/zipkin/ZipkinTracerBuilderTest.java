@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.tracing.zipkin;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 
 import io.helidon.config.Config;
@@ -64,6 +65,8 @@ class ZipkinTracerBuilderTest {
         assertThat(zBuilder.sender(), nullValue());
         assertThat(zBuilder.userInfo(), nullValue());
         assertThat(zBuilder.isEnabled(), is(ZipkinTracerBuilder.DEFAULT_ENABLED));
+        assertThat(zBuilder.maxQueueSize(), is(ZipkinTracerBuilder.DEFAULT_MAX_QUEUE_SIZE));
+        assertThat(zBuilder.scheduleDelay(), is(ZipkinTracerBuilder.DEFAULT_SCHEDULE_DELAY));
     }
 
     @Test
@@ -152,6 +155,8 @@ class ZipkinTracerBuilderTest {
         assertThat(zBuilder.sender(), nullValue());
         assertThat(zBuilder.userInfo(), nullValue());
         assertThat(zBuilder.isEnabled(), is(ZipkinTracerBuilder.DEFAULT_ENABLED));
+        assertThat(zBuilder.maxQueueSize(), is(500));
+        assertThat(zBuilder.scheduleDelay(), is(Duration.ofMillis(200)));
 
         assertThat(zBuilder.tags(), hasItems(
                 Tag.create("tag1", "tag1-value"),
@@ -174,4 +179,22 @@ class ZipkinTracerBuilderTest {
 
         span.end();
     }
-}
\ No newline at end of file
+    @Test
+    void testDroppedSpans() {
+        ZipkinTracerBuilder zBuilder = ZipkinTracerBuilder.forService("unit-test-dropped-spans")
+                .collectorPort(49087)
+                .registerGlobal(false)
+                .maxQueueSize(1)
+                // no background reporting, spans stay in the queue
+                .scheduleDelay(Duration.ZERO);
+
+        assertThat(zBuilder.droppedSpans(), is(0L));
+        Tracer tracer = zBuilder.build();
+        for (int i = 0; i < 10; i++) {
+            tracer.buildSpan("dropped-" + i)
+                    .start()
+                    .finish();
+        }
+        assertThat("Dropped spans", zBuilder.droppedSpans(), is(9L));
+    }
+}